@@ -0,0 +1,168 @@
+package br.com.devictoralmeida.webscraper.java.benchmark;
+
+import br.com.devictoralmeida.webscraper.java.dtos.response.AuthorNewsCountResponseDTO;
+import br.com.devictoralmeida.webscraper.java.services.impl.AuthorPublicationColumns;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Relatório de autores mais ativos pelo índice em memória ({@link AuthorPublicationColumns}) contra o mesmo relatório
+ * no PostgreSQL: o {@code GROUP BY} sobre as notícias, com o índice {@code (publish_at, author_id)}, e a soma das
+ * contagens diárias que a aplicação usa hoje. Os dados (500 autores, dois anos de publicações) são gerados em tabelas
+ * temporárias, então precisa do banco no ar, em {@code -Dbenchmark.db.url} (padrão, o do {@code docker-compose}).
+ * <p>
+ * {@code ./mvnw -Pbenchmark -DskipTests test-compile exec:exec -Djmh.args="AuthorPublicationIndexBenchmark -f 1"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuthorPublicationIndexBenchmark {
+    private static final int AUTHORS = 500;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2023, 1, 1);
+    private static final int DAYS = 730;
+
+    private static final String GROUP_BY = """
+            SELECT a.id, a.name, count(*) AS news_count
+            FROM bench_news n
+            JOIN bench_author a ON a.id = n.author_id
+            WHERE n.publish_at >= ? AND n.publish_at < ?
+            GROUP BY a.id, a.name
+            ORDER BY news_count DESC, a.id
+            """;
+
+    private static final String DAILY_COUNTS = """
+            SELECT a.id, a.name, sum(c.news_count) AS news_count
+            FROM bench_daily_counts c
+            JOIN bench_author a ON a.id = c.author_id
+            WHERE c.day BETWEEN ? AND ?
+            GROUP BY a.id, a.name
+            ORDER BY news_count DESC, a.id
+            """;
+
+    @Param({"1000000", "10000000"})
+    private int rows;
+
+    @Param({"7", "365"})
+    private int rangeDays;
+
+    private Connection connection;
+    private AuthorPublicationColumns columns;
+    private LocalDate start;
+    private LocalDate end;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        this.connection = DriverManager.getConnection(
+                System.getProperty("benchmark.db.url", "jdbc:postgresql://localhost:5433/db_webscraper"),
+                System.getProperty("benchmark.db.user", "postgres"),
+                System.getProperty("benchmark.db.password", "postgres"));
+
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute("SELECT setseed(0.42)");
+            statement.execute("""
+                    CREATE TEMP TABLE bench_author AS
+                    SELECT i AS id, 'Autor ' || i AS name FROM generate_series(1, %d) AS i
+                    """.formatted(AUTHORS));
+            statement.execute("""
+                    CREATE TEMP TABLE bench_news AS
+                    SELECT 1 + floor(random() * %d)::INTEGER AS author_id,
+                           TIMESTAMP '%s' + random() * INTERVAL '%d days' AS publish_at
+                    FROM generate_series(1, %d)
+                    """.formatted(AUTHORS, FIRST_DAY, DAYS, this.rows));
+            statement.execute("CREATE INDEX ON bench_news (publish_at, author_id)");
+            statement.execute("""
+                    CREATE TEMP TABLE bench_daily_counts AS
+                    SELECT CAST(publish_at AS DATE) AS day, author_id, count(*) AS news_count
+                    FROM bench_news GROUP BY 1, 2
+                    """);
+            statement.execute("ALTER TABLE bench_daily_counts ADD PRIMARY KEY (day, author_id)");
+            statement.execute("ANALYZE bench_author, bench_news, bench_daily_counts");
+        }
+
+        Map<Long, String> authors = new HashMap<>();
+        for (int i = 1; i <= AUTHORS; i++) {
+            authors.put((long) i, "Autor " + i);
+        }
+        AuthorPublicationColumns.Builder builder = AuthorPublicationColumns.builder(authors);
+        this.connection.setAutoCommit(false);
+        try (PreparedStatement statement = this.connection.prepareStatement("""
+                SELECT CAST(floor(extract(EPOCH FROM publish_at) / 60) AS INTEGER), author_id
+                FROM bench_news ORDER BY publish_at
+                """)) {
+            statement.setFetchSize(10_000);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    builder.add(resultSet.getInt(1), resultSet.getLong(2));
+                }
+            }
+        }
+        this.connection.commit();
+        this.connection.setAutoCommit(true);
+        this.columns = builder.build();
+
+        this.start = FIRST_DAY.plusDays(DAYS / 2);
+        this.end = this.start.plusDays(this.rangeDays - 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        this.connection.close();
+    }
+
+    @Benchmark
+    public List<AuthorNewsCountResponseDTO> index() {
+        return this.columns.countByAuthor(AuthorPublicationColumns.epochMinute(this.start.atStartOfDay()),
+                AuthorPublicationColumns.epochMinute(this.end.plusDays(1).atStartOfDay()));
+    }
+
+    @Benchmark
+    public List<AuthorNewsCountResponseDTO> sqlGroupBy() throws SQLException {
+        try (PreparedStatement statement = this.connection.prepareStatement(GROUP_BY)) {
+            statement.setTimestamp(1, Timestamp.valueOf(this.start.atStartOfDay()));
+            statement.setTimestamp(2, Timestamp.valueOf(this.end.plusDays(1).atStartOfDay()));
+            return read(statement);
+        }
+    }
+
+    @Benchmark
+    public List<AuthorNewsCountResponseDTO> sqlDailyCounts() throws SQLException {
+        try (PreparedStatement statement = this.connection.prepareStatement(DAILY_COUNTS)) {
+            statement.setDate(1, Date.valueOf(this.start));
+            statement.setDate(2, Date.valueOf(this.end));
+            return read(statement);
+        }
+    }
+
+    private static List<AuthorNewsCountResponseDTO> read(PreparedStatement statement) throws SQLException {
+        List<AuthorNewsCountResponseDTO> result = new ArrayList<>();
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                result.add(new AuthorNewsCountResponseDTO(resultSet.getLong(1), resultSet.getString(2), resultSet.getLong(3)));
+            }
+        }
+        return result;
+    }
+}
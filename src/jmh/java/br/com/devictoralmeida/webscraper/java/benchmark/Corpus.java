@@ -0,0 +1,31 @@
+package br.com.devictoralmeida.webscraper.java.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Páginas salvas em {@code src/jmh/resources/corpus}, lidas uma vez no setup para que o I/O fique fora da medição.
+ */
+final class Corpus {
+    static final String BASE_URL = "https://www.infomoney.com.br";
+
+    private Corpus() {
+    }
+
+    static byte[] bytes(String page) {
+        try (InputStream in = Corpus.class.getResourceAsStream("/corpus/" + page + ".html")) {
+            if (in == null) {
+                throw new IllegalArgumentException("Página não encontrada no corpus: " + page);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String html(String page) {
+        return new String(bytes(page), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.devictoralmeida.webscraper.java.benchmark;
+
+import br.com.devictoralmeida.webscraper.java.shared.utils.DateUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversões de data feitas uma vez por notícia: o {@code datetime} ISO das páginas e o formato de exibição da API.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateUtilsBenchmark {
+    private final String isoDate = "2024-01-15T10:30:00-03:00";
+    private final LocalDateTime dateTime = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+    @Benchmark
+    public LocalDateTime parse() {
+        return DateUtils.parse(this.isoDate);
+    }
+
+    @Benchmark
+    public String format() {
+        return DateUtils.format(this.dateTime);
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.devictoralmeida.webscraper.java.benchmark;
+
+import br.com.devictoralmeida.webscraper.java.dtos.ParsedNewsDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.PartialNewsDTO;
+import br.com.devictoralmeida.webscraper.java.services.impl.HtmlParserImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link HtmlParserImpl#parseNewsDetails} sobre as páginas do corpus, com e sem a extração incremental, tanto a partir
+ * da String quanto do corpo em bytes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HtmlParserBenchmark {
+    @Param({"article-1", "article-2", "article-3"})
+    private String page;
+
+    @Param({"false", "true"})
+    private boolean earlyTermination;
+
+    private HtmlParserImpl parser;
+    private PartialNewsDTO partialNews;
+    private String html;
+    private byte[] bytes;
+
+    @Setup
+    public void setup() {
+        this.parser = new HtmlParserImpl();
+        ReflectionTestUtils.setField(this.parser, "earlyTerminationEnabled", this.earlyTermination);
+        this.partialNews = new PartialNewsDTO(Corpus.BASE_URL + "/mercados/" + this.page + "/", "Título");
+        this.html = Corpus.html(this.page);
+        this.bytes = Corpus.bytes(this.page);
+    }
+
+    @Benchmark
+    public ParsedNewsDTO parseString() {
+        return this.parser.parseNewsDetails(this.html, this.partialNews);
+    }
+
+    @Benchmark
+    public ParsedNewsDTO parseStream() {
+        return this.parser.parseNewsDetails(new ByteArrayInputStream(this.bytes), "UTF-8", this.partialNews);
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.devictoralmeida.webscraper.java.benchmark;
+
+import br.com.devictoralmeida.webscraper.java.WebscraperJavaApplication;
+import br.com.devictoralmeida.webscraper.java.dtos.ParsedNewsDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.PartialNewsDTO;
+import br.com.devictoralmeida.webscraper.java.services.NewsPersistenceService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Gravação de notícias via JPA ({@code saveParsedNews} em transações de {@value #JPA_BATCH} notícias) contra a carga
+ * via {@code COPY} ({@code backfillParsedNews}) em uma única transação. Sobe o contexto da aplicação sem o servidor web,
+ * então precisa do banco no ar (o mesmo {@code DB_URL} da aplicação). Cada iteração grava {@code rows} notícias novas,
+ * apagadas no fim dela.
+ * <p>
+ * {@code ./mvnw -Pbenchmark -DskipTests test-compile exec:exec -Djmh.args="NewsIngestBenchmark -f 1"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NewsIngestBenchmark {
+    private static final int JPA_BATCH = 500;
+    private static final int AUTHORS = 200;
+    private static final String CONTENT = "Conteúdo da notícia com algum texto relevante, \"aspas\" e vírgulas. ".repeat(40);
+
+    @Param({"jpa", "copy"})
+    private String path;
+
+    @Param({"20000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private NewsPersistenceService persistenceService;
+    private JdbcTemplate jdbcTemplate;
+    private String runId;
+    private List<ParsedNewsDTO> news;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SpringApplication application = new SpringApplication(WebscraperJavaApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        // Sem o ON CONFLICT, o caminho JPA é o saveAll do Hibernate.
+        this.context = application.run("--scraper.persistence.on.conflict.enabled=false");
+        this.persistenceService = this.context.getBean(NewsPersistenceService.class);
+        this.jdbcTemplate = this.context.getBean(JdbcTemplate.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void generate() {
+        this.runId = UUID.randomUUID().toString();
+        this.news = IntStream.range(0, this.rows)
+                .mapToObj(i -> new ParsedNewsDTO(
+                        new PartialNewsDTO("https://www.infomoney.com.br/" + this.runId + "/noticia-" + i + "/", "Título " + i),
+                        i % 10 == 0 ? null : "Subtítulo " + i,
+                        CONTENT,
+                        LocalDateTime.of(2020, 1, 1, 0, 0).plusMinutes(i),
+                        this.runId + " Autor " + (i % AUTHORS)))
+                .toList();
+    }
+
+    @TearDown(Level.Iteration)
+    public void clean() {
+        this.jdbcTemplate.update("DELETE FROM tb_news WHERE url LIKE ?", "%/" + this.runId + "/%");
+        this.jdbcTemplate.update("DELETE FROM tb_author WHERE name LIKE ?", this.runId + "%");
+    }
+
+    @Benchmark
+    public int ingest() {
+        int saved = 0;
+        if ("copy".equals(this.path)) {
+            saved = this.persistenceService.backfillParsedNews(this.news);
+        } else {
+            for (int from = 0; from < this.news.size(); from += JPA_BATCH) {
+                saved += this.persistenceService.saveParsedNews(
+                        this.news.subList(from, Math.min(from + JPA_BATCH, this.news.size()))).size();
+            }
+        }
+        if (saved != this.rows) {
+            throw new IllegalStateException("Notícias gravadas: " + saved + " de " + this.rows);
+        }
+        return saved;
+    }
+}
@@ -0,0 +1,72 @@
+package br.com.devictoralmeida.webscraper.java.benchmark;
+
+import br.com.devictoralmeida.webscraper.java.dtos.ConditionalResponseDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.PartialNewsDTO;
+import br.com.devictoralmeida.webscraper.java.services.HttpClient;
+import br.com.devictoralmeida.webscraper.java.services.impl.HtmlParserImpl;
+import br.com.devictoralmeida.webscraper.java.services.impl.NewsListProviderImpl;
+import br.com.devictoralmeida.webscraper.java.shared.Constants;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * Parse da página de listagem e extração dos links pelos seletores de card em {@link NewsListProviderImpl}. O cliente
+ * HTTP devolve sempre a página do corpus como resposta nova, então o cache de 304 não entra na medição.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NewsListProviderBenchmark {
+    private static final int PAGE_LIMIT = 20;
+
+    private NewsListProviderImpl provider;
+
+    @Setup
+    public void setup() {
+        this.provider = new NewsListProviderImpl(new CorpusHttpClient(Corpus.html("mercados")), new HtmlParserImpl(), new ObjectMapper());
+        ReflectionTestUtils.setField(this.provider, "baseUrl", Corpus.BASE_URL);
+    }
+
+    @Benchmark
+    public List<PartialNewsDTO> fetchNewsList() {
+        return this.provider.fetchNewsList(PAGE_LIMIT);
+    }
+
+    private record CorpusHttpClient(String listing) implements HttpClient {
+        @Override
+        public <T> T makeGetRequest(String url, Class<T> responseType, Map<String, String> queryParams, Map<String, String> headers) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> T makePostRequest(String url, Object body, Class<T> responseType, Map<String, String> queryParams, Map<String, String> headers) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ConditionalResponseDTO makeConditionalGetRequest(String url, Map<String, String> headers) {
+            if (!url.endsWith(Constants.MERCADOS_PATH)) {
+                throw new IllegalArgumentException("URL inesperada: " + url);
+            }
+            return ConditionalResponseDTO.modified(this.listing);
+        }
+
+        @Override
+        public <T> T makeStreamingGetRequest(String url, BiFunction<InputStream, String, T> bodyReader) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
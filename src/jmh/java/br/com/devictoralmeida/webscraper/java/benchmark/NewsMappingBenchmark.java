@@ -0,0 +1,81 @@
+package br.com.devictoralmeida.webscraper.java.benchmark;
+
+import br.com.devictoralmeida.webscraper.java.config.JacksonConfig;
+import br.com.devictoralmeida.webscraper.java.dtos.response.NewsResponseDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.ResponseDto;
+import br.com.devictoralmeida.webscraper.java.entities.Author;
+import br.com.devictoralmeida.webscraper.java.entities.News;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jsoup.Jsoup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Caminho de resposta da API: entidades {@link News} viram {@link NewsResponseDTO} e o envelope {@link ResponseDto} é
+ * serializado com o mesmo {@link ObjectMapper} da aplicação. O conteúdo das notícias é o texto de um artigo do corpus.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NewsMappingBenchmark {
+    @Param({"1", "50"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<News> news;
+    private List<NewsResponseDTO> responses;
+
+    @Setup
+    public void setup() {
+        this.objectMapper = new JacksonConfig().objectMapper();
+        String content = Jsoup.parse(Corpus.html("article-1")).select("article").text();
+        Author author = new Author("João Silva");
+        author.setId(1L);
+
+        this.news = IntStream.range(0, this.size)
+                .mapToObj(i -> newNews(i, author, content))
+                .toList();
+        this.responses = toResponses();
+    }
+
+    @Benchmark
+    public List<NewsResponseDTO> toResponses() {
+        return this.news.stream().map(NewsResponseDTO::new).toList();
+    }
+
+    @Benchmark
+    public String serialize() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsString(ResponseDto.fromData(this.responses, HttpStatus.OK, "Notícias encontradas"));
+    }
+
+    @Benchmark
+    public String mapAndSerialize() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsString(ResponseDto.fromData(toResponses(), HttpStatus.OK, "Notícias encontradas"));
+    }
+
+    private static News newNews(int i, Author author, String content) {
+        News news = new News();
+        news.setId((long) i);
+        news.setUrl(Corpus.BASE_URL + "/mercados/noticia-" + i + "/");
+        news.setTitle("Ibovespa fecha em alta com bancos " + i);
+        news.setSubtitle("Índice avança com dados de inflação abaixo do esperado");
+        news.setContent(content);
+        news.setAuthor(author);
+        news.setPublishDate(LocalDateTime.of(2024, 1, 15, 10, 30).plusMinutes(i));
+        news.setCreatedAt(LocalDateTime.of(2024, 1, 15, 12, 0));
+        return news;
+    }
+}
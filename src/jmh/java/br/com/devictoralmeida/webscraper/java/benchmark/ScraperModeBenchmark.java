@@ -0,0 +1,143 @@
+package br.com.devictoralmeida.webscraper.java.benchmark;
+
+import br.com.devictoralmeida.webscraper.java.dtos.ParsedNewsDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.PartialNewsDTO;
+import br.com.devictoralmeida.webscraper.java.repositories.NewsRepository;
+import br.com.devictoralmeida.webscraper.java.services.NewsListProvider;
+import br.com.devictoralmeida.webscraper.java.services.NewsPersistenceService;
+import br.com.devictoralmeida.webscraper.java.services.impl.AdaptiveRateLimiterImpl;
+import br.com.devictoralmeida.webscraper.java.services.impl.HostConcurrencyLimiterImpl;
+import br.com.devictoralmeida.webscraper.java.services.impl.HtmlParserImpl;
+import br.com.devictoralmeida.webscraper.java.services.impl.HttpClientImpl;
+import br.com.devictoralmeida.webscraper.java.services.impl.ReactiveHttpClientImpl;
+import br.com.devictoralmeida.webscraper.java.services.impl.ScraperServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Uma execução de {@link ScraperServiceImpl} no modo de threads virtuais e no reativo, contra um servidor HTTP local que
+ * responde o artigo do corpus com latência artificial. Os clientes e o parser são os reais; só a descoberta e a
+ * persistência são simuladas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ScraperModeBenchmark {
+    private static final int ARTICLES = 100;
+    private static final int CONCURRENCY = 16;
+
+    @Param({"false", "true"})
+    private boolean reactive;
+
+    @Param({"10"})
+    private long latencyMs;
+
+    private HttpServer server;
+    private ScraperServiceImpl scraperService;
+    private final AtomicInteger persisted = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        byte[] article = Corpus.bytes("article-1");
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.server.createContext("/", exchange -> {
+            try {
+                TimeUnit.MILLISECONDS.sleep(this.latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "text/html; charset=utf-8");
+            exchange.sendResponseHeaders(200, article.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(article);
+            }
+        });
+        this.server.start();
+
+        String baseUrl = "http://127.0.0.1:" + this.server.getAddress().getPort();
+        List<PartialNewsDTO> articles = IntStream.range(0, ARTICLES)
+                .mapToObj(i -> new PartialNewsDTO(baseUrl + "/noticia-" + i, "Título " + i))
+                .toList();
+
+        NewsListProvider listProvider = mock(NewsListProvider.class);
+        when(listProvider.fetchNewsList(anyInt())).thenReturn(articles);
+        NewsRepository repository = mock(NewsRepository.class);
+        when(repository.findUrlsIn(anyList())).thenReturn(List.of());
+        NewsPersistenceService persistenceService = mock(NewsPersistenceService.class);
+        when(persistenceService.saveParsedNews(anyList())).thenAnswer(invocation -> {
+            this.persisted.addAndGet(invocation.<List<ParsedNewsDTO>>getArgument(0).size());
+            return List.of();
+        });
+
+        AdaptiveRateLimiterImpl rateLimiter = new AdaptiveRateLimiterImpl(RateLimiter.of("benchmark", RateLimiterConfig.custom()
+                .limitForPeriod(100_000)
+                .limitRefreshPeriod(Duration.ofSeconds(1))
+                .timeoutDuration(Duration.ofSeconds(5))
+                .build()), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(rateLimiter, "minLimit", 1);
+        ReflectionTestUtils.setField(rateLimiter, "maxLimit", 100_000);
+        ReflectionTestUtils.setField(rateLimiter, "targetLatencyMs", 5_000L);
+
+        ReactiveHttpClientImpl reactiveHttpClient = new ReactiveHttpClientImpl(WebClient.builder(), rateLimiter);
+        ReflectionTestUtils.setField(reactiveHttpClient, "timeout", 5_000);
+        HostConcurrencyLimiterImpl hostLimiter = new HostConcurrencyLimiterImpl(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(hostLimiter, "maxConcurrency", CONCURRENCY);
+        HttpClientImpl httpClient = new HttpClientImpl(reactiveHttpClient, new ObjectMapper(), hostLimiter);
+
+        this.scraperService = new ScraperServiceImpl(listProvider, new HtmlParserImpl(), repository, httpClient,
+                persistenceService, reactiveHttpClient);
+        ReflectionTestUtils.setField(this.scraperService, "reactiveEnabled", this.reactive);
+        ReflectionTestUtils.setField(this.scraperService, "fetchConcurrency", CONCURRENCY);
+        ReflectionTestUtils.setField(this.scraperService, "parseConcurrency", 4);
+        ReflectionTestUtils.setField(this.scraperService, "queueCapacity", 32);
+        ReflectionTestUtils.setField(this.scraperService, "batchSize", 50);
+        ReflectionTestUtils.setField(this.scraperService, "flushIntervalMs", 2_000L);
+        ReflectionTestUtils.setField(this.scraperService, "reactiveConcurrency", CONCURRENCY);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.server.stop(0);
+    }
+
+    @Benchmark
+    public int execute() {
+        this.persisted.set(0);
+        this.scraperService.execute(ARTICLES);
+        if (this.persisted.get() != ARTICLES) {
+            throw new IllegalStateException("Notícias persistidas: " + this.persisted.get() + " de " + ARTICLES);
+        }
+        return this.persisted.get();
+    }
+}
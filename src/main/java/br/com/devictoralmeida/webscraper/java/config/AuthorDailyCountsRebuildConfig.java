@@ -0,0 +1,20 @@
+package br.com.devictoralmeida.webscraper.java.config;
+
+import br.com.devictoralmeida.webscraper.java.services.NewsPersistenceService;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Rebuild único das contagens diárias por autor, para cobrir as notícias gravadas antes da tabela existir ou corrigir
+ * divergências (por exemplo, notícias apagadas direto no banco). Liga com {@code scraper.rollup.rebuild.on.startup}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "scraper.rollup.rebuild.on.startup", havingValue = "true")
+public class AuthorDailyCountsRebuildConfig {
+  @Bean
+  public ApplicationRunner authorDailyCountsRebuild(NewsPersistenceService persistenceService) {
+    return args -> persistenceService.rebuildAuthorDailyCounts();
+  }
+}
@@ -0,0 +1,20 @@
+package br.com.devictoralmeida.webscraper.java.config;
+
+import br.com.devictoralmeida.webscraper.java.services.AuthorPublicationIndex;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Carrega o índice de publicações por autor em segundo plano na subida. Até a carga terminar, o relatório de autores
+ * mais ativos continua somando as contagens diárias no banco.
+ */
+@Configuration
+@ConditionalOnProperty(name = "scraper.publication.index.enabled", havingValue = "true")
+public class AuthorPublicationIndexConfig {
+  @Bean
+  public ApplicationRunner authorPublicationIndexLoad(AuthorPublicationIndex publicationIndex) {
+    return args -> publicationIndex.reloadAsync();
+  }
+}
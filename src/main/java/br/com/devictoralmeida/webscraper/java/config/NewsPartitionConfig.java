@@ -0,0 +1,18 @@
+package br.com.devictoralmeida.webscraper.java.config;
+
+import br.com.devictoralmeida.webscraper.java.services.NewsPartitionService;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Cria na subida as partições de {@code tb_news} dos próximos meses, para que a ingestão do dia a dia não precise
+ * criar partição. Meses fora dessa janela (backfills, datas antigas) são criados sob demanda antes de cada gravação.
+ */
+@Configuration
+public class NewsPartitionConfig {
+  @Bean
+  public ApplicationRunner upcomingNewsPartitions(NewsPartitionService partitionService) {
+    return args -> partitionService.createUpcomingPartitions();
+  }
+}
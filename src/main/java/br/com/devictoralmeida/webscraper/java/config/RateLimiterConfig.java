@@ -1,6 +1,7 @@
 package br.com.devictoralmeida.webscraper.java.config;
 
 import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -8,12 +9,22 @@ import java.time.Duration;
 
 @Configuration
 public class RateLimiterConfig {
+  @Value("${scraper.rate.limit.initial}")
+  private int initialLimit;
+
+  @Value("${scraper.timeout.ms}")
+  private int timeout;
+
+  /**
+   * Configuração base de cada host. O período de 1s permite que o limite adaptativo
+   * ajuste a taxa em passos de 1 requisição/s.
+   */
   @Bean
   public io.github.resilience4j.ratelimiter.RateLimiter customRateLimiter() {
     io.github.resilience4j.ratelimiter.RateLimiterConfig config = io.github.resilience4j.ratelimiter.RateLimiterConfig.custom()
-            .limitForPeriod(1)
-            .limitRefreshPeriod(Duration.ofMillis(100))
-            .timeoutDuration(Duration.ofSeconds(1))
+            .limitForPeriod(this.initialLimit)
+            .limitRefreshPeriod(Duration.ofSeconds(1))
+            .timeoutDuration(Duration.ofMillis(this.timeout))
             .build();
     RateLimiterRegistry registry = RateLimiterRegistry.of(config);
     return registry.rateLimiter("customRateLimiter");
@@ -5,6 +5,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -16,18 +17,68 @@ public interface NewsController {
     @GetMapping("/buscar")
     ResponseEntity<?> fetchNews(@RequestParam(name = "limit", defaultValue = "15") int pageLimit);
 
-    @Operation(summary = "Busca os autores mais ativos em um período.", responses = {
-            @ApiResponse(responseCode = "200", description = "Sucesso.")
+    @Operation(summary = "Busca os autores mais ativos em um período, paginados por limit e offset.", responses = {
+            @ApiResponse(responseCode = "200", description = "Sucesso."),
+            @ApiResponse(responseCode = "304", description = "Relatório igual ao do ETag enviado em If-None-Match.")
     })
     @PostMapping("/relatorios/autores")
-    ResponseEntity<?> getTopAuthorsByDateRange(@Valid @RequestBody DateRangeRequestDTO dto);
+    ResponseEntity<?> getTopAuthorsByDateRange(
+            @Valid @RequestBody DateRangeRequestDTO dto,
+            @RequestParam(name = "limit", defaultValue = "10") int limit,
+            @RequestParam(name = "offset", defaultValue = "0") int offset,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    );
 
     @Operation(summary = "Busca notícias de um autor específico em um período.", responses = {
-            @ApiResponse(responseCode = "200", description = "Sucesso.")
+            @ApiResponse(responseCode = "200", description = "Sucesso."),
+            @ApiResponse(responseCode = "304", description = "Relatório igual ao do ETag enviado em If-None-Match.")
     })
     @PostMapping("/relatorios/autor/{authorId}")
     ResponseEntity<?> getNewsByAuthorAndDateRange(
             @PathVariable Long authorId,
-            @Valid @RequestBody DateRangeRequestDTO dto
+            @Valid @RequestBody DateRangeRequestDTO dto,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    );
+
+    @Operation(summary = "Busca notícias de um autor em um período, paginadas por cursor e sem o conteúdo por padrão.", responses = {
+            @ApiResponse(responseCode = "200", description = "Sucesso.")
+    })
+    @PostMapping("/relatorios/autor/{authorId}/paginas")
+    ResponseEntity<?> getNewsPageByAuthorAndDateRange(
+            @PathVariable Long authorId,
+            @Valid @RequestBody DateRangeRequestDTO dto,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "includeContent", defaultValue = "false") boolean includeContent
+    );
+
+    @Operation(summary = "Busca notícias por palavras-chave no título, subtítulo e conteúdo, ordenadas por relevância e sem o conteúdo.", responses = {
+            @ApiResponse(responseCode = "200", description = "Sucesso.")
+    })
+    @GetMapping("/pesquisa")
+    ResponseEntity<?> searchNews(
+            @RequestParam(name = "q") String terms,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "20") int size
+    );
+
+    @Operation(summary = "Conta as notícias publicadas por hora ou por dia em um período, opcionalmente por autor ou com os autores mais ativos.", responses = {
+            @ApiResponse(responseCode = "200", description = "Sucesso.")
+    })
+    @PostMapping("/relatorios/histograma")
+    ResponseEntity<?> getPublicationHistogram(
+            @Valid @RequestBody DateRangeRequestDTO dto,
+            @RequestParam(name = "bucket", defaultValue = "day") String bucket,
+            @RequestParam(name = "authorId", required = false) Long authorId,
+            @RequestParam(name = "topAuthors", defaultValue = "0") int topAuthors
+    );
+
+    @Operation(summary = "Exporta as notícias de um período em NDJSON ou CSV, escritas à medida que são lidas do banco.", responses = {
+            @ApiResponse(responseCode = "200", description = "Sucesso.")
+    })
+    @PostMapping("/exportar")
+    ResponseEntity<?> exportNewsByDateRange(
+            @Valid @RequestBody DateRangeRequestDTO dto,
+            @RequestParam(name = "format", defaultValue = "ndjson") String format
     );
 }
@@ -2,15 +2,20 @@ package br.com.devictoralmeida.webscraper.java.controllers.impl;
 
 import br.com.devictoralmeida.webscraper.java.controllers.NewsController;
 import br.com.devictoralmeida.webscraper.java.dtos.request.DateRangeRequestDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.request.ExportFormat;
 import br.com.devictoralmeida.webscraper.java.dtos.response.ResponseDto;
 import br.com.devictoralmeida.webscraper.java.services.NewsService;
 import br.com.devictoralmeida.webscraper.java.shared.Constants;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Arrays;
+
 @RestController
 @RequestMapping(value = "noticias")
 @RequiredArgsConstructor
@@ -23,17 +28,93 @@ public class NewsControllerImpl implements NewsController {
         return ResponseEntity.status(HttpStatus.OK).body(ResponseDto.fromData(this.service.scrapeAndSaveNews(pageLimit), HttpStatus.OK, Constants.MENSAGEM_SALVO_SUCESSO));
     }
 
+    /**
+     * A versão é calculada antes do relatório: se uma ingestão cair entre os dois, o corpo mais novo vai com o ETag antigo
+     * e a próxima requisição recebe o relatório de novo, em vez de um 304 sobre dados desatualizados. Na ordem inversa,
+     * com a ingestão já no banco mas o cache ainda sem a invalidação, o relatório guardado não serve: ele é do ETag
+     * anterior, então é calculado de novo.
+     */
     @Override
     @PostMapping("/relatorios/autores")
-    public ResponseEntity<?> getTopAuthorsByDateRange(@Valid @RequestBody DateRangeRequestDTO dto) {
-        return ResponseEntity.status(HttpStatus.OK).body(ResponseDto.fromData(this.service.findTopAuthorsByDateRange(dto), HttpStatus.OK, Constants.MENSAGEM_AUTORES_ENCONTRADOS_SUCESSO));
+    public ResponseEntity<?> getTopAuthorsByDateRange(
+            @Valid @RequestBody DateRangeRequestDTO dto,
+            @RequestParam(name = "limit", defaultValue = "10") int limit,
+            @RequestParam(name = "offset", defaultValue = "0") int offset,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = this.service.getTopAuthorsETag(dto, limit, offset);
+        if (matchesIfNoneMatch(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.status(HttpStatus.OK).eTag(eTag).body(ResponseDto.fromData(this.service.findTopAuthorsByDateRange(dto, limit, offset, eTag), HttpStatus.OK, Constants.MENSAGEM_AUTORES_ENCONTRADOS_SUCESSO));
     }
 
     @Override
     @PostMapping("/relatorios/autor/{authorId}")
     public ResponseEntity<?> getNewsByAuthorAndDateRange(
             @PathVariable Long authorId,
-            @Valid @RequestBody DateRangeRequestDTO dto) {
-        return ResponseEntity.status(HttpStatus.OK).body(ResponseDto.fromData(this.service.findNewsByAuthorAndDateRange(authorId, dto), HttpStatus.OK, Constants.MENSAGEM_NOTICIAS_ENCONTRADAS_SUCESSO));
+            @Valid @RequestBody DateRangeRequestDTO dto,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = this.service.getNewsByAuthorETag(authorId, dto);
+        if (matchesIfNoneMatch(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.status(HttpStatus.OK).eTag(eTag).body(ResponseDto.fromData(this.service.findNewsByAuthorAndDateRange(authorId, dto, eTag), HttpStatus.OK, Constants.MENSAGEM_NOTICIAS_ENCONTRADAS_SUCESSO));
+    }
+
+    @Override
+    @PostMapping("/relatorios/autor/{authorId}/paginas")
+    public ResponseEntity<?> getNewsPageByAuthorAndDateRange(
+            @PathVariable Long authorId,
+            @Valid @RequestBody DateRangeRequestDTO dto,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "includeContent", defaultValue = "false") boolean includeContent) {
+        return ResponseEntity.status(HttpStatus.OK).body(ResponseDto.fromData(this.service.findNewsPageByAuthorAndDateRange(authorId, dto, cursor, size, includeContent), HttpStatus.OK, Constants.MENSAGEM_NOTICIAS_ENCONTRADAS_SUCESSO));
+    }
+
+    @Override
+    @GetMapping("/pesquisa")
+    public ResponseEntity<?> searchNews(
+            @RequestParam(name = "q") String terms,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        return ResponseEntity.status(HttpStatus.OK).body(ResponseDto.fromData(this.service.searchNews(terms, page, size), HttpStatus.OK, Constants.MENSAGEM_NOTICIAS_ENCONTRADAS_SUCESSO));
+    }
+
+    @Override
+    @PostMapping("/relatorios/histograma")
+    public ResponseEntity<?> getPublicationHistogram(
+            @Valid @RequestBody DateRangeRequestDTO dto,
+            @RequestParam(name = "bucket", defaultValue = "day") String bucket,
+            @RequestParam(name = "authorId", required = false) Long authorId,
+            @RequestParam(name = "topAuthors", defaultValue = "0") int topAuthors) {
+        return ResponseEntity.status(HttpStatus.OK).body(ResponseDto.fromData(this.service.getPublicationHistogram(dto, bucket, authorId, topAuthors), HttpStatus.OK, Constants.MENSAGEM_HISTOGRAMA_SUCESSO));
+    }
+
+    @Override
+    @PostMapping("/exportar")
+    public ResponseEntity<?> exportNewsByDateRange(
+            @Valid @RequestBody DateRangeRequestDTO dto,
+            @RequestParam(name = "format", defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(exportFormat.getFileName()).build().toString())
+                .body(this.service.exportNewsByDateRange(dto, exportFormat));
+    }
+
+    /**
+     * Comparação fraca do {@code If-None-Match}, como manda a RFC 9110: aceita a lista de ETags, {@code W/} e {@code *}.
+     * Feita aqui porque o {@code checkNotModified} do Spring responde 412 em vez de 304 fora de GET e HEAD.
+     */
+    private static boolean matchesIfNoneMatch(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::strip)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(eTag));
     }
 }
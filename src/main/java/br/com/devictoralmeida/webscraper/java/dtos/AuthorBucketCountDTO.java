@@ -0,0 +1,9 @@
+package br.com.devictoralmeida.webscraper.java.dtos;
+
+import java.time.LocalDateTime;
+
+/**
+ * Quantidade de notícias de um autor em um intervalo do histograma, que começa em {@code bucket}.
+ */
+public record AuthorBucketCountDTO(LocalDateTime bucket, Long authorId, String authorName, long newsCount) {
+}
@@ -0,0 +1,39 @@
+package br.com.devictoralmeida.webscraper.java.dtos;
+
+import lombok.Getter;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Resposta de um GET condicional. Quando o servidor responde 304, {@code body} é o corpo guardado da última resposta
+ * 200 e {@code notModified} é verdadeiro, permitindo que o chamador pule o reprocessamento. {@code validator} identifica
+ * a versão de {@code body}: o ETag, ou o Last-Modified quando o servidor não manda ETag, e nulo sem nenhum dos dois.
+ */
+@Getter
+public class ConditionalResponseDTO implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 4186722038457561190L;
+
+    private final String body;
+    private final String validator;
+    private final boolean notModified;
+
+    private ConditionalResponseDTO(String body, String validator, boolean notModified) {
+        this.body = body;
+        this.validator = validator;
+        this.notModified = notModified;
+    }
+
+    public static ConditionalResponseDTO modified(String body) {
+        return modified(body, null);
+    }
+
+    public static ConditionalResponseDTO modified(String body, String validator) {
+        return new ConditionalResponseDTO(body, validator, false);
+    }
+
+    public static ConditionalResponseDTO notModified(String body, String validator) {
+        return new ConditionalResponseDTO(body, validator, true);
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.devictoralmeida.webscraper.java.dtos;
+
+import br.com.devictoralmeida.webscraper.java.exception.ParametrosDeConsultaInvalidosException;
+import br.com.devictoralmeida.webscraper.java.shared.Constants;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Posição na listagem paginada por autor, ordenada por {@code (publish_at, id)} decrescente. A próxima página começa
+ * logo depois desta posição, sem {@code OFFSET}. Vai para o cliente como texto opaco em Base64.
+ */
+public record NewsCursorDTO(LocalDateTime publishDate, Long id) {
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Posição antes da primeira notícia do período: tudo até o fim do dia final entra na primeira página.
+     */
+    public static NewsCursorDTO start(LocalDateTime endOfRange) {
+        return new NewsCursorDTO(endOfRange, Long.MAX_VALUE);
+    }
+
+    public static NewsCursorDTO after(NewsSummaryDTO news) {
+        return new NewsCursorDTO(news.publishDate(), news.id());
+    }
+
+    public String encode() {
+        String raw = this.publishDate + SEPARATOR + this.id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static NewsCursorDTO decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new ParametrosDeConsultaInvalidosException(Constants.CURSOR_INVALIDO);
+            }
+            return new NewsCursorDTO(LocalDateTime.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ParametrosDeConsultaInvalidosException(Constants.CURSOR_INVALIDO, e);
+        }
+    }
+}
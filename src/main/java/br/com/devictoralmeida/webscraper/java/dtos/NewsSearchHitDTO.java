@@ -0,0 +1,9 @@
+package br.com.devictoralmeida.webscraper.java.dtos;
+
+import java.time.LocalDateTime;
+
+/**
+ * Uma notícia encontrada pela busca textual, sem o conteúdo, com a relevância calculada pelo Postgres.
+ */
+public record NewsSearchHitDTO(Long id, String url, String title, String subtitle, LocalDateTime publishDate, float rank) {
+}
@@ -0,0 +1,13 @@
+package br.com.devictoralmeida.webscraper.java.dtos;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projeção de uma notícia para a listagem paginada por autor. Sem o conteúdo, todas as colunas lidas estão no índice
+ * {@code idx_news_author_publish_at_inc} e a consulta pode ser respondida só pelo índice.
+ */
+public record NewsSummaryDTO(Long id, String url, String title, LocalDateTime publishDate, String content) {
+    public NewsSummaryDTO(Long id, String url, String title, LocalDateTime publishDate) {
+        this(id, url, title, publishDate, null);
+    }
+}
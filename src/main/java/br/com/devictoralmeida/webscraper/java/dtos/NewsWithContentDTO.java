@@ -0,0 +1,9 @@
+package br.com.devictoralmeida.webscraper.java.dtos;
+
+import br.com.devictoralmeida.webscraper.java.entities.News;
+
+/**
+ * Notícia lida junto com o conteúdo de {@code tb_news_content}, para as consultas que devolvem o texto.
+ */
+public record NewsWithContentDTO(News news, String content) {
+}
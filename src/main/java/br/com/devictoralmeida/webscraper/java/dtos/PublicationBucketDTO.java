@@ -0,0 +1,9 @@
+package br.com.devictoralmeida.webscraper.java.dtos;
+
+import java.time.LocalDateTime;
+
+/**
+ * Quantidade de notícias publicadas em um intervalo do histograma, que começa em {@code bucket}.
+ */
+public record PublicationBucketDTO(LocalDateTime bucket, long newsCount) {
+}
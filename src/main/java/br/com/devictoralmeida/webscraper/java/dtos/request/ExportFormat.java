@@ -0,0 +1,36 @@
+package br.com.devictoralmeida.webscraper.java.dtos.request;
+
+import br.com.devictoralmeida.webscraper.java.exception.ParametrosDeConsultaInvalidosException;
+import br.com.devictoralmeida.webscraper.java.shared.Constants;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+    private final MediaType mediaType;
+
+    private final String extension;
+
+    public String getFileName() {
+        return "noticias." + this.extension;
+    }
+
+    public static ExportFormat from(String value) {
+        if (value != null) {
+            for (ExportFormat format : values()) {
+                if (format.extension.equals(value.strip().toLowerCase(Locale.ROOT))) {
+                    return format;
+                }
+            }
+        }
+        throw new ParametrosDeConsultaInvalidosException(Constants.FORMATO_EXPORTACAO_INVALIDO);
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.devictoralmeida.webscraper.java.dtos.request;
+
+import br.com.devictoralmeida.webscraper.java.exception.ParametrosDeConsultaInvalidosException;
+import br.com.devictoralmeida.webscraper.java.shared.Constants;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+
+/**
+ * Largura de cada intervalo do histograma de publicações, com o valor aceito na query string e o {@code INTERVAL} do
+ * Postgres que separa um intervalo do próximo.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum HistogramBucket {
+    HOUR("hour", "1 hour"),
+    DAY("day", "1 day");
+
+    private final String value;
+
+    private final String interval;
+
+    public static HistogramBucket from(String value) {
+        if (value != null) {
+            for (HistogramBucket bucket : values()) {
+                if (bucket.value.equals(value.strip().toLowerCase(Locale.ROOT))) {
+                    return bucket;
+                }
+            }
+        }
+        throw new ParametrosDeConsultaInvalidosException(Constants.INTERVALO_HISTOGRAMA_INVALIDO);
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.devictoralmeida.webscraper.java.dtos.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Uma página da listagem de notícias por autor. {@code nextCursor} é nulo na última página.
+ */
+@Getter
+@AllArgsConstructor
+public final class NewsPageResponseDTO implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 3894218862870412153L;
+
+    private final List<NewsSummaryResponseDTO> items;
+
+    private final String nextCursor;
+}
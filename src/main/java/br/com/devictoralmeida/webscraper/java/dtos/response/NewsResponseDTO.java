@@ -1,5 +1,6 @@
 package br.com.devictoralmeida.webscraper.java.dtos.response;
 
+import br.com.devictoralmeida.webscraper.java.dtos.NewsWithContentDTO;
 import br.com.devictoralmeida.webscraper.java.entities.News;
 import br.com.devictoralmeida.webscraper.java.shared.utils.DateUtils;
 import lombok.Getter;
@@ -30,12 +31,20 @@ public final class NewsResponseDTO implements Serializable {
     private final String createdAt;
 
     public NewsResponseDTO(News news) {
+        this(news, news.getContent());
+    }
+
+    public NewsResponseDTO(NewsWithContentDTO row) {
+        this(row.news(), row.content());
+    }
+
+    private NewsResponseDTO(News news, String content) {
         this.id = news.getId();
         this.url = news.getUrl();
         this.title = news.getTitle();
         this.subtitle = news.getSubtitle();
         this.author = Optional.ofNullable(news.getAuthor()).map(AuthorResponseDTO::new).orElse(null);
-        this.content = news.getContent();
+        this.content = content;
         this.publishDate = DateUtils.format(news.getPublishDate());
         this.createdAt = DateUtils.format(news.getCreatedAt());
     }
@@ -0,0 +1,35 @@
+package br.com.devictoralmeida.webscraper.java.dtos.response;
+
+import br.com.devictoralmeida.webscraper.java.dtos.NewsSearchHitDTO;
+import br.com.devictoralmeida.webscraper.java.shared.utils.DateUtils;
+import lombok.Getter;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+@Getter
+public final class NewsSearchHitResponseDTO implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -4164470390813407412L;
+
+    private final Long id;
+
+    private final String url;
+
+    private final String title;
+
+    private final String subtitle;
+
+    private final String publishDate;
+
+    private final float rank;
+
+    public NewsSearchHitResponseDTO(NewsSearchHitDTO hit) {
+        this.id = hit.id();
+        this.url = hit.url();
+        this.title = hit.title();
+        this.subtitle = hit.subtitle();
+        this.publishDate = DateUtils.format(hit.publishDate());
+        this.rank = hit.rank();
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.devictoralmeida.webscraper.java.dtos.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Uma página da busca textual, da notícia mais relevante para a menos relevante. {@code hasNext} indica se existe a
+ * página {@code page + 1}.
+ */
+@Getter
+@AllArgsConstructor
+public final class NewsSearchPageResponseDTO implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 7221594127903188266L;
+
+    private final List<NewsSearchHitResponseDTO> items;
+
+    private final int page;
+
+    private final int size;
+
+    private final boolean hasNext;
+}
@@ -0,0 +1,34 @@
+package br.com.devictoralmeida.webscraper.java.dtos.response;
+
+import br.com.devictoralmeida.webscraper.java.dtos.NewsSummaryDTO;
+import br.com.devictoralmeida.webscraper.java.shared.utils.DateUtils;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+@Getter
+public final class NewsSummaryResponseDTO implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 6307810546381326431L;
+
+    private final Long id;
+
+    private final String url;
+
+    private final String title;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String content;
+
+    private final String publishDate;
+
+    public NewsSummaryResponseDTO(NewsSummaryDTO news) {
+        this.id = news.id();
+        this.url = news.url();
+        this.title = news.title();
+        this.content = news.content();
+        this.publishDate = DateUtils.format(news.publishDate());
+    }
+}
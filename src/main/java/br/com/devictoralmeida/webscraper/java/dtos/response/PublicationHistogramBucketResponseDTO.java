@@ -0,0 +1,33 @@
+package br.com.devictoralmeida.webscraper.java.dtos.response;
+
+import br.com.devictoralmeida.webscraper.java.shared.utils.DateUtils;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Um intervalo do histograma. {@code authors} só vem quando a quebra pelos autores mais ativos foi pedida, e traz só os
+ * que publicaram no intervalo.
+ */
+@Getter
+public final class PublicationHistogramBucketResponseDTO implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 4420183312947760118L;
+
+    private final String start;
+
+    private final Long newsCount;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final List<AuthorNewsCountResponseDTO> authors;
+
+    public PublicationHistogramBucketResponseDTO(LocalDateTime start, long newsCount, List<AuthorNewsCountResponseDTO> authors) {
+        this.start = DateUtils.format(start);
+        this.newsCount = newsCount;
+        this.authors = authors;
+    }
+}
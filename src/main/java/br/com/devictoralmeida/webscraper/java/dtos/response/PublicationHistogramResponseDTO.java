@@ -0,0 +1,23 @@
+package br.com.devictoralmeida.webscraper.java.dtos.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Histograma de publicações do período, um item por intervalo ({@code hour} ou {@code day}) em ordem cronológica,
+ * inclusive os intervalos sem notícias.
+ */
+@Getter
+@AllArgsConstructor
+public final class PublicationHistogramResponseDTO implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1596034417728093451L;
+
+    private final String bucket;
+
+    private final List<PublicationHistogramBucketResponseDTO> buckets;
+}
@@ -25,7 +25,7 @@ public class Author implements Serializable {
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_author_id_seq")
     @SequenceGenerator(
             name = "tb_author_id_seq",
-            allocationSize = 1)
+            allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -23,11 +23,11 @@ public class News implements Serializable {
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_news_id_seq")
     @SequenceGenerator(
             name = "tb_news_id_seq",
-            allocationSize = 1)
+            allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
-    @Column(name = "url", columnDefinition = "TEXT", unique = true, nullable = false)
+    @Column(name = "url", columnDefinition = "TEXT", nullable = false)
     private String url;
 
     @Column(name = "title", nullable = false)
@@ -36,10 +36,14 @@ public class News implements Serializable {
     @Column(name = "subtitle")
     private String subtitle;
 
-    @Column(name = "content", columnDefinition = "TEXT", nullable = false)
+    /**
+     * Fica em {@code tb_news_content} ({@link NewsContent}) e não é carregado com a notícia. É preenchido na ingestão,
+     * que grava as duas tabelas no mesmo comando, e pelas consultas que juntam o conteúdo.
+     */
+    @Transient
     private String content;
 
-    @ManyToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", referencedColumnName = "id")
     private Author author;
 
@@ -0,0 +1,35 @@
+package br.com.devictoralmeida.webscraper.java.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Conteúdo de uma notícia, 1:1 com {@link News} pela mesma chave. É só lido, em junções pelo id e pela data de
+ * publicação (que restringe a leitura à partição do mês); as linhas são gravadas pelo {@code NewsBulkRepository}
+ * junto com as notícias.
+ */
+@Getter
+@Entity
+@Immutable
+@Table(name = "tb_news_content", schema = "public")
+@NoArgsConstructor
+public class NewsContent implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -4187254412716658329L;
+
+    @Id
+    @Column(name = "news_id")
+    private Long id;
+
+    @Column(name = "publish_at", nullable = false)
+    private LocalDateTime publishDate;
+
+    @Column(name = "content", columnDefinition = "TEXT", nullable = false)
+    private String content;
+}
@@ -0,0 +1,68 @@
+package br.com.devictoralmeida.webscraper.java.repositories;
+
+import br.com.devictoralmeida.webscraper.java.dtos.response.AuthorNewsCountResponseDTO;
+import br.com.devictoralmeida.webscraper.java.entities.Author;
+import br.com.devictoralmeida.webscraper.java.entities.News;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Operações sobre autores com SQL nativo: o upsert pelo nome normalizado e a tabela de contagens diárias
+ * ({@code author_daily_counts}).
+ */
+public interface AuthorBulkRepository {
+    /**
+     * Garante que existe um autor para cada nome, com {@code INSERT ... ON CONFLICT (normalized_name)}, em um único
+     * comando. Nomes que diferem só por maiúsculas ou espaços resolvem para o mesmo autor, inclusive quando outra
+     * execução concorrente o criou.
+     *
+     * @return autor (destacado do contexto de persistência) por nome recebido
+     */
+    Map<String, Author> upsertByNames(Collection<String> names);
+
+    /**
+     * Soma as notícias recebidas às contagens por autor e dia. Deve rodar na mesma transação que as insere; notícias sem
+     * autor não entram.
+     */
+    void incrementDailyCounts(Collection<News> news);
+
+    /**
+     * Autores com mais publicações entre os dois dias (inclusive), somando as contagens diárias. Empates saem pelo menor
+     * id, então as páginas de {@code limit} autores a partir de {@code offset} não se sobrepõem.
+     */
+    List<AuthorNewsCountResponseDTO> findMostPublicationsFromDailyCounts(LocalDate startDay, LocalDate endDay, int limit,
+                                                                         int offset);
+
+    /**
+     * Recalcula as contagens diárias a partir de {@code tb_news}. Bloqueia os incrementos concorrentes até o commit.
+     *
+     * @return quantidade de linhas (autor e dia) gravadas
+     */
+    int rebuildDailyCounts();
+
+    /**
+     * Segura as ingestões, que incrementam as contagens diárias, até o fim da transação. Ingestões já em andamento
+     * terminam antes; leituras não são bloqueadas.
+     */
+    void lockDailyCountsAgainstIngestion();
+
+    /**
+     * Nome de todos os autores, por id.
+     */
+    Map<Long, String> findAuthorNames();
+
+    /**
+     * Percorre as notícias com autor em ordem de publicação, sem montar entidades nem uma lista com todas as linhas. O
+     * minuto é contado desde a época, lendo {@code publish_at} como UTC. Precisa rodar em transação, para o driver ler
+     * as linhas em blocos.
+     */
+    void scanPublications(PublicationHandler handler);
+
+    @FunctionalInterface
+    interface PublicationHandler {
+        void accept(int epochMinute, long authorId);
+    }
+}
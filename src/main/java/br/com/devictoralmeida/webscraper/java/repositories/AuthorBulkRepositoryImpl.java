@@ -0,0 +1,163 @@
+package br.com.devictoralmeida.webscraper.java.repositories;
+
+import br.com.devictoralmeida.webscraper.java.dtos.response.AuthorNewsCountResponseDTO;
+import br.com.devictoralmeida.webscraper.java.entities.Author;
+import br.com.devictoralmeida.webscraper.java.entities.News;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementação do fragmento {@link AuthorBulkRepository}, combinada pelo Spring Data ao {@link AuthorRepository}.
+ */
+public class AuthorBulkRepositoryImpl implements AuthorBulkRepository {
+    /**
+     * O {@code DO UPDATE} que não muda nada faz o {@code RETURNING} devolver também os autores que já existiam. Cada nome
+     * normalizado entra uma vez só no INSERT, pois o Postgres não deixa o mesmo comando atualizar uma linha duas vezes.
+     */
+    private static final String UPSERT = """
+            WITH requested AS (
+                SELECT DISTINCT name, public.normalize_author_name(name) AS normalized_name
+                FROM unnest(CAST(? AS TEXT[])) AS input (name)
+            ),
+            upserted AS (
+                INSERT INTO public.tb_author AS a (id, name, created_at)
+                SELECT nextval('public.tb_author_id_seq'), d.name, LOCALTIMESTAMP
+                FROM (SELECT DISTINCT ON (normalized_name) name FROM requested ORDER BY normalized_name, name) d
+                ON CONFLICT (normalized_name) DO UPDATE SET name = a.name
+                RETURNING a.id, a.name, a.normalized_name, a.created_at
+            )
+            SELECT r.name AS requested_name, u.id, u.name, u.created_at
+            FROM requested r
+            JOIN upserted u ON u.normalized_name = r.normalized_name
+            """;
+
+    /**
+     * Incremento das contagens diárias a partir de uma fonte com {@code author_id} e {@code publish_at}, usado também
+     * dentro dos INSERTs nativos de notícias. As linhas vão ordenadas pela chave para que ingestões concorrentes travem
+     * as mesmas linhas sempre na mesma ordem.
+     */
+    static final String INCREMENT_DAILY_COUNTS = """
+            INSERT INTO public.author_daily_counts AS c (day, author_id, news_count)
+            SELECT CAST(publish_at AS DATE), author_id, count(*)
+            FROM %s
+            WHERE author_id IS NOT NULL
+            GROUP BY 1, 2
+            ORDER BY 1, 2
+            ON CONFLICT (day, author_id) DO UPDATE SET news_count = c.news_count + EXCLUDED.news_count
+            """;
+
+    private static final String INCREMENT_FROM_ARRAYS = INCREMENT_DAILY_COUNTS.formatted(
+            "unnest(CAST(? AS BIGINT[]), CAST(? AS TIMESTAMP[])) AS input (author_id, publish_at)");
+
+    private static final String MOST_PUBLICATIONS = """
+            SELECT a.id, a.name, sum(c.news_count) AS news_count
+            FROM public.author_daily_counts c
+            JOIN public.tb_author a ON a.id = c.author_id
+            WHERE c.day BETWEEN ? AND ?
+            GROUP BY a.id, a.name
+            ORDER BY news_count DESC, a.id
+            LIMIT ? OFFSET ?
+            """;
+
+    private static final String REBUILD = INCREMENT_DAILY_COUNTS.formatted("public.tb_news");
+
+    private static final String SCAN_PUBLICATIONS = """
+            SELECT CAST(floor(extract(EPOCH FROM publish_at) / 60) AS INTEGER) AS epoch_minute, author_id
+            FROM public.tb_news
+            WHERE author_id IS NOT NULL
+            ORDER BY publish_at
+            """;
+
+    private static final int SCAN_FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AuthorBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Map<String, Author> upsertByNames(Collection<String> names) {
+        Map<String, Author> authors = new HashMap<>();
+        if (names.isEmpty()) {
+            return authors;
+        }
+
+        this.jdbcTemplate.query(UPSERT, statement -> statement.setArray(1,
+                statement.getConnection().createArrayOf("text", names.toArray())), resultSet -> {
+            Author author = new Author(resultSet.getString("name"));
+            author.setId(resultSet.getLong("id"));
+            author.setCreatedAt(resultSet.getTimestamp("created_at").toLocalDateTime());
+            authors.put(resultSet.getString("requested_name"), author);
+        });
+        return authors;
+    }
+
+    @Override
+    public void incrementDailyCounts(Collection<News> news) {
+        List<News> withAuthor = news.stream()
+                .filter(item -> item.getAuthor() != null && item.getAuthor().getId() != null)
+                .toList();
+        if (withAuthor.isEmpty()) {
+            return;
+        }
+
+        Long[] authorIds = withAuthor.stream().map(item -> item.getAuthor().getId()).toArray(Long[]::new);
+        Timestamp[] publishDates = withAuthor.stream().map(item -> Timestamp.valueOf(item.getPublishDate())).toArray(Timestamp[]::new);
+
+        this.jdbcTemplate.update(INCREMENT_FROM_ARRAYS, statement -> {
+            statement.setArray(1, statement.getConnection().createArrayOf("bigint", authorIds));
+            statement.setArray(2, statement.getConnection().createArrayOf("timestamp", publishDates));
+        });
+    }
+
+    @Override
+    public List<AuthorNewsCountResponseDTO> findMostPublicationsFromDailyCounts(LocalDate startDay, LocalDate endDay, int limit,
+                                                                                int offset) {
+        return this.jdbcTemplate.query(MOST_PUBLICATIONS, (resultSet, rowNum) -> new AuthorNewsCountResponseDTO(
+                resultSet.getLong("id"),
+                resultSet.getString("name"),
+                resultSet.getLong("news_count")
+        ), Date.valueOf(startDay), Date.valueOf(endDay), limit, offset);
+    }
+
+    @Override
+    public int rebuildDailyCounts() {
+        // EXCLUSIVE espera as ingestões em andamento e segura as próximas até o commit, sem bloquear leituras.
+        this.jdbcTemplate.execute("LOCK TABLE public.author_daily_counts IN EXCLUSIVE MODE");
+        this.jdbcTemplate.update("DELETE FROM public.author_daily_counts");
+        return this.jdbcTemplate.update(REBUILD);
+    }
+
+    @Override
+    public void lockDailyCountsAgainstIngestion() {
+        // SHARE conflita com o ROW EXCLUSIVE dos incrementos, mas não com outras leituras nem com outro SHARE.
+        this.jdbcTemplate.execute("LOCK TABLE public.author_daily_counts IN SHARE MODE");
+    }
+
+    @Override
+    public Map<Long, String> findAuthorNames() {
+        Map<Long, String> names = new HashMap<>();
+        this.jdbcTemplate.query("SELECT id, name FROM public.tb_author", (RowCallbackHandler) resultSet ->
+                names.put(resultSet.getLong("id"), resultSet.getString("name")));
+        return names;
+    }
+
+    @Override
+    public void scanPublications(PublicationHandler handler) {
+        this.jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SCAN_PUBLICATIONS);
+            statement.setFetchSize(SCAN_FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> handler.accept(resultSet.getInt("epoch_minute"), resultSet.getLong("author_id")));
+    }
+}
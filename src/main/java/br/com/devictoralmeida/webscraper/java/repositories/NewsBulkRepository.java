@@ -0,0 +1,47 @@
+package br.com.devictoralmeida.webscraper.java.repositories;
+
+import br.com.devictoralmeida.webscraper.java.dtos.ParsedNewsDTO;
+import br.com.devictoralmeida.webscraper.java.entities.News;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Inserção em massa de notícias com SQL nativo, fora do ciclo de vida das entidades do JPA, e o que ela exige da
+ * tabela particionada: as partições mensais, a reserva das URLs em {@code tb_news_url} e o conteúdo em
+ * {@code tb_news_content}.
+ */
+public interface NewsBulkRepository {
+    /**
+     * Insere as notícias e o conteúdo em lotes de várias linhas por comando, reservando as URLs em {@code tb_news_url}
+     * com {@code ON CONFLICT (url) DO NOTHING}. URLs que já existem no banco (inclusive gravadas por outra execução
+     * concorrente) são ignoradas sem abortar a transação. Os autores referenciados precisam já ter id. As notícias
+     * inseridas entram nas contagens diárias por autor no mesmo comando.
+     *
+     * @return as notícias efetivamente inseridas, com o id preenchido
+     */
+    List<News> insertIgnoringDuplicates(List<News> news);
+
+    /**
+     * Carga para backfills grandes: as linhas vão por {@code COPY ... FROM STDIN} para uma tabela temporária e entram em
+     * {@code tb_author}, {@code tb_news} e {@code tb_news_content} com um único comando. Autores são resolvidos pelo
+     * nome (criados quando não existem), URLs já gravadas são ignoradas e as inseridas entram nas contagens diárias por
+     * autor.
+     *
+     * @return quantidade de notícias inseridas
+     */
+    int copyIgnoringDuplicates(List<ParsedNewsDTO> news);
+
+    /**
+     * Completa as notícias gravadas pelo JPA, que já precisam ter id, em um único comando: reserva as URLs em
+     * {@code tb_news_url} e grava o conteúdo em {@code tb_news_content}. Uma URL já reservada falha com violação de
+     * chave única, como o índice único de {@code tb_news} fazia antes do particionamento.
+     */
+    void insertUrlsAndContents(Collection<News> news);
+
+    /**
+     * Cria as partições mensais de {@code tb_news} que ainda não existem, uma por mês recebido.
+     */
+    void createPartitions(Collection<YearMonth> months);
+}
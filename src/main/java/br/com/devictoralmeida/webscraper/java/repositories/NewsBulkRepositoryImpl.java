@@ -0,0 +1,340 @@
+package br.com.devictoralmeida.webscraper.java.repositories;
+
+import br.com.devictoralmeida.webscraper.java.dtos.ParsedNewsDTO;
+import br.com.devictoralmeida.webscraper.java.entities.News;
+import br.com.devictoralmeida.webscraper.java.shared.utils.CsvUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementação do fragmento {@link NewsBulkRepository}, combinada pelo Spring Data ao {@link NewsRepository}.
+ */
+public class NewsBulkRepositoryImpl implements NewsBulkRepository {
+    /**
+     * Igual ao incremento de {@code tb_news_id_seq}: cada comando reserva um bloco com um único {@code nextval} e numera
+     * as suas linhas a partir dele, como o otimizador pooled-lo do Hibernate faz para as inserções via JPA.
+     */
+    static final int CHUNK_SIZE = 50;
+
+    /**
+     * Reserva das URLs de {@code input} (id, url, publish_at). Devolve o id das linhas que ficaram com a URL.
+     */
+    private static final String CLAIM_URLS = """
+            claimed AS (
+                INSERT INTO public.tb_news_url (url, news_id, publish_at)
+                SELECT url, id, publish_at FROM input
+                ON CONFLICT (url) DO NOTHING
+                RETURNING news_id
+            )""";
+    /**
+     * Conteúdo das linhas de {@code input} que ficaram com a URL, com o vetor de busca calculado pelo banco.
+     */
+    private static final String INSERT_CONTENTS = """
+            contents AS (
+                INSERT INTO public.tb_news_content (news_id, publish_at, content, search_vector)
+                SELECT i.id, i.publish_at, i.content, public.news_search_vector(i.title, i.subtitle, i.content)
+                FROM input i
+                JOIN claimed c ON c.news_id = i.id
+            )""";
+
+    private static final String INSERT_PREFIX = """
+            WITH id_block AS (SELECT nextval('public.tb_news_id_seq') AS first_id),
+            input AS (
+                SELECT id_block.first_id + v.ord AS id, v.url, v.title, v.subtitle, v.author_id, v.content, v.publish_at, v.created_at
+                FROM id_block, (VALUES
+            """;
+    /**
+     * A URL é reservada em {@code tb_news_url} antes do INSERT em {@code tb_news}, que não tem índice único sobre ela.
+     * Só entram as linhas cuja reserva foi feita por este comando (casadas pelo id, já que a mesma URL pode vir duas
+     * vezes), e só elas têm o conteúdo gravado em {@code tb_news_content} e entram nas contagens diárias.
+     */
+    private static final String INSERT_SUFFIX = """
+                ) AS v (ord, url, title, subtitle, author_id, content, publish_at, created_at)
+            ),
+            %s,
+            inserted AS (
+                INSERT INTO public.tb_news (id, url, title, subtitle, author_id, publish_at, created_at)
+                SELECT i.id, i.url, i.title, i.subtitle, i.author_id, i.publish_at, i.created_at
+                FROM input i
+                JOIN claimed c ON c.news_id = i.id
+                RETURNING id, url, author_id, publish_at
+            ),
+            %s,
+            daily_counts AS (
+            %s)
+            SELECT id, url FROM inserted
+            """.formatted(CLAIM_URLS, INSERT_CONTENTS, AuthorBulkRepositoryImpl.INCREMENT_DAILY_COUNTS.formatted("inserted"));
+    private static final String ROW_TEMPLATE =
+            "(%d, CAST(? AS TEXT), CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS BIGINT), CAST(? AS TEXT), CAST(? AS TIMESTAMP), CAST(? AS TIMESTAMP))";
+
+    private static final String CREATE_STAGING = """
+            CREATE TEMPORARY TABLE news_staging (
+                url         TEXT,
+                title       TEXT,
+                subtitle    TEXT,
+                content     TEXT,
+                publish_at  TIMESTAMP,
+                author_name TEXT
+            ) ON COMMIT DROP
+            """;
+    private static final String COPY_STAGING =
+            "COPY news_staging (url, title, subtitle, content, publish_at, author_name) FROM STDIN WITH (FORMAT csv)";
+
+    /**
+     * Cria os autores que faltam, reserva as URLs, insere as notícias com o conteúdo e soma as inseridas às contagens
+     * diárias no mesmo comando. Os autores casam pelo nome normalizado, com o mesmo upsert do {@link AuthorBulkRepository#upsertByNames}.
+     * Os ids das notícias saem em blocos de {@link #CHUNK_SIZE}, um {@code nextval} por bloco, como no
+     * {@link #insertIgnoringDuplicates(List)}.
+     */
+    private static final String MERGE_STAGING = """
+            WITH authors AS (
+                INSERT INTO public.tb_author AS a (id, name, created_at)
+                SELECT nextval('public.tb_author_id_seq'), d.author_name, LOCALTIMESTAMP
+                FROM (SELECT DISTINCT ON (public.normalize_author_name(author_name)) author_name
+                      FROM news_staging
+                      WHERE author_name IS NOT NULL
+                      ORDER BY public.normalize_author_name(author_name), author_name) d
+                ON CONFLICT (normalized_name) DO UPDATE SET name = a.name
+                RETURNING a.id, a.normalized_name
+            ),
+            numbered AS (
+                SELECT s.*, row_number() OVER (ORDER BY s.url) - 1 AS ord
+                FROM (SELECT DISTINCT ON (url) * FROM news_staging ORDER BY url) s
+            ),
+            id_blocks AS (
+                SELECT block, nextval('public.tb_news_id_seq') AS first_id
+                FROM generate_series(0, (SELECT max(ord) FROM numbered) / %1$d) AS block
+            ),
+            input AS (
+                SELECT b.first_id + n.ord %% %1$d AS id, n.url, n.title, n.subtitle, n.content, n.publish_at, n.author_name
+                FROM numbered n
+                JOIN id_blocks b ON b.block = n.ord / %1$d
+            ),
+            %3$s,
+            inserted AS (
+                INSERT INTO public.tb_news (id, url, title, subtitle, author_id, publish_at, created_at)
+                SELECT i.id, i.url, i.title, i.subtitle, au.id, i.publish_at, LOCALTIMESTAMP
+                FROM input i
+                JOIN claimed c ON c.news_id = i.id
+                LEFT JOIN authors au ON au.normalized_name = public.normalize_author_name(i.author_name)
+                RETURNING author_id, publish_at
+            ),
+            %4$s,
+            daily_counts AS (
+            %2$s)
+            SELECT count(*) FROM inserted
+            """.formatted(CHUNK_SIZE, AuthorBulkRepositoryImpl.INCREMENT_DAILY_COUNTS.formatted("inserted"), CLAIM_URLS,
+            INSERT_CONTENTS);
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private static final String INSERT_URLS_AND_CONTENTS = """
+            WITH input AS (
+                SELECT *
+                FROM unnest(CAST(? AS BIGINT[]), CAST(? AS TIMESTAMP[]), CAST(? AS TEXT[]), CAST(? AS VARCHAR[]),
+                            CAST(? AS VARCHAR[]), CAST(? AS TEXT[])) AS v (id, publish_at, url, title, subtitle, content)
+            ),
+            urls AS (
+                INSERT INTO public.tb_news_url (url, news_id, publish_at)
+                SELECT url, id, publish_at FROM input
+            )
+            INSERT INTO public.tb_news_content (news_id, publish_at, content, search_vector)
+            SELECT id, publish_at, content, public.news_search_vector(title, subtitle, content)
+            FROM input
+            """;
+    private static final String CREATE_PARTITIONS = """
+            SELECT public.create_news_partition(month)
+            FROM unnest(CAST(? AS DATE[])) AS input (month)
+            ORDER BY month
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public NewsBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<News> insertIgnoringDuplicates(List<News> news) {
+        if (news.isEmpty()) {
+            return List.of();
+        }
+
+        // Alterações ainda pendentes no contexto de persistência precisam chegar ao banco antes do INSERT nativo.
+        this.entityManager.flush();
+
+        List<News> inserted = new ArrayList<>();
+        for (int from = 0; from < news.size(); from += CHUNK_SIZE) {
+            inserted.addAll(insertChunk(news.subList(from, Math.min(from + CHUNK_SIZE, news.size()))));
+        }
+        return inserted;
+    }
+
+    @Override
+    public int copyIgnoringDuplicates(List<ParsedNewsDTO> news) {
+        if (news.isEmpty()) {
+            return 0;
+        }
+
+        this.entityManager.flush();
+
+        Integer inserted = this.jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGING);
+                copyToStaging(connection, news);
+                statement.execute("ANALYZE news_staging");
+                try (ResultSet resultSet = statement.executeQuery(MERGE_STAGING)) {
+                    resultSet.next();
+                    return resultSet.getInt(1);
+                }
+            }
+        });
+        return inserted == null ? 0 : inserted;
+    }
+
+    @Override
+    public void insertUrlsAndContents(Collection<News> news) {
+        if (news.isEmpty()) {
+            return;
+        }
+
+        // As notícias do saveAll ainda podem estar só no contexto de persistência; o conteúdo as referencia por chave
+        // estrangeira.
+        this.entityManager.flush();
+
+        Long[] ids = news.stream().map(News::getId).toArray(Long[]::new);
+        Timestamp[] publishDates = news.stream().map(item -> Timestamp.valueOf(item.getPublishDate())).toArray(Timestamp[]::new);
+        String[] urls = news.stream().map(News::getUrl).toArray(String[]::new);
+        String[] titles = news.stream().map(News::getTitle).toArray(String[]::new);
+        String[] subtitles = news.stream().map(News::getSubtitle).toArray(String[]::new);
+        String[] contents = news.stream().map(News::getContent).toArray(String[]::new);
+
+        this.jdbcTemplate.update(INSERT_URLS_AND_CONTENTS, statement -> {
+            Connection connection = statement.getConnection();
+            statement.setArray(1, connection.createArrayOf("bigint", ids));
+            statement.setArray(2, connection.createArrayOf("timestamp", publishDates));
+            statement.setArray(3, connection.createArrayOf("text", urls));
+            statement.setArray(4, connection.createArrayOf("varchar", titles));
+            statement.setArray(5, connection.createArrayOf("varchar", subtitles));
+            statement.setArray(6, connection.createArrayOf("text", contents));
+        });
+    }
+
+    @Override
+    public void createPartitions(Collection<YearMonth> months) {
+        if (months.isEmpty()) {
+            return;
+        }
+
+        Date[] firstDays = months.stream().map(month -> Date.valueOf(month.atDay(1))).toArray(Date[]::new);
+        this.jdbcTemplate.query(CREATE_PARTITIONS,
+                statement -> statement.setArray(1, statement.getConnection().createArrayOf("date", firstDays)),
+                resultSet -> {
+                });
+    }
+
+    /**
+     * Escreve as linhas em CSV direto no {@code COPY}, à medida que são formatadas, sem montar o arquivo em memória.
+     */
+    private static void copyToStaging(Connection connection, List<ParsedNewsDTO> news) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new PGCopyOutputStream(pgConnection, COPY_STAGING, COPY_BUFFER_SIZE), StandardCharsets.UTF_8), COPY_BUFFER_SIZE)) {
+            for (ParsedNewsDTO parsed : news) {
+                CsvUtils.writeField(writer, parsed.getPartialNews().getUrl());
+                writer.write(',');
+                CsvUtils.writeField(writer, parsed.getPartialNews().getTitle());
+                writer.write(',');
+                CsvUtils.writeField(writer, parsed.getSubtitle());
+                writer.write(',');
+                CsvUtils.writeField(writer, parsed.getContent());
+                writer.write(',');
+                CsvUtils.writeField(writer, parsed.getPublishDate() == null
+                        ? null
+                        : parsed.getPublishDate().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+                writer.write(',');
+                CsvUtils.writeField(writer, parsed.getAuthorName());
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao enviar notícias via COPY", e);
+        }
+    }
+
+    private List<News> insertChunk(List<News> chunk) {
+        Map<String, News> byUrl = chunk.stream()
+                .collect(Collectors.toMap(News::getUrl, Function.identity(), (first, duplicate) -> first, HashMap::new));
+
+        List<News> inserted = new ArrayList<>();
+        this.jdbcTemplate.query(buildInsert(chunk.size()), bindRows(chunk), resultSet -> {
+            News saved = byUrl.get(resultSet.getString("url"));
+            saved.setId(resultSet.getLong("id"));
+            inserted.add(saved);
+        });
+        return inserted;
+    }
+
+    static String buildInsert(int rows) {
+        StringJoiner values = new StringJoiner(",\n", INSERT_PREFIX, INSERT_SUFFIX);
+        for (int position = 0; position < rows; position++) {
+            values.add(ROW_TEMPLATE.formatted(position));
+        }
+        return values.toString();
+    }
+
+    private static PreparedStatementSetter bindRows(List<News> chunk) {
+        return statement -> {
+            int index = 1;
+            for (News news : chunk) {
+                statement.setString(index++, news.getUrl());
+                statement.setString(index++, news.getTitle());
+                statement.setString(index++, news.getSubtitle());
+                setAuthorId(statement, index++, news);
+                statement.setString(index++, news.getContent());
+                statement.setTimestamp(index++, Timestamp.valueOf(news.getPublishDate()));
+                statement.setTimestamp(index++, Timestamp.valueOf(news.getCreatedAt()));
+            }
+        };
+    }
+
+    private static void setAuthorId(PreparedStatement statement, int index, News news) throws SQLException {
+        if (news.getAuthor() == null || news.getAuthor().getId() == null) {
+            statement.setNull(index, Types.BIGINT);
+        } else {
+            statement.setLong(index, news.getAuthor().getId());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.devictoralmeida.webscraper.java.repositories;
+
+import br.com.devictoralmeida.webscraper.java.dtos.AuthorBucketCountDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.PublicationBucketDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.request.HistogramBucket;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Histograma de publicações agregado no banco: por dia, soma {@code author_daily_counts}; por hora, agrupa
+ * {@code tb_news} com {@code date_trunc}, lendo só o índice de {@code (publish_at, author_id)}. Nenhuma notícia é
+ * trazida para a aplicação.
+ */
+public interface NewsHistogramRepository {
+    /**
+     * Quantidade de notícias por intervalo entre os dois dias (inclusive), em ordem cronológica e com os intervalos vazios
+     * zerados. Com {@code authorId}, só as notícias do autor.
+     */
+    List<PublicationBucketDTO> countByBucket(HistogramBucket bucket, LocalDate startDay, LocalDate endDay, Long authorId);
+
+    /**
+     * Quantidade por intervalo e autor, só dos {@code topAuthors} autores com mais notícias no período (empate pelo menor
+     * id). Em ordem cronológica e, dentro do intervalo, da maior quantidade no período para a menor; pares sem notícia
+     * não vêm.
+     */
+    List<AuthorBucketCountDTO> countByBucketForTopAuthors(HistogramBucket bucket, LocalDate startDay, LocalDate endDay,
+                                                          int topAuthors);
+}
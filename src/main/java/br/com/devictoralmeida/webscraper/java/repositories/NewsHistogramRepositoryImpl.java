@@ -0,0 +1,105 @@
+package br.com.devictoralmeida.webscraper.java.repositories;
+
+import br.com.devictoralmeida.webscraper.java.dtos.AuthorBucketCountDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.PublicationBucketDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.request.HistogramBucket;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementação do fragmento {@link NewsHistogramRepository}, combinada pelo Spring Data ao {@link NewsRepository}.
+ */
+public class NewsHistogramRepositoryImpl implements NewsHistogramRepository {
+    /**
+     * Contagens por intervalo e autor no período {@code [início, fim)}: as diárias já estão prontas na tabela de
+     * contagens; as por hora são agrupadas a partir do índice de {@code (publish_at, author_id)}.
+     */
+    private static final String DAILY_COUNTS = """
+            SELECT CAST(c.day AS TIMESTAMP) AS bucket, c.author_id, c.news_count
+            FROM public.author_daily_counts c
+            WHERE c.day >= CAST(? AS DATE) AND c.day < CAST(? AS DATE)%s
+            """;
+
+    private static final String HOURLY_COUNTS = """
+            SELECT date_trunc('hour', n.publish_at) AS bucket, n.author_id, count(*) AS news_count
+            FROM public.tb_news n
+            WHERE n.publish_at >= ? AND n.publish_at < ? AND n.author_id IS NOT NULL%s
+            GROUP BY 1, 2
+            """;
+
+    /**
+     * O {@code generate_series} devolve todos os intervalos do período, e os que não têm notícia saem com zero.
+     */
+    private static final String TOTALS = """
+            WITH counts AS (%s)
+            SELECT g.bucket, coalesce(sum(c.news_count), 0) AS news_count
+            FROM generate_series(CAST(? AS TIMESTAMP), CAST(? AS TIMESTAMP) - CAST(? AS INTERVAL), CAST(? AS INTERVAL)) AS g (bucket)
+            LEFT JOIN counts c ON c.bucket = g.bucket
+            GROUP BY g.bucket
+            ORDER BY g.bucket
+            """;
+
+    private static final String TOP_AUTHORS = """
+            WITH counts AS (%s),
+            top AS (
+                SELECT author_id, sum(news_count) AS total
+                FROM counts
+                GROUP BY author_id
+                ORDER BY total DESC, author_id
+                LIMIT ?
+            )
+            SELECT c.bucket, a.id, a.name, sum(c.news_count) AS news_count
+            FROM counts c
+            JOIN top t ON t.author_id = c.author_id
+            JOIN public.tb_author a ON a.id = c.author_id
+            GROUP BY c.bucket, a.id, a.name, t.total
+            ORDER BY c.bucket, t.total DESC, a.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NewsHistogramRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<PublicationBucketDTO> countByBucket(HistogramBucket bucket, LocalDate startDay, LocalDate endDay, Long authorId) {
+        Timestamp start = Timestamp.valueOf(startDay.atStartOfDay());
+        Timestamp end = Timestamp.valueOf(endDay.plusDays(1).atStartOfDay());
+
+        List<Object> parameters = new ArrayList<>(List.of(start, end));
+        if (authorId != null) {
+            parameters.add(authorId);
+        }
+        parameters.addAll(List.of(start, end, bucket.getInterval(), bucket.getInterval()));
+
+        return this.jdbcTemplate.query(TOTALS.formatted(counts(bucket, authorId != null)), (resultSet, rowNum) ->
+                new PublicationBucketDTO(
+                        resultSet.getTimestamp("bucket").toLocalDateTime(),
+                        resultSet.getLong("news_count")
+                ), parameters.toArray());
+    }
+
+    @Override
+    public List<AuthorBucketCountDTO> countByBucketForTopAuthors(HistogramBucket bucket, LocalDate startDay, LocalDate endDay,
+                                                                 int topAuthors) {
+        return this.jdbcTemplate.query(TOP_AUTHORS.formatted(counts(bucket, false)), (resultSet, rowNum) ->
+                new AuthorBucketCountDTO(
+                        resultSet.getTimestamp("bucket").toLocalDateTime(),
+                        resultSet.getLong("id"),
+                        resultSet.getString("name"),
+                        resultSet.getLong("news_count")
+                ), Timestamp.valueOf(startDay.atStartOfDay()), Timestamp.valueOf(endDay.plusDays(1).atStartOfDay()), topAuthors);
+    }
+
+    private static String counts(HistogramBucket bucket, boolean byAuthor) {
+        return switch (bucket) {
+            case DAY -> DAILY_COUNTS.formatted(byAuthor ? " AND c.author_id = ?" : "");
+            case HOUR -> HOURLY_COUNTS.formatted(byAuthor ? " AND n.author_id = ?" : "");
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.devictoralmeida.webscraper.java.repositories;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Marcas d'água dos relatórios: valores agregados baratos que mudam sempre que os dados lidos pelo relatório mudam, para
+ * responder {@code 304 Not Modified} sem rodar a consulta.
+ */
+public interface NewsReportVersionRepository {
+    /**
+     * Versão das contagens diárias entre os dois dias (inclusive), que é o que o relatório de autores mais ativos soma.
+     */
+    String findTopAuthorsVersion(LocalDate startDay, LocalDate endDay);
+
+    /**
+     * Versão das notícias do autor no período, pelos ids das notícias.
+     *
+     * @return vazio quando o autor não existe
+     */
+    Optional<String> findAuthorNewsVersion(Long authorId, LocalDateTime startOfDay, LocalDateTime endOfDay);
+}
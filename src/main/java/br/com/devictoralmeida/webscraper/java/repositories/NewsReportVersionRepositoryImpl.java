@@ -0,0 +1,56 @@
+package br.com.devictoralmeida.webscraper.java.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Implementação do fragmento {@link NewsReportVersionRepository}, combinada pelo Spring Data ao {@link NewsRepository}.
+ */
+public class NewsReportVersionRepositoryImpl implements NewsReportVersionRepository {
+    /**
+     * Uma inserção soma ao total; a soma ponderada pelo autor muda também quando a contagem passa de um autor para outro
+     * sem mudar o total. Lê as poucas linhas (autor e dia) do período, não as notícias.
+     */
+    private static final String TOP_AUTHORS_VERSION = """
+            SELECT count(*) || '-' || coalesce(sum(news_count), 0) || '-' || coalesce(sum(news_count * author_id), 0)
+            FROM public.author_daily_counts
+            WHERE day BETWEEN ? AND ?
+            """;
+
+    /**
+     * Lê só o índice {@code idx_news_author_publish_at_inc}, que inclui o id. A quantidade e a soma dos ids mudam com
+     * qualquer notícia que entra ou sai do período, mesmo quando o maior id continua o mesmo. O {@code GROUP BY} faz o
+     * autor inexistente não devolver linha.
+     */
+    private static final String AUTHOR_NEWS_VERSION = """
+            SELECT count(n.id) || '-' || coalesce(max(n.id), 0) || '-' || coalesce(sum(n.id), 0)
+            FROM public.tb_author a
+            LEFT JOIN public.tb_news n ON n.author_id = a.id AND n.publish_at BETWEEN ? AND ?
+            WHERE a.id = ?
+            GROUP BY a.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NewsReportVersionRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public String findTopAuthorsVersion(LocalDate startDay, LocalDate endDay) {
+        return this.jdbcTemplate.queryForObject(TOP_AUTHORS_VERSION, String.class, Date.valueOf(startDay), Date.valueOf(endDay));
+    }
+
+    @Override
+    public Optional<String> findAuthorNewsVersion(Long authorId, LocalDateTime startOfDay, LocalDateTime endOfDay) {
+        return this.jdbcTemplate.queryForList(AUTHOR_NEWS_VERSION, String.class,
+                        Timestamp.valueOf(startOfDay), Timestamp.valueOf(endOfDay), authorId)
+                .stream()
+                .findFirst();
+    }
+}
@@ -1,28 +1,116 @@
 package br.com.devictoralmeida.webscraper.java.repositories;
 
+import br.com.devictoralmeida.webscraper.java.dtos.NewsSummaryDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.NewsWithContentDTO;
 import br.com.devictoralmeida.webscraper.java.entities.News;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface NewsRepository extends JpaRepository<News, Long> {
-    @Query("SELECT n.url FROM News n WHERE n.url IN :urls")
+public interface NewsRepository extends JpaRepository<News, Long>, NewsBulkRepository, NewsSearchRepository,
+        NewsReportVersionRepository, NewsHistogramRepository {
+    /**
+     * Consulta as URLs em {@code tb_news_url}, que tem a chave única sobre a URL e guarda também as notícias de
+     * partições já desanexadas.
+     */
+    @Query(value = "SELECT u.url FROM public.tb_news_url u WHERE u.url IN :urls", nativeQuery = true)
     List<String> findUrlsIn(List<String> urls);
 
+    /**
+     * Notícias do autor no período com o conteúdo, lido de {@code tb_news_content} na mesma consulta. As entidades vêm
+     * como somente leitura: o resultado só é mapeado para a resposta.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
     @Query("""
-                 SELECT n FROM News n WHERE n.author.id = :authorId
+                 SELECT new br.com.devictoralmeida.webscraper.java.dtos.NewsWithContentDTO(n, c.content)
+                 FROM News n
+                 JOIN NewsContent c ON c.id = n.id AND c.publishDate = n.publishDate
+                 WHERE n.author.id = :authorId
                  AND n.publishDate >= :startOfDay
                  AND n.publishDate <= :endOfDay
                  ORDER BY n.publishDate DESC
             """)
-    List<News> findNewsByAuthorAndDateRange(
+    List<NewsWithContentDTO> findNewsByAuthorAndDateRange(
             @Param("authorId") Long authorId,
             @Param("startOfDay") LocalDateTime startOfDay,
             @Param("endOfDay") LocalDateTime endOfDay
     );
+
+    /**
+     * Página da listagem por autor depois do cursor, em ordem decrescente de {@code (publish_at, id)}. Lê só colunas do
+     * índice {@code idx_news_author_publish_at_inc}: o limite superior de {@code publish_at} é condição do índice e o
+     * desempate por id é filtrado sobre a própria entrada do índice.
+     */
+    @Query("""
+                 SELECT new br.com.devictoralmeida.webscraper.java.dtos.NewsSummaryDTO(n.id, n.url, n.title, n.publishDate)
+                 FROM News n
+                 WHERE n.author.id = :authorId
+                 AND n.publishDate >= :startOfDay
+                 AND n.publishDate <= :cursorDate
+                 AND (n.publishDate < :cursorDate OR n.id < :cursorId)
+                 ORDER BY n.publishDate DESC, n.id DESC
+            """)
+    List<NewsSummaryDTO> findSummaryPageByAuthor(
+            @Param("authorId") Long authorId,
+            @Param("startOfDay") LocalDateTime startOfDay,
+            @Param("cursorDate") LocalDateTime cursorDate,
+            @Param("cursorId") Long cursorId,
+            Limit limit
+    );
+
+    /**
+     * Igual a {@link #findSummaryPageByAuthor}, mas também lê o conteúdo, o que exige buscar cada linha em
+     * {@code tb_news_content}.
+     */
+    @Query("""
+                 SELECT new br.com.devictoralmeida.webscraper.java.dtos.NewsSummaryDTO(n.id, n.url, n.title, n.publishDate, c.content)
+                 FROM News n
+                 JOIN NewsContent c ON c.id = n.id AND c.publishDate = n.publishDate
+                 WHERE n.author.id = :authorId
+                 AND n.publishDate >= :startOfDay
+                 AND n.publishDate <= :cursorDate
+                 AND (n.publishDate < :cursorDate OR n.id < :cursorId)
+                 ORDER BY n.publishDate DESC, n.id DESC
+            """)
+    List<NewsSummaryDTO> findSummaryPageWithContentByAuthor(
+            @Param("authorId") Long authorId,
+            @Param("startOfDay") LocalDateTime startOfDay,
+            @Param("cursorDate") LocalDateTime cursorDate,
+            @Param("cursorId") Long cursorId,
+            Limit limit
+    );
+
+    /**
+     * Todas as notícias do período, com o autor e o conteúdo, em ordem de {@code (publish_at, id)}. O driver lê as linhas em blocos de
+     * {@code fetchSize} por um cursor do servidor, o que só acontece dentro de uma transação; as entidades vêm como
+     * somente leitura, sem snapshot para dirty checking. O {@link Stream} precisa ser fechado.
+     */
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("""
+                 SELECT new br.com.devictoralmeida.webscraper.java.dtos.NewsWithContentDTO(n, c.content)
+                 FROM News n
+                 LEFT JOIN FETCH n.author
+                 JOIN NewsContent c ON c.id = n.id AND c.publishDate = n.publishDate
+                 WHERE n.publishDate >= :startOfDay
+                 AND n.publishDate <= :endOfDay
+                 ORDER BY n.publishDate, n.id
+            """)
+    Stream<NewsWithContentDTO> streamByDateRange(
+            @Param("startOfDay") LocalDateTime startOfDay,
+            @Param("endOfDay") LocalDateTime endOfDay
+    );
 }
@@ -0,0 +1,17 @@
+package br.com.devictoralmeida.webscraper.java.repositories;
+
+import br.com.devictoralmeida.webscraper.java.dtos.NewsSearchHitDTO;
+
+import java.util.List;
+
+/**
+ * Busca textual sobre a coluna {@code search_vector} de {@code tb_news}, indexada com GIN.
+ */
+public interface NewsSearchRepository {
+    /**
+     * Notícias que casam com os termos, da mais para a menos relevante (empate pela mais recente). Os termos seguem a
+     * sintaxe de {@code websearch_to_tsquery}: palavras soltas exigem todas, {@code "frase entre aspas"}, {@code or} e
+     * {@code -termo} para excluir. Termos que são só stopwords não casam com nada.
+     */
+    List<NewsSearchHitDTO> search(String terms, int limit, long offset);
+}
@@ -0,0 +1,49 @@
+package br.com.devictoralmeida.webscraper.java.repositories;
+
+import br.com.devictoralmeida.webscraper.java.dtos.NewsSearchHitDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * Implementação do fragmento {@link NewsSearchRepository}, combinada pelo Spring Data ao {@link NewsRepository}.
+ */
+public class NewsSearchRepositoryImpl implements NewsSearchRepository {
+    /**
+     * O {@code @@} é resolvido pelo índice GIN de {@code tb_news_content}; só as linhas que casam têm o vetor lido para o
+     * {@code ts_rank}. A normalização 32 ({@code rank / (rank + 1)}) mantém a relevância entre 0 e 1 sem depender do
+     * tamanho do texto, que obrigaria a ler o conteúdo. A página é cortada antes da junção com {@code tb_news}, que só
+     * busca título e URL das linhas devolvidas.
+     */
+    private static final String SEARCH = """
+            SELECT n.id, n.url, n.title, n.subtitle, n.publish_at, hit.rank
+            FROM (
+                SELECT c.news_id, c.publish_at, ts_rank(c.search_vector, q.query, 32) AS rank
+                FROM public.tb_news_content c
+                CROSS JOIN websearch_to_tsquery('portuguese', ?) AS q (query)
+                WHERE c.search_vector @@ q.query
+                ORDER BY rank DESC, c.publish_at DESC, c.news_id DESC
+                LIMIT ? OFFSET ?
+            ) hit
+            JOIN public.tb_news n ON n.id = hit.news_id AND n.publish_at = hit.publish_at
+            ORDER BY hit.rank DESC, hit.publish_at DESC, hit.news_id DESC
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NewsSearchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<NewsSearchHitDTO> search(String terms, int limit, long offset) {
+        return this.jdbcTemplate.query(SEARCH, (resultSet, rowNum) -> new NewsSearchHitDTO(
+                resultSet.getLong("id"),
+                resultSet.getString("url"),
+                resultSet.getString("title"),
+                resultSet.getString("subtitle"),
+                resultSet.getTimestamp("publish_at").toLocalDateTime(),
+                resultSet.getFloat("rank")
+        ), terms, limit, offset);
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.devictoralmeida.webscraper.java.services;
+
+import reactor.core.publisher.Mono;
+
+public interface AdaptiveRateLimiter {
+    <T> Mono<T> execute(String url, Mono<T> request);
+}
@@ -0,0 +1,46 @@
+package br.com.devictoralmeida.webscraper.java.services;
+
+import br.com.devictoralmeida.webscraper.java.dtos.response.AuthorNewsCountResponseDTO;
+import br.com.devictoralmeida.webscraper.java.entities.News;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Índice em memória de (minuto de publicação, autor) de todas as notícias, para o relatório de autores mais ativos sem
+ * consultar o banco. Liga com {@code scraper.publication.index.enabled}; é carregado na subida e recebe as notícias de
+ * cada ingestão depois do commit.
+ */
+public interface AuthorPublicationIndex {
+    /**
+     * Carrega o índice inteiro a partir de {@code tb_news}. As ingestões ficam em espera durante a leitura, para que
+     * nenhuma notícia fique de fora ou seja contada duas vezes.
+     */
+    void load();
+
+    /**
+     * Recarrega em segundo plano. Pedidos feitos enquanto uma recarga está em andamento viram uma só.
+     */
+    void reloadAsync();
+
+    /**
+     * Recarrega em segundo plano quando a transação atual terminar (na hora, se não houver transação). Desde antes do
+     * commit o índice já conta como desatualizado, então nenhuma consulta lê dele o estado anterior ao que está no banco.
+     */
+    void reloadOnCommit();
+
+    /**
+     * Inclui as notícias no índice quando a transação atual fizer commit (na hora, se não houver transação). Notícias
+     * sem autor não entram.
+     */
+    void appendOnCommit(Collection<News> news);
+
+    /**
+     * Página de autores com mais publicações entre os dois dias (inclusive), na mesma ordem de
+     * {@code AuthorRepository.findMostPublicationsFromDailyCounts}. Vazio quando o índice está desligado, ainda não foi
+     * carregado, tem uma recarga pendente ou há uma ingestão com commit feito e ainda fora do índice.
+     */
+    Optional<List<AuthorNewsCountResponseDTO>> findTopAuthors(LocalDate startDay, LocalDate endDay, int limit, int offset);
+}
@@ -0,0 +1,7 @@
+package br.com.devictoralmeida.webscraper.java.services;
+
+import java.util.function.Supplier;
+
+public interface HostConcurrencyLimiter {
+    <T> T execute(String url, Supplier<T> request);
+}
@@ -4,8 +4,12 @@ import br.com.devictoralmeida.webscraper.java.dtos.ParsedNewsDTO;
 import br.com.devictoralmeida.webscraper.java.dtos.PartialNewsDTO;
 import org.jsoup.nodes.Document;
 
+import java.io.InputStream;
+
 public interface HtmlParser {
     ParsedNewsDTO parseNewsDetails(String html, PartialNewsDTO partialNews);
 
+    ParsedNewsDTO parseNewsDetails(InputStream html, String charsetName, PartialNewsDTO partialNews);
+
     Document parseHtmlContent(String html);
 }
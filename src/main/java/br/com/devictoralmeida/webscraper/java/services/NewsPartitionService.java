@@ -0,0 +1,20 @@
+package br.com.devictoralmeida.webscraper.java.services;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Partições mensais de {@code tb_news}. Uma notícia só pode ser gravada se existir a partição do mês da sua publicação.
+ */
+public interface NewsPartitionService {
+    /**
+     * Garante a partição do mês de cada data, criando as que faltam em uma transação própria, já confirmada quando o
+     * método retorna. Meses já garantidos não vão ao banco, até um rollback da transação corrente.
+     */
+    void ensurePartitions(Collection<LocalDateTime> publishDates);
+
+    /**
+     * Cria as partições do mês corrente e dos próximos {@code scraper.partition.months.ahead} meses.
+     */
+    void createUpcomingPartitions();
+}
@@ -0,0 +1,23 @@
+package br.com.devictoralmeida.webscraper.java.services;
+
+import br.com.devictoralmeida.webscraper.java.dtos.ParsedNewsDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.NewsResponseDTO;
+
+import java.util.List;
+
+public interface NewsPersistenceService {
+    List<NewsResponseDTO> saveParsedNews(List<ParsedNewsDTO> parsedNewsList);
+
+    /**
+     * Caminho de carga em massa para backfills: grava via {@code COPY} sem passar pelas entidades e retorna apenas a
+     * quantidade de notícias inseridas.
+     */
+    int backfillParsedNews(List<ParsedNewsDTO> parsedNewsList);
+
+    /**
+     * Recalcula do zero as contagens diárias por autor usadas no relatório de autores mais ativos.
+     *
+     * @return quantidade de linhas (autor e dia) gravadas
+     */
+    int rebuildAuthorDailyCounts();
+}
@@ -0,0 +1,37 @@
+package br.com.devictoralmeida.webscraper.java.services;
+
+import br.com.devictoralmeida.webscraper.java.dtos.response.AuthorNewsCountResponseDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.NewsResponseDTO;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Cache em memória dos relatórios, por período em dias inteiros (e autor). As entradas expiram por tempo e por tamanho,
+ * e saem antes disso quando a ingestão grava notícias publicadas dentro do período.
+ * <p>
+ * Cada entrada guarda a {@code version} (o {@code ETag} da requisição) para a qual foi calculada e só é devolvida para
+ * essa mesma versão. Assim, entre o commit de uma ingestão e a invalidação depois dele, o relatório antigo não sai com
+ * o {@code ETag} novo. O preço é que até um hit passa pela consulta da versão; o cache poupa a consulta do relatório,
+ * não a ida ao banco.
+ */
+public interface NewsReportCache {
+    /**
+     * Cada página ({@code limit} autores a partir de {@code offset}) é uma entrada própria.
+     */
+    List<AuthorNewsCountResponseDTO> getTopAuthors(LocalDate start, LocalDate end, int limit, int offset, String version,
+                                                   Supplier<List<AuthorNewsCountResponseDTO>> loader);
+
+    List<NewsResponseDTO> getAuthorNews(Long authorId, LocalDate start, LocalDate end, String version,
+                                        Supplier<List<NewsResponseDTO>> loader);
+
+    /**
+     * Remove as entradas cujo período contém alguma das datas de publicação.
+     */
+    void invalidate(Collection<LocalDateTime> publishDates);
+
+    void invalidateAll();
+}
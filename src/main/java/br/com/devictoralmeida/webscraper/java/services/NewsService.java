@@ -1,15 +1,67 @@
 package br.com.devictoralmeida.webscraper.java.services;
 
 import br.com.devictoralmeida.webscraper.java.dtos.request.DateRangeRequestDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.request.ExportFormat;
 import br.com.devictoralmeida.webscraper.java.dtos.response.AuthorNewsCountResponseDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.NewsPageResponseDTO;
 import br.com.devictoralmeida.webscraper.java.dtos.response.NewsResponseDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.NewsSearchPageResponseDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.PublicationHistogramResponseDTO;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
 public interface NewsService {
     List<NewsResponseDTO> scrapeAndSaveNews(int pageLimit);
 
-    List<AuthorNewsCountResponseDTO> findTopAuthorsByDateRange(DateRangeRequestDTO dto);
+    /**
+     * Página de até {@code limit} autores, a partir do {@code offset}-ésimo, dos que mais publicaram no período. Empates
+     * saem pelo menor id, então páginas consecutivas não repetem nem pulam autores. O {@code eTag} é o devolvido por
+     * {@link #getTopAuthorsETag} na mesma requisição: o relatório em cache só é usado se foi calculado para ele.
+     */
+    List<AuthorNewsCountResponseDTO> findTopAuthorsByDateRange(DateRangeRequestDTO dto, int limit, int offset, String eTag);
 
-    List<NewsResponseDTO> findNewsByAuthorAndDateRange(Long authorId, DateRangeRequestDTO dto);
+    /**
+     * O {@code eTag} é o devolvido por {@link #getNewsByAuthorETag} na mesma requisição: o relatório em cache só é usado
+     * se foi calculado para ele.
+     */
+    List<NewsResponseDTO> findNewsByAuthorAndDateRange(Long authorId, DateRangeRequestDTO dto, String eTag);
+
+    /**
+     * {@code ETag} do relatório de autores mais ativos no período, calculado por uma consulta agregada barata, sem rodar o
+     * relatório. Muda sempre que uma ingestão (ou o rebuild) altera as contagens do período.
+     */
+    String getTopAuthorsETag(DateRangeRequestDTO dto, int limit, int offset);
+
+    /**
+     * {@code ETag} das notícias do autor no período, calculado sem ler as notícias. Muda sempre que uma notícia do autor
+     * entra ou sai do período.
+     */
+    String getNewsByAuthorETag(Long authorId, DateRangeRequestDTO dto);
+
+    /**
+     * Notícias do autor no período, das mais recentes para as mais antigas, em páginas de até {@code size} itens. A
+     * primeira página vem com {@code cursor} nulo; as seguintes usam o {@code nextCursor} da anterior.
+     */
+    NewsPageResponseDTO findNewsPageByAuthorAndDateRange(Long authorId, DateRangeRequestDTO dto, String cursor, int size,
+                                                         boolean includeContent);
+
+    /**
+     * Busca textual nas notícias (título, subtítulo e conteúdo), ordenada por relevância, em páginas de até {@code size}
+     * itens sem o conteúdo. {@code page} começa em 0.
+     */
+    NewsSearchPageResponseDTO searchNews(String terms, int page, int size);
+
+    /**
+     * Quantidade de notícias publicadas por intervalo ({@code hour} ou {@code day}) nos dias inteiros do período, em ordem
+     * cronológica e com os intervalos vazios zerados. Com {@code authorId}, só as notícias do autor; com
+     * {@code topAuthors} maior que zero, cada intervalo traz também a quantidade dos autores mais ativos do período.
+     */
+    PublicationHistogramResponseDTO getPublicationHistogram(DateRangeRequestDTO dto, String bucket, Long authorId, int topAuthors);
+
+    /**
+     * Corpo da exportação de todas as notícias do período, uma por linha. O período é validado na chamada; a consulta só
+     * roda quando o corpo é escrito, em uma transação própria, lendo e descartando uma notícia por vez.
+     */
+    StreamingResponseBody exportNewsByDateRange(DateRangeRequestDTO dto, ExportFormat format);
 }
@@ -0,0 +1,27 @@
+package br.com.devictoralmeida.webscraper.java.services;
+
+import br.com.devictoralmeida.webscraper.java.dtos.ConditionalResponseDTO;
+import reactor.core.publisher.Mono;
+
+import java.io.InputStream;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+public interface ReactiveHttpClient {
+    <T> Mono<T> makeGetRequest(String url, Class<T> responseType, Map<String, String> queryParams, Map<String, String> headers);
+
+    <T> Mono<T> makePostRequest(String url, Object body, Class<T> responseType, Map<String, String> queryParams, Map<String, String> headers);
+
+    /**
+     * GET de texto que reaproveita ETag/Last-Modified da última resposta da mesma url. Em um 304 o corpo guardado é
+     * devolvido sem novo download. Cada url guarda o corpo inteiro, então é só para páginas baixadas de novo a cada
+     * execução, como a listagem; as notícias já gravadas nem são baixadas outra vez.
+     */
+    Mono<ConditionalResponseDTO> makeConditionalGetRequest(String url, Map<String, String> headers);
+
+    /**
+     * GET que entrega o corpo como {@link InputStream} à medida que chega, junto com o charset do Content-Type (ou
+     * {@code null} quando ausente), sem acumular a resposta em memória.
+     */
+    <T> Mono<T> makeStreamingGetRequest(String url, BiFunction<InputStream, String, T> bodyReader);
+}
\ No newline at end of file
@@ -0,0 +1,146 @@
+package br.com.devictoralmeida.webscraper.java.services.impl;
+
+import br.com.devictoralmeida.webscraper.java.services.AdaptiveRateLimiter;
+import br.com.devictoralmeida.webscraper.java.shared.utils.UrlUtils;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rate limiter por host que parte da configuração do bean {@code customRateLimiter} e ajusta o
+ * {@code limitForPeriod} conforme as respostas observadas (AIMD): sobe uma permissão por janela de respostas rápidas,
+ * desce uma quando a latência passa do alvo e corta pela metade em 429/503.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdaptiveRateLimiterImpl implements AdaptiveRateLimiter {
+    private final RateLimiter customRateLimiter;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, HostRate> rateByHost = new ConcurrentHashMap<>();
+
+    @Value("${scraper.rate.limit.min}")
+    private int minLimit;
+
+    @Value("${scraper.rate.limit.max}")
+    private int maxLimit;
+
+    @Value("${scraper.rate.limit.target.latency.ms}")
+    private long targetLatencyMs;
+
+    /**
+     * Reserva a permissão sem bloquear: se o período atual já se esgotou, a requisição é adiada com um timer
+     * ({@link Mono#delay}) em vez de segurar a thread.
+     */
+    @Override
+    public <T> Mono<T> execute(String url, Mono<T> request) {
+        return Mono.defer(() -> {
+            HostRate rate = this.rateByHost.computeIfAbsent(UrlUtils.resolveHost(url), this::createHostRate);
+            long waitNanos = rate.getLimiter().reservePermission();
+
+            if (waitNanos < 0) {
+                return Mono.error(RequestNotPermitted.createRequestNotPermitted(rate.getLimiter()));
+            }
+
+            Mono<T> observed = Mono.defer(() -> {
+                long start = System.nanoTime();
+                return request
+                        .doOnSuccess(result -> rate.onResponse(Duration.ofNanos(System.nanoTime() - start)))
+                        .doOnError(WebClientResponseException.class, e -> {
+                            if (isThrottling(e.getStatusCode())) {
+                                rate.onThrottled();
+                            }
+                        });
+            });
+
+            return waitNanos == 0 ? observed : Mono.delay(Duration.ofNanos(waitNanos)).then(observed);
+        });
+    }
+
+    private HostRate createHostRate(String host) {
+        RateLimiter limiter = RateLimiter.of(host, this.customRateLimiter.getRateLimiterConfig());
+        double periodSeconds = limiter.getRateLimiterConfig().getLimitRefreshPeriod().toNanos() / 1_000_000_000d;
+
+        Gauge.builder("scraper.http.host.rate", limiter, l -> l.getRateLimiterConfig().getLimitForPeriod() / periodSeconds)
+                .description("Taxa atual de requisições por segundo permitida para o host")
+                .baseUnit("requests/s")
+                .tag("host", host)
+                .register(this.meterRegistry);
+
+        Counter throttledCounter = Counter.builder("scraper.http.host.throttled")
+                .description("Respostas 429/503 recebidas do host")
+                .tag("host", host)
+                .register(this.meterRegistry);
+
+        return new HostRate(host, limiter, throttledCounter);
+    }
+
+    private boolean isThrottling(HttpStatusCode status) {
+        return status.value() == HttpStatus.TOO_MANY_REQUESTS.value()
+                || status.value() == HttpStatus.SERVICE_UNAVAILABLE.value();
+    }
+
+    private final class HostRate {
+        private final String host;
+        private final RateLimiter limiter;
+        private final Counter throttledCounter;
+        private int successesSinceChange;
+
+        private HostRate(String host, RateLimiter limiter, Counter throttledCounter) {
+            this.host = host;
+            this.limiter = limiter;
+            this.throttledCounter = throttledCounter;
+        }
+
+        private RateLimiter getLimiter() {
+            return this.limiter;
+        }
+
+        private synchronized void onResponse(Duration latency) {
+            int current = currentLimit();
+
+            if (latency.toMillis() > AdaptiveRateLimiterImpl.this.targetLatencyMs) {
+                changeLimit(current - 1);
+                return;
+            }
+
+            // Aumento lento: no máximo uma permissão extra a cada "current" respostas rápidas.
+            if (++this.successesSinceChange >= current) {
+                changeLimit(current + 1);
+            }
+        }
+
+        private synchronized void onThrottled() {
+            this.throttledCounter.increment();
+            changeLimit(currentLimit() / 2);
+        }
+
+        private int currentLimit() {
+            return this.limiter.getRateLimiterConfig().getLimitForPeriod();
+        }
+
+        private void changeLimit(int requested) {
+            int newLimit = Math.clamp(requested, AdaptiveRateLimiterImpl.this.minLimit, AdaptiveRateLimiterImpl.this.maxLimit);
+            this.successesSinceChange = 0;
+
+            if (newLimit != currentLimit()) {
+                log.debug("Ajustando limite do host {} de {} para {} por período.", this.host, currentLimit(), newLimit);
+                this.limiter.changeLimitForPeriod(newLimit);
+            }
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package br.com.devictoralmeida.webscraper.java.services.impl;
+
+import br.com.devictoralmeida.webscraper.java.dtos.response.AuthorNewsCountResponseDTO;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Colunas imutáveis de (minuto de publicação, autor), ordenadas pelo minuto, em arrays primitivos: 8 bytes por notícia,
+ * sem objeto por linha. A contagem de um período são duas buscas binárias e uma varredura somando em um array por
+ * autor.
+ * <p>
+ * Notícias novas entram em um segmento menor, também ordenado, fundido ao principal quando passa de 1/16 dele. Cada
+ * inserção devolve uma nova instância, então as leituras nunca travam nem veem uma inserção pela metade.
+ */
+public final class AuthorPublicationColumns {
+    private static final int MIN_DELTA_BEFORE_MERGE = 1 << 16;
+    private static final int INITIAL_CAPACITY = 1 << 12;
+
+    private final Segment main;
+    private final Segment delta;
+    private final AuthorSlots authors;
+
+    private AuthorPublicationColumns(Segment main, Segment delta, AuthorSlots authors) {
+        this.main = main;
+        this.delta = delta;
+        this.authors = authors;
+    }
+
+    /**
+     * Carga inicial: os autores vêm antes, as notícias depois, de preferência já em ordem de publicação.
+     */
+    public static Builder builder(Map<Long, String> authorNames) {
+        return new Builder(AuthorSlots.of(authorNames));
+    }
+
+    /**
+     * Minuto desde a época, com o horário sem fuso do banco lido como UTC, como faz o {@code extract(epoch ...)} do
+     * Postgres sobre {@code TIMESTAMP}.
+     */
+    public static int epochMinute(LocalDateTime dateTime) {
+        return Math.toIntExact(Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60));
+    }
+
+    public int size() {
+        return this.main.size + this.delta.size;
+    }
+
+    /**
+     * Quantidade de notícias por autor com minuto em {@code [fromMinute, toMinute)}, da maior para a menor (empate pelo
+     * menor id). Autores sem notícia no período não entram.
+     */
+    public List<AuthorNewsCountResponseDTO> countByAuthor(int fromMinute, int toMinute) {
+        return countByAuthor(fromMinute, toMinute, Integer.MAX_VALUE, 0);
+    }
+
+    /**
+     * Página de {@code limit} autores a partir de {@code offset} de {@link #countByAuthor(int, int)}. A ordenação é feita
+     * sobre chaves {@code long} (contagem invertida e posição do id), e só os autores da página viram DTO.
+     */
+    public List<AuthorNewsCountResponseDTO> countByAuthor(int fromMinute, int toMinute, int limit, int offset) {
+        int[] counts = new int[this.authors.size()];
+        this.main.countInto(fromMinute, toMinute, counts);
+        this.delta.countInto(fromMinute, toMinute, counts);
+
+        long[] ranking = new long[counts.length];
+        int ranked = 0;
+        for (int position = 0; position < counts.length; position++) {
+            int count = counts[this.authors.slotAtIdPosition(position)];
+            if (count > 0) {
+                ranking[ranked++] = ((long) (Integer.MAX_VALUE - count) << 32) | position;
+            }
+        }
+        Arrays.sort(ranking, 0, ranked);
+
+        int end = (int) Math.min(ranked, (long) offset + limit);
+        List<AuthorNewsCountResponseDTO> result = new ArrayList<>(Math.max(0, end - offset));
+        for (int i = offset; i < end; i++) {
+            int slot = this.authors.slotAtIdPosition((int) ranking[i]);
+            result.add(new AuthorNewsCountResponseDTO(this.authors.idOf(slot), this.authors.nameOf(slot), (long) counts[slot]));
+        }
+        return result;
+    }
+
+    /**
+     * Nova instância com as publicações recebidas. Autores que ainda não estavam no índice entram com o nome recebido.
+     */
+    public AuthorPublicationColumns withAppended(int[] minutes, long[] authorIds, String[] authorNames) {
+        if (minutes.length == 0) {
+            return this;
+        }
+
+        AuthorSlots slots = this.authors.with(authorIds, authorNames);
+        int[] rowSlots = new int[authorIds.length];
+        for (int i = 0; i < authorIds.length; i++) {
+            rowSlots[i] = slots.slotOf(authorIds[i]);
+        }
+
+        Segment appended = Segment.merge(this.delta, Segment.sorted(minutes.clone(), rowSlots, minutes.length));
+        if (appended.size < Math.max(MIN_DELTA_BEFORE_MERGE, this.main.size / 16)) {
+            return new AuthorPublicationColumns(this.main, appended, slots);
+        }
+        return new AuthorPublicationColumns(Segment.merge(this.main, appended), Segment.EMPTY, slots);
+    }
+
+    public static final class Builder {
+        private final AuthorSlots authors;
+        private int[] minutes = new int[INITIAL_CAPACITY];
+        private int[] slots = new int[INITIAL_CAPACITY];
+        private int size;
+        private boolean sorted = true;
+
+        private Builder(AuthorSlots authors) {
+            this.authors = authors;
+        }
+
+        public void add(int epochMinute, long authorId) {
+            int slot = this.authors.slotOf(authorId);
+            if (slot < 0) {
+                throw new IllegalArgumentException("Autor fora da lista carregada: " + authorId);
+            }
+            if (this.size == this.minutes.length) {
+                int capacity = this.size + (this.size >> 1);
+                this.minutes = Arrays.copyOf(this.minutes, capacity);
+                this.slots = Arrays.copyOf(this.slots, capacity);
+            }
+            if (this.size > 0 && epochMinute < this.minutes[this.size - 1]) {
+                this.sorted = false;
+            }
+
+            this.minutes[this.size] = epochMinute;
+            this.slots[this.size] = slot;
+            this.size++;
+        }
+
+        public AuthorPublicationColumns build() {
+            int[] trimmedMinutes = Arrays.copyOf(this.minutes, this.size);
+            int[] trimmedSlots = Arrays.copyOf(this.slots, this.size);
+            Segment main = this.sorted
+                    ? new Segment(trimmedMinutes, trimmedSlots, this.size)
+                    : Segment.sorted(trimmedMinutes, trimmedSlots, this.size);
+            return new AuthorPublicationColumns(main, Segment.EMPTY, this.authors);
+        }
+    }
+
+    /**
+     * Minutos em ordem crescente e o autor de cada um, pela posição.
+     */
+    private static final class Segment {
+        static final Segment EMPTY = new Segment(new int[0], new int[0], 0);
+
+        final int[] minutes;
+        final int[] slots;
+        final int size;
+
+        Segment(int[] minutes, int[] slots, int size) {
+            this.minutes = minutes;
+            this.slots = slots;
+            this.size = size;
+        }
+
+        /**
+         * Ordena pelo minuto empacotando minuto e autor em um {@code long}, para usar o sort primitivo.
+         */
+        static Segment sorted(int[] minutes, int[] slots, int size) {
+            long[] packed = new long[size];
+            for (int i = 0; i < size; i++) {
+                packed[i] = ((long) minutes[i] << 32) | (slots[i] & 0xFFFFFFFFL);
+            }
+            Arrays.sort(packed);
+            for (int i = 0; i < size; i++) {
+                minutes[i] = (int) (packed[i] >> 32);
+                slots[i] = (int) packed[i];
+            }
+            return new Segment(minutes, slots, size);
+        }
+
+        static Segment merge(Segment left, Segment right) {
+            int size = left.size + right.size;
+            int[] minutes = new int[size];
+            int[] slots = new int[size];
+            int l = 0;
+            int r = 0;
+            for (int i = 0; i < size; i++) {
+                if (r == right.size || (l < left.size && left.minutes[l] <= right.minutes[r])) {
+                    minutes[i] = left.minutes[l];
+                    slots[i] = left.slots[l++];
+                } else {
+                    minutes[i] = right.minutes[r];
+                    slots[i] = right.slots[r++];
+                }
+            }
+            return new Segment(minutes, slots, size);
+        }
+
+        void countInto(int fromMinute, int toMinute, int[] counts) {
+            int end = lowerBound(toMinute);
+            for (int i = lowerBound(fromMinute); i < end; i++) {
+                counts[this.slots[i]]++;
+            }
+        }
+
+        /**
+         * Primeira posição com minuto maior ou igual ao recebido.
+         */
+        private int lowerBound(int minute) {
+            int low = 0;
+            int high = this.size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (this.minutes[middle] < minute) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * Posição densa de cada autor, usada como índice do array de contagens. A busca pelo id é binária sobre uma cópia
+     * ordenada dos ids, sem mapa de objetos.
+     */
+    private static final class AuthorSlots {
+        private final long[] idsBySlot;
+        private final String[] namesBySlot;
+        private final long[] sortedIds;
+        private final int[] sortedSlots;
+
+        private AuthorSlots(long[] idsBySlot, String[] namesBySlot) {
+            this.idsBySlot = idsBySlot;
+            this.namesBySlot = namesBySlot;
+
+            Integer[] order = new Integer[idsBySlot.length];
+            for (int slot = 0; slot < idsBySlot.length; slot++) {
+                order[slot] = slot;
+            }
+            Arrays.sort(order, Comparator.comparingLong(slot -> idsBySlot[slot]));
+            this.sortedIds = new long[idsBySlot.length];
+            this.sortedSlots = new int[idsBySlot.length];
+            for (int i = 0; i < order.length; i++) {
+                this.sortedIds[i] = idsBySlot[order[i]];
+                this.sortedSlots[i] = order[i];
+            }
+        }
+
+        static AuthorSlots of(Map<Long, String> names) {
+            long[] ids = new long[names.size()];
+            String[] authorNames = new String[names.size()];
+            int slot = 0;
+            for (Map.Entry<Long, String> author : names.entrySet()) {
+                ids[slot] = author.getKey();
+                authorNames[slot++] = author.getValue();
+            }
+            return new AuthorSlots(ids, authorNames);
+        }
+
+        int size() {
+            return this.idsBySlot.length;
+        }
+
+        long idOf(int slot) {
+            return this.idsBySlot[slot];
+        }
+
+        String nameOf(int slot) {
+            return this.namesBySlot[slot];
+        }
+
+        /**
+         * Slot do autor que está em {@code position} na ordem crescente de id.
+         */
+        int slotAtIdPosition(int position) {
+            return this.sortedSlots[position];
+        }
+
+        int slotOf(long id) {
+            int position = Arrays.binarySearch(this.sortedIds, id);
+            return position < 0 ? -1 : this.sortedSlots[position];
+        }
+
+        /**
+         * Mesmas posições para os autores que já existem; os novos vão para o fim.
+         */
+        AuthorSlots with(long[] ids, String[] names) {
+            long[] idsBySlot = this.idsBySlot;
+            String[] namesBySlot = this.namesBySlot;
+            int size = idsBySlot.length;
+
+            for (int i = 0; i < ids.length; i++) {
+                if (slotOf(ids[i]) >= 0 || contains(idsBySlot, this.idsBySlot.length, size, ids[i])) {
+                    continue;
+                }
+                if (size == idsBySlot.length) {
+                    idsBySlot = Arrays.copyOf(idsBySlot, size + ids.length);
+                    namesBySlot = Arrays.copyOf(namesBySlot, size + ids.length);
+                }
+                idsBySlot[size] = ids[i];
+                namesBySlot[size++] = names[i];
+            }
+
+            return size == this.idsBySlot.length
+                    ? this
+                    : new AuthorSlots(Arrays.copyOf(idsBySlot, size), Arrays.copyOf(namesBySlot, size));
+        }
+
+        private static boolean contains(long[] ids, int from, int to, long id) {
+            for (int i = from; i < to; i++) {
+                if (ids[i] == id) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package br.com.devictoralmeida.webscraper.java.services.impl;
+
+import br.com.devictoralmeida.webscraper.java.dtos.response.AuthorNewsCountResponseDTO;
+import br.com.devictoralmeida.webscraper.java.entities.News;
+import br.com.devictoralmeida.webscraper.java.repositories.AuthorRepository;
+import br.com.devictoralmeida.webscraper.java.services.AuthorPublicationIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Guarda um {@link AuthorPublicationColumns} imutável, trocado a cada ingestão: as consultas leem a referência atual sem
+ * travar.
+ * <p>
+ * A carga roda em uma transação {@code REPEATABLE READ} que antes de ler trava {@code author_daily_counts} em modo
+ * {@code SHARE}. Toda ingestão com autor incrementa essa tabela, então as que já incrementaram fazem commit antes da
+ * trava sair, e as próximas esperam a carga terminar. Entre o commit de uma ingestão e a inclusão das notícias dela no
+ * índice ainda há uma janela, e a carga espera essas ingestões terminarem antes de ler: assim cada notícia entra pela
+ * leitura do banco ou pela inclusão depois do commit, nunca pelas duas.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuthorPublicationIndexImpl implements AuthorPublicationIndex {
+    private static final long COMMIT_WAIT_TIMEOUT_SECONDS = 30;
+
+    private final AuthorRepository authorRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${scraper.publication.index.enabled}")
+    private boolean enabled;
+
+    private volatile AuthorPublicationColumns columns;
+
+    /**
+     * Enquanto verdadeiro, as inclusões depois do commit são descartadas: a carga em andamento já lê essas notícias do
+     * banco.
+     */
+    private volatile boolean loading;
+
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final ReentrantLock commitLock = new ReentrantLock();
+    private final Condition commitsFinished = this.commitLock.newCondition();
+    private final AtomicBoolean reloadPending = new AtomicBoolean();
+
+    /**
+     * Recargas pedidas e a última atendida por uma carga. Enquanto forem diferentes o índice está desatualizado (por
+     * exemplo, depois de um backfill via COPY, que não diz quais notícias entraram) e as consultas vão ao banco.
+     */
+    private final AtomicLong reloadsRequested = new AtomicLong();
+    private volatile long reloadsServed;
+
+    /**
+     * Ingestões entre o {@code beforeCommit} e a inclusão no índice. Só muda com {@code commitLock}; as consultas leem sem
+     * trava e não respondem enquanto for maior que zero.
+     */
+    private volatile int commitsInFlight;
+
+    @Override
+    public void load() {
+        if (!this.enabled) {
+            return;
+        }
+
+        this.loadLock.lock();
+        try {
+            long request = this.reloadsRequested.get();
+            long start = System.nanoTime();
+            TransactionTemplate transaction = new TransactionTemplate(this.transactionManager);
+            transaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+
+            AuthorPublicationColumns loaded = transaction.execute(status -> {
+                this.loading = true;
+                this.authorRepository.lockDailyCountsAgainstIngestion();
+                awaitCommitsInFlight();
+
+                AuthorPublicationColumns.Builder builder = AuthorPublicationColumns.builder(this.authorRepository.findAuthorNames());
+                this.authorRepository.scanPublications(builder::add);
+                AuthorPublicationColumns built = builder.build();
+
+                // Publicado ainda com a trava: uma ingestão que esperou por ela só faz commit depois, e inclui no
+                // índice novo.
+                this.columns = built;
+                this.reloadsServed = request;
+                this.loading = false;
+                return built;
+            });
+
+            log.info("Índice de publicações por autor carregado: {} notícias em {} ms.", loaded.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (RuntimeException e) {
+            this.columns = null;
+            throw e;
+        } finally {
+            this.loading = false;
+            this.loadLock.unlock();
+        }
+    }
+
+    @Override
+    public void reloadAsync() {
+        if (!this.enabled) {
+            return;
+        }
+
+        this.reloadsRequested.incrementAndGet();
+        startReload();
+    }
+
+    @Override
+    public void reloadOnCommit() {
+        if (!this.enabled) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reloadAsync();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean requested;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                AuthorPublicationIndexImpl.this.reloadsRequested.incrementAndGet();
+                this.requested = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                // Também no rollback: o pedido já marcou o índice como desatualizado.
+                if (this.requested) {
+                    startReload();
+                }
+            }
+        });
+    }
+
+    @Override
+    public void appendOnCommit(Collection<News> news) {
+        if (!this.enabled) {
+            return;
+        }
+
+        List<News> withAuthor = news.stream()
+                .filter(item -> item.getAuthor() != null && item.getAuthor().getId() != null && item.getPublishDate() != null)
+                .toList();
+        if (withAuthor.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            append(withAuthor);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean counted;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                changeCommitsInFlight(1);
+                this.counted = true;
+            }
+
+            @Override
+            public void afterCommit() {
+                append(withAuthor);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (this.counted) {
+                    changeCommitsInFlight(-1);
+                }
+            }
+        });
+    }
+
+    @Override
+    public Optional<List<AuthorNewsCountResponseDTO>> findTopAuthors(LocalDate startDay, LocalDate endDay, int limit, int offset) {
+        // Lido antes das colunas: com zero, as inclusões das ingestões já com commit estão na referência lida depois.
+        boolean commitPending = this.commitsInFlight > 0;
+        AuthorPublicationColumns current = this.columns;
+        if (!this.enabled || current == null || commitPending || this.loading
+                || this.reloadsServed != this.reloadsRequested.get()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(current.countByAuthor(
+                AuthorPublicationColumns.epochMinute(startDay.atStartOfDay()),
+                AuthorPublicationColumns.epochMinute(endDay.plusDays(1).atStartOfDay()), limit, offset));
+    }
+
+    private void startReload() {
+        if (!this.reloadPending.compareAndSet(false, true)) {
+            return;
+        }
+
+        Thread.ofVirtual().name("publication-index-load").start(() -> {
+            this.reloadPending.set(false);
+            try {
+                load();
+            } catch (RuntimeException e) {
+                log.error("Falha ao carregar o índice de publicações por autor; o relatório volta a usar o banco.", e);
+            }
+        });
+    }
+
+    /**
+     * Uma escrita por vez: cada inclusão parte da instância deixada pela anterior.
+     */
+    private void append(List<News> news) {
+        int[] minutes = new int[news.size()];
+        long[] authorIds = new long[news.size()];
+        String[] authorNames = new String[news.size()];
+        for (int i = 0; i < news.size(); i++) {
+            News item = news.get(i);
+            minutes[i] = AuthorPublicationColumns.epochMinute(item.getPublishDate());
+            authorIds[i] = item.getAuthor().getId();
+            authorNames[i] = item.getAuthor().getName();
+        }
+
+        this.commitLock.lock();
+        try {
+            AuthorPublicationColumns current = this.columns;
+            if (current != null && !this.loading) {
+                this.columns = current.withAppended(minutes, authorIds, authorNames);
+            }
+        } finally {
+            this.commitLock.unlock();
+        }
+    }
+
+    private void changeCommitsInFlight(int delta) {
+        this.commitLock.lock();
+        try {
+            this.commitsInFlight += delta;
+            if (this.commitsInFlight == 0) {
+                this.commitsFinished.signalAll();
+            }
+        } finally {
+            this.commitLock.unlock();
+        }
+    }
+
+    private void awaitCommitsInFlight() {
+        this.commitLock.lock();
+        try {
+            long remaining = TimeUnit.SECONDS.toNanos(COMMIT_WAIT_TIMEOUT_SECONDS);
+            while (this.commitsInFlight > 0) {
+                if (remaining <= 0) {
+                    throw new IllegalStateException("Ingestões não terminaram o commit a tempo da carga do índice.");
+                }
+                remaining = this.commitsFinished.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Carga do índice interrompida.", e);
+        } finally {
+            this.commitLock.unlock();
+        }
+    }
+}
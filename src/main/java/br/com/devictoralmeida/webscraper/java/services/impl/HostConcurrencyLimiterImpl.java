@@ -0,0 +1,79 @@
+package br.com.devictoralmeida.webscraper.java.services.impl;
+
+import br.com.devictoralmeida.webscraper.java.services.HostConcurrencyLimiter;
+import br.com.devictoralmeida.webscraper.java.shared.utils.UrlUtils;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Limita o número de requisições simultâneas por host com um {@link Semaphore} justo por host.
+ * Quem excede o limite espera na fila do semáforo; esse tempo de espera é publicado como métrica para que o
+ * limite seja ajustado pela configuração em vez de deixar o site de origem estrangular a execução.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HostConcurrencyLimiterImpl implements HostConcurrencyLimiter {
+    private final Map<String, HostPermits> permitsByHost = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    @Value("${scraper.http.host.max.concurrency}")
+    private int maxConcurrency;
+
+    @Override
+    public <T> T execute(String url, Supplier<T> request) {
+        HostPermits permits = this.permitsByHost.computeIfAbsent(UrlUtils.resolveHost(url), this::createPermits);
+
+        long waitStart = System.nanoTime();
+        try {
+            permits.semaphore().acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrompido aguardando permissão para o host: " + url, e);
+        }
+        permits.waitTimer().record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+
+        try {
+            return request.get();
+        } finally {
+            permits.semaphore().release();
+        }
+    }
+
+    private HostPermits createPermits(String host) {
+        log.info("Limitando requisições para o host {} a {} simultâneas.", host, this.maxConcurrency);
+        Semaphore semaphore = new Semaphore(this.maxConcurrency, true);
+
+        Timer waitTimer = Timer.builder("scraper.http.host.permit.wait")
+                .description("Tempo de espera na fila por uma permissão de requisição ao host")
+                .tag("host", host)
+                .publishPercentileHistogram()
+                .register(this.meterRegistry);
+
+        Gauge.builder("scraper.http.host.in.flight", semaphore, s -> this.maxConcurrency - s.availablePermits())
+                .description("Requisições em andamento para o host")
+                .tag("host", host)
+                .register(this.meterRegistry);
+
+        Gauge.builder("scraper.http.host.queued", semaphore, Semaphore::getQueueLength)
+                .description("Requisições aguardando permissão para o host")
+                .tag("host", host)
+                .register(this.meterRegistry);
+
+        return new HostPermits(semaphore, waitTimer);
+    }
+
+    private record HostPermits(Semaphore semaphore, Timer waitTimer) {
+    }
+}
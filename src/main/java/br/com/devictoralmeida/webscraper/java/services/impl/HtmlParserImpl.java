@@ -5,44 +5,86 @@ import br.com.devictoralmeida.webscraper.java.dtos.PartialNewsDTO;
 import br.com.devictoralmeida.webscraper.java.exception.NegocioException;
 import br.com.devictoralmeida.webscraper.java.services.HtmlParser;
 import br.com.devictoralmeida.webscraper.java.shared.utils.DateUtils;
+import br.com.devictoralmeida.webscraper.java.shared.utils.JsonLdUtils;
+import br.com.devictoralmeida.webscraper.java.shared.utils.JsonLdUtils.ArticleMetadata;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.jsoup.parser.Parser;
+import org.jsoup.parser.StreamParser;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.ObjectUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.Charset;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
 import java.util.Optional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class HtmlParserImpl implements HtmlParser {
+    private static final String SUBTITLE_SELECTOR = "div[data-ds-component='article-title'] > div";
+    private static final String AUTHOR_SELECTOR = "div[data-ds-component='author-bio'] a";
+    private static final String PUBLISHED_AT_SELECTOR = "time[datetime]";
+    private static final String ARTICLE_SELECTOR = "article[data-ds-component='article']";
+    private static final String JSON_LD_TYPE = "application/ld+json";
+    private static final ArticleMetadata NO_METADATA = new ArticleMetadata(null, null);
+    private static final String ADS_SELECTOR = "div[data-ds-component='ad'], div.cta-middle, iframe, div[data-component-type='ads']";
+
+    private static final Evaluator SUBTITLE = QueryParser.parse(SUBTITLE_SELECTOR);
+    private static final Evaluator AUTHOR = QueryParser.parse(AUTHOR_SELECTOR);
+    private static final Evaluator PUBLISHED_AT = QueryParser.parse(PUBLISHED_AT_SELECTOR);
+    private static final Evaluator ARTICLE = QueryParser.parse(ARTICLE_SELECTOR);
+
+    /**
+     * Elementos que precisam continuar na árvore durante a extração incremental: os próprios alvos, os contêineres
+     * dos seletores com combinador e os blocos JSON-LD, para que o DOM de fallback tenha tudo o que o parse completo
+     * teria.
+     */
+    private static final Evaluator KEEP = QueryParser.parse(
+            "div[data-ds-component='article-title'], div[data-ds-component='author-bio'], "
+                    + PUBLISHED_AT_SELECTOR + ", " + ARTICLE_SELECTOR + ", script[type='" + JSON_LD_TYPE + "']");
+
+    @Value("${scraper.parser.early.termination.enabled}")
+    private boolean earlyTerminationEnabled;
+
     @Override
     public ParsedNewsDTO parseNewsDetails(String html, PartialNewsDTO partialNews) { // Assinatura mudou
         try {
-            Document doc = parseHtmlContent(html);
-
-            String subtitle = Optional.ofNullable(doc.selectFirst("div[data-ds-component='article-title'] > div"))
-                    .map(Element::text)
-                    .orElse(null);
-
-            String authorName = Optional.ofNullable(doc.selectFirst("div[data-ds-component='author-bio'] a"))
-                    .map(Element::text)
-                    .orElse(null);
-
-            String content = getContent(doc);
-            LocalDateTime date = getPublishedDate(doc.selectFirst("time[datetime]"));
-
-            return new ParsedNewsDTO(
-                    partialNews,
-                    subtitle,
-                    content,
-                    date,
-                    authorName
-            );
+            if (this.earlyTerminationEnabled) {
+                return streamNewsDetails(new StringReader(html), partialNews);
+            }
+            return extractNewsDetails(parseHtmlContent(html), partialNews);
+        } catch (Exception e) {
+            log.error("Falha ao parsear HTML da URL: {}", partialNews.getUrl(), e);
+            throw new NegocioException("Falha ao parsear Jsoup da URL: " + partialNews.getUrl());
+        }
+    }
+
+    /**
+     * Parseia direto do corpo da resposta, sem materializar o HTML inteiro como String. Com {@code charsetName} nulo o
+     * jsoup detecta o charset pelo BOM ou pela meta tag, caindo para UTF-8; nesse caso a extração incremental não é
+     * usada, pois o {@link StreamParser} precisa do charset antes de começar a ler.
+     */
+    @Override
+    public ParsedNewsDTO parseNewsDetails(InputStream html, String charsetName, PartialNewsDTO partialNews) {
+        try {
+            if (this.earlyTerminationEnabled && charsetName != null && Charset.isSupported(charsetName)) {
+                return streamNewsDetails(new InputStreamReader(html, Charset.forName(charsetName)), partialNews);
+            }
+            return extractNewsDetails(Jsoup.parse(html, charsetName, partialNews.getUrl()), partialNews);
         } catch (Exception e) {
             log.error("Falha ao parsear HTML da URL: {}", partialNews.getUrl(), e);
             throw new NegocioException("Falha ao parsear Jsoup da URL: " + partialNews.getUrl());
@@ -54,13 +96,111 @@ public class HtmlParserImpl implements HtmlParser {
         return Jsoup.parse(html);
     }
 
-    private String getContent(Document doc) {
-        return Optional.ofNullable(doc.selectFirst("article[data-ds-component='article']"))
-                .map(article -> {
-                    article.select("div[data-ds-component='ad'], div.cta-middle, iframe, div[data-component-type='ads']").remove();
-                    return article.text();
-                })
+    /**
+     * Extrai os campos à medida que os elementos são fechados pelo {@link StreamParser}. Subárvores que não contêm
+     * nenhum alvo são descartadas assim que terminam, e a leitura para quando todos os campos foram encontrados
+     * (normalmente no fechamento do {@code article}). Se a extração falhar, o restante do documento é parseado e os
+     * campos saem do DOM, que ainda contém todos os alvos porque eles nunca são descartados.
+     */
+    private ParsedNewsDTO streamNewsDetails(Reader html, PartialNewsDTO partialNews) throws IOException {
+        try (StreamParser streamParser = new StreamParser(Parser.htmlParser()).parse(html, partialNews.getUrl())) {
+            try {
+                return extractIncrementally(streamParser, partialNews);
+            } catch (RuntimeException e) {
+                log.warn("Extração incremental falhou para a URL: {}. Usando o DOM completo.", partialNews.getUrl(), e);
+                return extractNewsDetails(streamParser.complete(), partialNews);
+            }
+        }
+    }
+
+    private ParsedNewsDTO extractIncrementally(StreamParser streamParser, PartialNewsDTO partialNews) {
+        StreamedFields fields = new StreamedFields();
+        Iterator<Element> elements = streamParser.iterator();
+
+        while (elements.hasNext()) {
+            Element element = elements.next();
+            fields.accept(element);
+
+            if (fields.isComplete()) {
+                streamParser.stop();
+                break;
+            }
+
+            if (!element.is(KEEP) && element.closest(KEEP) == null && element.selectFirst(KEEP) == null) {
+                element.remove();
+            }
+        }
+
+        return new ParsedNewsDTO(
+                partialNews,
+                fields.subtitle,
+                fields.content,
+                fields.publishDate,
+                fields.authorName
+        );
+    }
+
+    /**
+     * Autor e data saem primeiro do bloco JSON-LD do {@code head}; os seletores sobre o documento inteiro só rodam para
+     * o campo que faltar lá.
+     */
+    private ParsedNewsDTO extractNewsDetails(Document doc, PartialNewsDTO partialNews) {
+        ArticleMetadata metadata = findJsonLdArticle(doc.head());
+
+        String subtitle = Optional.ofNullable(doc.selectFirst(SUBTITLE_SELECTOR))
+                .map(Element::text)
+                .orElse(null);
+
+        String authorName = Optional.ofNullable(metadata.authorName())
+                .orElseGet(() -> Optional.ofNullable(doc.selectFirst(AUTHOR_SELECTOR))
+                        .map(Element::text)
+                        .orElse(null));
+
+        String content = Optional.ofNullable(doc.selectFirst(ARTICLE_SELECTOR))
+                .map(this::getContent)
                 .orElse("");
+        LocalDateTime date = Optional.ofNullable(parseJsonLdDate(metadata.datePublished()))
+                .orElseGet(() -> getPublishedDate(doc.selectFirst(PUBLISHED_AT_SELECTOR)));
+
+        return new ParsedNewsDTO(
+                partialNews,
+                subtitle,
+                content,
+                date,
+                authorName
+        );
+    }
+
+    private ArticleMetadata findJsonLdArticle(Element head) {
+        for (Element script : head.getElementsByTag("script")) {
+            if (isJsonLd(script)) {
+                Optional<ArticleMetadata> metadata = JsonLdUtils.findArticle(script.data());
+                if (metadata.isPresent()) {
+                    return metadata.get();
+                }
+            }
+        }
+        return NO_METADATA;
+    }
+
+    private static boolean isJsonLd(Element element) {
+        return "script".equals(element.normalName()) && JSON_LD_TYPE.equalsIgnoreCase(element.attr("type").trim());
+    }
+
+    /**
+     * Datas do JSON-LD fora do formato ISO com offset são ignoradas, deixando o {@code time[datetime]} decidir.
+     */
+    private LocalDateTime parseJsonLdDate(String datePublished) {
+        try {
+            return DateUtils.parse(datePublished);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private String getContent(Element article) {
+        article.select(ADS_SELECTOR).remove();
+        return article.text();
     }
 
     private LocalDateTime getPublishedDate(Element timeElement) {
@@ -70,4 +210,58 @@ public class HtmlParserImpl implements HtmlParser {
                 .map(DateUtils::parse)
                 .orElse(null);
     }
-}
\ No newline at end of file
+
+    /**
+     * Campos encontrados até agora na extração incremental. Cada um guarda apenas a primeira ocorrência, como o
+     * {@code selectFirst} do caminho com DOM. Como o {@code head} fecha antes do {@code body}, o JSON-LD sempre chega
+     * antes dos seletores de autor e data e tem a mesma precedência do caminho com DOM.
+     */
+    private final class StreamedFields {
+        private String subtitle;
+        private String authorName;
+        private String content = "";
+        private LocalDateTime publishDate;
+        private boolean subtitleFound;
+        private boolean authorFound;
+        private boolean publishedAtFound;
+        private boolean articleFound;
+        private boolean jsonLdFound;
+
+        void accept(Element element) {
+            if (!this.jsonLdFound && isJsonLd(element) && element.closest("head") != null) {
+                JsonLdUtils.findArticle(element.data()).ifPresent(this::acceptJsonLd);
+            } else if (!this.subtitleFound && element.is(SUBTITLE)) {
+                this.subtitle = element.text();
+                this.subtitleFound = true;
+            } else if (!this.authorFound && element.is(AUTHOR)) {
+                this.authorName = element.text();
+                this.authorFound = true;
+            } else if (!this.publishedAtFound && element.is(PUBLISHED_AT)) {
+                this.publishDate = getPublishedDate(element);
+                this.publishedAtFound = true;
+            } else if (!this.articleFound && element.is(ARTICLE)) {
+                this.content = getContent(element);
+                this.articleFound = true;
+            }
+        }
+
+        private void acceptJsonLd(ArticleMetadata metadata) {
+            this.jsonLdFound = true;
+
+            if (metadata.authorName() != null) {
+                this.authorName = metadata.authorName();
+                this.authorFound = true;
+            }
+
+            LocalDateTime date = parseJsonLdDate(metadata.datePublished());
+            if (date != null) {
+                this.publishDate = date;
+                this.publishedAtFound = true;
+            }
+        }
+
+        boolean isComplete() {
+            return this.subtitleFound && this.authorFound && this.publishedAtFound && this.articleFound;
+        }
+    }
+}
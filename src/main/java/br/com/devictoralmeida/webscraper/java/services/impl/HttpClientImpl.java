@@ -1,43 +1,42 @@
 package br.com.devictoralmeida.webscraper.java.services.impl;
 
+import br.com.devictoralmeida.webscraper.java.dtos.ConditionalResponseDTO;
+import br.com.devictoralmeida.webscraper.java.services.HostConcurrencyLimiter;
 import br.com.devictoralmeida.webscraper.java.services.HttpClient;
+import br.com.devictoralmeida.webscraper.java.services.ReactiveHttpClient;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.util.UriComponentsBuilder;
 
-import java.time.Duration;
+import java.io.InputStream;
 import java.util.Map;
+import java.util.function.BiFunction;
 
+/**
+ * Versão bloqueante do cliente HTTP, usada pelo pipeline de threads virtuais. Delega para o
+ * {@link ReactiveHttpClient} (que já aplica o rate limit adaptativo) e bloqueia dentro do limite de concorrência
+ * por host.
+ */
 @Service
 public class HttpClientImpl implements HttpClient {
     private final Logger log = LoggerFactory.getLogger(HttpClientImpl.class);
-    private final WebClient webClient;
+    private final ReactiveHttpClient reactiveHttpClient;
     private final ObjectMapper objectMapper;
+    private final HostConcurrencyLimiter hostLimiter;
 
-    @Value("${scraper.timeout.ms}")
-    private int timeout;
-
-    public HttpClientImpl(WebClient.Builder webClient, ObjectMapper objectMapper) {
-        this.webClient = webClient.build();
+    public HttpClientImpl(ReactiveHttpClient reactiveHttpClient, ObjectMapper objectMapper, HostConcurrencyLimiter hostLimiter) {
+        this.reactiveHttpClient = reactiveHttpClient;
         this.objectMapper = objectMapper;
+        this.hostLimiter = hostLimiter;
     }
 
     @Override
     public <T> T makeGetRequest(String url, Class<T> responseType, Map<String, String> queryParams, Map<String, String> headers) {
         try {
-            return this.webClient.get()
-                    .uri(buildUri(url, queryParams).build().toUri())
-                    .headers(httpHeaders -> addHeaders(httpHeaders, headers))
-                    .retrieve()
-                    .bodyToMono(responseType)
-                    .timeout(Duration.ofMillis(this.timeout))
-                    .block();
+            return this.hostLimiter.execute(url, () -> this.reactiveHttpClient
+                    .makeGetRequest(url, responseType, queryParams, headers)
+                    .block());
         } catch (Exception exception) {
             this.log.error("Erro durante requisição de GET para url: {}, erro: {}", url, exception.getMessage());
             throw new RuntimeException("Error during request: " + exception.getMessage(), exception);
@@ -47,15 +46,9 @@ public class HttpClientImpl implements HttpClient {
     @Override
     public <T> T makePostRequest(String url, Object body, Class<T> responseType, Map<String, String> queryParams, Map<String, String> headers) {
         try {
-            Object response = this.webClient.post()
-                    .uri(buildUri(url, queryParams).build().toUri())
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .headers(httpHeaders -> addHeaders(httpHeaders, headers))
-                    .bodyValue(body)
-                    .retrieve()
-                    .bodyToMono(responseType)
-                    .timeout(Duration.ofMillis(this.timeout))
-                    .block();
+            Object response = this.hostLimiter.execute(url, () -> this.reactiveHttpClient
+                    .makePostRequest(url, body, responseType, queryParams, headers)
+                    .block());
             return this.objectMapper.convertValue(response, responseType);
         } catch (Exception e) {
             this.log.error("Erro durante requisição de POST para url: {}, erro: {}", url, e.getMessage());
@@ -63,19 +56,27 @@ public class HttpClientImpl implements HttpClient {
         }
     }
 
-    private UriComponentsBuilder buildUri(String url, Map<String, String> queryParams) {
-        UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUriString(url);
-
-        if (queryParams != null) {
-            queryParams.forEach(uriBuilder::queryParam);
+    @Override
+    public ConditionalResponseDTO makeConditionalGetRequest(String url, Map<String, String> headers) {
+        try {
+            return this.hostLimiter.execute(url, () -> this.reactiveHttpClient
+                    .makeConditionalGetRequest(url, headers)
+                    .block());
+        } catch (Exception exception) {
+            this.log.error("Erro durante requisição de GET condicional para url: {}, erro: {}", url, exception.getMessage());
+            throw new RuntimeException("Error during request: " + exception.getMessage(), exception);
         }
-
-        return uriBuilder;
     }
 
-    private void addHeaders(HttpHeaders httpHeaders, Map<String, String> headers) {
-        if (headers != null && !headers.isEmpty()) {
-            headers.forEach(httpHeaders::add);
+    @Override
+    public <T> T makeStreamingGetRequest(String url, BiFunction<InputStream, String, T> bodyReader) {
+        try {
+            return this.hostLimiter.execute(url, () -> this.reactiveHttpClient
+                    .makeStreamingGetRequest(url, bodyReader)
+                    .block());
+        } catch (Exception exception) {
+            this.log.error("Erro durante requisição de GET em streaming para url: {}, erro: {}", url, exception.getMessage());
+            throw new RuntimeException("Error during request: " + exception.getMessage(), exception);
         }
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package br.com.devictoralmeida.webscraper.java.services.impl;
 
+import br.com.devictoralmeida.webscraper.java.dtos.ConditionalResponseDTO;
 import br.com.devictoralmeida.webscraper.java.dtos.PartialNewsDTO;
 import br.com.devictoralmeida.webscraper.java.exception.NegocioException;
 import br.com.devictoralmeida.webscraper.java.services.HtmlParser;
@@ -39,6 +40,11 @@ public class NewsListProviderImpl implements NewsListProvider {
     @Value("${api.baseurl}")
     private String baseUrl;
 
+    /**
+     * Última lista extraída da página inicial, com o validador do corpo de onde saiu. Só é reaproveitada em um 304
+     * para esse mesmo validador: se o parse de um corpo mais novo falhou, o 304 seguinte é dele, não desta lista.
+     */
+    private volatile CachedNews cachedInitialNews;
 
     @Override
     public List<PartialNewsDTO> fetchNewsList(int pageLimit) {
@@ -65,8 +71,15 @@ public class NewsListProviderImpl implements NewsListProvider {
         log.info("Buscando lista de notícias iniciais do HTML: {}", initialPageUrl);
 
         try {
-            String htmlString = this.httpClient.makeGetRequest(initialPageUrl, String.class, null, null);
-            Document doc = this.parser.parseHtmlContent(htmlString);
+            ConditionalResponseDTO response = this.httpClient.makeConditionalGetRequest(initialPageUrl, null);
+            CachedNews cached = this.cachedInitialNews;
+
+            if (response.isNotModified() && cached != null && cached.isFrom(response.getValidator())) {
+                log.info("Página inicial não mudou desde a última busca. Reaproveitando {} notícias.", cached.news().size());
+                return cached.news();
+            }
+
+            Document doc = this.parser.parseHtmlContent(response.getBody());
 
             String selector = """
                             div[data-ds-component='card-xl'] h2 a,
@@ -82,6 +95,7 @@ public class NewsListProviderImpl implements NewsListProvider {
                     ))
                     .collect(Collectors.toList());
 
+            this.cachedInitialNews = new CachedNews(response.getValidator(), List.copyOf(result));
             log.info("Encontradas {} notícias iniciais no HTML.", result.size());
             return result;
         } catch (Exception e) {
@@ -123,4 +137,10 @@ public class NewsListProviderImpl implements NewsListProvider {
     private String sanitizeUrl(String url) {
         return url.contains("#") ? url.substring(0, url.indexOf('#')) : url;
     }
+
+    private record CachedNews(String validator, List<PartialNewsDTO> news) {
+        boolean isFrom(String responseValidator) {
+            return this.validator != null && this.validator.equals(responseValidator);
+        }
+    }
 }
\ No newline at end of file
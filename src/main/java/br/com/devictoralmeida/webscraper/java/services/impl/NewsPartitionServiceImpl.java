@@ -0,0 +1,117 @@
+package br.com.devictoralmeida.webscraper.java.services.impl;
+
+import br.com.devictoralmeida.webscraper.java.repositories.NewsRepository;
+import br.com.devictoralmeida.webscraper.java.services.NewsPartitionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Slf4j
+@Service
+public class NewsPartitionServiceImpl implements NewsPartitionService {
+    private final NewsRepository repository;
+
+    /**
+     * Transação própria para o DDL. O {@code CREATE TABLE ... PARTITION OF} trava {@code tb_news} em ACCESS EXCLUSIVE
+     * até o commit; na transação da ingestão, os relatórios ficariam parados até o fim do lote ou do COPY.
+     */
+    private final TransactionTemplate partitionTransaction;
+
+    @Value("${scraper.partition.months.ahead}")
+    private int monthsAhead;
+
+    /**
+     * Meses cuja partição já existe no banco, o que evita uma ida ao banco a cada lote. Um mês sai daqui quando a
+     * transação que gravou nele sofre rollback: a partição pode ter sido desanexada ou apagada pela retenção, e a função
+     * de criação é idempotente.
+     */
+    private final Set<YearMonth> existingMonths = ConcurrentHashMap.newKeySet();
+
+    public NewsPartitionServiceImpl(NewsRepository repository, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.partitionTransaction = new TransactionTemplate(transactionManager);
+        this.partitionTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public void ensurePartitions(Collection<LocalDateTime> publishDates) {
+        Set<YearMonth> months = publishDates.stream()
+                .filter(Objects::nonNull)
+                .map(YearMonth::from)
+                .collect(Collectors.toCollection(TreeSet::new));
+        forgetOnRollback(months);
+
+        Set<YearMonth> missing = months.stream()
+                .filter(month -> !this.existingMonths.contains(month))
+                .collect(Collectors.toCollection(TreeSet::new));
+        if (!missing.isEmpty()) {
+            createPartitions(missing);
+        }
+    }
+
+    @Override
+    public void createUpcomingPartitions() {
+        YearMonth current = YearMonth.now();
+        createPartitions(IntStream.rangeClosed(0, this.monthsAhead)
+                .mapToObj(current::plusMonths)
+                .collect(Collectors.toCollection(TreeSet::new)));
+    }
+
+    private void createPartitions(Set<YearMonth> months) {
+        log.info("Garantindo partições de tb_news para os meses {}", months);
+        this.partitionTransaction.executeWithoutResult(status -> {
+            this.repository.createPartitions(months);
+            rememberAfterCommit(months);
+        });
+    }
+
+    /**
+     * Registrado na transação de quem vai gravar (a da ingestão), não na do DDL.
+     */
+    private void forgetOnRollback(Set<YearMonth> months) {
+        if (months.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    NewsPartitionServiceImpl.this.existingMonths.removeAll(months);
+                }
+            }
+        });
+    }
+
+    /**
+     * A partição criada na transação só é lembrada depois do commit: em um rollback ela deixa de existir no banco.
+     */
+    private void rememberAfterCommit(Set<YearMonth> months) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.existingMonths.addAll(months);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                NewsPartitionServiceImpl.this.existingMonths.addAll(months);
+            }
+        });
+    }
+}
@@ -0,0 +1,239 @@
+package br.com.devictoralmeida.webscraper.java.services.impl;
+
+import br.com.devictoralmeida.webscraper.java.dtos.ParsedNewsDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.NewsResponseDTO;
+import br.com.devictoralmeida.webscraper.java.entities.Author;
+import br.com.devictoralmeida.webscraper.java.entities.News;
+import br.com.devictoralmeida.webscraper.java.repositories.AuthorRepository;
+import br.com.devictoralmeida.webscraper.java.repositories.NewsRepository;
+import br.com.devictoralmeida.webscraper.java.services.AuthorPublicationIndex;
+import br.com.devictoralmeida.webscraper.java.services.NewsPartitionService;
+import br.com.devictoralmeida.webscraper.java.services.NewsPersistenceService;
+import br.com.devictoralmeida.webscraper.java.services.NewsReportCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Fase de persistência do scraping. Fica em um bean separado para que a transação (e a conexão do pool)
+ * só seja aberta depois que todo o I/O de rede e o parse do HTML já terminaram.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsPersistenceServiceImpl implements NewsPersistenceService {
+    private final NewsRepository repository;
+    private final AuthorRepository authorRepository;
+    private final NewsPartitionService partitionService;
+    private final NewsReportCache reportCache;
+    private final AuthorPublicationIndex publicationIndex;
+
+    /**
+     * Grava reservando as URLs com {@code ON CONFLICT (url) DO NOTHING}: execuções concorrentes que disputam a mesma URL
+     * não derrubam a transação uma da outra, e a notícia repetida só é ignorada.
+     */
+    @Value("${scraper.persistence.on.conflict.enabled}")
+    private boolean onConflictEnabled;
+
+    @Value("${scraper.author.cache.max.entries}")
+    private int authorCacheMaxEntries;
+
+    /**
+     * Id dos autores já gravados por nome recebido do parse, em ordem de acesso (LRU) e limitado a
+     * {@code authorCacheMaxEntries} entradas. Guarda só dados imutáveis, nunca a entidade gerenciada.
+     */
+    private final Map<String, CachedAuthor> authorCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedAuthor> eldest) {
+                    return size() > NewsPersistenceServiceImpl.this.authorCacheMaxEntries;
+                }
+            });
+
+    @Override
+    @Transactional
+    public List<NewsResponseDTO> saveParsedNews(List<ParsedNewsDTO> parsedNewsList) {
+        this.partitionService.ensurePartitions(parsedNewsList.stream().map(ParsedNewsDTO::getPublishDate).toList());
+        Map<String, Author> authorMap = getOrCreateAuthorsInBatch(parsedNewsList);
+        List<News> saved = buildAndSaveNewsEntities(parsedNewsList, authorMap);
+
+        if (!saved.isEmpty()) {
+            // Registrado antes da invalidação: o relatório recalculado depois dela já lê o índice com estas notícias.
+            this.publicationIndex.appendOnCommit(saved);
+            List<LocalDateTime> publishDates = saved.stream().map(News::getPublishDate).toList();
+            afterCommit(() -> this.reportCache.invalidate(publishDates));
+        }
+
+        return saved.stream()
+                .map(NewsResponseDTO::new)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public int backfillParsedNews(List<ParsedNewsDTO> parsedNewsList) {
+        List<ParsedNewsDTO> complete = parsedNewsList.stream()
+                .filter(this::hasPublishDateAndAuthor)
+                .toList();
+
+        this.partitionService.ensurePartitions(complete.stream().map(ParsedNewsDTO::getPublishDate).toList());
+        int inserted = this.repository.copyIgnoringDuplicates(complete);
+        log.info("Backfill via COPY: {} de {} notícias inseridas.", inserted, parsedNewsList.size());
+
+        if (inserted > 0) {
+            // O COPY não diz quais linhas entraram; as datas de todas as recebidas cobrem as inseridas.
+            List<LocalDateTime> publishDates = complete.stream().map(ParsedNewsDTO::getPublishDate).toList();
+            this.publicationIndex.reloadOnCommit();
+            afterCommit(() -> this.reportCache.invalidate(publishDates));
+        }
+        return inserted;
+    }
+
+    @Override
+    @Transactional
+    public int rebuildAuthorDailyCounts() {
+        int rows = this.authorRepository.rebuildDailyCounts();
+        log.info("Contagens diárias por autor recalculadas: {} linhas.", rows);
+        // O rebuild corrige notícias apagadas direto no banco; o índice em memória também só as vê recarregando.
+        this.publicationIndex.reloadOnCommit();
+        afterCommit(this.reportCache::invalidateAll);
+        return rows;
+    }
+
+    /**
+     * Resolve os autores do lote pelo cache e manda os que faltam em um único upsert. Cada notícia recebe uma instância
+     * própria de {@link Author} só com o id preenchido, então o Hibernate grava a FK sem consultar {@code tb_author}.
+     */
+    private Map<String, Author> getOrCreateAuthorsInBatch(List<ParsedNewsDTO> parsedNewsList) {
+        Set<String> authorNames = parsedNewsList.stream()
+                .map(ParsedNewsDTO::getAuthorName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        if (authorNames.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Author> authorMap = new HashMap<>();
+        Set<String> missingNames = new HashSet<>();
+        for (String name : authorNames) {
+            CachedAuthor cached = this.authorCache.get(name);
+            if (cached == null) {
+                missingNames.add(name);
+            } else {
+                authorMap.put(name, cached.toAuthor());
+            }
+        }
+
+        if (!missingNames.isEmpty()) {
+            log.info("Resolvendo {} autores fora do cache...", missingNames.size());
+            Map<String, Author> upserted = this.authorRepository.upsertByNames(missingNames);
+            authorMap.putAll(upserted);
+            cacheAfterCommit(upserted);
+        }
+
+        return authorMap;
+    }
+
+    /**
+     * Autores criados nesta transação só entram no cache depois do commit: um rollback não deixa ids que não existem no
+     * banco para os próximos lotes.
+     */
+    private void cacheAfterCommit(Map<String, Author> authors) {
+        Map<String, CachedAuthor> entries = new HashMap<>();
+        authors.forEach((name, author) -> entries.put(name, CachedAuthor.of(author)));
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.authorCache.putAll(entries);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                NewsPersistenceServiceImpl.this.authorCache.putAll(entries);
+            }
+        });
+    }
+
+    /**
+     * Os relatórios em cache só são invalidados depois do commit: antes dele, uma nova consulta ainda leria o banco sem
+     * as notícias desta transação e guardaria o resultado antigo de novo.
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private List<News> buildAndSaveNewsEntities(List<ParsedNewsDTO> parsedNewsList, Map<String, Author> authorMap) {
+        List<News> entitiesToSave = parsedNewsList.stream()
+                .filter(this::hasPublishDateAndAuthor)
+                .map(parsedDto -> new News(parsedDto, authorMap.get(parsedDto.getAuthorName())
+                ))
+                .toList();
+
+        if (this.onConflictEnabled) {
+            return insertIgnoringDuplicates(entitiesToSave);
+        }
+
+        List<News> saved = this.repository.saveAll(entitiesToSave);
+        // O INSERT nativo já reserva as URLs, grava o conteúdo e soma as contagens diárias; pelo JPA as URLs e o
+        // conteúdo vão juntos em um comando à parte, e as contagens em outro, na mesma transação.
+        this.repository.insertUrlsAndContents(saved);
+        this.authorRepository.incrementDailyCounts(saved);
+
+        return saved;
+    }
+
+    private List<News> insertIgnoringDuplicates(List<News> entitiesToSave) {
+        List<News> inserted = this.repository.insertIgnoringDuplicates(entitiesToSave);
+
+        int ignored = entitiesToSave.size() - inserted.size();
+        if (ignored > 0) {
+            log.info("{} de {} notícias já existiam no banco e foram ignoradas.", ignored, entitiesToSave.size());
+        }
+
+        return inserted;
+    }
+
+    private boolean hasPublishDateAndAuthor(ParsedNewsDTO parsedDto) {
+        return Objects.nonNull(parsedDto.getPublishDate()) && Objects.nonNull(parsedDto.getAuthorName());
+    }
+
+    private record CachedAuthor(Long id, String name, LocalDateTime createdAt) {
+        static CachedAuthor of(Author author) {
+            return new CachedAuthor(author.getId(), author.getName(), author.getCreatedAt());
+        }
+
+        Author toAuthor() {
+            Author author = new Author(this.name);
+            author.setId(this.id);
+            author.setCreatedAt(this.createdAt);
+            return author;
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package br.com.devictoralmeida.webscraper.java.services.impl;
+
+import br.com.devictoralmeida.webscraper.java.dtos.response.AuthorNewsCountResponseDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.NewsResponseDTO;
+import br.com.devictoralmeida.webscraper.java.services.NewsReportCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * LRU limitado a {@code scraper.report.cache.max.entries} entradas e a {@code scraper.report.cache.max.bytes} estimados,
+ * cada entrada válida por {@code scraper.report.cache.ttl.ms}. Guarda só listas imutáveis de DTOs, compartilhadas entre as
+ * requisições.
+ * <p>
+ * Um hit não dispensa o banco: a {@code version} vem da consulta do {@code ETag}, feita antes a cada requisição. O que o
+ * cache poupa é a consulta do relatório e a montagem da lista. O timer de hits mede só a busca no mapa.
+ */
+@Slf4j
+@Service
+public class NewsReportCacheImpl implements NewsReportCache {
+    static final String TOP_AUTHORS = "top-authors";
+    static final String AUTHOR_NEWS = "author-news";
+
+    /**
+     * Cabeçalho, campos e referências de cada objeto guardado, somados ao texto das suas strings.
+     */
+    static final long OBJECT_BYTES = 48;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ReportMeters> metersByReport = new ConcurrentHashMap<>();
+    private final Counter invalidated;
+
+    @Value("${scraper.report.cache.max.entries}")
+    private int maxEntries;
+
+    /**
+     * As notícias por autor trazem o conteúdo completo, então poucas entradas grandes pesam mais que muitas páginas do
+     * relatório de autores. Um relatório maior que o limite inteiro não é guardado.
+     */
+    @Value("${scraper.report.cache.max.bytes}")
+    private long maxBytes;
+
+    @Value("${scraper.report.cache.ttl.ms}")
+    private long ttlMs;
+
+    private LongSupplier nanoTime = System::nanoTime;
+
+    private final Map<ReportKey, CachedReport> entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true));
+
+    /**
+     * Soma dos {@link CachedReport#bytes()} em {@link #entries}, alterada sempre com o lock do mapa.
+     */
+    private final AtomicLong bytes = new AtomicLong();
+
+    /**
+     * Incrementada a cada invalidação. Um relatório calculado enquanto houve invalidação pode ter lido o banco antes do
+     * commit da ingestão, então não é guardado.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    public NewsReportCacheImpl(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.invalidated = Counter.builder("scraper.report.cache.invalidated")
+                .description("Relatórios removidos do cache por ingestão de notícias do período")
+                .register(meterRegistry);
+
+        Gauge.builder("scraper.report.cache.size", this.entries, Map::size)
+                .description("Relatórios guardados no cache")
+                .register(meterRegistry);
+
+        Gauge.builder("scraper.report.cache.bytes", this.bytes, AtomicLong::get)
+                .description("Tamanho estimado dos relatórios guardados no cache, em bytes")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<AuthorNewsCountResponseDTO> getTopAuthors(LocalDate start, LocalDate end, int limit, int offset, String version,
+                                                          Supplier<List<AuthorNewsCountResponseDTO>> loader) {
+        return get(new ReportKey(TOP_AUTHORS, null, start, end, limit, offset), version, loader,
+                NewsReportCacheImpl::estimateBytes);
+    }
+
+    @Override
+    public List<NewsResponseDTO> getAuthorNews(Long authorId, LocalDate start, LocalDate end, String version,
+                                               Supplier<List<NewsResponseDTO>> loader) {
+        return get(new ReportKey(AUTHOR_NEWS, authorId, start, end, 0, 0), version, loader,
+                NewsReportCacheImpl::estimateBytes);
+    }
+
+    @Override
+    public void invalidate(Collection<LocalDateTime> publishDates) {
+        NavigableSet<LocalDate> days = publishDates.stream()
+                .filter(Objects::nonNull)
+                .map(LocalDateTime::toLocalDate)
+                .collect(Collectors.toCollection(TreeSet::new));
+        if (days.isEmpty()) {
+            return;
+        }
+
+        this.generation.incrementAndGet();
+        int removed = 0;
+        synchronized (this.entries) {
+            var iterator = this.entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<ReportKey, CachedReport> entry = iterator.next();
+                if (entry.getKey().coversAny(days)) {
+                    this.bytes.addAndGet(-entry.getValue().bytes());
+                    iterator.remove();
+                    removed++;
+                }
+            }
+        }
+
+        if (removed > 0) {
+            log.debug("{} relatórios em cache invalidados por notícias publicadas entre {} e {}", removed, days.first(), days.last());
+            this.invalidated.increment(removed);
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        this.generation.incrementAndGet();
+        int removed;
+        synchronized (this.entries) {
+            removed = this.entries.size();
+            this.entries.clear();
+            this.bytes.set(0);
+        }
+        this.invalidated.increment(removed);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> get(ReportKey key, String version, Supplier<List<T>> loader, ToLongFunction<T> weigher) {
+        ReportMeters meters = this.metersByReport.computeIfAbsent(key.report(), this::createMeters);
+        long start = this.nanoTime.getAsLong();
+
+        CachedReport cached = this.entries.get(key);
+        if (cached != null && cached.expiresAt() - start > 0 && cached.version().equals(version)) {
+            meters.hits().record(this.nanoTime.getAsLong() - start, TimeUnit.NANOSECONDS);
+            return (List<T>) cached.value();
+        }
+
+        long loadedAt = this.generation.get();
+        List<T> value = List.copyOf(loader.get());
+        if (this.generation.get() == loadedAt) {
+            long weight = value.stream().mapToLong(weigher).sum();
+            put(key, new CachedReport(value, version, start + TimeUnit.MILLISECONDS.toNanos(this.ttlMs), weight));
+        }
+        meters.misses().record(this.nanoTime.getAsLong() - start, TimeUnit.NANOSECONDS);
+        return value;
+    }
+
+    /**
+     * Guarda o relatório e descarta os usados há mais tempo até voltar aos dois limites. O novo é o último da ordem de
+     * acesso e cabe sozinho no limite de bytes, então nunca é o descartado.
+     */
+    private void put(ReportKey key, CachedReport report) {
+        if (report.bytes() > this.maxBytes) {
+            log.debug("Relatório {} com cerca de {} bytes não guardado: maior que o limite do cache", key.report(), report.bytes());
+            return;
+        }
+
+        synchronized (this.entries) {
+            CachedReport previous = this.entries.put(key, report);
+            this.bytes.addAndGet(report.bytes() - (previous == null ? 0 : previous.bytes()));
+
+            var iterator = this.entries.values().iterator();
+            while (this.entries.size() > this.maxEntries || this.bytes.get() > this.maxBytes) {
+                this.bytes.addAndGet(-iterator.next().bytes());
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Estimativa do que o item ocupa no heap: um valor fixo por objeto e um byte por caractere, o das strings compactas
+     * em Latin-1, que cobre o português.
+     */
+    static long estimateBytes(NewsResponseDTO news) {
+        long bytes = OBJECT_BYTES + estimateBytes(news.getUrl()) + estimateBytes(news.getTitle())
+                + estimateBytes(news.getSubtitle()) + estimateBytes(news.getContent())
+                + estimateBytes(news.getPublishDate()) + estimateBytes(news.getCreatedAt());
+        if (news.getAuthor() != null) {
+            bytes += OBJECT_BYTES + estimateBytes(news.getAuthor().getName()) + estimateBytes(news.getAuthor().getCreatedAt());
+        }
+        return bytes;
+    }
+
+    static long estimateBytes(AuthorNewsCountResponseDTO author) {
+        return OBJECT_BYTES + estimateBytes(author.getName());
+    }
+
+    private static long estimateBytes(String value) {
+        return value == null ? 0 : OBJECT_BYTES + value.length();
+    }
+
+    private ReportMeters createMeters(String report) {
+        Timer hits = Timer.builder("scraper.report.cache.requests")
+                .description("Tempo para responder o relatório, vindo do cache (hit) ou do banco (miss)")
+                .tag("report", report)
+                .tag("result", "hit")
+                .register(this.meterRegistry);
+        Timer misses = Timer.builder("scraper.report.cache.requests")
+                .description("Tempo para responder o relatório, vindo do cache (hit) ou do banco (miss)")
+                .tag("report", report)
+                .tag("result", "miss")
+                .register(this.meterRegistry);
+
+        Gauge.builder("scraper.report.cache.hit.ratio", () -> {
+                    long total = hits.count() + misses.count();
+                    return total == 0 ? 0 : (double) hits.count() / total;
+                })
+                .description("Fração das requisições do relatório respondidas pelo cache")
+                .tag("report", report)
+                .register(this.meterRegistry);
+
+        return new ReportMeters(hits, misses);
+    }
+
+    /**
+     * Período normalizado em dias inteiros, os mesmos que a consulta lê. {@code limit} e {@code offset} só separam as
+     * páginas do relatório de autores; nas notícias por autor ficam zerados.
+     */
+    private record ReportKey(String report, Long authorId, LocalDate start, LocalDate end, int limit, int offset) {
+        boolean coversAny(NavigableSet<LocalDate> days) {
+            LocalDate first = days.ceiling(this.start);
+            return first != null && !first.isAfter(this.end);
+        }
+    }
+
+    /**
+     * O relatório foi calculado depois de lida a {@code version}, então reflete pelo menos o que ela indica.
+     * {@code bytes} é a estimativa do tamanho da lista, fixada ao guardar.
+     */
+    private record CachedReport(List<?> value, String version, long expiresAt, long bytes) {
+    }
+
+    private record ReportMeters(Timer hits, Timer misses) {
+    }
+}
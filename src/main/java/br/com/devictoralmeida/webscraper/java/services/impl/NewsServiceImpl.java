@@ -1,58 +1,322 @@
 package br.com.devictoralmeida.webscraper.java.services.impl;
 
+import br.com.devictoralmeida.webscraper.java.dtos.AuthorBucketCountDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.NewsCursorDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.NewsSearchHitDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.NewsSummaryDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.NewsWithContentDTO;
 import br.com.devictoralmeida.webscraper.java.dtos.request.DateRangeRequestDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.request.ExportFormat;
+import br.com.devictoralmeida.webscraper.java.dtos.request.HistogramBucket;
+import br.com.devictoralmeida.webscraper.java.dtos.response.AuthorResponseDTO;
 import br.com.devictoralmeida.webscraper.java.dtos.response.AuthorNewsCountResponseDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.NewsPageResponseDTO;
 import br.com.devictoralmeida.webscraper.java.dtos.response.NewsResponseDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.NewsSearchHitResponseDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.NewsSearchPageResponseDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.NewsSummaryResponseDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.PublicationHistogramBucketResponseDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.PublicationHistogramResponseDTO;
+import br.com.devictoralmeida.webscraper.java.entities.News;
 import br.com.devictoralmeida.webscraper.java.exception.ParametrosDeConsultaInvalidosException;
 import br.com.devictoralmeida.webscraper.java.exception.RecursoNaoEncontradoException;
 import br.com.devictoralmeida.webscraper.java.repositories.AuthorRepository;
 import br.com.devictoralmeida.webscraper.java.repositories.NewsRepository;
+import br.com.devictoralmeida.webscraper.java.services.AuthorPublicationIndex;
+import br.com.devictoralmeida.webscraper.java.services.NewsReportCache;
 import br.com.devictoralmeida.webscraper.java.services.NewsService;
 import br.com.devictoralmeida.webscraper.java.services.ScraperService;
 import br.com.devictoralmeida.webscraper.java.shared.Constants;
+import br.com.devictoralmeida.webscraper.java.shared.utils.CsvUtils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class NewsServiceImpl implements NewsService {
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+    /**
+     * Último instante do dia que cabe em um {@code TIMESTAMP}. O {@link LocalTime#MAX} tem nanossegundos, que o driver
+     * arredonda para a meia-noite do dia seguinte, e o {@code <=} do fim do período pegaria as notícias dela.
+     */
+    private static final LocalTime END_OF_DAY = LocalTime.MAX.truncatedTo(ChronoUnit.MICROS);
+    private static final String CSV_HEADER = "id,url,title,subtitle,authorId,authorName,publishDate,createdAt,content\n";
+
     private final ScraperService scrapingService;
     private final AuthorRepository authorRepository;
     private final NewsRepository newsRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final NewsReportCache reportCache;
+    private final AuthorPublicationIndex publicationIndex;
+    private final EntityManager entityManager;
 
     @Override
-    @Transactional
     public List<NewsResponseDTO> scrapeAndSaveNews(int pageLimit) {
         return this.scrapingService.execute(pageLimit);
     }
 
+    /**
+     * Não é transacional: a resposta do cache não pega conexão do pool, o índice em memória nem consulta o banco, e a
+     * soma das contagens diárias é uma única consulta.
+     */
     @Override
-    @Transactional(readOnly = true)
-    public List<AuthorNewsCountResponseDTO> findTopAuthorsByDateRange(DateRangeRequestDTO dto) {
+    public List<AuthorNewsCountResponseDTO> findTopAuthorsByDateRange(DateRangeRequestDTO dto, int limit, int offset, String eTag) {
+        validateDateRange(dto);
+        validateLimitAndOffset(limit, offset);
+        LocalDate start = dto.getInicio().toLocalDate();
+        LocalDate end = dto.getFim().toLocalDate();
+
+        // O período cobre dias inteiros, então a soma das contagens diárias dá o mesmo resultado que contar as notícias.
+        return this.reportCache.getTopAuthors(start, end, limit, offset, eTag, () -> this.publicationIndex
+                .findTopAuthors(start, end, limit, offset)
+                .orElseGet(() -> this.authorRepository.findMostPublicationsFromDailyCounts(start, end, limit, offset)));
+    }
+
+    /**
+     * Só a consulta ao banco, quando o relatório não está no cache, roda em transação.
+     */
+    @Override
+    public List<NewsResponseDTO> findNewsByAuthorAndDateRange(Long authorId, DateRangeRequestDTO dto, String eTag) {
+        validateDateRange(dto);
+        LocalDate start = dto.getInicio().toLocalDate();
+        LocalDate end = dto.getFim().toLocalDate();
+
+        return this.reportCache.getAuthorNews(authorId, start, end, eTag, () -> this.transactionTemplate.execute(status -> {
+            existsAuthorById(authorId);
+
+            return this.newsRepository.findNewsByAuthorAndDateRange(
+                            authorId,
+                            start.atStartOfDay(),
+                            end.atTime(END_OF_DAY)
+                    ).stream()
+                    .map(NewsResponseDTO::new)
+                    .toList();
+        }));
+    }
+
+    @Override
+    public String getTopAuthorsETag(DateRangeRequestDTO dto, int limit, int offset) {
+        validateDateRange(dto);
+        validateLimitAndOffset(limit, offset);
+        LocalDate start = dto.getInicio().toLocalDate();
+        LocalDate end = dto.getFim().toLocalDate();
+
+        return eTag("top-authors", start, end, limit, offset, this.newsRepository.findTopAuthorsVersion(start, end));
+    }
+
+    @Override
+    public String getNewsByAuthorETag(Long authorId, DateRangeRequestDTO dto) {
         validateDateRange(dto);
-        return this.authorRepository.findAuthorsWithMostPublicationsOnDateRange(
-                dto.getInicio().with(LocalTime.MIN),
-                dto.getFim().with(LocalTime.MAX)
-        );
+        LocalDate start = dto.getInicio().toLocalDate();
+        LocalDate end = dto.getFim().toLocalDate();
+
+        String version = this.newsRepository.findAuthorNewsVersion(authorId, start.atStartOfDay(), end.atTime(END_OF_DAY))
+                .orElseThrow(() -> new RecursoNaoEncontradoException(Constants.AUTOR_NAO_ENCONTRADO));
+        return eTag("author-news", authorId, start, end, version);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<NewsResponseDTO> findNewsByAuthorAndDateRange(Long authorId, DateRangeRequestDTO dto) {
+    public NewsPageResponseDTO findNewsPageByAuthorAndDateRange(Long authorId, DateRangeRequestDTO dto, String cursor, int size,
+                                                                boolean includeContent) {
         existsAuthorById(authorId);
         validateDateRange(dto);
+        validatePageSize(size);
+
+        LocalDateTime startOfDay = dto.getInicio().with(LocalTime.MIN);
+        LocalDateTime endOfDay = dto.getFim().with(END_OF_DAY);
+        NewsCursorDTO position = cursor == null ? NewsCursorDTO.start(endOfDay) : NewsCursorDTO.decode(cursor);
+        if (position.publishDate().isAfter(endOfDay)) {
+            position = NewsCursorDTO.start(endOfDay);
+        }
+
+        // Um item a mais só para saber se existe próxima página.
+        Limit limit = Limit.of(size + 1);
+        List<NewsSummaryDTO> rows = includeContent
+                ? this.newsRepository.findSummaryPageWithContentByAuthor(authorId, startOfDay, position.publishDate(), position.id(), limit)
+                : this.newsRepository.findSummaryPageByAuthor(authorId, startOfDay, position.publishDate(), position.id(), limit);
+
+        List<NewsSummaryDTO> page = rows.size() > size ? rows.subList(0, size) : rows;
+        String nextCursor = rows.size() > size ? NewsCursorDTO.after(page.get(page.size() - 1)).encode() : null;
+
+        return new NewsPageResponseDTO(page.stream().map(NewsSummaryResponseDTO::new).toList(), nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public NewsSearchPageResponseDTO searchNews(String terms, int page, int size) {
+        validateSearchTerms(terms);
+        validatePageSize(size);
+        if (page < 0) {
+            throw new ParametrosDeConsultaInvalidosException(Constants.PAGINA_INVALIDA);
+        }
+
+        // Um item a mais só para saber se existe próxima página.
+        List<NewsSearchHitDTO> rows = this.newsRepository.search(terms.strip(), size + 1, (long) page * size);
+        List<NewsSearchHitDTO> hits = rows.size() > size ? rows.subList(0, size) : rows;
+
+        return new NewsSearchPageResponseDTO(hits.stream().map(NewsSearchHitResponseDTO::new).toList(), page, size, rows.size() > size);
+    }
+
+    /**
+     * Cada intervalo e cada par (intervalo, autor) vem do banco já somado; aqui as linhas só são agrupadas por intervalo.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PublicationHistogramResponseDTO getPublicationHistogram(DateRangeRequestDTO dto, String bucket, Long authorId,
+                                                                   int topAuthors) {
+        validateDateRange(dto);
+        HistogramBucket histogramBucket = HistogramBucket.from(bucket);
+        LocalDate start = dto.getInicio().toLocalDate();
+        LocalDate end = dto.getFim().toLocalDate();
 
-        return this.newsRepository.findNewsByAuthorAndDateRange(
-                        authorId,
-                        dto.getInicio().with(LocalTime.MIN),
-                        dto.getFim().with(LocalTime.MAX)
-                ).stream()
-                .map(NewsResponseDTO::new)
+        if (topAuthors < 0 || topAuthors > Constants.QUANTIDADE_MAXIMA_AUTORES_HISTOGRAMA || (topAuthors > 0 && authorId != null)) {
+            throw new ParametrosDeConsultaInvalidosException(Constants.QUANTIDADE_AUTORES_HISTOGRAMA_INVALIDA);
+        }
+        if (histogramBucket == HistogramBucket.HOUR && ChronoUnit.DAYS.between(start, end) >= Constants.MAXIMO_DIAS_HISTOGRAMA_POR_HORA) {
+            throw new ParametrosDeConsultaInvalidosException(Constants.PERIODO_HISTOGRAMA_POR_HORA_INVALIDO);
+        }
+        if (authorId != null) {
+            existsAuthorById(authorId);
+        }
+
+        Map<LocalDateTime, List<AuthorNewsCountResponseDTO>> authorsByBucket = topAuthors == 0 ? Map.of()
+                : this.newsRepository.countByBucketForTopAuthors(histogramBucket, start, end, topAuthors).stream()
+                .collect(Collectors.groupingBy(AuthorBucketCountDTO::bucket, Collectors.mapping(
+                        row -> new AuthorNewsCountResponseDTO(row.authorId(), row.authorName(), row.newsCount()),
+                        Collectors.toList())));
+
+        List<PublicationHistogramBucketResponseDTO> buckets = this.newsRepository
+                .countByBucket(histogramBucket, start, end, authorId).stream()
+                .map(row -> new PublicationHistogramBucketResponseDTO(row.bucket(), row.newsCount(),
+                        topAuthors == 0 ? null : authorsByBucket.getOrDefault(row.bucket(), List.of())))
                 .toList();
+
+        return new PublicationHistogramResponseDTO(histogramBucket.getValue(), buckets);
+    }
+
+    @Override
+    public StreamingResponseBody exportNewsByDateRange(DateRangeRequestDTO dto, ExportFormat format) {
+        validateDateRange(dto);
+
+        LocalDateTime startOfDay = dto.getInicio().with(LocalTime.MIN);
+        LocalDateTime endOfDay = dto.getFim().with(END_OF_DAY);
+
+        // Roda depois que o controller retorna, fora da transação da requisição: o cursor do driver precisa de uma própria.
+        return output -> {
+            try {
+                this.transactionTemplate.executeWithoutResult(status -> {
+                    try (Stream<NewsWithContentDTO> news = this.newsRepository.streamByDateRange(startOfDay, endOfDay)) {
+                        switch (format) {
+                            case NDJSON -> writeNdjson(news.iterator(), output);
+                            case CSV -> writeCsv(news.iterator(), output);
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
+    private void writeNdjson(Iterator<NewsWithContentDTO> news, OutputStream output) throws IOException {
+        ObjectWriter writer = this.objectMapper.writerFor(NewsResponseDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (JsonGenerator generator = this.objectMapper.createGenerator(output)) {
+            // A resposta é fechada pelo Spring; sem separador entre valores, cada linha termina no '\n' escrito abaixo.
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            while (news.hasNext()) {
+                NewsWithContentDTO item = news.next();
+                writer.writeValue(generator, new NewsResponseDTO(item));
+                generator.writeRaw('\n');
+                detach(item.news());
+            }
+        }
+    }
+
+    private void writeCsv(Iterator<NewsWithContentDTO> news, OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+        writer.write(CSV_HEADER);
+
+        while (news.hasNext()) {
+            NewsWithContentDTO item = news.next();
+            NewsResponseDTO row = new NewsResponseDTO(item);
+            AuthorResponseDTO author = row.getAuthor();
+
+            writer.write(String.valueOf(row.getId()));
+            writer.write(',');
+            CsvUtils.writeField(writer, row.getUrl());
+            writer.write(',');
+            CsvUtils.writeField(writer, row.getTitle());
+            writer.write(',');
+            CsvUtils.writeField(writer, row.getSubtitle());
+            writer.write(',');
+            if (author != null) {
+                writer.write(String.valueOf(author.getId()));
+            }
+            writer.write(',');
+            CsvUtils.writeField(writer, author == null ? null : author.getName());
+            writer.write(',');
+            CsvUtils.writeField(writer, row.getPublishDate());
+            writer.write(',');
+            CsvUtils.writeField(writer, row.getCreatedAt());
+            writer.write(',');
+            CsvUtils.writeField(writer, row.getContent());
+            writer.write('\n');
+            detach(item.news());
+        }
+        writer.flush();
+    }
+
+    /**
+     * Tira a notícia já escrita do contexto de persistência, que assim não cresce com a exportação. O autor continua
+     * gerenciado e é reaproveitado pelas próximas linhas.
+     */
+    private void detach(News news) {
+        this.entityManager.detach(news);
+    }
+
+    /**
+     * Os relatórios respondem a POSTs na mesma URL para qualquer período, então o período (e o autor) entram no hash junto
+     * com a versão dos dados.
+     */
+    private static String eTag(Object... parts) {
+        String key = Arrays.stream(parts).map(String::valueOf).collect(Collectors.joining("|"));
+        return '"' + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + '"';
     }
 
     private void existsAuthorById(Long authorId) {
@@ -61,6 +325,25 @@ public class NewsServiceImpl implements NewsService {
         }
     }
 
+    private void validatePageSize(int size) {
+        if (size < Constants.UM || size > Constants.TAMANHO_MAXIMO_PAGINA) {
+            throw new ParametrosDeConsultaInvalidosException(Constants.TAMANHO_PAGINA_INVALIDO);
+        }
+    }
+
+    private void validateLimitAndOffset(int limit, int offset) {
+        validatePageSize(limit);
+        if (offset < 0) {
+            throw new ParametrosDeConsultaInvalidosException(Constants.DESLOCAMENTO_INVALIDO);
+        }
+    }
+
+    private void validateSearchTerms(String terms) {
+        if (terms == null || terms.isBlank() || terms.strip().length() > Constants.TAMANHO_MAXIMO_TERMO_PESQUISA) {
+            throw new ParametrosDeConsultaInvalidosException(Constants.TERMO_PESQUISA_INVALIDO);
+        }
+    }
+
     private void validateDateRange(DateRangeRequestDTO dto) {
         if (dto.getInicio().isAfter(dto.getFim())) {
             throw new ParametrosDeConsultaInvalidosException(Constants.INTERVALO_DATA_INVALIDO);
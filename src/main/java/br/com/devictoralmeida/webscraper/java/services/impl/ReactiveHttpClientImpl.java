@@ -0,0 +1,334 @@
+package br.com.devictoralmeida.webscraper.java.services.impl;
+
+import br.com.devictoralmeida.webscraper.java.dtos.ConditionalResponseDTO;
+import br.com.devictoralmeida.webscraper.java.services.AdaptiveRateLimiter;
+import br.com.devictoralmeida.webscraper.java.services.ReactiveHttpClient;
+import org.reactivestreams.Subscription;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+@Service
+public class ReactiveHttpClientImpl implements ReactiveHttpClient {
+    /**
+     * Quantos pedaços do corpo ficam adiantados na leitura em streaming; o resto espera o parser consumir.
+     */
+    private static final int STREAM_PREFETCH = 4;
+
+    private final WebClient webClient;
+    private final AdaptiveRateLimiter rateLimiter;
+
+    @Value("${scraper.timeout.ms}")
+    private int timeout;
+
+    @Value("${scraper.http.cache.max.entries}")
+    private int cacheMaxEntries;
+
+    /**
+     * Validadores e corpo da última resposta 200 de cada url pedida com {@link #makeConditionalGetRequest}, em ordem de
+     * acesso (LRU) e limitados a {@code cacheMaxEntries} entradas.
+     */
+    private final Map<String, CachedResponse> validatorCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                    return size() > ReactiveHttpClientImpl.this.cacheMaxEntries;
+                }
+            });
+
+    public ReactiveHttpClientImpl(WebClient.Builder webClient, AdaptiveRateLimiter rateLimiter) {
+        this.webClient = webClient.build();
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public <T> Mono<T> makeGetRequest(String url, Class<T> responseType, Map<String, String> queryParams, Map<String, String> headers) {
+        Mono<T> request = Mono.defer(() -> this.webClient.get()
+                .uri(buildUri(url, queryParams).build().toUri())
+                .headers(httpHeaders -> addHeaders(httpHeaders, headers))
+                .retrieve()
+                .bodyToMono(responseType)
+                .timeout(Duration.ofMillis(this.timeout)));
+
+        return this.rateLimiter.execute(url, request);
+    }
+
+    @Override
+    public <T> Mono<T> makePostRequest(String url, Object body, Class<T> responseType, Map<String, String> queryParams, Map<String, String> headers) {
+        Mono<T> request = Mono.defer(() -> this.webClient.post()
+                .uri(buildUri(url, queryParams).build().toUri())
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(httpHeaders -> addHeaders(httpHeaders, headers))
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(responseType)
+                .timeout(Duration.ofMillis(this.timeout)));
+
+        return this.rateLimiter.execute(url, request);
+    }
+
+    @Override
+    public Mono<ConditionalResponseDTO> makeConditionalGetRequest(String url, Map<String, String> headers) {
+        Mono<ConditionalResponseDTO> request = Mono.defer(() -> {
+            CachedResponse cached = this.validatorCache.get(url);
+
+            return this.webClient.get()
+                    .uri(buildUri(url, null).build().toUri())
+                    .headers(httpHeaders -> {
+                        addHeaders(httpHeaders, headers);
+                        addValidators(httpHeaders, cached);
+                    })
+                    .exchangeToMono(response -> handleConditionalResponse(url, cached, response))
+                    .timeout(Duration.ofMillis(this.timeout));
+        });
+
+        return this.rateLimiter.execute(url, request);
+    }
+
+    /**
+     * O rate limiter e o timeout valem até os cabeçalhos: a latência que ajusta a taxa do host e o corte por lentidão
+     * não incluem o parse, que acontece enquanto o corpo chega. No corpo, o timeout conta só a espera do leitor por um
+     * pedaço que não chegou.
+     * <p>
+     * A leitura do corpo bloqueia até cada pedaço chegar, então roda no boundedElastic e nunca no event loop. Cada
+     * {@link DataBuffer} é copiado e liberado assim que chega, e no máximo {@link #STREAM_PREFETCH} ficam em memória.
+     */
+    @Override
+    public <T> Mono<T> makeStreamingGetRequest(String url, BiFunction<InputStream, String, T> bodyReader) {
+        Mono<ResponseEntity<Flux<DataBuffer>>> headers = Mono.defer(() -> this.webClient.get()
+                .uri(buildUri(url, null).build().toUri())
+                .retrieve()
+                .toEntityFlux(DataBuffer.class)
+                .timeout(Duration.ofMillis(this.timeout)));
+
+        return this.rateLimiter.execute(url, headers)
+                .flatMap(response -> {
+                    String charset = Optional.ofNullable(response.getHeaders().getContentType())
+                            .map(MediaType::getCharset)
+                            .map(Charset::name)
+                            .orElse(null);
+                    Flux<byte[]> chunks = Objects.requireNonNull(response.getBody()).map(ReactiveHttpClientImpl::drain);
+
+                    return Mono.fromCallable(() -> {
+                                try (InputStream body = new ChunkInputStream(chunks, this.timeout)) {
+                                    return bodyReader.apply(body, charset);
+                                }
+                            })
+                            .subscribeOn(Schedulers.boundedElastic());
+                });
+    }
+
+    private static byte[] drain(DataBuffer buffer) {
+        try {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            return bytes;
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    private Mono<ConditionalResponseDTO> handleConditionalResponse(String url, CachedResponse cached, ClientResponse response) {
+        if (cached != null && response.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            return response.releaseBody().thenReturn(ConditionalResponseDTO.notModified(cached.body(), cached.validator()));
+        }
+
+        if (!response.statusCode().is2xxSuccessful()) {
+            return response.createError();
+        }
+
+        HttpHeaders responseHeaders = response.headers().asHttpHeaders();
+        return response.bodyToMono(String.class)
+                .defaultIfEmpty("")
+                .map(body -> {
+                    CachedResponse stored = storeValidators(url, responseHeaders, body);
+                    return ConditionalResponseDTO.modified(body, stored == null ? null : stored.validator());
+                });
+    }
+
+    private void addValidators(HttpHeaders httpHeaders, CachedResponse cached) {
+        if (cached == null) {
+            return;
+        }
+
+        if (cached.etag() != null) {
+            httpHeaders.setIfNoneMatch(cached.etag());
+        }
+        if (cached.lastModified() != null) {
+            httpHeaders.set(HttpHeaders.IF_MODIFIED_SINCE, cached.lastModified());
+        }
+    }
+
+    private CachedResponse storeValidators(String url, HttpHeaders responseHeaders, String body) {
+        String etag = responseHeaders.getETag();
+        String lastModified = responseHeaders.getFirst(HttpHeaders.LAST_MODIFIED);
+
+        if (etag == null && lastModified == null) {
+            this.validatorCache.remove(url);
+            return null;
+        }
+
+        CachedResponse stored = new CachedResponse(etag, lastModified, body);
+        this.validatorCache.put(url, stored);
+        return stored;
+    }
+
+    private UriComponentsBuilder buildUri(String url, Map<String, String> queryParams) {
+        UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUriString(url);
+
+        if (queryParams != null) {
+            queryParams.forEach(uriBuilder::queryParam);
+        }
+
+        return uriBuilder;
+    }
+
+    private void addHeaders(HttpHeaders httpHeaders, Map<String, String> headers) {
+        if (headers != null && !headers.isEmpty()) {
+            headers.forEach(httpHeaders::add);
+        }
+    }
+
+    /**
+     * Encadeia os pedaços em um único {@link InputStream}, pedindo um novo ao servidor a cada pedaço consumido. Esperar
+     * mais que {@code timeoutMs} por um pedaço é um servidor parado, não um parse lento. Fechar o stream cancela a
+     * assinatura, então um parser que para cedo não deixa o resto do corpo sendo baixado.
+     */
+    private static final class ChunkInputStream extends InputStream {
+        private static final byte[] END = new byte[0];
+
+        /**
+         * Pedaços ({@code byte[]}), o erro do corpo ({@link Throwable}) ou {@link #END}.
+         */
+        private final BlockingQueue<Object> received = new LinkedBlockingQueue<>();
+        private final BaseSubscriber<byte[]> subscriber;
+        private final long timeoutMs;
+        private byte[] current = new byte[0];
+        private int position;
+        private boolean finished;
+
+        private ChunkInputStream(Flux<byte[]> chunks, long timeoutMs) {
+            this.timeoutMs = timeoutMs;
+            this.subscriber = new BaseSubscriber<>() {
+                @Override
+                protected void hookOnSubscribe(Subscription subscription) {
+                    subscription.request(STREAM_PREFETCH);
+                }
+
+                @Override
+                protected void hookOnNext(byte[] chunk) {
+                    ChunkInputStream.this.received.add(chunk);
+                }
+
+                @Override
+                protected void hookOnComplete() {
+                    ChunkInputStream.this.received.add(END);
+                }
+
+                @Override
+                protected void hookOnError(Throwable error) {
+                    ChunkInputStream.this.received.add(error);
+                }
+            };
+            chunks.subscribe(this.subscriber);
+        }
+
+        @Override
+        public int read() throws IOException {
+            return nextChunk() ? this.current[this.position++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) throws IOException {
+            Objects.checkFromIndexSize(offset, length, target.length);
+            if (length == 0) {
+                return 0;
+            }
+            if (!nextChunk()) {
+                return -1;
+            }
+
+            int count = Math.min(length, this.current.length - this.position);
+            System.arraycopy(this.current, this.position, target, offset, count);
+            this.position += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+            this.subscriber.dispose();
+        }
+
+        private boolean nextChunk() throws IOException {
+            while (this.position >= this.current.length) {
+                if (this.finished) {
+                    return false;
+                }
+
+                Object next = poll();
+                if (next == END) {
+                    this.finished = true;
+                    return false;
+                }
+                if (next instanceof RuntimeException error) {
+                    throw error;
+                }
+                if (next instanceof Throwable error) {
+                    throw new IOException(error);
+                }
+
+                this.current = (byte[]) next;
+                this.position = 0;
+                this.subscriber.request(1);
+            }
+            return true;
+        }
+
+        private Object poll() throws IOException {
+            try {
+                Object next = this.received.poll(this.timeoutMs, TimeUnit.MILLISECONDS);
+                if (next == null) {
+                    throw new SocketTimeoutException("Nenhum dado do corpo em " + this.timeoutMs + " ms");
+                }
+                return next;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+        }
+    }
+
+    private record CachedResponse(String etag, String lastModified, String body) {
+        String validator() {
+            return this.etag != null ? this.etag : this.lastModified;
+        }
+    }
+}
@@ -3,24 +3,29 @@ package br.com.devictoralmeida.webscraper.java.services.impl;
 import br.com.devictoralmeida.webscraper.java.dtos.ParsedNewsDTO;
 import br.com.devictoralmeida.webscraper.java.dtos.PartialNewsDTO;
 import br.com.devictoralmeida.webscraper.java.dtos.response.NewsResponseDTO;
-import br.com.devictoralmeida.webscraper.java.entities.Author;
-import br.com.devictoralmeida.webscraper.java.entities.News;
-import br.com.devictoralmeida.webscraper.java.repositories.AuthorRepository;
 import br.com.devictoralmeida.webscraper.java.repositories.NewsRepository;
 import br.com.devictoralmeida.webscraper.java.services.HtmlParser;
 import br.com.devictoralmeida.webscraper.java.services.HttpClient;
 import br.com.devictoralmeida.webscraper.java.services.NewsListProvider;
+import br.com.devictoralmeida.webscraper.java.services.NewsPersistenceService;
+import br.com.devictoralmeida.webscraper.java.services.ReactiveHttpClient;
 import br.com.devictoralmeida.webscraper.java.services.ScraperService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -29,11 +34,39 @@ public class ScraperServiceImpl implements ScraperService {
     private final NewsListProvider listProvider;
     private final HtmlParser parser;
     private final NewsRepository repository;
-    private final AuthorRepository authorRepository;
     private final HttpClient httpClient;
+    private final NewsPersistenceService persistenceService;
+    private final ReactiveHttpClient reactiveHttpClient;
 
+    @Value("${scraper.pipeline.fetch.concurrency}")
+    private int fetchConcurrency;
+
+    @Value("${scraper.pipeline.parse.concurrency}")
+    private int parseConcurrency;
+
+    @Value("${scraper.pipeline.queue.capacity}")
+    private int queueCapacity;
+
+    @Value("${scraper.pipeline.batch.size}")
+    private int batchSize;
+
+    @Value("${scraper.pipeline.flush.interval.ms}")
+    private long flushIntervalMs;
+
+    @Value("${scraper.streaming.enabled}")
+    private boolean streamingEnabled;
+
+    @Value("${scraper.reactive.enabled}")
+    private boolean reactiveEnabled;
+
+    @Value("${scraper.reactive.concurrency}")
+    private int reactiveConcurrency;
+
+    /**
+     * Não é transacional de propósito: o download e o parse das notícias rodam sem segurar conexão do pool,
+     * e cada micro-lote gravado abre uma transação curta em {@link NewsPersistenceService}.
+     */
     @Override
-    @Transactional
     public List<NewsResponseDTO> execute(int pageLimit) {
         log.info("Iniciando processo de scraping...");
 
@@ -44,14 +77,16 @@ public class ScraperServiceImpl implements ScraperService {
             return new ArrayList<>();
         }
 
-        List<ParsedNewsDTO> parsedNewsList = fetchAndParseNewsInParallel(newsToProcess);
-        Map<String, Author> authorMap = getOrCreateAuthorsInBatch(parsedNewsList);
-        List<NewsResponseDTO> savedNews = buildAndSaveNewsEntities(parsedNewsList, authorMap);
+        List<NewsResponseDTO> savedNews = this.reactiveEnabled ? runReactive(newsToProcess) : runPipeline(newsToProcess);
 
         log.info("Processo de scraping concluído. {} notícias salvas.", savedNews.size());
         return savedNews;
     }
 
+    /**
+     * A consulta de URLs existentes só evita baixar de novo o que já está no banco. Duas execuções concorrentes podem
+     * passar por ela com a mesma URL; quem resolve a corrida é o {@code ON CONFLICT} da gravação.
+     */
     private List<PartialNewsDTO> getNewsToProcess(int pageLimit) {
         List<PartialNewsDTO> newsList = this.listProvider.fetchNewsList(pageLimit);
         log.info("{} notícias encontradas para processamento.", newsList.size());
@@ -65,84 +100,210 @@ public class ScraperServiceImpl implements ScraperService {
                 .toList();
     }
 
-    private List<ParsedNewsDTO> fetchAndParseNewsInParallel(List<PartialNewsDTO> newsToProcess) {
-        log.info("{} notícias novas que serão processada e parseadas em paralelo com Threads Virtuais...", newsToProcess.size());
+    /**
+     * Executa o fluxo descoberta -> download -> parse -> persistência como estágios independentes, ligados por filas
+     * limitadas. Cada estágio tem sua própria concorrência e bloqueia quando a fila seguinte está cheia, então o número
+     * de páginas em memória fica limitado pela capacidade das filas e não pelo tamanho da execução.
+     * O fim de cada fila é sinalizado com {@link Optional#empty()}.
+     */
+    private List<NewsResponseDTO> runPipeline(List<PartialNewsDTO> newsToProcess) {
+        log.info("{} notícias novas que serão processadas no pipeline (download: {}, parse: {}, lote: {}, streaming: {})...",
+                newsToProcess.size(), this.fetchConcurrency, this.parseConcurrency, this.batchSize, this.streamingEnabled);
+
+        BlockingQueue<Optional<PartialNewsDTO>> toFetch = new ArrayBlockingQueue<>(this.queueCapacity);
+        BlockingQueue<Optional<FetchedPage>> toParse = new ArrayBlockingQueue<>(this.queueCapacity);
+        BlockingQueue<Optional<ParsedNewsDTO>> toPersist = new ArrayBlockingQueue<>(this.queueCapacity);
+        List<NewsResponseDTO> savedNews = Collections.synchronizedList(new ArrayList<>());
 
         try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
-            List<Future<ParsedNewsDTO>> futures = newsToProcess.stream()
-                    .map(partialNewsDto -> executor.submit(() -> {
-                        try {
-                            log.debug("Processando: {}", partialNewsDto.getTitle());
-                            String html = this.httpClient.makeGetRequest(partialNewsDto.getUrl(), String.class, null, null);
-                            return this.parser.parseNewsDetails(html, partialNewsDto);
-                        } catch (Exception e) {
-                            log.error("Falha ao processar notícia: {}", partialNewsDto.getUrl(), e);
-                            return null;
-                        }
-                    }))
-                    .toList();
+            executor.submit(() -> discover(newsToProcess, toFetch));
+            if (this.streamingEnabled) {
+                startStage(executor, this.fetchConcurrency, toFetch, toPersist, this::fetchAndParseStreaming,
+                        Function.identity(), "Falha ao processar notícia: {}");
+            } else {
+                startStage(executor, this.fetchConcurrency, toFetch, toParse, this::fetchPage,
+                        Function.identity(), "Falha ao baixar notícia: {}");
+                startStage(executor, this.parseConcurrency, toParse, toPersist, this::parsePage,
+                        FetchedPage::partialNews, "Falha ao processar notícia: {}");
+            }
+            executor.submit(() -> persistInBatches(toPersist, savedNews));
+        }
 
-            return futures.stream()
-                    .map(this::getFutureResult) // Espera todas as tarefas serem concluídas
-                    .filter(Objects::nonNull)
-                    .toList();
+        return new ArrayList<>(savedNews);
+    }
 
-        } catch (Exception e) {
-            log.error("Erro durante a execução paralela com Threads Virtuais", e);
+    private void discover(List<PartialNewsDTO> newsToProcess, BlockingQueue<Optional<PartialNewsDTO>> out) {
+        try {
+            for (PartialNewsDTO partialNews : newsToProcess) {
+                out.put(Optional.of(partialNews));
+            }
+            out.put(Optional.empty());
+        } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            return new ArrayList<>();
         }
     }
 
-    private <T> T getFutureResult(Future<T> future) {
+    /**
+     * Sobe {@code workers} consumidores de {@code in}. A falha de um item é registrada com {@code failure} e a URL da
+     * notícia, e o worker segue para o próximo. O último worker a terminar, mesmo que interrompido ou por um erro,
+     * propaga o fim da fila para o estágio seguinte, que do contrário esperaria para sempre.
+     */
+    private <I, O> void startStage(ExecutorService executor, int workers, BlockingQueue<Optional<I>> in,
+                                   BlockingQueue<Optional<O>> out, Function<I, O> step,
+                                   Function<I, PartialNewsDTO> source, String failure) {
+        AtomicInteger remaining = new AtomicInteger(workers);
+
+        for (int i = 0; i < workers; i++) {
+            executor.submit(() -> {
+                try {
+                    Optional<I> item;
+                    while ((item = in.take()).isPresent()) {
+                        O result = apply(step, item.get(), source, failure);
+                        if (result != null) {
+                            out.put(Optional.of(result));
+                        }
+                    }
+                    in.put(item); // devolve o marcador de fim para os demais workers
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    if (remaining.decrementAndGet() == 0) {
+                        signalEnd(out);
+                    }
+                }
+            });
+        }
+    }
+
+    private <I, O> O apply(Function<I, O> step, I item, Function<I, PartialNewsDTO> source, String failure) {
         try {
-            return future.get();
-        } catch (Exception e) {
-            log.error("Falha ao obter resultado de uma tarefa futura: {}", e.getMessage());
-            Thread.currentThread().interrupt();
+            return step.apply(item);
+        } catch (RuntimeException e) {
+            log.error(failure, source.apply(item).getUrl(), e);
             return null;
         }
     }
 
-    private Map<String, Author> getOrCreateAuthorsInBatch(List<ParsedNewsDTO> parsedNewsList) {
-        Set<String> authorNames = parsedNewsList.stream()
-                .map(ParsedNewsDTO::getAuthorName)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
+    /**
+     * Com a thread interrompida o executor está sendo encerrado e o estágio seguinte também foi interrompido, então o
+     * marcador vai só se houver espaço na fila.
+     */
+    private <O> void signalEnd(BlockingQueue<Optional<O>> out) {
+        if (Thread.currentThread().isInterrupted()) {
+            out.offer(Optional.empty());
+            return;
+        }
 
-        if (authorNames.isEmpty()) {
-            return Map.of();
+        try {
+            out.put(Optional.empty());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
+    }
+
+    private FetchedPage fetchPage(PartialNewsDTO partialNewsDto) {
+        log.debug("Baixando: {}", partialNewsDto.getTitle());
+        String html = this.httpClient.makeGetRequest(partialNewsDto.getUrl(), String.class, null, null);
+        return new FetchedPage(partialNewsDto, html);
+    }
 
-        Map<String, Author> authorMap = this.authorRepository.findByNameIn(authorNames).stream()
-                .collect(Collectors.toMap(Author::getName, Function.identity()));
+    /**
+     * No modo streaming o parse acontece enquanto o corpo chega, no próprio worker de download, então não há estágio
+     * de parse separado nem HTML inteiro guardado na fila.
+     */
+    private ParsedNewsDTO fetchAndParseStreaming(PartialNewsDTO partialNewsDto) {
+        log.debug("Baixando e processando: {}", partialNewsDto.getTitle());
+        return this.httpClient.makeStreamingGetRequest(partialNewsDto.getUrl(),
+                (body, charset) -> this.parser.parseNewsDetails(body, charset, partialNewsDto));
+    }
 
-        List<Author> newAuthors = authorNames.stream()
-                .filter(name -> !authorMap.containsKey(name))
-                .map(Author::new)
-                .toList();
+    private ParsedNewsDTO parsePage(FetchedPage page) {
+        return this.parser.parseNewsDetails(page.html(), page.partialNews());
+    }
+
+    /**
+     * Grava as notícias parseadas em micro-lotes, à medida que chegam. Um lote é enviado quando atinge
+     * {@code batchSize} ou quando nenhuma notícia nova chega dentro de {@code flushIntervalMs}.
+     */
+    private void persistInBatches(BlockingQueue<Optional<ParsedNewsDTO>> in, List<NewsResponseDTO> savedNews) {
+        List<ParsedNewsDTO> batch = new ArrayList<>(this.batchSize);
+
+        try {
+            while (true) {
+                Optional<ParsedNewsDTO> item = in.poll(this.flushIntervalMs, TimeUnit.MILLISECONDS);
+
+                if (item == null) {
+                    flush(batch, savedNews);
+                    continue;
+                }
+
+                if (item.isEmpty()) {
+                    break;
+                }
 
-        if (!newAuthors.isEmpty()) {
-            log.info("Criando {} novos autores...", newAuthors.size());
-            newAuthors.forEach(author -> authorMap.put(author.getName(), author));
+                batch.add(item.get());
+                if (batch.size() >= this.batchSize) {
+                    flush(batch, savedNews);
+                }
+            }
+            flush(batch, savedNews);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flush(List<ParsedNewsDTO> batch, List<NewsResponseDTO> savedNews) {
+        if (batch.isEmpty()) {
+            return;
         }
 
-        return authorMap;
+        try {
+            savedNews.addAll(this.persistenceService.saveParsedNews(List.copyOf(batch)));
+            log.info("Lote de {} notícias persistido.", batch.size());
+        } catch (Exception e) {
+            log.error("Falha ao persistir lote de {} notícias", batch.size(), e);
+        } finally {
+            batch.clear();
+        }
     }
 
-    private List<NewsResponseDTO> buildAndSaveNewsEntities(List<ParsedNewsDTO> parsedNewsList, Map<String, Author> authorMap) {
-        List<News> entitiesToSave = parsedNewsList.stream()
-                .filter(this::hasPublishDateAndAuthor)
-                .map(parsedDto -> new News(parsedDto, authorMap.get(parsedDto.getAuthorName())
-                ))
-                .toList();
+    /**
+     * Modo reativo: download e parse rodam como um {@link Flux} sem bloquear threads, com {@code flatMap} limitando as
+     * requisições em andamento. O parse (CPU) roda no scheduler paralelo e a gravação (JPA, bloqueante) em micro-lotes
+     * no boundedElastic. Só o resultado final é aguardado, pois {@link #execute(int)} é síncrono.
+     * <p>
+     * Ignora {@code scraper.streaming.enabled}: o parse em streaming lê um {@link java.io.InputStream} que bloqueia à
+     * espera do corpo, o que aqui ocuparia uma thread do boundedElastic por requisição em andamento.
+     */
+    private List<NewsResponseDTO> runReactive(List<PartialNewsDTO> newsToProcess) {
+        log.info("{} notícias novas que serão processadas no modo reativo (concorrência: {}, lote: {})...",
+                newsToProcess.size(), this.reactiveConcurrency, this.batchSize);
 
-        return this.repository.saveAll(entitiesToSave).stream()
-                .map(NewsResponseDTO::new)
-                .toList();
+        return Flux.fromIterable(newsToProcess)
+                .flatMap(this::fetchAndParseReactive, this.reactiveConcurrency)
+                .buffer(this.batchSize)
+                .concatMap(batch -> Mono.fromCallable(() -> this.persistenceService.saveParsedNews(batch))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .doOnNext(saved -> log.info("Lote de {} notícias persistido.", batch.size()))
+                        .onErrorResume(e -> {
+                            log.error("Falha ao persistir lote de {} notícias", batch.size(), e);
+                            return Mono.empty();
+                        }))
+                .flatMapIterable(Function.identity())
+                .collectList()
+                .block();
+    }
+
+    private Mono<ParsedNewsDTO> fetchAndParseReactive(PartialNewsDTO partialNewsDto) {
+        return this.reactiveHttpClient.makeGetRequest(partialNewsDto.getUrl(), String.class, null, null)
+                .publishOn(Schedulers.parallel())
+                .map(html -> this.parser.parseNewsDetails(html, partialNewsDto))
+                .onErrorResume(e -> {
+                    log.error("Falha ao processar notícia: {}", partialNewsDto.getUrl(), e);
+                    return Mono.empty();
+                });
     }
 
-    private boolean hasPublishDateAndAuthor(ParsedNewsDTO parsedDto) {
-        return Objects.nonNull(parsedDto.getPublishDate()) && Objects.nonNull(parsedDto.getAuthorName());
+    private record FetchedPage(PartialNewsDTO partialNews, String html) {
     }
-}
\ No newline at end of file
+}
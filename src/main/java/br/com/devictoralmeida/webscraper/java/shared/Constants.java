@@ -5,13 +5,27 @@ public final class Constants {
     public static final String MENSAGEM_SALVO_SUCESSO = "Notícias salvas com sucesso!";
     public static final String MENSAGEM_AUTORES_ENCONTRADOS_SUCESSO = "Autores encontrados com sucesso!";
     public static final String MENSAGEM_NOTICIAS_ENCONTRADAS_SUCESSO = "Notícias encontradas com sucesso!";
+    public static final String MENSAGEM_HISTOGRAMA_SUCESSO = "Histograma gerado com sucesso!";
     public static final int UM = 1;
     public static final int DEZ_MB = 10 * 1024 * 1024;
     public static final String DATA_INICIO_INVALIDA = "Data de início inválida.";
     public static final String DATA_FIM_INVALIDA = "Data de fim inválida.";
     public static final String AUTOR_NAO_ENCONTRADO = "Autor não encontrado.";
     public static final String MERCADOS_PATH = "/mercados/";
+    public static final String CURSOR_INVALIDO = "Cursor de paginação inválido.";
+    public static final String TAMANHO_PAGINA_INVALIDO = "Tamanho de página inválido: informe um valor entre 1 e 100.";
+    public static final int TAMANHO_MAXIMO_PAGINA = 100;
     public static final String INTERVALO_DATA_INVALIDO = "Intervalo de datas inválido: a data de início não pode ser posterior à data de fim.";
+    public static final String TERMO_PESQUISA_INVALIDO = "Termo de pesquisa inválido: informe de 1 a 200 caracteres.";
+    public static final int TAMANHO_MAXIMO_TERMO_PESQUISA = 200;
+    public static final String PAGINA_INVALIDA = "Página inválida: informe um valor a partir de 0.";
+    public static final String DESLOCAMENTO_INVALIDO = "Offset inválido: informe um valor a partir de 0.";
+    public static final String FORMATO_EXPORTACAO_INVALIDO = "Formato de exportação inválido: use ndjson ou csv.";
+    public static final String INTERVALO_HISTOGRAMA_INVALIDO = "Intervalo do histograma inválido: use hour ou day.";
+    public static final String QUANTIDADE_AUTORES_HISTOGRAMA_INVALIDA = "Quantidade de autores inválida: informe um valor entre 0 e 20, sem authorId.";
+    public static final int QUANTIDADE_MAXIMA_AUTORES_HISTOGRAMA = 20;
+    public static final String PERIODO_HISTOGRAMA_POR_HORA_INVALIDO = "Período inválido para o histograma por hora: informe no máximo 366 dias.";
+    public static final int MAXIMO_DIAS_HISTOGRAMA_POR_HORA = 366;
 
     private Constants() {
     }
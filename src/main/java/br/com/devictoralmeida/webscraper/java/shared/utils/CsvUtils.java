@@ -0,0 +1,23 @@
+package br.com.devictoralmeida.webscraper.java.shared.utils;
+
+import java.io.IOException;
+import java.io.Writer;
+
+public final class CsvUtils {
+    private CsvUtils() {
+    }
+
+    /**
+     * Escreve um campo CSV: nulo vira campo vazio sem aspas (NULL para o COPY); qualquer texto vai entre aspas, com as
+     * aspas internas duplicadas.
+     */
+    public static void writeField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+
+        writer.write('"');
+        writer.write(value.indexOf('"') < 0 ? value : value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,137 @@
+package br.com.devictoralmeida.webscraper.java.shared.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Leitura dos blocos {@code application/ld+json} das páginas de notícia com o parser de streaming do Jackson, sem
+ * montar a árvore do JSON.
+ */
+public final class JsonLdUtils {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private JsonLdUtils() {
+    }
+
+    /**
+     * Procura o primeiro objeto cujo {@code @type} termina em {@code Article} (NewsArticle, ReportageNewsArticle...),
+     * inclusive dentro de arrays e de {@code @graph}. JSON inválido é tratado como ausência de metadados.
+     */
+    public static Optional<ArticleMetadata> findArticle(String json) {
+        if (json == null || json.isBlank()) {
+            return Optional.empty();
+        }
+
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            parser.nextToken();
+            return Optional.ofNullable(readArticle(parser));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Consome o valor atual por completo e devolve o primeiro artigo encontrado nele.
+     */
+    private static ArticleMetadata readArticle(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.START_ARRAY) {
+            ArticleMetadata found = null;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                ArticleMetadata candidate = readArticle(parser);
+                if (found == null) {
+                    found = candidate;
+                }
+            }
+            return found;
+        }
+
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+
+        boolean article = false;
+        String authorName = null;
+        String datePublished = null;
+        ArticleMetadata nested = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+
+            switch (field) {
+                case "@type" -> article = readArticleType(parser);
+                case "author" -> authorName = readAuthorName(parser);
+                case "datePublished" -> datePublished = readText(parser);
+                case "@graph" -> nested = readArticle(parser);
+                default -> parser.skipChildren();
+            }
+        }
+
+        return article ? new ArticleMetadata(authorName, datePublished) : nested;
+    }
+
+    private static boolean readArticleType(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.START_ARRAY) {
+            boolean article = false;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                article |= readArticleType(parser);
+            }
+            return article;
+        }
+
+        String type = readText(parser);
+        return type != null && type.endsWith("Article");
+    }
+
+    /**
+     * {@code author} pode ser texto, um objeto {@code Person} com {@code name} ou uma lista deles; vale o primeiro nome.
+     */
+    private static String readAuthorName(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+
+        if (token == JsonToken.START_ARRAY) {
+            String first = null;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                String name = readAuthorName(parser);
+                if (first == null) {
+                    first = name;
+                }
+            }
+            return first;
+        }
+
+        if (token == JsonToken.START_OBJECT) {
+            String name = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("name".equals(field)) {
+                    name = readText(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return name;
+        }
+
+        return readText(parser);
+    }
+
+    private static String readText(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            parser.skipChildren();
+            return null;
+        }
+
+        String text = parser.getText().trim();
+        return text.isEmpty() ? null : text;
+    }
+
+    public record ArticleMetadata(String authorName, String datePublished) {
+    }
+}
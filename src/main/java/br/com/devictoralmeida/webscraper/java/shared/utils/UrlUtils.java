@@ -0,0 +1,27 @@
+package br.com.devictoralmeida.webscraper.java.shared.utils;
+
+import java.net.URI;
+import java.util.Optional;
+
+public final class UrlUtils {
+    public static final String DEFAULT_HOST = "default";
+
+    private UrlUtils() {
+    }
+
+    /**
+     * Retorna o host da URL. URLs relativas (resolvidas contra a base do WebClient) ou inválidas caem em
+     * {@link #DEFAULT_HOST}.
+     */
+    public static String resolveHost(String url) {
+        if (url == null || url.isEmpty()) {
+            return DEFAULT_HOST;
+        }
+
+        try {
+            return Optional.ofNullable(URI.create(url).getHost()).orElse(DEFAULT_HOST);
+        } catch (IllegalArgumentException e) {
+            return DEFAULT_HOST;
+        }
+    }
+}
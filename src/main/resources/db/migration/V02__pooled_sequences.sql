@@ -0,0 +1,5 @@
+-- Sequências com incremento igual ao allocationSize das entidades: o Hibernate reserva um bloco de ids por nextval
+-- (otimizador pooled-lo) em vez de uma ida ao banco por linha, o que permite agrupar os INSERTs em batch.
+ALTER SEQUENCE public.tb_news_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE public.tb_author_id_seq INCREMENT BY 50;
@@ -0,0 +1,32 @@
+-- Nome do autor normalizado: espaços em sequência viram um só, sem espaços nas pontas e em minúsculas.
+CREATE OR REPLACE FUNCTION public.normalize_author_name(name TEXT) RETURNS TEXT
+    LANGUAGE sql
+    IMMUTABLE
+    PARALLEL SAFE
+AS
+$$
+SELECT lower(btrim(regexp_replace(name, '\s+', ' ', 'g')))
+$$;
+
+-- Autores duplicados por execuções concorrentes: as notícias passam para o autor de menor id e os demais são removidos.
+CREATE TEMPORARY TABLE author_duplicates ON COMMIT DROP AS
+SELECT id, keep_id
+FROM (SELECT id, min(id) OVER (PARTITION BY public.normalize_author_name(name)) AS keep_id
+      FROM public.tb_author) ranked
+WHERE id <> keep_id;
+
+UPDATE public.tb_news n
+SET author_id = d.keep_id
+FROM author_duplicates d
+WHERE n.author_id = d.id;
+
+DELETE
+FROM public.tb_author a
+    USING author_duplicates d
+WHERE a.id = d.id;
+
+ALTER TABLE public.tb_author
+    ADD COLUMN normalized_name TEXT GENERATED ALWAYS AS (public.normalize_author_name(name)) STORED;
+
+-- Alvo do ON CONFLICT no upsert de autores.
+CREATE UNIQUE INDEX uk_author_normalized_name ON public.tb_author (normalized_name);
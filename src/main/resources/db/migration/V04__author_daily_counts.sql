@@ -0,0 +1,13 @@
+-- Notícias por autor e dia de publicação, mantida pela ingestão na mesma transação dos INSERTs em tb_news.
+-- O relatório de autores mais ativos lê daqui: o custo depende do número de dias no período, não do de notícias.
+-- Os dados anteriores entram pelo rebuild (scraper.rollup.rebuild.on.startup).
+CREATE TABLE public.author_daily_counts
+(
+    day        DATE   NOT NULL,
+    author_id  BIGINT NOT NULL,
+    news_count BIGINT NOT NULL,
+    CONSTRAINT pk_author_daily_counts PRIMARY KEY (day, author_id),
+    CONSTRAINT fk_author_daily_counts_tbauthor FOREIGN KEY (author_id) REFERENCES public.tb_author (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_author_daily_counts_author ON public.author_daily_counts (author_id);
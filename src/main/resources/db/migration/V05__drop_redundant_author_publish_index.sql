@@ -0,0 +1,3 @@
+-- idx_news_author_publish_at_inc tem as mesmas colunas-chave e ainda cobre id, title e url. Com as duas, o planner
+-- tende a escolher a menor e buscar cada linha na tabela, em vez de responder a listagem por autor só pelo índice.
+DROP INDEX IF EXISTS public.idx_news_author_publish_at;
@@ -0,0 +1,10 @@
+-- Vetor de busca textual das notícias, calculado pelo próprio Postgres a cada INSERT/UPDATE, com pesos que fazem um
+-- termo no título valer mais que no subtítulo e no conteúdo. Nenhum caminho de gravação precisa conhecer a coluna.
+ALTER TABLE public.tb_news
+    ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('portuguese'::regconfig, coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('portuguese'::regconfig, coalesce(subtitle, '')), 'B') ||
+        setweight(to_tsvector('portuguese'::regconfig, coalesce(content, '')), 'C')
+    ) STORED;
+
+CREATE INDEX idx_news_search_vector ON public.tb_news USING GIN (search_vector);
@@ -0,0 +1,104 @@
+-- tb_news passa a ser particionada por mês de publish_at: os relatórios por período leem só as partições do intervalo
+-- e meses antigos saem com DETACH PARTITION, sem DELETE. As partições são criadas por public.create_news_partition,
+-- chamada pela aplicação antes de cada ingestão e na subida para os próximos meses.
+
+-- Os nomes dos índices valem para o schema todo; os da tabela antiga saem antes de a nova ser criada.
+ALTER TABLE public.tb_news RENAME TO tb_news_unpartitioned;
+ALTER INDEX public.tb_news_pkey RENAME TO tb_news_unpartitioned_pkey;
+DROP INDEX public.idx_news_url;
+DROP INDEX public.idx_news_publish_at_author;
+DROP INDEX public.idx_news_author_publish_at_inc;
+DROP INDEX public.idx_news_search_vector;
+
+-- A chave primária de uma tabela particionada precisa conter a coluna de partição; o id continua único pela sequência.
+CREATE TABLE public.tb_news
+(
+    id            BIGINT       NOT NULL DEFAULT nextval('public.tb_news_id_seq'),
+    url           TEXT         NOT NULL,
+    title         VARCHAR(150) NOT NULL,
+    subtitle      VARCHAR(255) NULL DEFAULT NULL,
+    author_id     BIGINT NULL DEFAULT NULL,
+    content       TEXT         NOT NULL,
+    publish_at    TIMESTAMP    NOT NULL,
+    created_at    TIMESTAMP    NOT NULL DEFAULT NOW(),
+    search_vector TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('portuguese'::regconfig, coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('portuguese'::regconfig, coalesce(subtitle, '')), 'B') ||
+        setweight(to_tsvector('portuguese'::regconfig, coalesce(content, '')), 'C')
+    ) STORED,
+    CONSTRAINT tb_news_pkey PRIMARY KEY (id, publish_at),
+    CONSTRAINT fk_tbnews_tbauthor FOREIGN KEY (author_id) REFERENCES public.tb_author (id) ON DELETE SET NULL
+) PARTITION BY RANGE (publish_at);
+
+CREATE INDEX idx_news_publish_at_author ON public.tb_news (publish_at, author_id);
+CREATE INDEX idx_news_author_publish_at_inc ON public.tb_news (author_id, publish_at) INCLUDE (id, title, url);
+CREATE INDEX idx_news_search_vector ON public.tb_news USING GIN (search_vector);
+
+-- Cria a partição do mês da data recebida, se ainda não existir (tb_news_pAAAAMM). O lock consultivo serializa as
+-- chamadas concorrentes: a segunda encontra a partição já criada pela primeira.
+CREATE OR REPLACE FUNCTION public.create_news_partition(month DATE) RETURNS VOID
+    LANGUAGE plpgsql
+AS
+$$
+DECLARE
+    first_day      DATE := date_trunc('month', month);
+    partition_name TEXT := 'tb_news_p' || to_char(month, 'YYYYMM');
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('public.create_news_partition'));
+
+    IF to_regclass(format('public.%I', partition_name)) IS NULL THEN
+        EXECUTE format('CREATE TABLE public.%I PARTITION OF public.tb_news FOR VALUES FROM (%L) TO (%L)',
+                       partition_name, first_day, (first_day + INTERVAL '1 month')::DATE);
+    END IF;
+END
+$$;
+
+SELECT public.create_news_partition(CAST(month AS DATE))
+FROM generate_series(
+             date_trunc('month', LEAST((SELECT min(publish_at) FROM public.tb_news_unpartitioned), LOCALTIMESTAMP)),
+             date_trunc('month', GREATEST((SELECT max(publish_at) FROM public.tb_news_unpartitioned), LOCALTIMESTAMP)),
+             INTERVAL '1 month') AS month;
+
+INSERT INTO public.tb_news (id, url, title, subtitle, author_id, content, publish_at, created_at)
+SELECT id, url, title, subtitle, author_id, content, publish_at, created_at
+FROM public.tb_news_unpartitioned;
+
+-- Um índice único sobre url só seria possível por partição. A unicidade global fica nesta tabela: cada INSERT em
+-- tb_news reserva a URL aqui antes, com ON CONFLICT (url) DO NOTHING nos caminhos nativos. A reserva sobrevive ao
+-- DETACH da partição, então notícias de meses arquivados não voltam a ser gravadas.
+CREATE TABLE public.tb_news_url
+(
+    url        TEXT      NOT NULL,
+    news_id    BIGINT    NOT NULL,
+    publish_at TIMESTAMP NOT NULL,
+    CONSTRAINT pk_news_url PRIMARY KEY (url)
+);
+
+INSERT INTO public.tb_news_url (url, news_id, publish_at)
+SELECT url, id, publish_at
+FROM public.tb_news;
+
+-- Apagar notícias libera as URLs. DETACH e DROP de partição não disparam o trigger.
+CREATE OR REPLACE FUNCTION public.release_news_urls() RETURNS TRIGGER
+    LANGUAGE plpgsql
+AS
+$$
+BEGIN
+    DELETE FROM public.tb_news_url u USING deleted_news d WHERE u.url = d.url AND u.news_id = d.id;
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER trg_news_release_urls
+    AFTER DELETE
+    ON public.tb_news
+    REFERENCING OLD TABLE AS deleted_news
+    FOR EACH STATEMENT
+EXECUTE FUNCTION public.release_news_urls();
+
+-- A sequência criada pelo BIGSERIAL da tabela antiga sai junto com ela; a usada pela aplicação passa para a nova.
+ALTER SEQUENCE public.tb_news_id_seq OWNED BY public.tb_news.id;
+DROP TABLE public.tb_news_unpartitioned;
+
+ANALYZE public.tb_news;
+ANALYZE public.tb_news_url;
@@ -0,0 +1,83 @@
+-- O conteúdo sai da linha de tb_news para tb_news_content, 1:1 pela mesma chave e com as mesmas partições mensais.
+-- Relatórios e listagens que só leem título, URL e autor deixam de carregar o texto e o vetor de busca, que são a
+-- maior parte do tamanho de cada notícia.
+
+-- O vetor de busca deixa de ser coluna gerada, que só enxerga colunas da própria tabela: quem grava calcula com esta
+-- função, com os mesmos pesos da V06.
+CREATE OR REPLACE FUNCTION public.news_search_vector(title VARCHAR, subtitle VARCHAR, content TEXT) RETURNS TSVECTOR
+    LANGUAGE sql
+    IMMUTABLE
+    PARALLEL SAFE
+AS
+$$
+SELECT setweight(to_tsvector('portuguese'::regconfig, coalesce(title, '')), 'A') ||
+       setweight(to_tsvector('portuguese'::regconfig, coalesce(subtitle, '')), 'B') ||
+       setweight(to_tsvector('portuguese'::regconfig, coalesce(content, '')), 'C')
+$$;
+
+CREATE TABLE public.tb_news_content
+(
+    news_id       BIGINT    NOT NULL,
+    publish_at    TIMESTAMP NOT NULL,
+    content       TEXT      NOT NULL,
+    search_vector TSVECTOR  NOT NULL,
+    CONSTRAINT pk_news_content PRIMARY KEY (news_id, publish_at),
+    CONSTRAINT fk_tbnewscontent_tbnews FOREIGN KEY (news_id, publish_at)
+        REFERENCES public.tb_news (id, publish_at) ON DELETE CASCADE
+) PARTITION BY RANGE (publish_at);
+
+-- LZ4 comprime e descomprime bem mais rápido que o pglz padrão. Só existe quando o servidor foi compilado com ele; sem
+-- isso, a tabela fica com o padrão. As partições herdam o método da tabela particionada.
+DO
+$$
+    BEGIN
+        IF EXISTS (SELECT 1 FROM pg_settings WHERE name = 'default_toast_compression' AND 'lz4' = ANY (enumvals)) THEN
+            ALTER TABLE public.tb_news_content ALTER COLUMN content SET COMPRESSION lz4;
+            ALTER TABLE public.tb_news_content ALTER COLUMN search_vector SET COMPRESSION lz4;
+        END IF;
+    END
+$$;
+
+CREATE INDEX idx_news_content_search_vector ON public.tb_news_content USING GIN (search_vector);
+
+-- Cada mês tem as duas partições. Para arquivar um mês, a de tb_news_content sai primeiro: a chave estrangeira impede o
+-- DETACH da partição de tb_news enquanto ela é referenciada.
+CREATE OR REPLACE FUNCTION public.create_news_partition(month DATE) RETURNS VOID
+    LANGUAGE plpgsql
+AS
+$$
+DECLARE
+    first_day              DATE := date_trunc('month', month);
+    last_day               DATE := (first_day + INTERVAL '1 month')::DATE;
+    partition_name         TEXT := 'tb_news_p' || to_char(month, 'YYYYMM');
+    content_partition_name TEXT := 'tb_news_content_p' || to_char(month, 'YYYYMM');
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('public.create_news_partition'));
+
+    IF to_regclass(format('public.%I', partition_name)) IS NULL THEN
+        EXECUTE format('CREATE TABLE public.%I PARTITION OF public.tb_news FOR VALUES FROM (%L) TO (%L)',
+                       partition_name, first_day, last_day);
+    END IF;
+
+    IF to_regclass(format('public.%I', content_partition_name)) IS NULL THEN
+        EXECUTE format('CREATE TABLE public.%I PARTITION OF public.tb_news_content FOR VALUES FROM (%L) TO (%L)',
+                       content_partition_name, first_day, last_day);
+    END IF;
+END
+$$;
+
+SELECT public.create_news_partition(to_date(substr(c.relname, length('tb_news_p') + 1), 'YYYYMM'))
+FROM pg_inherits i
+         JOIN pg_class c ON c.oid = i.inhrelid
+WHERE i.inhparent = 'public.tb_news'::REGCLASS;
+
+INSERT INTO public.tb_news_content (news_id, publish_at, content, search_vector)
+SELECT id, publish_at, content, search_vector
+FROM public.tb_news;
+
+-- O índice idx_news_search_vector sai junto com a coluna. O espaço do conteúdo antigo só volta quando cada partição é
+-- reescrita (VACUUM FULL ou pg_repack), o que fica para uma janela de manutenção.
+ALTER TABLE public.tb_news DROP COLUMN search_vector;
+ALTER TABLE public.tb_news DROP COLUMN content;
+
+ANALYZE public.tb_news_content;
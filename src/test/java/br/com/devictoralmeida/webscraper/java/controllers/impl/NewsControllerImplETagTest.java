@@ -0,0 +1,139 @@
+package br.com.devictoralmeida.webscraper.java.controllers.impl;
+
+import br.com.devictoralmeida.webscraper.java.dtos.ParsedNewsDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.PartialNewsDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.request.DateRangeRequestDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.AuthorNewsCountResponseDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.NewsResponseDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.ResponseDto;
+import br.com.devictoralmeida.webscraper.java.entities.Author;
+import br.com.devictoralmeida.webscraper.java.entities.News;
+import br.com.devictoralmeida.webscraper.java.repositories.AuthorRepository;
+import br.com.devictoralmeida.webscraper.java.repositories.NewsRepository;
+import br.com.devictoralmeida.webscraper.java.services.NewsPartitionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Roda sobre o PostgreSQL da aplicação. As notícias entram pelo mesmo INSERT da ingestão, mas fora do
+ * {@code NewsPersistenceService}: o commit acontece sem os ganchos que invalidam o cache dos relatórios, como na janela
+ * entre o commit de uma ingestão e o {@code afterCommit} dela. O período fica em 1990, longe das notícias de outros
+ * testes.
+ */
+@SpringBootTest
+@DisplayName("Testes dos ETags dos relatórios com o cache ainda sem a invalidação")
+class NewsControllerImplETagTest {
+    private static final LocalDate DAY = LocalDate.of(1990, 9, 10);
+
+    private final String runId = UUID.randomUUID().toString();
+    private final DateRangeRequestDTO dateRange = new DateRangeRequestDTO(DAY.atStartOfDay(), DAY.atTime(23, 59));
+
+    @Autowired
+    private NewsControllerImpl newsController;
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private NewsPartitionService partitionService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Author author;
+
+    @BeforeEach
+    void setUp() {
+        this.partitionService.ensurePartitions(List.of(DAY.atStartOfDay()));
+        this.author = this.authorRepository.upsertByNames(List.of(this.runId)).get(this.runId);
+        ingestWithoutHooks(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.jdbcTemplate.update("DELETE FROM tb_news WHERE url LIKE ?", "%/" + this.runId + "/%");
+        this.jdbcTemplate.update("DELETE FROM author_daily_counts WHERE day = ?", DAY);
+        this.jdbcTemplate.update("DELETE FROM tb_author WHERE name = ?", this.runId);
+    }
+
+    @Test
+    @DisplayName("Não deve responder 304 nem o relatório de autores guardado depois de uma ingestão ainda não invalidada")
+    void naoDeveResponderRelatorioDeAutoresGuardado() {
+        ResponseEntity<?> before = this.newsController.getTopAuthorsByDateRange(this.dateRange, 10, 0, null);
+        assertThat(topAuthorCount(before)).isEqualTo(1L);
+
+        ingestWithoutHooks(2);
+        ResponseEntity<?> after = this.newsController.getTopAuthorsByDateRange(this.dateRange, 10, 0,
+                before.getHeaders().getETag());
+
+        assertThat(after.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(after.getHeaders().getETag()).isNotEqualTo(before.getHeaders().getETag());
+        assertThat(topAuthorCount(after)).isEqualTo(2L);
+
+        ResponseEntity<?> repeated = this.newsController.getTopAuthorsByDateRange(this.dateRange, 10, 0,
+                after.getHeaders().getETag());
+        assertThat(repeated.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    @DisplayName("Não deve responder 304 nem as notícias do autor guardadas depois de uma ingestão ainda não invalidada")
+    void naoDeveResponderNoticiasDoAutorGuardadas() {
+        ResponseEntity<?> before = this.newsController.getNewsByAuthorAndDateRange(this.author.getId(), this.dateRange, null);
+        assertThat(authorNews(before)).hasSize(1);
+
+        ingestWithoutHooks(2);
+        ResponseEntity<?> after = this.newsController.getNewsByAuthorAndDateRange(this.author.getId(), this.dateRange,
+                before.getHeaders().getETag());
+
+        assertThat(after.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(after.getHeaders().getETag()).isNotEqualTo(before.getHeaders().getETag());
+        assertThat(authorNews(after)).extracting(NewsResponseDTO::getUrl).containsExactly(url(2), url(1));
+    }
+
+    private void ingestWithoutHooks(int i) {
+        ParsedNewsDTO parsed = new ParsedNewsDTO(new PartialNewsDTO(url(i), "Título " + i), "Subtítulo " + i,
+                "Conteúdo " + i, DAY.atTime(8 + i, 0), this.runId);
+        Author reference = new Author(this.runId);
+        reference.setId(this.author.getId());
+        this.transactionTemplate.executeWithoutResult(status ->
+                this.newsRepository.insertIgnoringDuplicates(List.of(new News(parsed, reference))));
+    }
+
+    private long topAuthorCount(ResponseEntity<?> response) {
+        @SuppressWarnings("unchecked")
+        List<AuthorNewsCountResponseDTO> authors = ((ResponseDto<List<AuthorNewsCountResponseDTO>>) response.getBody()).getData();
+        return authors.stream()
+                .filter(author -> author.getId().equals(this.author.getId()))
+                .mapToLong(AuthorNewsCountResponseDTO::getNewsCount)
+                .sum();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<NewsResponseDTO> authorNews(ResponseEntity<?> response) {
+        return ((ResponseDto<List<NewsResponseDTO>>) response.getBody()).getData();
+    }
+
+    private String url(int i) {
+        return "https://www.infomoney.com.br/mercados/" + this.runId + "/noticia-" + i + "/";
+    }
+}
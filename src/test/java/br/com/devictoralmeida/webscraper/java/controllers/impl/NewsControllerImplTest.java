@@ -1,8 +1,14 @@
 package br.com.devictoralmeida.webscraper.java.controllers.impl;
 
 import br.com.devictoralmeida.webscraper.java.dtos.request.DateRangeRequestDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.request.ExportFormat;
 import br.com.devictoralmeida.webscraper.java.dtos.response.AuthorNewsCountResponseDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.NewsPageResponseDTO;
 import br.com.devictoralmeida.webscraper.java.dtos.response.NewsResponseDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.NewsSearchPageResponseDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.PublicationHistogramResponseDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.ResponseDto;
+import br.com.devictoralmeida.webscraper.java.exception.ParametrosDeConsultaInvalidosException;
 import br.com.devictoralmeida.webscraper.java.exception.RecursoNaoEncontradoException;
 import br.com.devictoralmeida.webscraper.java.services.NewsService;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,8 +19,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -96,30 +105,59 @@ class NewsControllerImplTest {
         @Test
         @DisplayName("Deve buscar autores mais ativos com sucesso")
         void deveBuscarAutoresMaisAtivosComSucesso() {
-            when(NewsControllerImplTest.this.newsService.findTopAuthorsByDateRange(any(DateRangeRequestDTO.class)))
+            when(NewsControllerImplTest.this.newsService.findTopAuthorsByDateRange(any(DateRangeRequestDTO.class), anyInt(), anyInt(), any()))
                     .thenReturn(List.of(NewsControllerImplTest.this.authorNewsCount));
 
             ResponseEntity<?> response = NewsControllerImplTest.this.newsController
-                    .getTopAuthorsByDateRange(NewsControllerImplTest.this.dateRangeRequest);
+                    .getTopAuthorsByDateRange(NewsControllerImplTest.this.dateRangeRequest, 10, 0, null);
 
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
             assertThat(response.getBody()).isNotNull();
             verify(NewsControllerImplTest.this.newsService, times(1))
-                    .findTopAuthorsByDateRange(any(DateRangeRequestDTO.class));
+                    .findTopAuthorsByDateRange(any(DateRangeRequestDTO.class), anyInt(), anyInt(), any());
         }
 
         @Test
         @DisplayName("Deve retornar lista vazia quando não há autores no período")
         void deveRetornarListaVaziaQuandoNaoHaAutoresNoPeriodo() {
-            when(NewsControllerImplTest.this.newsService.findTopAuthorsByDateRange(any(DateRangeRequestDTO.class)))
+            when(NewsControllerImplTest.this.newsService.findTopAuthorsByDateRange(any(DateRangeRequestDTO.class), anyInt(), anyInt(), any()))
                     .thenReturn(List.of());
 
             ResponseEntity<?> response = NewsControllerImplTest.this.newsController
-                    .getTopAuthorsByDateRange(NewsControllerImplTest.this.dateRangeRequest);
+                    .getTopAuthorsByDateRange(NewsControllerImplTest.this.dateRangeRequest, 10, 0, null);
 
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
             verify(NewsControllerImplTest.this.newsService, times(1))
-                    .findTopAuthorsByDateRange(any(DateRangeRequestDTO.class));
+                    .findTopAuthorsByDateRange(any(DateRangeRequestDTO.class), anyInt(), anyInt(), any());
+        }
+
+        @Test
+        @DisplayName("Deve devolver o ETag do relatório junto com o corpo")
+        void deveDevolverETagJuntoComOCorpo() {
+            when(NewsControllerImplTest.this.newsService.getTopAuthorsETag(any(DateRangeRequestDTO.class), anyInt(), anyInt())).thenReturn("\"v2\"");
+            when(NewsControllerImplTest.this.newsService.findTopAuthorsByDateRange(any(DateRangeRequestDTO.class), anyInt(), anyInt(), any()))
+                    .thenReturn(List.of(NewsControllerImplTest.this.authorNewsCount));
+
+            ResponseEntity<?> response = NewsControllerImplTest.this.newsController
+                    .getTopAuthorsByDateRange(NewsControllerImplTest.this.dateRangeRequest, 10, 0, "\"v1\"");
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getHeaders().getETag()).isEqualTo("\"v2\"");
+            assertThat(response.getBody()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("Deve responder 304 sem rodar o relatório quando o ETag não mudou")
+        void deveResponder304SemRodarORelatorio() {
+            when(NewsControllerImplTest.this.newsService.getTopAuthorsETag(any(DateRangeRequestDTO.class), anyInt(), anyInt())).thenReturn("\"v2\"");
+
+            ResponseEntity<?> response = NewsControllerImplTest.this.newsController
+                    .getTopAuthorsByDateRange(NewsControllerImplTest.this.dateRangeRequest, 10, 0, "\"v1\", W/\"v2\"");
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(response.getHeaders().getETag()).isEqualTo("\"v2\"");
+            assertThat(response.getBody()).isNull();
+            verify(NewsControllerImplTest.this.newsService, never()).findTopAuthorsByDateRange(any(DateRangeRequestDTO.class), anyInt(), anyInt(), any());
         }
     }
 
@@ -130,44 +168,145 @@ class NewsControllerImplTest {
         @DisplayName("Deve buscar notícias de um autor específico com sucesso")
         void deveBuscarNoticiasDeAutorEspecificoComSucesso() {
             Long authorId = 1L;
-            when(NewsControllerImplTest.this.newsService.findNewsByAuthorAndDateRange(anyLong(), any(DateRangeRequestDTO.class)))
+            when(NewsControllerImplTest.this.newsService.findNewsByAuthorAndDateRange(anyLong(), any(DateRangeRequestDTO.class), any()))
                     .thenReturn(List.of(NewsControllerImplTest.this.newsResponse));
 
             ResponseEntity<?> response = NewsControllerImplTest.this.newsController
-                    .getNewsByAuthorAndDateRange(authorId, NewsControllerImplTest.this.dateRangeRequest);
+                    .getNewsByAuthorAndDateRange(authorId, NewsControllerImplTest.this.dateRangeRequest, null);
 
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
             assertThat(response.getBody()).isNotNull();
             verify(NewsControllerImplTest.this.newsService, times(1))
-                    .findNewsByAuthorAndDateRange(eq(authorId), any(DateRangeRequestDTO.class));
+                    .findNewsByAuthorAndDateRange(eq(authorId), any(DateRangeRequestDTO.class), any());
         }
 
         @Test
         @DisplayName("Deve retornar lista vazia quando autor não tem notícias no período")
         void deveRetornarListaVaziaQuandoAutorNaoTemNoticiasNoPeriodo() {
             Long authorId = 1L;
-            when(NewsControllerImplTest.this.newsService.findNewsByAuthorAndDateRange(anyLong(), any(DateRangeRequestDTO.class)))
+            when(NewsControllerImplTest.this.newsService.findNewsByAuthorAndDateRange(anyLong(), any(DateRangeRequestDTO.class), any()))
                     .thenReturn(List.of());
 
             ResponseEntity<?> response = NewsControllerImplTest.this.newsController
-                    .getNewsByAuthorAndDateRange(authorId, NewsControllerImplTest.this.dateRangeRequest);
+                    .getNewsByAuthorAndDateRange(authorId, NewsControllerImplTest.this.dateRangeRequest, null);
 
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
             verify(NewsControllerImplTest.this.newsService, times(1))
-                    .findNewsByAuthorAndDateRange(eq(authorId), any(DateRangeRequestDTO.class));
+                    .findNewsByAuthorAndDateRange(eq(authorId), any(DateRangeRequestDTO.class), any());
         }
 
         @Test
         @DisplayName("Deve lançar exceção quando autor não existe")
         void deveLancarExcecaoQuandoAutorNaoExiste() {
             Long authorId = 999L;
-            when(NewsControllerImplTest.this.newsService.findNewsByAuthorAndDateRange(anyLong(), any(DateRangeRequestDTO.class)))
+            when(NewsControllerImplTest.this.newsService.getNewsByAuthorETag(anyLong(), any(DateRangeRequestDTO.class)))
                     .thenThrow(new RecursoNaoEncontradoException("Autor não encontrado"));
 
             assertThatThrownBy(() -> NewsControllerImplTest.this.newsController
-                    .getNewsByAuthorAndDateRange(authorId, NewsControllerImplTest.this.dateRangeRequest))
+                    .getNewsByAuthorAndDateRange(authorId, NewsControllerImplTest.this.dateRangeRequest, null))
                     .isInstanceOf(RecursoNaoEncontradoException.class)
                     .hasMessageContaining("Autor não encontrado");
+            verify(NewsControllerImplTest.this.newsService, never())
+                    .findNewsByAuthorAndDateRange(anyLong(), any(DateRangeRequestDTO.class), any());
+        }
+
+        @Test
+        @DisplayName("Deve responder 304 sem rodar o relatório quando o ETag não mudou")
+        void deveResponder304SemRodarORelatorio() {
+            when(NewsControllerImplTest.this.newsService.getNewsByAuthorETag(eq(1L), any(DateRangeRequestDTO.class)))
+                    .thenReturn("\"v1\"");
+
+            ResponseEntity<?> response = NewsControllerImplTest.this.newsController
+                    .getNewsByAuthorAndDateRange(1L, NewsControllerImplTest.this.dateRangeRequest, "*");
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            verify(NewsControllerImplTest.this.newsService, never())
+                    .findNewsByAuthorAndDateRange(anyLong(), any(DateRangeRequestDTO.class), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para getNewsPageByAuthorAndDateRange")
+    class GetNewsPageByAuthorAndDateRangeTests {
+        @Test
+        @DisplayName("Deve repassar cursor, tamanho e includeContent ao serviço")
+        void deveRepassarParametrosDePaginacao() {
+            NewsPageResponseDTO page = new NewsPageResponseDTO(List.of(), null);
+            when(NewsControllerImplTest.this.newsService.findNewsPageByAuthorAndDateRange(
+                    1L, NewsControllerImplTest.this.dateRangeRequest, "cursor", 50, true))
+                    .thenReturn(page);
+
+            ResponseEntity<?> response = NewsControllerImplTest.this.newsController
+                    .getNewsPageByAuthorAndDateRange(1L, NewsControllerImplTest.this.dateRangeRequest, "cursor", 50, true);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isInstanceOf(ResponseDto.class);
+            assertThat(((ResponseDto<?>) response.getBody()).getData()).isSameAs(page);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para searchNews")
+    class SearchNewsTests {
+        @Test
+        @DisplayName("Deve repassar termos, página e tamanho ao serviço")
+        void deveRepassarTermosPaginaETamanho() {
+            NewsSearchPageResponseDTO page = new NewsSearchPageResponseDTO(List.of(), 1, 10, false);
+            when(NewsControllerImplTest.this.newsService.searchNews("petrobras", 1, 10)).thenReturn(page);
+
+            ResponseEntity<?> response = NewsControllerImplTest.this.newsController.searchNews("petrobras", 1, 10);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(((ResponseDto<?>) response.getBody()).getData()).isSameAs(page);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para getPublicationHistogram")
+    class GetPublicationHistogramTests {
+        @Test
+        @DisplayName("Deve repassar intervalo, autor e quantidade de autores ao serviço")
+        void deveRepassarParametrosAoServico() {
+            PublicationHistogramResponseDTO histogram = new PublicationHistogramResponseDTO("hour", List.of());
+            when(NewsControllerImplTest.this.newsService.getPublicationHistogram(NewsControllerImplTest.this.dateRangeRequest, "hour", null, 5))
+                    .thenReturn(histogram);
+
+            ResponseEntity<?> response = NewsControllerImplTest.this.newsController
+                    .getPublicationHistogram(NewsControllerImplTest.this.dateRangeRequest, "hour", null, 5);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(((ResponseDto<?>) response.getBody()).getData()).isSameAs(histogram);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para exportNewsByDateRange")
+    class ExportNewsByDateRangeTests {
+        @Test
+        @DisplayName("Deve devolver o corpo do serviço com o tipo e o nome de arquivo do formato")
+        void deveDevolverCorpoComTipoENomeDoFormato() {
+            StreamingResponseBody body = output -> {
+            };
+            when(NewsControllerImplTest.this.newsService.exportNewsByDateRange(NewsControllerImplTest.this.dateRangeRequest, ExportFormat.CSV))
+                    .thenReturn(body);
+
+            ResponseEntity<?> response = NewsControllerImplTest.this.newsController
+                    .exportNewsByDateRange(NewsControllerImplTest.this.dateRangeRequest, "CSV");
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.parseMediaType("text/csv;charset=UTF-8"));
+            assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION))
+                    .isEqualTo("attachment; filename=\"noticias.csv\"");
+            assertThat(response.getBody()).isSameAs(body);
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção para formato desconhecido sem chamar o serviço")
+        void deveLancarExcecaoParaFormatoDesconhecido() {
+            assertThatThrownBy(() -> NewsControllerImplTest.this.newsController
+                    .exportNewsByDateRange(NewsControllerImplTest.this.dateRangeRequest, "xml"))
+                    .isInstanceOf(ParametrosDeConsultaInvalidosException.class);
+            verifyNoInteractions(NewsControllerImplTest.this.newsService);
         }
     }
 }
@@ -0,0 +1,47 @@
+package br.com.devictoralmeida.webscraper.java.dtos;
+
+import br.com.devictoralmeida.webscraper.java.exception.ParametrosDeConsultaInvalidosException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Testes para NewsCursorDTO")
+class NewsCursorDTOTest {
+
+    @Test
+    @DisplayName("Deve codificar e decodificar a mesma posição")
+    void deveCodificarEDecodificarAMesmaPosicao() {
+        NewsCursorDTO cursor = new NewsCursorDTO(LocalDateTime.of(2024, 6, 16, 11, 0, 0, 123_000_000), 42L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(NewsCursorDTO.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("Deve apontar para a posição da última notícia da página")
+    void deveApontarParaAUltimaNoticia() {
+        NewsSummaryDTO news = new NewsSummaryDTO(7L, "/noticia", "Título", LocalDateTime.of(2024, 6, 16, 11, 0));
+
+        assertThat(NewsCursorDTO.after(news)).isEqualTo(new NewsCursorDTO(news.publishDate(), 7L));
+        assertThat(NewsCursorDTO.start(news.publishDate()).id()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção para cursores malformados")
+    void deveLancarExcecaoParaCursoresMalformados() {
+        String semSeparador = Base64.getUrlEncoder().encodeToString("2024-06-16T11:00".getBytes(StandardCharsets.UTF_8));
+        String idInvalido = Base64.getUrlEncoder().encodeToString("2024-06-16T11:00|abc".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> NewsCursorDTO.decode("@@@")).isInstanceOf(ParametrosDeConsultaInvalidosException.class);
+        assertThatThrownBy(() -> NewsCursorDTO.decode(semSeparador)).isInstanceOf(ParametrosDeConsultaInvalidosException.class);
+        assertThatThrownBy(() -> NewsCursorDTO.decode(idInvalido)).isInstanceOf(ParametrosDeConsultaInvalidosException.class);
+    }
+}
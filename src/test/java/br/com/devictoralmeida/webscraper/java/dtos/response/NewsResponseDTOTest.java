@@ -1,5 +1,6 @@
 package br.com.devictoralmeida.webscraper.java.dtos.response;
 
+import br.com.devictoralmeida.webscraper.java.dtos.NewsWithContentDTO;
 import br.com.devictoralmeida.webscraper.java.entities.Author;
 import br.com.devictoralmeida.webscraper.java.entities.News;
 import org.junit.jupiter.api.DisplayName;
@@ -176,4 +177,19 @@ class NewsResponseDTOTest {
         assertThat(dto.getSubtitle()).contains("€$£¥");
         assertThat(dto.getContent()).contains("<html>");
     }
+
+    @Test
+    @DisplayName("Deve usar o conteúdo lido junto com a notícia")
+    void deveUsarOConteudoLidoJuntoComANoticia() {
+        News news = new News();
+        news.setId(9L);
+        news.setTitle("Notícia do relatório");
+        news.setPublishDate(LocalDateTime.of(2024, 4, 1, 9, 0));
+
+        NewsResponseDTO dto = new NewsResponseDTO(new NewsWithContentDTO(news, "Conteúdo de tb_news_content"));
+
+        assertThat(dto.getId()).isEqualTo(9L);
+        assertThat(dto.getTitle()).isEqualTo("Notícia do relatório");
+        assertThat(dto.getContent()).isEqualTo("Conteúdo de tb_news_content");
+    }
 }
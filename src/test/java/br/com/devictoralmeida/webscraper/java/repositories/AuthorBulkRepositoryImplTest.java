@@ -0,0 +1,76 @@
+package br.com.devictoralmeida.webscraper.java.repositories;
+
+import br.com.devictoralmeida.webscraper.java.dtos.response.AuthorNewsCountResponseDTO;
+import br.com.devictoralmeida.webscraper.java.entities.Author;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Roda sobre o PostgreSQL da aplicação. O relatório de autores olha o banco todo, então o período usado fica em 1990,
+ * longe das notícias de outros testes.
+ */
+@SpringBootTest
+@DisplayName("Testes da paginação do relatório de autores mais ativos")
+class AuthorBulkRepositoryImplTest {
+    private static final LocalDate DAY = LocalDate.of(1990, 7, 10);
+
+    private final String runId = UUID.randomUUID().toString();
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        var authors = this.authorRepository.upsertByNames(
+                List.of(this.runId + " A", this.runId + " B", this.runId + " C", this.runId + " D"));
+        this.ids = authors.values().stream().map(Author::getId).sorted().toList();
+
+        dailyCount(this.ids.get(3), DAY, 2);
+        dailyCount(this.ids.get(3), DAY.plusDays(1), 1);
+        dailyCount(this.ids.get(2), DAY, 3);
+        dailyCount(this.ids.get(1), DAY.plusDays(1), 3);
+        dailyCount(this.ids.get(0), DAY, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.jdbcTemplate.update("DELETE FROM author_daily_counts WHERE day BETWEEN ? AND ?", DAY, DAY.plusDays(1));
+        this.jdbcTemplate.update("DELETE FROM tb_author WHERE name LIKE ?", this.runId + "%");
+    }
+
+    @Test
+    @DisplayName("Deve paginar no banco desempatando pelo menor id")
+    void devePaginarDesempatandoPeloMenorId() {
+        assertThat(page(10, 0)).containsExactly(this.ids.get(1), this.ids.get(2), this.ids.get(3), this.ids.get(0));
+        assertThat(page(2, 0)).containsExactly(this.ids.get(1), this.ids.get(2));
+        assertThat(page(2, 2)).containsExactly(this.ids.get(3), this.ids.get(0));
+        assertThat(page(2, 4)).isEmpty();
+    }
+
+    private List<Long> page(int limit, int offset) {
+        return this.authorRepository.findMostPublicationsFromDailyCounts(DAY, DAY.plusDays(1), limit, offset).stream()
+                .map(AuthorNewsCountResponseDTO::getId)
+                .toList();
+    }
+
+    private void dailyCount(Long authorId, LocalDate day, int count) {
+        this.jdbcTemplate.update("INSERT INTO author_daily_counts (day, author_id, news_count) VALUES (?, ?, ?)",
+                day, authorId, count);
+    }
+}
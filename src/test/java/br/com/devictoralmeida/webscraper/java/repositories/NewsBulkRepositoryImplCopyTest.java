@@ -0,0 +1,132 @@
+package br.com.devictoralmeida.webscraper.java.repositories;
+
+import br.com.devictoralmeida.webscraper.java.dtos.ParsedNewsDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.PartialNewsDTO;
+import br.com.devictoralmeida.webscraper.java.services.NewsPartitionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Roda sobre o PostgreSQL da aplicação. As contagens diárias olham o dia inteiro, então as notícias ficam em 1990,
+ * longe das notícias de outros testes.
+ */
+@SpringBootTest
+@DisplayName("Testes da carga de notícias via COPY")
+class NewsBulkRepositoryImplCopyTest {
+    private static final LocalDate DAY = LocalDate.of(1990, 11, 10);
+
+    private final String runId = UUID.randomUUID().toString();
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private NewsPartitionService partitionService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long authorId;
+
+    @BeforeEach
+    void setUp() {
+        this.partitionService.ensurePartitions(List.of(DAY.atStartOfDay()));
+        this.authorId = this.authorRepository.upsertByNames(List.of(this.runId + " Autora")).get(this.runId + " Autora").getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.jdbcTemplate.update("DELETE FROM tb_news WHERE url LIKE ?", "%/" + this.runId + "/%");
+        this.jdbcTemplate.update("DELETE FROM author_daily_counts WHERE day = ?", DAY);
+        this.jdbcTemplate.update("DELETE FROM tb_author WHERE name LIKE ?", this.runId + "%");
+    }
+
+    @Test
+    @DisplayName("Deve ignorar as URLs já gravadas e as repetidas no lote")
+    void deveIgnorarUrlsDuplicadas() {
+        assertThat(copy(List.of(parsed(1, "Primeiro", this.runId + " Autora")))).isEqualTo(1);
+
+        int inserted = copy(List.of(
+                parsed(1, "Repetido", this.runId + " Autora"),
+                parsed(2, "Título 2", this.runId + " Autora"),
+                parsed(2, "Título 2", this.runId + " Autora"),
+                parsed(3, "Título 3", this.runId + " Autora")));
+
+        assertThat(inserted).isEqualTo(2);
+        assertThat(this.jdbcTemplate.queryForList("SELECT title FROM tb_news WHERE url LIKE ? ORDER BY url",
+                String.class, "%/" + this.runId + "/%")).containsExactly("Primeiro", "Título 2", "Título 3");
+        assertThat(this.jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM tb_news_content c JOIN tb_news n ON n.id = c.news_id WHERE n.url LIKE ?
+                """, Integer.class, "%/" + this.runId + "/%")).isEqualTo(3);
+        assertThat(copy(List.of(parsed(3, "Título 3", this.runId + " Autora")))).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve casar os autores pelo nome normalizado e criar só os que faltam")
+    void deveCasarAutoresPeloNomeNormalizado() {
+        copy(List.of(
+                parsed(1, "Título 1", "  " + this.runId.toUpperCase() + "   AUTORA "),
+                parsed(2, "Título 2", this.runId + " Autor  Novo"),
+                parsed(3, "Título 3", this.runId + " autor novo")));
+
+        assertThat(authorOf(1)).isEqualTo(this.authorId);
+        assertThat(authorOf(2)).isNotEqualTo(this.authorId).isEqualTo(authorOf(3));
+        assertThat(this.jdbcTemplate.queryForObject("SELECT count(*) FROM tb_author WHERE normalized_name LIKE ?",
+                Integer.class, this.runId + "%")).isEqualTo(2);
+        assertThat(this.jdbcTemplate.queryForObject("SELECT name FROM tb_author WHERE id = ?", String.class, this.authorId))
+                .isEqualTo(this.runId + " Autora");
+    }
+
+    @Test
+    @DisplayName("Deve somar às contagens diárias só as notícias inseridas")
+    void deveSomarContagensDiariasDasInseridas() {
+        this.jdbcTemplate.update("INSERT INTO author_daily_counts (day, author_id, news_count) VALUES (?, ?, 5)",
+                DAY, this.authorId);
+
+        copy(List.of(parsed(1, "Título 1", this.runId + " Autora"), parsed(2, "Título 2", this.runId + " Autora")));
+        copy(List.of(parsed(2, "Título 2", this.runId + " Autora"), parsed(3, "Título 3", this.runId + " autora")));
+
+        assertThat(dailyCount(this.authorId)).isEqualTo(8);
+    }
+
+    private int copy(List<ParsedNewsDTO> news) {
+        Integer inserted = this.transactionTemplate.execute(status -> this.newsRepository.copyIgnoringDuplicates(news));
+        return inserted == null ? 0 : inserted;
+    }
+
+    private Long authorOf(int i) {
+        return this.jdbcTemplate.queryForObject("SELECT author_id FROM tb_news WHERE url = ?", Long.class, url(i));
+    }
+
+    private Integer dailyCount(Long author) {
+        return this.jdbcTemplate.queryForObject("SELECT news_count FROM author_daily_counts WHERE day = ? AND author_id = ?",
+                Integer.class, DAY, author);
+    }
+
+    private ParsedNewsDTO parsed(int i, String title, String authorName) {
+        return new ParsedNewsDTO(new PartialNewsDTO(url(i), title), "Subtítulo " + i, "Conteúdo " + i,
+                DAY.atTime(8 + i, 0), authorName);
+    }
+
+    private String url(int i) {
+        return "https://www.infomoney.com.br/mercados/" + this.runId + "/noticia-" + i + "/";
+    }
+}
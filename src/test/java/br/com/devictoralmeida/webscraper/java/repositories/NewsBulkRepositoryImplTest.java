@@ -0,0 +1,126 @@
+package br.com.devictoralmeida.webscraper.java.repositories;
+
+import br.com.devictoralmeida.webscraper.java.entities.Author;
+import br.com.devictoralmeida.webscraper.java.entities.News;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para NewsBulkRepositoryImpl")
+class NewsBulkRepositoryImplTest {
+    private static final int PARAMETERS_PER_ROW = 7;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private NewsBulkRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        this.repository = new NewsBulkRepositoryImpl(this.jdbcTemplate);
+        ReflectionTestUtils.setField(this.repository, "entityManager", this.entityManager);
+    }
+
+    @Nested
+    @DisplayName("Testes para insertIgnoringDuplicates")
+    class InsertIgnoringDuplicatesTests {
+
+        @Test
+        @DisplayName("Deve inserir em comandos de até 50 linhas e retornar só as linhas devolvidas pelo RETURNING")
+        void deveInserirEmLotesERetornarApenasInseridas() throws Exception {
+            List<News> news = IntStream.range(0, 120).mapToObj(NewsBulkRepositoryImplTest::news).toList();
+            List<Integer> rowsPerStatement = new ArrayList<>();
+
+            doAnswer(invocation -> {
+                String sql = invocation.getArgument(0);
+                PreparedStatementSetter setter = invocation.getArgument(1);
+                RowCallbackHandler handler = invocation.getArgument(2);
+
+                PreparedStatement statement = mock(PreparedStatement.class);
+                setter.setValues(statement);
+                int rows = mockingDetails(statement).getInvocations().size() / PARAMETERS_PER_ROW;
+                int first = rowsPerStatement.stream().mapToInt(Integer::intValue).sum();
+                rowsPerStatement.add(rows);
+                assertThat(sql).contains("ON CONFLICT (url) DO NOTHING").contains("RETURNING id, url");
+                assertThat(sql.split("\\(\\d+, CAST").length - 1).isEqualTo(rows);
+                verify(statement).setString(1, news.get(first).getUrl());
+
+                // Só a primeira URL de cada comando é nova
+                ResultSet resultSet = mock(ResultSet.class);
+                when(resultSet.getString("url")).thenReturn(news.get(first).getUrl());
+                when(resultSet.getLong("id")).thenReturn(1000L + rowsPerStatement.size());
+                handler.processRow(resultSet);
+                return null;
+            }).when(NewsBulkRepositoryImplTest.this.jdbcTemplate).query(anyString(), any(PreparedStatementSetter.class), any(RowCallbackHandler.class));
+
+            List<News> inserted = NewsBulkRepositoryImplTest.this.repository.insertIgnoringDuplicates(news);
+
+            assertThat(rowsPerStatement).containsExactly(50, 50, 20);
+            assertThat(inserted).containsExactly(news.get(0), news.get(50), news.get(100));
+            assertThat(inserted).extracting(News::getId).containsExactly(1001L, 1002L, 1003L);
+            verify(NewsBulkRepositoryImplTest.this.entityManager).flush();
+        }
+
+        @Test
+        @DisplayName("Deve gravar author_id nulo quando a notícia não tem autor")
+        void deveGravarAutorNulo() throws Exception {
+            News news = news(0);
+            news.setAuthor(null);
+
+            doAnswer(invocation -> {
+                PreparedStatement statement = mock(PreparedStatement.class);
+                invocation.<PreparedStatementSetter>getArgument(1).setValues(statement);
+                verify(statement).setNull(4, Types.BIGINT);
+                return null;
+            }).when(NewsBulkRepositoryImplTest.this.jdbcTemplate).query(anyString(), any(PreparedStatementSetter.class), any(RowCallbackHandler.class));
+
+            assertThat(NewsBulkRepositoryImplTest.this.repository.insertIgnoringDuplicates(List.of(news))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Não deve acessar o banco com lista vazia")
+        void naoDeveAcessarBancoComListaVazia() {
+            assertThat(NewsBulkRepositoryImplTest.this.repository.insertIgnoringDuplicates(List.of())).isEmpty();
+            verifyNoInteractions(NewsBulkRepositoryImplTest.this.jdbcTemplate, NewsBulkRepositoryImplTest.this.entityManager);
+        }
+    }
+
+    private static News news(int i) {
+        Author author = new Author("João Silva");
+        author.setId(1L);
+
+        News news = new News();
+        news.setUrl("https://www.infomoney.com.br/mercados/noticia-" + i + "/");
+        news.setTitle("Título " + i);
+        news.setSubtitle("Subtítulo");
+        news.setContent("Conteúdo");
+        news.setAuthor(author);
+        news.setPublishDate(LocalDateTime.of(2024, 1, 15, 10, 0));
+        return news;
+    }
+}
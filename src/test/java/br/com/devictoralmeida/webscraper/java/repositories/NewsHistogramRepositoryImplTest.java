@@ -0,0 +1,98 @@
+package br.com.devictoralmeida.webscraper.java.repositories;
+
+import br.com.devictoralmeida.webscraper.java.dtos.AuthorBucketCountDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.PublicationBucketDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.request.HistogramBucket;
+import br.com.devictoralmeida.webscraper.java.services.NewsPartitionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Roda sobre o PostgreSQL da aplicação. O histograma olha o banco todo, então os dias usados ficam em 1990, longe das
+ * notícias de outros testes.
+ */
+@SpringBootTest
+@DisplayName("Testes do histograma de publicações")
+class NewsHistogramRepositoryImplTest {
+    private static final LocalDate DAY = LocalDate.of(1990, 5, 20);
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NewsPartitionService partitionService;
+
+    private NewsTestData data;
+    private Long authorId;
+    private Long otherAuthorId;
+
+    @BeforeEach
+    void setUp() {
+        this.data = new NewsTestData(this.jdbcTemplate, this.authorRepository, this.partitionService);
+        List<Long> authors = this.data.authors("A", "B");
+        this.authorId = authors.get(0);
+        this.otherAuthorId = authors.get(1);
+
+        this.data.insert(1, this.authorId, DAY.atTime(9, 10));
+        this.data.insert(2, this.authorId, DAY.atTime(9, 50));
+        this.data.insert(3, this.otherAuthorId, DAY.atTime(11, 0));
+        this.data.insert(4, this.otherAuthorId, DAY.plusDays(2).atTime(8, 0));
+        this.jdbcTemplate.update("""
+                INSERT INTO author_daily_counts (day, author_id, news_count)
+                SELECT CAST(publish_at AS DATE), author_id, count(*) FROM tb_news WHERE url LIKE ? GROUP BY 1, 2
+                """, this.data.urlPattern());
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.data.clean();
+    }
+
+    @Test
+    @DisplayName("Deve contar por dia a partir das contagens diárias, com os dias vazios zerados")
+    void deveContarPorDiaComDiasVazios() {
+        List<PublicationBucketDTO> buckets = this.newsRepository.countByBucket(HistogramBucket.DAY, DAY, DAY.plusDays(2), null);
+
+        assertThat(buckets).extracting(PublicationBucketDTO::bucket, PublicationBucketDTO::newsCount).containsExactly(
+                tuple(DAY.atStartOfDay(), 3L),
+                tuple(DAY.plusDays(1).atStartOfDay(), 0L),
+                tuple(DAY.plusDays(2).atStartOfDay(), 1L));
+    }
+
+    @Test
+    @DisplayName("Deve contar por hora só as notícias do autor")
+    void deveContarPorHoraDoAutor() {
+        List<PublicationBucketDTO> buckets = this.newsRepository.countByBucket(HistogramBucket.HOUR, DAY, DAY, this.authorId);
+
+        assertThat(buckets).hasSize(24);
+        assertThat(buckets).filteredOn(bucket -> bucket.newsCount() > 0)
+                .extracting(PublicationBucketDTO::bucket, PublicationBucketDTO::newsCount)
+                .containsExactly(tuple(DAY.atTime(9, 0), 2L));
+    }
+
+    @Test
+    @DisplayName("Deve quebrar cada hora pelos autores mais ativos do período")
+    void deveQuebrarPelosAutoresMaisAtivos() {
+        List<AuthorBucketCountDTO> rows = this.newsRepository.countByBucketForTopAuthors(HistogramBucket.HOUR, DAY, DAY, 1);
+
+        assertThat(rows).extracting(AuthorBucketCountDTO::bucket, AuthorBucketCountDTO::authorId, AuthorBucketCountDTO::newsCount)
+                .containsExactly(tuple(DAY.atTime(9, 0), this.authorId, 2L));
+    }
+}
@@ -0,0 +1,97 @@
+package br.com.devictoralmeida.webscraper.java.repositories;
+
+import br.com.devictoralmeida.webscraper.java.services.NewsPartitionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Roda sobre o PostgreSQL da aplicação. O relatório de autores olha o banco todo, então os períodos usados ficam em 1990,
+ * longe das notícias de outros testes.
+ */
+@SpringBootTest
+@DisplayName("Testes das versões dos relatórios")
+class NewsReportVersionRepositoryImplTest {
+    private static final LocalDate DAY = LocalDate.of(1990, 3, 10);
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NewsPartitionService partitionService;
+
+    private NewsTestData data;
+    private Long authorId;
+    private Long otherAuthorId;
+
+    @BeforeEach
+    void setUp() {
+        this.data = new NewsTestData(this.jdbcTemplate, this.authorRepository, this.partitionService);
+        List<Long> authors = this.data.authors("A", "B");
+        this.authorId = authors.get(0);
+        this.otherAuthorId = authors.get(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.data.clean();
+    }
+
+    @Test
+    @DisplayName("Deve mudar a versão das notícias do autor só quando entra notícia dele no período")
+    void deveMudarVersaoDoAutorSoComNoticiaDoPeriodo() {
+        String empty = authorNewsVersion();
+
+        this.data.insert(1, this.otherAuthorId, DAY.atTime(9, 0));
+        this.data.insert(2, this.authorId, DAY.plusDays(1).atTime(9, 0));
+        assertThat(authorNewsVersion()).isEqualTo(empty).isEqualTo("0-0-0");
+
+        this.data.insert(3, this.authorId, DAY.atTime(23, 59, 59));
+        String afterInsert = authorNewsVersion();
+        assertThat(afterInsert).isNotEqualTo(empty).startsWith("1-");
+        assertThat(authorNewsVersion()).isEqualTo(afterInsert);
+
+        this.jdbcTemplate.update("DELETE FROM tb_news WHERE url = ?", this.data.url(3));
+        assertThat(authorNewsVersion()).isEqualTo(empty);
+    }
+
+    @Test
+    @DisplayName("Não deve devolver versão para autor inexistente")
+    void naoDeveDevolverVersaoParaAutorInexistente() {
+        assertThat(this.newsRepository.findAuthorNewsVersion(-1L, DAY.atStartOfDay(), DAY.atTime(LocalTime.MAX))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve mudar a versão das contagens quando a contagem passa de um autor para outro")
+    void deveMudarVersaoDasContagensEntreAutores() {
+        this.jdbcTemplate.update("INSERT INTO author_daily_counts (day, author_id, news_count) VALUES (?, ?, 2)", DAY, this.authorId);
+        String before = this.newsRepository.findTopAuthorsVersion(DAY, DAY);
+
+        this.jdbcTemplate.update("UPDATE author_daily_counts SET news_count = 1 WHERE day = ? AND author_id = ?", DAY, this.authorId);
+        this.jdbcTemplate.update("INSERT INTO author_daily_counts (day, author_id, news_count) VALUES (?, ?, 1)", DAY, this.otherAuthorId);
+
+        assertThat(this.newsRepository.findTopAuthorsVersion(DAY, DAY)).isNotEqualTo(before);
+        assertThat(this.newsRepository.findTopAuthorsVersion(DAY.plusDays(1), DAY.plusDays(2))).isEqualTo("0-0-0");
+    }
+
+    private String authorNewsVersion() {
+        return this.newsRepository.findAuthorNewsVersion(this.authorId, DAY.atStartOfDay(), DAY.atTime(LocalTime.MAX))
+                .orElseThrow();
+    }
+}
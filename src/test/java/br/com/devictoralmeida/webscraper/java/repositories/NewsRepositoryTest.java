@@ -0,0 +1,160 @@
+package br.com.devictoralmeida.webscraper.java.repositories;
+
+import br.com.devictoralmeida.webscraper.java.dtos.NewsWithContentDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.ParsedNewsDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.PartialNewsDTO;
+import br.com.devictoralmeida.webscraper.java.entities.Author;
+import br.com.devictoralmeida.webscraper.java.entities.News;
+import br.com.devictoralmeida.webscraper.java.services.NewsPartitionService;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Roda sobre o PostgreSQL da aplicação. A exportação lê o período inteiro, então as notícias ficam em 1990, longe das
+ * notícias de outros testes.
+ */
+@SpringBootTest
+@DisplayName("Testes da leitura em streaming das notícias do período")
+class NewsRepositoryTest {
+    private static final LocalDate DAY = LocalDate.of(1990, 12, 10);
+    /**
+     * O fim do período como o {@code NewsService} o monta: em microssegundos, a precisão do {@code TIMESTAMP}.
+     */
+    private static final LocalDateTime END_OF_DAY = DAY.atTime(23, 59, 59, 999_999_000);
+
+    private final String runId = UUID.randomUUID().toString();
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private NewsPartitionService partitionService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Author author;
+    private Author otherAuthor;
+
+    @BeforeEach
+    void setUp() {
+        this.partitionService.ensurePartitions(List.of(DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay()));
+        var authors = this.authorRepository.upsertByNames(List.of(this.runId + " A", this.runId + " B"));
+        this.author = authors.get(this.runId + " A");
+        this.otherAuthor = authors.get(this.runId + " B");
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.jdbcTemplate.update("DELETE FROM tb_news WHERE url LIKE ?", "%/" + this.runId + "/%");
+        this.jdbcTemplate.update("DELETE FROM author_daily_counts WHERE day BETWEEN ? AND ?", DAY, DAY.plusDays(1));
+        this.jdbcTemplate.update("DELETE FROM tb_author WHERE name LIKE ?", this.runId + "%");
+    }
+
+    @Test
+    @DisplayName("Deve ler só as notícias do período, por data e id, com o autor carregado e o conteúdo")
+    void deveLerNoticiasDoPeriodoEmOrdem() {
+        List<News> inserted = insert(List.of(
+                news(1, DAY.atTime(15, 0), this.author),
+                news(2, DAY.atTime(9, 0), this.otherAuthor),
+                news(3, DAY.atTime(9, 0), null),
+                news(4, DAY.plusDays(1).atTime(0, 0), this.author),
+                news(5, DAY.atStartOfDay(), this.otherAuthor)));
+
+        List<Row> rows = stream(DAY.atStartOfDay(), END_OF_DAY);
+
+        assertThat(rows).extracting(Row::url).containsExactly(url(5), url(2), url(3), url(1));
+        assertThat(rows).extracting(Row::authorName)
+                .containsExactly(this.runId + " B", this.runId + " B", null, this.runId + " A");
+        assertThat(rows).extracting(Row::content)
+                .containsExactly("Conteúdo 5", "Conteúdo 2", "Conteúdo 3", "Conteúdo 1");
+        assertThat(rows).allMatch(Row::authorLoaded);
+        assertThat(id(inserted, 2)).isLessThan(id(inserted, 3));
+    }
+
+    @Test
+    @DisplayName("Deve manter a ordem e o conteúdo de cada linha ao atravessar vários blocos do cursor")
+    void deveManterOrdemEntreBlocosDoCursor() {
+        List<News> inserted = insert(IntStream.range(0, 1_200)
+                .mapToObj(i -> news(i, DAY.atStartOfDay().plusMinutes(i % 700), i % 3 == 0 ? this.author : this.otherAuthor))
+                .toList());
+        List<News> expected = inserted.stream()
+                .sorted(Comparator.comparing(News::getPublishDate).thenComparing(News::getId))
+                .toList();
+
+        List<Row> rows = stream(DAY.atStartOfDay(), END_OF_DAY);
+
+        assertThat(rows).extracting(Row::url).containsExactlyElementsOf(expected.stream().map(News::getUrl).toList());
+        assertThat(rows).extracting(Row::content).containsExactlyElementsOf(expected.stream().map(News::getContent).toList());
+        assertThat(rows).extracting(Row::authorName)
+                .containsExactlyElementsOf(expected.stream().map(news -> news.getAuthor().getName()).toList());
+    }
+
+    private List<Row> stream(LocalDateTime start, LocalDateTime end) {
+        List<Row> rows = new ArrayList<>();
+        this.transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<NewsWithContentDTO> news = this.newsRepository.streamByDateRange(start, end)) {
+                news.filter(item -> item.news().getUrl().contains("/" + this.runId + "/"))
+                        .map(Row::new)
+                        .forEach(rows::add);
+            }
+        });
+        return rows;
+    }
+
+    private List<News> insert(List<News> news) {
+        return this.transactionTemplate.execute(status -> this.newsRepository.insertIgnoringDuplicates(news));
+    }
+
+    private News news(int i, LocalDateTime publishDate, Author author) {
+        ParsedNewsDTO parsed = new ParsedNewsDTO(new PartialNewsDTO(url(i), "Título " + i), "Subtítulo " + i,
+                "Conteúdo " + i, publishDate, author == null ? null : author.getName());
+        return new News(parsed, author);
+    }
+
+    private Long id(List<News> news, int i) {
+        return news.stream().filter(item -> item.getUrl().equals(url(i))).findFirst().orElseThrow().getId();
+    }
+
+    private String url(int i) {
+        return "https://www.infomoney.com.br/mercados/" + this.runId + "/noticia-" + i + "/";
+    }
+
+    /**
+     * O que a exportação usa de cada linha, copiado ainda dentro da transação. {@code authorLoaded} diz se o autor veio
+     * na mesma consulta, sem proxy a inicializar.
+     */
+    private record Row(boolean authorLoaded, String url, String authorName, String content) {
+        Row(NewsWithContentDTO dto) {
+            // Verificado antes do getName, que inicializaria o proxy.
+            this(dto.news().getAuthor() == null || Hibernate.isInitialized(dto.news().getAuthor()),
+                    dto.news().getUrl(),
+                    dto.news().getAuthor() == null ? null : dto.news().getAuthor().getName(),
+                    dto.content());
+        }
+    }
+}
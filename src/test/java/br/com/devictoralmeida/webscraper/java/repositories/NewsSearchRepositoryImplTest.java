@@ -0,0 +1,84 @@
+package br.com.devictoralmeida.webscraper.java.repositories;
+
+import br.com.devictoralmeida.webscraper.java.dtos.NewsSearchHitDTO;
+import br.com.devictoralmeida.webscraper.java.services.NewsPartitionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Roda sobre o PostgreSQL da aplicação: a coluna {@code search_vector} e o índice GIN vêm do Flyway. Cada execução usa
+ * palavras próprias, formadas só por letras, para não casar com outras notícias do banco.
+ */
+@SpringBootTest
+@DisplayName("Testes da busca textual de notícias")
+class NewsSearchRepositoryImplTest {
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NewsPartitionService partitionService;
+
+    private NewsTestData data;
+    private String term;
+    private String otherTerm;
+
+    @BeforeEach
+    void setUp() {
+        this.data = new NewsTestData(this.jdbcTemplate, this.authorRepository, this.partitionService);
+        this.term = "termo" + this.data.runId().replaceAll("[^a-f]", "");
+        this.otherTerm = "outro" + this.data.runId().replaceAll("[^a-f]", "");
+
+        this.data.insertWithContent(1, "Notícia sem o termo", "Conteúdo que cita " + this.term + " uma vez.", LocalDateTime.of(2024, 1, 10, 9, 0));
+        this.data.insertWithContent(2, "Ações sobem com " + this.term, "Conteúdo sobre " + this.term + " e " + this.otherTerm + ".", LocalDateTime.of(2024, 1, 11, 9, 0));
+        this.data.insertWithContent(3, "Notícia qualquer", "Nada a ver com a busca.", LocalDateTime.of(2024, 1, 12, 9, 0));
+        this.data.insertWithContent(4, "Outra notícia sem o termo", "Também cita " + this.term + ".", LocalDateTime.of(2024, 1, 13, 9, 0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.data.clean();
+    }
+
+    @Test
+    @DisplayName("Deve ordenar por relevância, com o título valendo mais, e desempatar pela mais recente")
+    void deveOrdenarPorRelevanciaEDesempatarPelaMaisRecente() {
+        var hits = this.newsRepository.search(this.term, 10, 0);
+
+        assertThat(hits).extracting(NewsSearchHitDTO::url).containsExactly(this.data.url(2), this.data.url(4), this.data.url(1));
+        assertThat(hits.get(0).rank()).isGreaterThan(hits.get(1).rank());
+        assertThat(hits.get(1).rank()).isEqualTo(hits.get(2).rank());
+        assertThat(hits.get(0).title()).isEqualTo("Ações sobem com " + this.term);
+        assertThat(hits.get(0).publishDate()).isEqualTo(LocalDateTime.of(2024, 1, 11, 9, 0));
+    }
+
+    @Test
+    @DisplayName("Deve paginar com limit e offset e aceitar a sintaxe de busca web")
+    void devePaginarEAceitarSintaxeDeBuscaWeb() {
+        assertThat(this.newsRepository.search(this.term, 2, 2)).extracting(NewsSearchHitDTO::url).containsExactly(this.data.url(1));
+        assertThat(this.newsRepository.search(this.term + " " + this.otherTerm, 10, 0))
+                .extracting(NewsSearchHitDTO::url).containsExactly(this.data.url(2));
+        assertThat(this.newsRepository.search(this.term + " -" + this.otherTerm, 10, 0))
+                .extracting(NewsSearchHitDTO::url).containsExactly(this.data.url(4), this.data.url(1));
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio para termos que são só stopwords")
+    void deveRetornarVazioParaStopwords() {
+        assertThat(this.newsRepository.search("de a o", 10, 0)).isEmpty();
+    }
+}
@@ -0,0 +1,89 @@
+package br.com.devictoralmeida.webscraper.java.repositories;
+
+import br.com.devictoralmeida.webscraper.java.services.NewsPartitionService;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Notícias e autores gravados direto no PostgreSQL da aplicação pelos testes de banco. Tudo leva o id da execução, na
+ * URL ou no nome do autor, então não se mistura com os dados de outros testes e sai inteiro em {@link #clean()}.
+ */
+public class NewsTestData {
+    private final JdbcTemplate jdbcTemplate;
+    private final AuthorRepository authorRepository;
+    private final NewsPartitionService partitionService;
+    private final String runId = UUID.randomUUID().toString();
+
+    public NewsTestData(JdbcTemplate jdbcTemplate, AuthorRepository authorRepository, NewsPartitionService partitionService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.authorRepository = authorRepository;
+        this.partitionService = partitionService;
+    }
+
+    public String runId() {
+        return this.runId;
+    }
+
+    /**
+     * Cria os autores {@code "<runId> <sufixo>"} e devolve os ids na ordem dos sufixos.
+     */
+    public List<Long> authors(String... suffixes) {
+        List<String> names = Arrays.stream(suffixes).map(this::authorName).toList();
+        var authors = this.authorRepository.upsertByNames(names);
+        return names.stream().map(name -> authors.get(name).getId()).toList();
+    }
+
+    public String authorName(String suffix) {
+        return this.runId + " " + suffix;
+    }
+
+    /**
+     * Grava só a linha de {@code tb_news}, sem conteúdo, como basta para os relatórios.
+     */
+    public void insert(int i, Long authorId, LocalDateTime publishDate) {
+        this.partitionService.ensurePartitions(List.of(publishDate));
+        this.jdbcTemplate.update("""
+                INSERT INTO tb_news (id, url, title, author_id, publish_at, created_at)
+                VALUES (nextval('tb_news_id_seq'), ?, ?, ?, ?, LOCALTIMESTAMP)
+                """, url(i), "Título " + i, authorId, publishDate);
+    }
+
+    /**
+     * Grava a notícia com o conteúdo e o vetor da busca textual, como a ingestão.
+     */
+    public void insertWithContent(int i, String title, String content, LocalDateTime publishDate) {
+        this.partitionService.ensurePartitions(List.of(publishDate));
+        this.jdbcTemplate.update("""
+                WITH news AS (
+                    INSERT INTO tb_news (id, url, title, publish_at, created_at)
+                    VALUES (nextval('tb_news_id_seq'), ?, ?, ?, LOCALTIMESTAMP)
+                    RETURNING id, publish_at
+                )
+                INSERT INTO tb_news_content (news_id, publish_at, content, search_vector)
+                SELECT id, publish_at, ?, news_search_vector(?, NULL, ?) FROM news
+                """, url(i), title, publishDate, content, title, content);
+    }
+
+    public String url(int i) {
+        return "https://www.infomoney.com.br/mercados/" + this.runId + "/noticia-" + i + "/";
+    }
+
+    public String urlPattern() {
+        return "%/" + this.runId + "/%";
+    }
+
+    /**
+     * Apaga as notícias e os autores da execução, com as contagens diárias desses autores.
+     */
+    public void clean() {
+        this.jdbcTemplate.update("DELETE FROM tb_news WHERE url LIKE ?", urlPattern());
+        this.jdbcTemplate.update("""
+                DELETE FROM author_daily_counts WHERE author_id IN (SELECT id FROM tb_author WHERE name LIKE ?)
+                """, this.runId + "%");
+        this.jdbcTemplate.update("DELETE FROM tb_author WHERE name LIKE ?", this.runId + "%");
+    }
+}
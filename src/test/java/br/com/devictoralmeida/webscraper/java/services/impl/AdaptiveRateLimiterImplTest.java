@@ -0,0 +1,121 @@
+package br.com.devictoralmeida.webscraper.java.services.impl;
+
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Testes para o serviço AdaptiveRateLimiter")
+class AdaptiveRateLimiterImplTest {
+    private static final String URL = "https://www.infomoney.com.br/mercados/noticia";
+    private static final int INITIAL_LIMIT = 1000;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveRateLimiterImpl rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimiter base = RateLimiter.of("base", RateLimiterConfig.custom()
+                .limitForPeriod(INITIAL_LIMIT)
+                .limitRefreshPeriod(Duration.ofSeconds(1))
+                .timeoutDuration(Duration.ofSeconds(1))
+                .build());
+
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.rateLimiter = new AdaptiveRateLimiterImpl(base, this.meterRegistry);
+        ReflectionTestUtils.setField(this.rateLimiter, "minLimit", 1);
+        ReflectionTestUtils.setField(this.rateLimiter, "maxLimit", 2000);
+        ReflectionTestUtils.setField(this.rateLimiter, "targetLatencyMs", 50L);
+    }
+
+    private double currentRate() {
+        return this.meterRegistry.get("scraper.http.host.rate").tag("host", "www.infomoney.com.br").gauge().value();
+    }
+
+    @Nested
+    @DisplayName("Testes para execute")
+    class ExecuteTests {
+
+        @Test
+        @DisplayName("Não deve executar a requisição antes da inscrição")
+        void naoDeveExecutarAntesDaInscricao() {
+            AtomicBoolean subscribed = new AtomicBoolean();
+
+            Mono<String> result = AdaptiveRateLimiterImplTest.this.rateLimiter.execute(URL,
+                    Mono.fromSupplier(() -> {
+                        subscribed.set(true);
+                        return "ok";
+                    }));
+
+            assertThat(subscribed).isFalse();
+            assertThat(result.block()).isEqualTo("ok");
+            assertThat(subscribed).isTrue();
+        }
+
+        @Test
+        @DisplayName("Deve iniciar com a taxa da configuração base")
+        void deveIniciarComATaxaDaConfiguracaoBase() {
+            assertThat(AdaptiveRateLimiterImplTest.this.rateLimiter.execute(URL, Mono.just("ok")).block()).isEqualTo("ok");
+
+            assertThat(currentRate()).isEqualTo(INITIAL_LIMIT);
+        }
+
+        @Test
+        @DisplayName("Deve aumentar a taxa lentamente após uma janela de respostas rápidas")
+        void deveAumentarATaxaLentamente() {
+            for (int i = 0; i < INITIAL_LIMIT - 1; i++) {
+                AdaptiveRateLimiterImplTest.this.rateLimiter.execute(URL, Mono.just("ok")).block();
+            }
+            assertThat(currentRate()).isEqualTo(INITIAL_LIMIT);
+
+            AdaptiveRateLimiterImplTest.this.rateLimiter.execute(URL, Mono.just("ok")).block();
+            assertThat(currentRate()).isEqualTo(INITIAL_LIMIT + 1);
+        }
+
+        @Test
+        @DisplayName("Deve cortar a taxa pela metade ao receber 429")
+        void deveCortarATaxaAoReceber429() {
+            assertThatThrownBy(() -> AdaptiveRateLimiterImplTest.this.rateLimiter.execute(URL, Mono.error(WebClientResponseException.create(HttpStatus.TOO_MANY_REQUESTS.value(), "Too Many Requests", null, null, null))).block()).isInstanceOf(WebClientResponseException.class);
+
+            assertThat(currentRate()).isEqualTo(INITIAL_LIMIT / 2);
+            assertThat(AdaptiveRateLimiterImplTest.this.meterRegistry.get("scraper.http.host.throttled").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve cortar a taxa pela metade ao receber 503")
+        void deveCortarATaxaAoReceber503() {
+            assertThatThrownBy(() -> AdaptiveRateLimiterImplTest.this.rateLimiter.execute(URL, Mono.error(WebClientResponseException.create(HttpStatus.SERVICE_UNAVAILABLE.value(), "Service Unavailable", null, null, null))).block()).isInstanceOf(WebClientResponseException.class);
+
+            assertThat(currentRate()).isEqualTo(INITIAL_LIMIT / 2);
+        }
+
+        @Test
+        @DisplayName("Não deve alterar a taxa em outros erros HTTP")
+        void naoDeveAlterarATaxaEmOutrosErros() {
+            assertThatThrownBy(() -> AdaptiveRateLimiterImplTest.this.rateLimiter.execute(URL, Mono.error(WebClientResponseException.create(HttpStatus.NOT_FOUND.value(), "Not Found", null, null, null))).block()).isInstanceOf(WebClientResponseException.class);
+
+            assertThat(currentRate()).isEqualTo(INITIAL_LIMIT);
+        }
+
+        @Test
+        @DisplayName("Deve reduzir a taxa quando a latência passa do alvo")
+        void deveReduzirATaxaQuandoLatenciaPassaDoAlvo() {
+            AdaptiveRateLimiterImplTest.this.rateLimiter.execute(URL, Mono.just("lento").delayElement(Duration.ofMillis(80))).block();
+
+            assertThat(currentRate()).isEqualTo(INITIAL_LIMIT - 1);
+        }
+    }
+}
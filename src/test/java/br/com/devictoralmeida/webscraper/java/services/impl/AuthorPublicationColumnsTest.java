@@ -0,0 +1,147 @@
+package br.com.devictoralmeida.webscraper.java.services.impl;
+
+import br.com.devictoralmeida.webscraper.java.dtos.response.AuthorNewsCountResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Testes para as colunas do índice de publicações AuthorPublicationColumns")
+class AuthorPublicationColumnsTest {
+    private static final Map<Long, String> AUTHORS = Map.of(1L, "João Silva", 2L, "Maria Souza", 3L, "Ana Lima");
+    private static final int MINUTE = AuthorPublicationColumns.epochMinute(LocalDateTime.of(2024, 1, 15, 10, 0));
+
+    private AuthorPublicationColumns columns(long... authorIdsByMinute) {
+        AuthorPublicationColumns.Builder builder = AuthorPublicationColumns.builder(AUTHORS);
+        for (int i = 0; i < authorIdsByMinute.length; i++) {
+            builder.add(MINUTE + i, authorIdsByMinute[i]);
+        }
+        return builder.build();
+    }
+
+    @Nested
+    @DisplayName("Testes para countByAuthor")
+    class CountByAuthorTests {
+
+        @Test
+        @DisplayName("Deve contar só o intervalo pedido, com o fim exclusivo")
+        void deveContarSoOIntervaloPedido() {
+            AuthorPublicationColumns columns = columns(1L, 2L, 1L, 3L, 1L);
+
+            assertThat(columns.countByAuthor(MINUTE + 1, MINUTE + 4))
+                    .usingRecursiveFieldByFieldElementComparator()
+                    .containsExactly(
+                            new AuthorNewsCountResponseDTO(1L, "João Silva", 1L),
+                            new AuthorNewsCountResponseDTO(2L, "Maria Souza", 1L),
+                            new AuthorNewsCountResponseDTO(3L, "Ana Lima", 1L));
+            assertThat(columns.countByAuthor(MINUTE + 5, MINUTE + 60)).isEmpty();
+            assertThat(columns.countByAuthor(MINUTE, MINUTE + 5)).first()
+                    .usingRecursiveComparison().isEqualTo(new AuthorNewsCountResponseDTO(1L, "João Silva", 3L));
+        }
+
+        @Test
+        @DisplayName("Deve ordenar da maior contagem para a menor, com empate pelo menor id")
+        void deveOrdenarPelaContagemEPeloId() {
+            AuthorPublicationColumns columns = columns(3L, 2L, 3L, 2L, 1L);
+
+            assertThat(columns.countByAuthor(MINUTE, MINUTE + 5))
+                    .extracting(AuthorNewsCountResponseDTO::getId)
+                    .containsExactly(2L, 3L, 1L);
+        }
+
+        @Test
+        @DisplayName("Deve paginar a ordem completa sem repetir nem pular autores empatados")
+        void devePaginarAOrdemCompleta() {
+            AuthorPublicationColumns columns = columns(3L, 2L, 3L, 2L, 1L);
+
+            assertThat(columns.countByAuthor(MINUTE, MINUTE + 5, 1, 0))
+                    .extracting(AuthorNewsCountResponseDTO::getId).containsExactly(2L);
+            assertThat(columns.countByAuthor(MINUTE, MINUTE + 5, 2, 1))
+                    .extracting(AuthorNewsCountResponseDTO::getId).containsExactly(3L, 1L);
+            assertThat(columns.countByAuthor(MINUTE, MINUTE + 5, 10, 3)).isEmpty();
+            assertThat(columns.countByAuthor(MINUTE, MINUTE + 5, Integer.MAX_VALUE, 2))
+                    .extracting(AuthorNewsCountResponseDTO::getId).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("Deve ordenar as notícias recebidas fora de ordem na carga")
+        void deveOrdenarNoticiasForaDeOrdem() {
+            AuthorPublicationColumns.Builder builder = AuthorPublicationColumns.builder(AUTHORS);
+            builder.add(MINUTE + 10, 1L);
+            builder.add(MINUTE, 2L);
+            builder.add(MINUTE + 5, 3L);
+            AuthorPublicationColumns columns = builder.build();
+
+            assertThat(columns.countByAuthor(MINUTE, MINUTE + 6))
+                    .extracting(AuthorNewsCountResponseDTO::getId)
+                    .containsExactly(2L, 3L);
+        }
+
+        @Test
+        @DisplayName("Deve recusar na carga um autor fora da lista")
+        void deveRecusarAutorForaDaLista() {
+            AuthorPublicationColumns.Builder builder = AuthorPublicationColumns.builder(AUTHORS);
+
+            assertThatThrownBy(() -> builder.add(MINUTE, 99L)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para withAppended")
+    class WithAppendedTests {
+
+        @Test
+        @DisplayName("Deve incluir as notícias e autores novos sem alterar a instância anterior")
+        void deveIncluirSemAlterarAInstanciaAnterior() {
+            AuthorPublicationColumns columns = columns(1L, 2L);
+
+            AuthorPublicationColumns appended = columns.withAppended(new int[]{MINUTE + 1, MINUTE},
+                    new long[]{4L, 1L}, new String[]{"Pedro Alves", "João Silva"});
+
+            assertThat(columns.size()).isEqualTo(2);
+            assertThat(appended.size()).isEqualTo(4);
+            assertThat(appended.countByAuthor(MINUTE, MINUTE + 1))
+                    .usingRecursiveFieldByFieldElementComparator()
+                    .containsExactly(
+                            new AuthorNewsCountResponseDTO(1L, "João Silva", 2L));
+            assertThat(appended.countByAuthor(MINUTE + 1, MINUTE + 2))
+                    .usingRecursiveFieldByFieldElementComparator()
+                    .containsExactly(
+                            new AuthorNewsCountResponseDTO(2L, "Maria Souza", 1L),
+                            new AuthorNewsCountResponseDTO(4L, "Pedro Alves", 1L));
+        }
+
+        @Test
+        @DisplayName("Deve manter as contagens ao fundir o segmento de inclusões ao principal")
+        void deveManterContagensAoFundirSegmentos() {
+            AuthorPublicationColumns columns = columns(1L, 2L, 3L);
+            int rows = 70_000;
+            int[] minutes = new int[rows];
+            long[] authorIds = new long[rows];
+            String[] names = new String[rows];
+            for (int i = 0; i < rows; i++) {
+                minutes[i] = MINUTE - i;
+                authorIds[i] = 2L;
+                names[i] = "Maria Souza";
+            }
+
+            AuthorPublicationColumns appended = columns
+                    .withAppended(Arrays.copyOf(minutes, 10), Arrays.copyOf(authorIds, 10), Arrays.copyOf(names, 10))
+                    .withAppended(minutes, authorIds, names);
+
+            assertThat(appended.size()).isEqualTo(3 + 10 + rows);
+            assertThat(appended.countByAuthor(MINUTE - rows, MINUTE + 3))
+                    .usingRecursiveFieldByFieldElementComparator()
+                    .containsExactly(
+                            new AuthorNewsCountResponseDTO(2L, "Maria Souza", (long) rows + 10 + 1),
+                            new AuthorNewsCountResponseDTO(1L, "João Silva", 1L),
+                            new AuthorNewsCountResponseDTO(3L, "Ana Lima", 1L));
+        }
+    }
+}
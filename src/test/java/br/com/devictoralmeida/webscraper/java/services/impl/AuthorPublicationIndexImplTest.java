@@ -0,0 +1,232 @@
+package br.com.devictoralmeida.webscraper.java.services.impl;
+
+import br.com.devictoralmeida.webscraper.java.dtos.response.AuthorNewsCountResponseDTO;
+import br.com.devictoralmeida.webscraper.java.entities.Author;
+import br.com.devictoralmeida.webscraper.java.entities.News;
+import br.com.devictoralmeida.webscraper.java.repositories.AuthorBulkRepository.PublicationHandler;
+import br.com.devictoralmeida.webscraper.java.repositories.AuthorRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para o índice de publicações AuthorPublicationIndex")
+class AuthorPublicationIndexImplTest {
+    private static final LocalDate DAY = LocalDate.of(2024, 1, 15);
+
+    @Mock
+    private AuthorRepository authorRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private AuthorPublicationIndexImpl publicationIndex;
+
+    /**
+     * O que está "no banco": cada carga lê esta lista.
+     */
+    private final List<News> stored = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(this.publicationIndex, "enabled", true);
+        lenient().when(this.authorRepository.findAuthorNames()).thenReturn(Map.of(1L, "João Silva", 2L, "Maria Souza"));
+        lenient().doAnswer(invocation -> {
+            PublicationHandler handler = invocation.getArgument(0);
+            this.stored.forEach(news -> handler.accept(AuthorPublicationColumns.epochMinute(news.getPublishDate()),
+                    news.getAuthor().getId()));
+            return null;
+        }).when(this.authorRepository).scanPublications(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private News news(long authorId, LocalDateTime publishDate) {
+        Author author = new Author(authorId == 1L ? "João Silva" : "Maria Souza");
+        author.setId(authorId);
+        News news = new News();
+        news.setAuthor(author);
+        news.setPublishDate(publishDate);
+        return news;
+    }
+
+    private List<Long> topAuthorCounts(LocalDate start, LocalDate end) {
+        return this.publicationIndex.findTopAuthors(start, end, Integer.MAX_VALUE, 0).orElseThrow().stream()
+                .map(AuthorNewsCountResponseDTO::getNewsCount)
+                .toList();
+    }
+
+    /**
+     * {@code hasWaiters} só pode ser consultado com a trava, que a carga solta enquanto espera na condição.
+     */
+    private boolean loadIsWaitingForCommits() {
+        ReentrantLock commitLock = (ReentrantLock) ReflectionTestUtils.getField(this.publicationIndex, "commitLock");
+        Condition commitsFinished = (Condition) ReflectionTestUtils.getField(this.publicationIndex, "commitsFinished");
+        commitLock.lock();
+        try {
+            return commitLock.hasWaiters(commitsFinished);
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para load e findTopAuthors")
+    class LoadTests {
+
+        @Test
+        @DisplayName("Deve carregar do banco e contar os dias inteiros do período")
+        void deveCarregarEContarDiasInteiros() {
+            AuthorPublicationIndexImplTest.this.stored.addAll(List.of(
+                    news(1L, DAY.atStartOfDay()),
+                    news(1L, DAY.plusDays(1).atTime(23, 59, 59)),
+                    news(2L, DAY.plusDays(1).atTime(12, 0)),
+                    news(2L, DAY.plusDays(2).atStartOfDay())));
+
+            AuthorPublicationIndexImplTest.this.publicationIndex.load();
+
+            assertThat(AuthorPublicationIndexImplTest.this.publicationIndex.findTopAuthors(DAY, DAY.plusDays(1), Integer.MAX_VALUE, 0).orElseThrow())
+                    .extracting(AuthorNewsCountResponseDTO::getName, AuthorNewsCountResponseDTO::getNewsCount)
+                    .containsExactly(tuple("João Silva", 2L), tuple("Maria Souza", 1L));
+            verify(AuthorPublicationIndexImplTest.this.authorRepository).lockDailyCountsAgainstIngestion();
+            verify(AuthorPublicationIndexImplTest.this.transactionManager).getTransaction(argThat(definition ->
+                    definition.getIsolationLevel() == TransactionDefinition.ISOLATION_REPEATABLE_READ));
+        }
+
+        @Test
+        @DisplayName("Não deve responder antes da carga nem com o índice desligado")
+        void naoDeveResponderAntesDaCargaNemDesligado() {
+            assertThat(AuthorPublicationIndexImplTest.this.publicationIndex.findTopAuthors(DAY, DAY, Integer.MAX_VALUE, 0)).isEmpty();
+
+            ReflectionTestUtils.setField(AuthorPublicationIndexImplTest.this.publicationIndex, "enabled", false);
+            AuthorPublicationIndexImplTest.this.publicationIndex.load();
+            AuthorPublicationIndexImplTest.this.publicationIndex.appendOnCommit(List.of(news(1L, DAY.atTime(10, 0))));
+
+            assertThat(AuthorPublicationIndexImplTest.this.publicationIndex.findTopAuthors(DAY, DAY, Integer.MAX_VALUE, 0)).isEmpty();
+            verifyNoInteractions(AuthorPublicationIndexImplTest.this.authorRepository,
+                    AuthorPublicationIndexImplTest.this.transactionManager);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para appendOnCommit")
+    class AppendOnCommitTests {
+
+        @BeforeEach
+        void setUp() {
+            AuthorPublicationIndexImplTest.this.publicationIndex.load();
+            TransactionSynchronizationManager.initSynchronization();
+        }
+
+        @Test
+        @DisplayName("Deve incluir as notícias só depois do commit")
+        void deveIncluirSoDepoisDoCommit() {
+            AuthorPublicationIndexImplTest.this.publicationIndex.appendOnCommit(List.of(news(2L, DAY.atTime(10, 0))));
+            assertThat(AuthorPublicationIndexImplTest.this.publicationIndex.findTopAuthors(DAY, DAY, Integer.MAX_VALUE, 0).orElseThrow()).isEmpty();
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(sync -> sync.beforeCommit(false));
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+            assertThat(topAuthorCounts(DAY, DAY)).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("Não deve responder entre o commit no banco e a inclusão no índice")
+        void naoDeveResponderEntreCommitEInclusao() {
+            AuthorPublicationIndexImplTest.this.publicationIndex.appendOnCommit(List.of(news(2L, DAY.atTime(10, 0))));
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+            synchronizations.forEach(sync -> sync.beforeCommit(false));
+            assertThat(AuthorPublicationIndexImplTest.this.publicationIndex.findTopAuthors(DAY, DAY, Integer.MAX_VALUE, 0)).isEmpty();
+
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            assertThat(topAuthorCounts(DAY, DAY)).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("Deve tratar o índice como desatualizado desde antes do commit que pede a recarga")
+        void deveTratarComoDesatualizadoAntesDoCommitDaRecarga() {
+            AuthorPublicationIndexImplTest.this.publicationIndex.reloadOnCommit();
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            assertThat(AuthorPublicationIndexImplTest.this.publicationIndex.findTopAuthors(DAY, DAY, Integer.MAX_VALUE, 0)).isPresent();
+
+            synchronizations.forEach(sync -> sync.beforeCommit(false));
+            assertThat(AuthorPublicationIndexImplTest.this.publicationIndex.findTopAuthors(DAY, DAY, Integer.MAX_VALUE, 0)).isEmpty();
+            verify(AuthorPublicationIndexImplTest.this.authorRepository, times(1)).lockDailyCountsAgainstIngestion();
+
+            synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            verify(AuthorPublicationIndexImplTest.this.authorRepository, timeout(5000).times(2)).lockDailyCountsAgainstIngestion();
+        }
+
+        @Test
+        @DisplayName("Não deve incluir as notícias de uma transação desfeita")
+        void naoDeveIncluirNoticiasDeTransacaoDesfeita() {
+            AuthorPublicationIndexImplTest.this.publicationIndex.appendOnCommit(List.of(news(2L, DAY.atTime(10, 0))));
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            assertThat(AuthorPublicationIndexImplTest.this.publicationIndex.findTopAuthors(DAY, DAY, Integer.MAX_VALUE, 0).orElseThrow()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Deve esperar os commits em andamento antes de ler o banco, sem contar a notícia duas vezes")
+        void deveEsperarCommitsEmAndamentoNaCarga() throws Exception {
+            News committing = news(1L, DAY.atTime(10, 0));
+            AuthorPublicationIndexImplTest.this.publicationIndex.appendOnCommit(List.of(committing));
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(sync -> sync.beforeCommit(false));
+            // O commit no banco já aconteceu: a carga vai ler esta notícia.
+            AuthorPublicationIndexImplTest.this.stored.add(committing);
+
+            CompletableFuture<Void> load = CompletableFuture.runAsync(AuthorPublicationIndexImplTest.this.publicationIndex::load);
+            // A carga para no awaitCommitsInFlight, antes de ler o banco.
+            await().atMost(5, TimeUnit.SECONDS).until(AuthorPublicationIndexImplTest.this::loadIsWaitingForCommits);
+            assertThat(load).isNotDone();
+            verify(AuthorPublicationIndexImplTest.this.authorRepository, times(1)).scanPublications(any());
+
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            load.get(5, TimeUnit.SECONDS);
+
+            assertThat(topAuthorCounts(DAY, DAY)).containsExactly(1L);
+        }
+    }
+}
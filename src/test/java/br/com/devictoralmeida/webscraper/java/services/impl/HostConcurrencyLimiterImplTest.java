@@ -0,0 +1,106 @@
+package br.com.devictoralmeida.webscraper.java.services.impl;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Testes para o serviço HostConcurrencyLimiter")
+class HostConcurrencyLimiterImplTest {
+    private static final int MAX_CONCURRENCY = 3;
+
+    private SimpleMeterRegistry meterRegistry;
+    private HostConcurrencyLimiterImpl limiter;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.limiter = new HostConcurrencyLimiterImpl(this.meterRegistry);
+        ReflectionTestUtils.setField(this.limiter, "maxConcurrency", MAX_CONCURRENCY);
+    }
+
+    @Nested
+    @DisplayName("Testes para execute")
+    class ExecuteTests {
+
+        @Test
+        @DisplayName("Não deve ultrapassar o limite de requisições simultâneas por host")
+        void naoDeveUltrapassarOLimitePorHost() throws Exception {
+            AtomicInteger inFlight = new AtomicInteger();
+            AtomicInteger maxObserved = new AtomicInteger();
+            CountDownLatch saturated = new CountDownLatch(MAX_CONCURRENCY);
+            CountDownLatch release = new CountDownLatch(1);
+
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<String>> futures = IntStream.range(0, 20)
+                        .mapToObj(i -> executor.submit(() -> HostConcurrencyLimiterImplTest.this.limiter.execute(
+                                "https://www.infomoney.com.br/noticia-" + i, () -> {
+                                    maxObserved.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                                    saturated.countDown();
+                                    await(release);
+                                    inFlight.decrementAndGet();
+                                    return "ok";
+                                })))
+                        .toList();
+
+                // As primeiras requisições ficam presas até o limite estar cheio, então o máximo é atingido de fato.
+                assertThat(saturated.await(5, TimeUnit.SECONDS)).isTrue();
+                release.countDown();
+                for (Future<String> future : futures) {
+                    assertThat(future.get()).isEqualTo("ok");
+                }
+            }
+
+            assertThat(maxObserved.get()).isEqualTo(MAX_CONCURRENCY);
+            Timer waitTimer = HostConcurrencyLimiterImplTest.this.meterRegistry.get("scraper.http.host.permit.wait")
+                    .tag("host", "www.infomoney.com.br")
+                    .timer();
+            assertThat(waitTimer.count()).isEqualTo(20);
+            assertThat(waitTimer.max(TimeUnit.NANOSECONDS)).isPositive();
+        }
+
+        @Test
+        @DisplayName("Deve manter limites independentes para hosts diferentes")
+        void deveManterLimitesIndependentesPorHost() {
+            HostConcurrencyLimiterImplTest.this.limiter.execute("https://a.com/1", () -> "a");
+            HostConcurrencyLimiterImplTest.this.limiter.execute("https://b.com/1", () -> "b");
+
+            assertThat(HostConcurrencyLimiterImplTest.this.meterRegistry.find("scraper.http.host.permit.wait").timers())
+                    .hasSize(2);
+        }
+
+        @Test
+        @DisplayName("Deve liberar a permissão quando a requisição falha")
+        void deveLiberarPermissaoQuandoRequisicaoFalha() {
+            for (int i = 0; i < MAX_CONCURRENCY + 1; i++) {
+                assertThatThrownBy(() -> HostConcurrencyLimiterImplTest.this.limiter.execute("https://a.com/1", () -> {
+                    throw new IllegalStateException("falha");
+                })).isInstanceOf(IllegalStateException.class);
+            }
+
+            assertThat(HostConcurrencyLimiterImplTest.this.limiter.execute("https://a.com/1", () -> "ok")).isEqualTo("ok");
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
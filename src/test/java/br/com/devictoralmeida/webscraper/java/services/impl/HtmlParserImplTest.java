@@ -2,19 +2,38 @@ package br.com.devictoralmeida.webscraper.java.services.impl;
 
 import br.com.devictoralmeida.webscraper.java.dtos.ParsedNewsDTO;
 import br.com.devictoralmeida.webscraper.java.dtos.PartialNewsDTO;
+import br.com.devictoralmeida.webscraper.java.exception.NegocioException;
+import br.com.devictoralmeida.webscraper.java.shared.utils.DateUtils;
 import org.jsoup.nodes.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
+import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
 
 @ExtendWith({MockitoExtension.class})
 @DisplayName("Testes para o serviço HtmlParser")
@@ -241,6 +260,289 @@ class HtmlParserImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("Testes para parseNewsDetails em streaming")
+    class ParseNewsDetailsStreamingTests {
+        private static final String HTML = """
+                <html>
+                    <head>%s</head>
+                    <body>
+                        <div data-ds-component="article-title">
+                            <div>Subtítulo com acentuação</div>
+                        </div>
+                        <div data-ds-component="author-bio">
+                            <a>João Conceição</a>
+                        </div>
+                        <article data-ds-component="article">
+                            <p>Conteúdo da notícia</p>
+                        </article>
+                        <time datetime="2024-01-15T10:30:00Z"></time>
+                    </body>
+                </html>
+                """;
+
+        @Test
+        @DisplayName("Deve usar o charset informado pelo Content-Type")
+        void deveUsarCharsetInformado() {
+            byte[] bytes = HTML.formatted("").getBytes(StandardCharsets.ISO_8859_1);
+
+            ParsedNewsDTO result = HtmlParserImplTest.this.htmlParser.parseNewsDetails(
+                    new ByteArrayInputStream(bytes), "ISO-8859-1", HtmlParserImplTest.this.partialNews);
+
+            assertThat(result.getSubtitle()).isEqualTo("Subtítulo com acentuação");
+            assertThat(result.getAuthorName()).isEqualTo("João Conceição");
+            assertThat(result.getContent()).contains("Conteúdo da notícia");
+            assertThat(result.getPublishDate()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("Deve detectar o charset pela meta tag quando o Content-Type não informa")
+        void deveDetectarCharsetPelaMetaTag() {
+            byte[] bytes = HTML.formatted("<meta charset=\"ISO-8859-1\">").getBytes(StandardCharsets.ISO_8859_1);
+
+            ParsedNewsDTO result = HtmlParserImplTest.this.htmlParser.parseNewsDetails(
+                    new ByteArrayInputStream(bytes), null, HtmlParserImplTest.this.partialNews);
+
+            assertThat(result.getAuthorName()).isEqualTo("João Conceição");
+        }
+
+        @Test
+        @DisplayName("Deve assumir UTF-8 quando não há charset declarado")
+        void deveAssumirUtf8SemCharsetDeclarado() {
+            byte[] bytes = HTML.formatted("").getBytes(StandardCharsets.UTF_8);
+
+            ParsedNewsDTO result = HtmlParserImplTest.this.htmlParser.parseNewsDetails(
+                    new ByteArrayInputStream(bytes), null, HtmlParserImplTest.this.partialNews);
+
+            assertThat(result.getSubtitle()).isEqualTo("Subtítulo com acentuação");
+        }
+
+        @Test
+        @DisplayName("Deve lançar NegocioException quando a leitura do corpo falha")
+        void deveLancarExcecaoQuandoLeituraFalha() {
+            InputStream failing = new InputStream() {
+                @Override
+                public int read() throws IOException {
+                    throw new IOException("conexão encerrada");
+                }
+            };
+
+            assertThatThrownBy(() -> HtmlParserImplTest.this.htmlParser.parseNewsDetails(
+                    failing, null, HtmlParserImplTest.this.partialNews))
+                    .isInstanceOf(NegocioException.class)
+                    .hasMessageContaining(HtmlParserImplTest.this.partialNews.getUrl());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para o atalho via JSON-LD")
+    class JsonLdTests {
+        private static final String BODY = """
+                <body>
+                  <div data-ds-component="article-title"><div>Subtítulo</div></div>
+                  <div data-ds-component="author-bio"><a>Autor do Seletor</a></div>
+                  <time datetime="2024-01-15T10:30:00Z"></time>
+                  <article data-ds-component="article"><p>Conteúdo</p></article>
+                </body></html>
+                """;
+
+        private static String page(String jsonLd) {
+            return "<html><head><script type=\"application/ld+json\">" + jsonLd + "</script></head>" + BODY;
+        }
+
+        @ParameterizedTest
+        @ValueSource(booleans = {false, true})
+        @DisplayName("Deve preferir autor e data do JSON-LD aos seletores")
+        void devePreferirJsonLd(boolean earlyTermination) {
+            ReflectionTestUtils.setField(HtmlParserImplTest.this.htmlParser, "earlyTerminationEnabled", earlyTermination);
+            String html = page("""
+                    {"@type": "NewsArticle", "author": {"@type": "Person", "name": "Autor do JSON-LD"},
+                     "datePublished": "2024-02-20T08:00:00-03:00"}
+                    """);
+
+            ParsedNewsDTO result = HtmlParserImplTest.this.htmlParser.parseNewsDetails(html, HtmlParserImplTest.this.partialNews);
+
+            assertThat(result.getAuthorName()).isEqualTo("Autor do JSON-LD");
+            assertThat(result.getPublishDate()).isEqualTo(LocalDateTime.of(2024, 2, 20, 8, 0));
+            assertThat(result.getSubtitle()).isEqualTo("Subtítulo");
+            assertThat(result.getContent()).isEqualTo("Conteúdo");
+        }
+
+        @ParameterizedTest
+        @ValueSource(booleans = {false, true})
+        @DisplayName("Deve usar os seletores para os campos que faltam no JSON-LD")
+        void deveUsarSeletoresParaCamposAusentes(boolean earlyTermination) {
+            ReflectionTestUtils.setField(HtmlParserImplTest.this.htmlParser, "earlyTerminationEnabled", earlyTermination);
+            String html = page("""
+                    {"@type": "NewsArticle", "author": "Autor do JSON-LD", "datePublished": "2024-02-20"}
+                    """);
+
+            ParsedNewsDTO result = HtmlParserImplTest.this.htmlParser.parseNewsDetails(html, HtmlParserImplTest.this.partialNews);
+
+            assertThat(result.getAuthorName()).isEqualTo("Autor do JSON-LD");
+            assertThat(result.getPublishDate()).isEqualTo(LocalDateTime.of(2024, 1, 15, 10, 30));
+        }
+
+        @ParameterizedTest
+        @ValueSource(booleans = {false, true})
+        @DisplayName("Deve ignorar JSON-LD inválido ou sem artigo")
+        void deveIgnorarJsonLdInvalido(boolean earlyTermination) {
+            ReflectionTestUtils.setField(HtmlParserImplTest.this.htmlParser, "earlyTerminationEnabled", earlyTermination);
+            String html = page("{\"@type\": \"NewsArticle\", ");
+
+            ParsedNewsDTO result = HtmlParserImplTest.this.htmlParser.parseNewsDetails(html, HtmlParserImplTest.this.partialNews);
+
+            assertThat(result.getAuthorName()).isEqualTo("Autor do Seletor");
+            assertThat(result.getPublishDate()).isEqualTo(LocalDateTime.of(2024, 1, 15, 10, 30));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para a extração incremental com StreamParser")
+    class EarlyTerminationTests {
+        private static final String TRAILER = "<section class=\"related\"><div><a href=\"/outra\">Outra notícia</a></div></section>";
+        private static final Path CORPUS = Path.of("src", "jmh", "resources", "corpus");
+
+        @BeforeEach
+        void enableEarlyTermination() {
+            ReflectionTestUtils.setField(HtmlParserImplTest.this.htmlParser, "earlyTerminationEnabled", true);
+        }
+
+        static Stream<String> provideArticles() {
+            return Stream.of(
+                    """
+                            <html><body>
+                              <div data-ds-component="article-title"><h1>Título</h1><div>Subtítulo</div><div>Outro</div></div>
+                              <div data-ds-component="author-bio"><a href="/autor">João Silva</a></div>
+                              <time datetime="2024-01-15T10:30:00Z"></time>
+                              <article data-ds-component="article"><p>Parte 1</p><div data-ds-component="ad">Anúncio</div><p>Parte 2</p></article>
+                            </body></html>
+                            """,
+                    """
+                            <html><body>
+                              <div class="wrapper"><div><div data-ds-component="author-bio"><span><a>Maria Santos</a></span></div></div></div>
+                              <article data-ds-component="article"><p>Conteúdo</p><iframe src="x"></iframe></article>
+                              <time datetime="2024-01-15T10:30:00-03:00"></time>
+                            </body></html>
+                            """,
+                    """
+                            <html><body>
+                              <div data-ds-component="article-title"><div>Só subtítulo</div></div>
+                              <time datetime=""></time>
+                              <time datetime="2024-01-15T10:30:00Z"></time>
+                            </body></html>
+                            """,
+                    """
+                            <html><head>
+                              <script type="application/ld+json">{"@type": "Organization", "name": "InfoMoney"}</script>
+                              <script type="application/ld+json">{"@type": "NewsArticle", "author": {"name": "Ana Lima"}}</script>
+                            </head><body>
+                              <div data-ds-component="author-bio"><a>João Silva</a></div>
+                              <article data-ds-component="article"><p>Conteúdo</p></article>
+                              <time datetime="2024-01-15T10:30:00Z"></time>
+                            </body></html>
+                            """,
+                    "<html><body><p>Página sem nada</p></body></html>"
+            );
+        }
+
+        @ParameterizedTest
+        @MethodSource("provideArticles")
+        @DisplayName("Deve extrair os mesmos campos que o DOM completo")
+        void deveExtrairOsMesmosCamposQueODom(String html) {
+            ParsedNewsDTO streamed = HtmlParserImplTest.this.htmlParser.parseNewsDetails(html + TRAILER, HtmlParserImplTest.this.partialNews);
+            ReflectionTestUtils.setField(HtmlParserImplTest.this.htmlParser, "earlyTerminationEnabled", false);
+            ParsedNewsDTO dom = HtmlParserImplTest.this.htmlParser.parseNewsDetails(html + TRAILER, HtmlParserImplTest.this.partialNews);
+
+            assertThat(streamed).usingRecursiveComparison().isEqualTo(dom);
+        }
+
+        /**
+         * As páginas reais salvas para os benchmarks JMH, lidas do diretório do projeto porque {@code src/jmh} só entra
+         * no classpath com o profile {@code benchmark}.
+         */
+        @ParameterizedTest
+        @ValueSource(strings = {"article-1", "article-2", "article-3"})
+        @DisplayName("Deve extrair os mesmos campos que o DOM completo nas páginas do corpus")
+        void deveExtrairOsMesmosCamposNasPaginasDoCorpus(String page) throws IOException {
+            byte[] bytes = Files.readAllBytes(CORPUS.resolve(page + ".html"));
+            PartialNewsDTO partial = new PartialNewsDTO("https://www.infomoney.com.br/mercados/" + page + "/", "Título");
+
+            ParsedNewsDTO streamed = HtmlParserImplTest.this.htmlParser.parseNewsDetails(new ByteArrayInputStream(bytes), "UTF-8", partial);
+            ReflectionTestUtils.setField(HtmlParserImplTest.this.htmlParser, "earlyTerminationEnabled", false);
+            ParsedNewsDTO dom = HtmlParserImplTest.this.htmlParser.parseNewsDetails(new ByteArrayInputStream(bytes), "UTF-8", partial);
+
+            assertThat(dom.getContent()).isNotBlank();
+            assertThat(streamed).usingRecursiveComparison().isEqualTo(dom);
+        }
+
+        @Test
+        @DisplayName("Deve parar de ler o corpo quando todos os campos foram encontrados")
+        void devePararDeLerQuandoTodosOsCamposForamEncontrados() {
+            String html = """
+                    <html><body>
+                      <div data-ds-component="article-title"><div>Subtítulo</div></div>
+                      <div data-ds-component="author-bio"><a>João Silva</a></div>
+                      <time datetime="2024-01-15T10:30:00Z"></time>
+                      <article data-ds-component="article"><p>Conteúdo</p></article>
+                    """ + TRAILER.repeat(5_000) + "</body></html>";
+            byte[] bytes = html.getBytes(StandardCharsets.UTF_8);
+            AtomicLong bytesRead = new AtomicLong();
+            InputStream counting = new FilterInputStream(new ByteArrayInputStream(bytes)) {
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int read = super.read(buffer, offset, length);
+                    bytesRead.addAndGet(Math.max(read, 0));
+                    return read;
+                }
+            };
+
+            ParsedNewsDTO result = HtmlParserImplTest.this.htmlParser.parseNewsDetails(counting, "UTF-8", HtmlParserImplTest.this.partialNews);
+
+            assertThat(result.getContent()).isEqualTo("Conteúdo");
+            assertThat(result.getAuthorName()).isEqualTo("João Silva");
+            assertThat(bytesRead.get()).isLessThan(bytes.length / 2);
+        }
+
+        @Test
+        @DisplayName("Deve usar o DOM completo quando a extração incremental falha")
+        void deveUsarDomCompletoQuandoExtracaoIncrementalFalha() {
+            String html = """
+                    <html><body>
+                      <div data-ds-component="author-bio"><a>João Silva</a></div>
+                      <time datetime="2024-01-15T10:30:00Z"></time>
+                      <article data-ds-component="article"><p>Conteúdo</p></article>
+                    </body></html>
+                    """;
+            LocalDateTime expected = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+            try (MockedStatic<DateUtils> dateUtils = mockStatic(DateUtils.class)) {
+                dateUtils.when(() -> DateUtils.parse(anyString()))
+                        .thenThrow(new IllegalStateException("falha simulada"))
+                        .thenReturn(expected);
+
+                ParsedNewsDTO result = HtmlParserImplTest.this.htmlParser.parseNewsDetails(html, HtmlParserImplTest.this.partialNews);
+
+                assertThat(result.getPublishDate()).isEqualTo(expected);
+                assertThat(result.getAuthorName()).isEqualTo("João Silva");
+                assertThat(result.getContent()).isEqualTo("Conteúdo");
+                dateUtils.verify(() -> DateUtils.parse(anyString()), times(2));
+            }
+        }
+
+        @Test
+        @DisplayName("Deve usar o DOM completo quando o charset não é informado")
+        void deveUsarDomQuandoCharsetNaoInformado() {
+            String html = "<html><head><meta charset=\"ISO-8859-1\"></head><body>"
+                    + "<div data-ds-component=\"author-bio\"><a>João Conceição</a></div></body></html>";
+
+            ParsedNewsDTO result = HtmlParserImplTest.this.htmlParser.parseNewsDetails(
+                    new ByteArrayInputStream(html.getBytes(StandardCharsets.ISO_8859_1)), null, HtmlParserImplTest.this.partialNews);
+
+            assertThat(result.getAuthorName()).isEqualTo("João Conceição");
+        }
+    }
+
     @Nested
     @DisplayName("Testes para parseHtmlContent")
     class ParseHtmlContentTests {
@@ -2,6 +2,8 @@ package br.com.devictoralmeida.webscraper.java.services.impl;
 
 import br.com.devictoralmeida.webscraper.java.services.HttpClient;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -54,8 +56,15 @@ class HttpClientImplTest {
 
     @BeforeEach
     void setUp() {
-        this.httpClient = new HttpClientImpl(this.webClientBuilder, this.objectMapper);
-        ReflectionTestUtils.setField(this.httpClient, "webClient", this.webClient);
+        HostConcurrencyLimiterImpl hostLimiter = new HostConcurrencyLimiterImpl(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(hostLimiter, "maxConcurrency", 2);
+        AdaptiveRateLimiterImpl rateLimiter = new AdaptiveRateLimiterImpl(RateLimiter.ofDefaults("test"), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(rateLimiter, "minLimit", 1);
+        ReflectionTestUtils.setField(rateLimiter, "maxLimit", 100);
+        ReflectionTestUtils.setField(rateLimiter, "targetLatencyMs", 1000L);
+        ReactiveHttpClientImpl reactiveHttpClient = new ReactiveHttpClientImpl(this.webClientBuilder, rateLimiter);
+        ReflectionTestUtils.setField(reactiveHttpClient, "webClient", this.webClient);
+        this.httpClient = new HttpClientImpl(reactiveHttpClient, this.objectMapper, hostLimiter);
     }
 
     @Nested
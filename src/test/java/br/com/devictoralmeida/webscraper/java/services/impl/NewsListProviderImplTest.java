@@ -1,5 +1,6 @@
 package br.com.devictoralmeida.webscraper.java.services.impl;
 
+import br.com.devictoralmeida.webscraper.java.dtos.ConditionalResponseDTO;
 import br.com.devictoralmeida.webscraper.java.dtos.PartialNewsDTO;
 import br.com.devictoralmeida.webscraper.java.exception.NegocioException;
 import br.com.devictoralmeida.webscraper.java.services.HtmlParser;
@@ -77,7 +78,7 @@ class NewsListProviderImplTest {
 
             Document doc = Jsoup.parse(html);
 
-            when(NewsListProviderImplTest.this.httpClient.makeGetRequest(anyString(), eq(String.class), isNull(), isNull())).thenReturn(html);
+            when(NewsListProviderImplTest.this.httpClient.makeConditionalGetRequest(anyString(), isNull())).thenReturn(ConditionalResponseDTO.modified(html));
             when(NewsListProviderImplTest.this.parser.parseHtmlContent(html)).thenReturn(doc);
 
             List<PartialNewsDTO> result = NewsListProviderImplTest.this.newsListProvider.fetchNewsList(2);
@@ -85,10 +86,99 @@ class NewsListProviderImplTest {
             assertThat(result).hasSize(2);
             assertThat(result.get(0).getUrl()).isEqualTo("/noticia1");
             assertThat(result.get(0).getTitle()).isEqualTo("Título 1");
-            verify(NewsListProviderImplTest.this.httpClient, times(1)).makeGetRequest(anyString(), eq(String.class), isNull(), isNull());
+            verify(NewsListProviderImplTest.this.httpClient, times(1)).makeConditionalGetRequest(anyString(), isNull());
             verify(NewsListProviderImplTest.this.httpClient, never()).makePostRequest(anyString(), any(), any(), any(), any());
         }
 
+        @Test
+        @DisplayName("Deve reaproveitar a lista anterior sem parsear quando a página inicial não mudou")
+        void deveReaproveitarListaQuandoPaginaInicialNaoMudou() {
+            String html = """
+                    <html>
+                        <body>
+                            <div data-ds-component="card-xl">
+                                <h2><a href="/noticia1">Título 1</a></h2>
+                            </div>
+                        </body>
+                    </html>
+                    """;
+
+            when(NewsListProviderImplTest.this.httpClient.makeConditionalGetRequest(anyString(), isNull()))
+                    .thenReturn(ConditionalResponseDTO.modified(html, "\"v1\""), ConditionalResponseDTO.notModified(html, "\"v1\""));
+            when(NewsListProviderImplTest.this.parser.parseHtmlContent(html)).thenReturn(Jsoup.parse(html));
+
+            List<PartialNewsDTO> first = NewsListProviderImplTest.this.newsListProvider.fetchNewsList(1);
+            List<PartialNewsDTO> second = NewsListProviderImplTest.this.newsListProvider.fetchNewsList(1);
+
+            assertThat(second).containsExactlyElementsOf(first);
+            assertThat(second.getFirst().getUrl()).isEqualTo("/noticia1");
+            verify(NewsListProviderImplTest.this.httpClient, times(2)).makeConditionalGetRequest(anyString(), isNull());
+            verify(NewsListProviderImplTest.this.parser, times(1)).parseHtmlContent(html);
+        }
+
+        @Test
+        @DisplayName("Deve parsear o corpo guardado quando o 304 chega sem lista anterior")
+        void deveParsearCorpoGuardadoQuandoNaoHaListaAnterior() {
+            String html = """
+                    <html>
+                        <body>
+                            <div data-ds-component="card-xl">
+                                <h2><a href="/noticia1">Título 1</a></h2>
+                            </div>
+                        </body>
+                    </html>
+                    """;
+
+            when(NewsListProviderImplTest.this.httpClient.makeConditionalGetRequest(anyString(), isNull()))
+                    .thenReturn(ConditionalResponseDTO.notModified(html, "\"v1\""));
+            when(NewsListProviderImplTest.this.parser.parseHtmlContent(html)).thenReturn(Jsoup.parse(html));
+
+            List<PartialNewsDTO> result = NewsListProviderImplTest.this.newsListProvider.fetchNewsList(1);
+
+            assertThat(result).hasSize(1);
+            verify(NewsListProviderImplTest.this.parser, times(1)).parseHtmlContent(html);
+        }
+
+        @Test
+        @DisplayName("Deve parsear o corpo guardado quando o 304 é de uma versão cujo parse falhou")
+        void deveParsearCorpoGuardadoQuandoParseDaVersaoFalhou() {
+            String oldHtml = """
+                    <html>
+                        <body>
+                            <div data-ds-component="card-xl">
+                                <h2><a href="/noticia1">Título 1</a></h2>
+                            </div>
+                        </body>
+                    </html>
+                    """;
+            String newHtml = """
+                    <html>
+                        <body>
+                            <div data-ds-component="card-xl">
+                                <h2><a href="/noticia2">Título 2</a></h2>
+                            </div>
+                        </body>
+                    </html>
+                    """;
+
+            when(NewsListProviderImplTest.this.httpClient.makeConditionalGetRequest(anyString(), isNull()))
+                    .thenReturn(ConditionalResponseDTO.modified(oldHtml, "\"v1\""),
+                            ConditionalResponseDTO.modified(newHtml, "\"v2\""),
+                            ConditionalResponseDTO.notModified(newHtml, "\"v2\""));
+            when(NewsListProviderImplTest.this.parser.parseHtmlContent(oldHtml)).thenReturn(Jsoup.parse(oldHtml));
+            when(NewsListProviderImplTest.this.parser.parseHtmlContent(newHtml))
+                    .thenThrow(new IllegalStateException("HTML truncado"))
+                    .thenReturn(Jsoup.parse(newHtml));
+
+            NewsListProviderImplTest.this.newsListProvider.fetchNewsList(1);
+            assertThatThrownBy(() -> NewsListProviderImplTest.this.newsListProvider.fetchNewsList(1))
+                    .isInstanceOf(NegocioException.class);
+            List<PartialNewsDTO> result = NewsListProviderImplTest.this.newsListProvider.fetchNewsList(1);
+
+            assertThat(result).extracting(PartialNewsDTO::getUrl).containsExactly("/noticia2");
+            verify(NewsListProviderImplTest.this.parser, times(2)).parseHtmlContent(newHtml);
+        }
+
         @Test
         @DisplayName("Deve buscar notícias da API quando pageLimit é maior que notícias iniciais")
         void deveBuscarNoticiasDaApiQuandoLimiteMaiorQueInicial() throws Exception {
@@ -111,14 +201,14 @@ class NewsListProviderImplTest {
 
             Document doc = Jsoup.parse(html);
 
-            when(NewsListProviderImplTest.this.httpClient.makeGetRequest(anyString(), eq(String.class), isNull(), isNull())).thenReturn(html);
+            when(NewsListProviderImplTest.this.httpClient.makeConditionalGetRequest(anyString(), isNull())).thenReturn(ConditionalResponseDTO.modified(html));
             when(NewsListProviderImplTest.this.parser.parseHtmlContent(html)).thenReturn(doc);
             when(NewsListProviderImplTest.this.httpClient.makePostRequest(anyString(), any(), eq(String.class), isNull(), isNull())).thenReturn(jsonResponse);
 
             List<PartialNewsDTO> result = NewsListProviderImplTest.this.newsListProvider.fetchNewsList(3);
 
             assertThat(result).hasSize(3);
-            verify(NewsListProviderImplTest.this.httpClient, times(1)).makeGetRequest(anyString(), eq(String.class), isNull(), isNull());
+            verify(NewsListProviderImplTest.this.httpClient, times(1)).makeConditionalGetRequest(anyString(), isNull());
             verify(NewsListProviderImplTest.this.httpClient, times(1)).makePostRequest(anyString(), any(), eq(String.class), isNull(), isNull());
         }
 
@@ -144,7 +234,7 @@ class NewsListProviderImplTest {
 
             Document doc = Jsoup.parse(html);
 
-            when(NewsListProviderImplTest.this.httpClient.makeGetRequest(anyString(), eq(String.class), isNull(), isNull())).thenReturn(html);
+            when(NewsListProviderImplTest.this.httpClient.makeConditionalGetRequest(anyString(), isNull())).thenReturn(ConditionalResponseDTO.modified(html));
             when(NewsListProviderImplTest.this.parser.parseHtmlContent(html)).thenReturn(doc);
             when(NewsListProviderImplTest.this.httpClient.makePostRequest(anyString(), any(), eq(String.class), isNull(), isNull())).thenReturn(jsonResponse);
 
@@ -177,7 +267,7 @@ class NewsListProviderImplTest {
 
             Document doc = Jsoup.parse(html);
 
-            when(NewsListProviderImplTest.this.httpClient.makeGetRequest(anyString(), eq(String.class), isNull(), isNull())).thenReturn(html);
+            when(NewsListProviderImplTest.this.httpClient.makeConditionalGetRequest(anyString(), isNull())).thenReturn(ConditionalResponseDTO.modified(html));
             when(NewsListProviderImplTest.this.parser.parseHtmlContent(html)).thenReturn(doc);
             when(NewsListProviderImplTest.this.httpClient.makePostRequest(anyString(), any(), eq(String.class), isNull(), isNull())).thenReturn(jsonResponse);
 
@@ -201,7 +291,7 @@ class NewsListProviderImplTest {
 
             Document doc = Jsoup.parse(html);
 
-            when(NewsListProviderImplTest.this.httpClient.makeGetRequest(anyString(), eq(String.class), isNull(), isNull())).thenReturn(html);
+            when(NewsListProviderImplTest.this.httpClient.makeConditionalGetRequest(anyString(), isNull())).thenReturn(ConditionalResponseDTO.modified(html));
             when(NewsListProviderImplTest.this.parser.parseHtmlContent(html)).thenReturn(doc);
 
             List<PartialNewsDTO> result = NewsListProviderImplTest.this.newsListProvider.fetchNewsList(1);
@@ -233,7 +323,7 @@ class NewsListProviderImplTest {
 
             Document doc = Jsoup.parse(html);
 
-            when(NewsListProviderImplTest.this.httpClient.makeGetRequest(anyString(), eq(String.class), isNull(), isNull())).thenReturn(html);
+            when(NewsListProviderImplTest.this.httpClient.makeConditionalGetRequest(anyString(), isNull())).thenReturn(ConditionalResponseDTO.modified(html));
             when(NewsListProviderImplTest.this.parser.parseHtmlContent(html)).thenReturn(doc);
 
             List<PartialNewsDTO> result = NewsListProviderImplTest.this.newsListProvider.fetchNewsList(2);
@@ -264,7 +354,7 @@ class NewsListProviderImplTest {
 
             Document doc = Jsoup.parse(html);
 
-            when(NewsListProviderImplTest.this.httpClient.makeGetRequest(anyString(), eq(String.class), isNull(), isNull())).thenReturn(html);
+            when(NewsListProviderImplTest.this.httpClient.makeConditionalGetRequest(anyString(), isNull())).thenReturn(ConditionalResponseDTO.modified(html));
             when(NewsListProviderImplTest.this.parser.parseHtmlContent(html)).thenReturn(doc);
 
             List<PartialNewsDTO> result = NewsListProviderImplTest.this.newsListProvider.fetchNewsList(3);
@@ -277,7 +367,7 @@ class NewsListProviderImplTest {
         @Test
         @DisplayName("Deve lançar NegocioException quando ocorrer erro ao buscar HTML")
         void deveLancarExcecaoQuandoErroAoBuscarHtml() {
-            when(NewsListProviderImplTest.this.httpClient.makeGetRequest(anyString(), eq(String.class), isNull(), isNull()))
+            when(NewsListProviderImplTest.this.httpClient.makeConditionalGetRequest(anyString(), isNull()))
                     .thenThrow(new RuntimeException("Erro de rede"));
 
             assertThatThrownBy(() -> NewsListProviderImplTest.this.newsListProvider.fetchNewsList(10))
@@ -300,7 +390,7 @@ class NewsListProviderImplTest {
 
             Document doc = Jsoup.parse(html);
 
-            when(NewsListProviderImplTest.this.httpClient.makeGetRequest(anyString(), eq(String.class), isNull(), isNull())).thenReturn(html);
+            when(NewsListProviderImplTest.this.httpClient.makeConditionalGetRequest(anyString(), isNull())).thenReturn(ConditionalResponseDTO.modified(html));
             when(NewsListProviderImplTest.this.parser.parseHtmlContent(html)).thenReturn(doc);
             when(NewsListProviderImplTest.this.httpClient.makePostRequest(anyString(), any(), eq(String.class), isNull(), isNull()))
                     .thenReturn("invalid json");
@@ -334,7 +424,7 @@ class NewsListProviderImplTest {
 
             Document doc = Jsoup.parse(html);
 
-            when(NewsListProviderImplTest.this.httpClient.makeGetRequest(anyString(), eq(String.class), isNull(), isNull())).thenReturn(html);
+            when(NewsListProviderImplTest.this.httpClient.makeConditionalGetRequest(anyString(), isNull())).thenReturn(ConditionalResponseDTO.modified(html));
             when(NewsListProviderImplTest.this.parser.parseHtmlContent(html)).thenReturn(doc);
             when(NewsListProviderImplTest.this.httpClient.makePostRequest(anyString(), any(), eq(String.class), isNull(), isNull())).thenReturn(jsonResponse);
 
@@ -359,7 +449,7 @@ class NewsListProviderImplTest {
 
             Document doc = Jsoup.parse(html);
 
-            when(NewsListProviderImplTest.this.httpClient.makeGetRequest(anyString(), eq(String.class), isNull(), isNull())).thenReturn(html);
+            when(NewsListProviderImplTest.this.httpClient.makeConditionalGetRequest(anyString(), isNull())).thenReturn(ConditionalResponseDTO.modified(html));
             when(NewsListProviderImplTest.this.parser.parseHtmlContent(html)).thenReturn(doc);
             when(NewsListProviderImplTest.this.httpClient.makePostRequest(anyString(), anyMap(), eq(String.class), isNull(), isNull())).thenReturn(apiResponse);
 
@@ -389,7 +479,7 @@ class NewsListProviderImplTest {
 
             Document doc = Jsoup.parse(html);
 
-            when(NewsListProviderImplTest.this.httpClient.makeGetRequest(anyString(), eq(String.class), isNull(), isNull())).thenReturn(html);
+            when(NewsListProviderImplTest.this.httpClient.makeConditionalGetRequest(anyString(), isNull())).thenReturn(ConditionalResponseDTO.modified(html));
             when(NewsListProviderImplTest.this.parser.parseHtmlContent(html)).thenReturn(doc);
 
             // Usar lenient() para permitir que o stub não seja usado
@@ -0,0 +1,126 @@
+package br.com.devictoralmeida.webscraper.java.services.impl;
+
+import br.com.devictoralmeida.webscraper.java.repositories.AuthorRepository;
+import br.com.devictoralmeida.webscraper.java.repositories.NewsTestData;
+import br.com.devictoralmeida.webscraper.java.services.NewsPartitionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Roda sobre o PostgreSQL da aplicação. Os meses de 1989 são só deste teste, que apaga as partições deles para
+ * simular a retenção.
+ */
+@SpringBootTest
+@DisplayName("Testes das partições de tb_news no banco")
+class NewsPartitionServiceImplDatabaseTest {
+    private static final LocalDateTime DROPPED_MONTH = LocalDateTime.of(1989, 6, 10, 9, 0);
+    private static final LocalDateTime NEW_MONTH = LocalDateTime.of(1989, 7, 10, 9, 0);
+
+    @Autowired
+    private NewsPartitionService partitionService;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private NewsTestData data;
+
+    @BeforeEach
+    void setUp() {
+        this.data = new NewsTestData(this.jdbcTemplate, this.authorRepository, this.partitionService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.data.clean();
+    }
+
+    @Test
+    @DisplayName("Deve recriar a partição apagada depois do rollback da gravação que falhou")
+    void deveRecriarParticaoApagadaDepoisDoRollback() {
+        this.partitionService.ensurePartitions(List.of(DROPPED_MONTH));
+        dropPartitions("198906");
+
+        assertThatThrownBy(() -> ensureAndInsert(1, DROPPED_MONTH)).isInstanceOf(DataAccessException.class);
+        ensureAndInsert(2, DROPPED_MONTH);
+
+        assertThat(this.jdbcTemplate.queryForList("SELECT url FROM tb_news WHERE url LIKE ?", String.class,
+                this.data.urlPattern())).containsExactly(this.data.url(2));
+    }
+
+    @Test
+    @DisplayName("Não deve manter tb_news travada até o fim da transação que criou a partição")
+    void naoDeveManterTbNewsTravada() {
+        dropPartitions("198907");
+
+        this.transactionTemplate.executeWithoutResult(status -> {
+            this.partitionService.ensurePartitions(List.of(NEW_MONTH));
+
+            assertThat(countFromAnotherConnection()).isZero();
+        });
+    }
+
+    /**
+     * {@link NewsTestData#insert} garante a partição na mesma transação da gravação, como a ingestão.
+     */
+    private void ensureAndInsert(int i, LocalDateTime publishDate) {
+        this.transactionTemplate.executeWithoutResult(status -> {
+            this.data.insert(i, null, publishDate);
+        });
+    }
+
+    /**
+     * Como a retenção do README: a partição de conteúdo referencia a de notícias, então é desanexada primeiro.
+     */
+    private void dropPartitions(String month) {
+        for (String table : List.of("tb_news_content", "tb_news")) {
+            String partition = table + "_p" + month;
+            if (this.jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition)) {
+                this.jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition);
+                this.jdbcTemplate.execute("DROP TABLE " + partition);
+            }
+        }
+    }
+
+    private long countFromAnotherConnection() {
+        try (Connection connection = this.dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(false);
+            // SET LOCAL: a conexão volta ao pool sem o timeout.
+            statement.execute("SET LOCAL lock_timeout = '1s'");
+            try (ResultSet result = statement.executeQuery("SELECT count(*) FROM tb_news WHERE url LIKE '" + this.data.urlPattern() + "'")) {
+                result.next();
+                return result.getLong(1);
+            } finally {
+                connection.rollback();
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
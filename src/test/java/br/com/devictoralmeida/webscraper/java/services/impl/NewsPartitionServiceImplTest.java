@@ -0,0 +1,143 @@
+package br.com.devictoralmeida.webscraper.java.services.impl;
+
+import br.com.devictoralmeida.webscraper.java.repositories.NewsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para o serviço NewsPartitionService")
+class NewsPartitionServiceImplTest {
+    private static final int MONTHS_AHEAD = 3;
+
+    @Mock
+    private NewsRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NewsPartitionServiceImpl partitionService;
+
+    @Captor
+    private ArgumentCaptor<Collection<YearMonth>> monthsCaptor;
+
+    @Captor
+    private ArgumentCaptor<TransactionDefinition> definitionCaptor;
+
+    @BeforeEach
+    void setUp() {
+        this.partitionService = new NewsPartitionServiceImpl(this.repository, this.transactionManager);
+        ReflectionTestUtils.setField(this.partitionService, "monthsAhead", MONTHS_AHEAD);
+    }
+
+    @Nested
+    @DisplayName("Testes para ensurePartitions")
+    class EnsurePartitionsTests {
+
+        @Test
+        @DisplayName("Deve criar cada mês ausente uma única vez, em ordem")
+        void deveCriarCadaMesAusenteUmaUnicaVez() {
+            NewsPartitionServiceImplTest.this.partitionService.ensurePartitions(List.of(
+                    LocalDateTime.of(2024, 3, 10, 9, 0),
+                    LocalDateTime.of(2024, 1, 15, 10, 0),
+                    LocalDateTime.of(2024, 3, 31, 23, 59)));
+
+            verify(NewsPartitionServiceImplTest.this.repository)
+                    .createPartitions(NewsPartitionServiceImplTest.this.monthsCaptor.capture());
+            assertThat(NewsPartitionServiceImplTest.this.monthsCaptor.getValue())
+                    .containsExactly(YearMonth.of(2024, 1), YearMonth.of(2024, 3));
+        }
+
+        @Test
+        @DisplayName("Não deve ir ao banco para meses já criados")
+        void naoDeveIrAoBancoParaMesesJaCriados() {
+            NewsPartitionServiceImplTest.this.partitionService.ensurePartitions(List.of(LocalDateTime.of(2024, 1, 15, 10, 0)));
+            NewsPartitionServiceImplTest.this.partitionService.ensurePartitions(List.of(LocalDateTime.of(2024, 1, 20, 8, 0)));
+
+            verify(NewsPartitionServiceImplTest.this.repository, times(1)).createPartitions(any());
+        }
+
+        @Test
+        @DisplayName("Deve criar as partições em uma transação nova, confirmada antes de retornar")
+        void deveCriarPartitionsEmTransacaoNova() {
+            NewsPartitionServiceImplTest.this.partitionService.ensurePartitions(List.of(LocalDateTime.of(2024, 1, 15, 10, 0)));
+
+            InOrder order = inOrder(NewsPartitionServiceImplTest.this.transactionManager,
+                    NewsPartitionServiceImplTest.this.repository);
+            order.verify(NewsPartitionServiceImplTest.this.transactionManager)
+                    .getTransaction(NewsPartitionServiceImplTest.this.definitionCaptor.capture());
+            order.verify(NewsPartitionServiceImplTest.this.repository).createPartitions(any());
+            order.verify(NewsPartitionServiceImplTest.this.transactionManager).commit(any());
+            assertThat(NewsPartitionServiceImplTest.this.definitionCaptor.getValue().getPropagationBehavior())
+                    .isEqualTo(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        }
+
+        @Test
+        @DisplayName("Deve voltar ao banco por um mês depois do rollback da transação que gravou nele")
+        void deveVoltarAoBancoDepoisDoRollback() {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                NewsPartitionServiceImplTest.this.partitionService.ensurePartitions(List.of(LocalDateTime.of(2024, 1, 15, 10, 0)));
+                List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+                synchronizations.forEach(TransactionSynchronization::afterCommit);
+                synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            NewsPartitionServiceImplTest.this.partitionService.ensurePartitions(List.of(LocalDateTime.of(2024, 1, 20, 8, 0)));
+
+            verify(NewsPartitionServiceImplTest.this.repository, times(2)).createPartitions(any());
+        }
+
+        @Test
+        @DisplayName("Não deve ir ao banco quando não há datas")
+        void naoDeveIrAoBancoSemDatas() {
+            NewsPartitionServiceImplTest.this.partitionService.ensurePartitions(List.of());
+
+            verify(NewsPartitionServiceImplTest.this.repository, never()).createPartitions(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para createUpcomingPartitions")
+    class CreateUpcomingPartitionsTests {
+
+        @Test
+        @DisplayName("Deve criar o mês atual e os próximos meses configurados")
+        void deveCriarOMesAtualEOsProximos() {
+            YearMonth current = YearMonth.now();
+
+            NewsPartitionServiceImplTest.this.partitionService.createUpcomingPartitions();
+
+            verify(NewsPartitionServiceImplTest.this.repository)
+                    .createPartitions(NewsPartitionServiceImplTest.this.monthsCaptor.capture());
+            assertThat(NewsPartitionServiceImplTest.this.monthsCaptor.getValue())
+                    .containsExactly(current, current.plusMonths(1), current.plusMonths(2), current.plusMonths(3));
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package br.com.devictoralmeida.webscraper.java.services.impl;
+
+import br.com.devictoralmeida.webscraper.java.dtos.ParsedNewsDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.PartialNewsDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.AuthorNewsCountResponseDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.NewsResponseDTO;
+import br.com.devictoralmeida.webscraper.java.repositories.AuthorRepository;
+import br.com.devictoralmeida.webscraper.java.services.NewsPartitionService;
+import br.com.devictoralmeida.webscraper.java.services.NewsPersistenceService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Conta as idas ao banco de uma execução de 500 notícias gravadas em lotes de 50, como faz o pipeline do scraping.
+ * Roda sobre o PostgreSQL da aplicação, com o schema do Flyway: o upsert de autores depende do índice único sobre o
+ * nome normalizado. As linhas criadas são removidas no fim.
+ */
+@SpringBootTest
+@Import(NewsPersistenceServiceImplBatchingTest.Config.class)
+@DisplayName("Testes de batching da persistência de notícias")
+class NewsPersistenceServiceImplBatchingTest {
+    private static final int ARTICLES = 500;
+    private static final int PIPELINE_BATCH_SIZE = 50;
+    private static final int AUTHORS = 20;
+
+    private final String runId = UUID.randomUUID().toString();
+
+    @Autowired
+    private NewsPersistenceService persistenceService;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private NewsPartitionService partitionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StatementCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        // A partição do mês pode ainda não existir; criá-la não faz parte do que é medido.
+        this.partitionService.ensurePartitions(List.of(LocalDateTime.of(2024, 1, 15, 10, 0)));
+        this.counter.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        setOnConflictEnabled(true);
+        this.jdbcTemplate.update("DELETE FROM tb_news WHERE url LIKE ?", "%/" + this.runId + "/%");
+        this.jdbcTemplate.update("DELETE FROM tb_author WHERE name LIKE ?", this.runId + "%");
+    }
+
+    @Test
+    @DisplayName("Deve reservar ids em bloco e agrupar os INSERTs em batches")
+    void deveReservarIdsEmBlocoEAgruparInserts() {
+        setOnConflictEnabled(false);
+
+        List<NewsResponseDTO> saved = saveInPipelineBatches();
+
+        // Um nextval por bloco de 50 ids das notícias; os autores ganham id no próprio upsert.
+        assertThat(this.counter.getSequenceCalls()).isEqualTo(10);
+        // Um único upsert de autores: nos lotes seguintes todos vêm do cache.
+        assertThat(this.counter.getQueries() - this.counter.getSequenceCalls()).isEqualTo(1);
+        // Fora do batch, a reserva das URLs e o incremento das contagens diárias, um de cada por lote.
+        assertThat(this.counter.getUpdates()).isEqualTo(20);
+        assertThat(this.counter.getBatches()).isEqualTo(10);
+        assertThat(this.counter.getBatchedRows()).isEqualTo(ARTICLES);
+        assertThat(this.counter.getRoundTrips()).isEqualTo(41);
+
+        assertSaved(saved);
+    }
+
+    @Test
+    @DisplayName("Deve gravar cada lote com um único INSERT ... ON CONFLICT")
+    void deveGravarCadaLoteComUmUnicoInsert() {
+        List<NewsResponseDTO> saved = saveInPipelineBatches();
+
+        // Um upsert de autores e um INSERT de várias linhas com RETURNING por lote, que já reserva as URLs e soma as
+        // contagens diárias.
+        assertThat(this.counter.getSequenceCalls()).isZero();
+        assertThat(this.counter.getQueries()).isEqualTo(11);
+        assertThat(this.counter.getUpdates()).isZero();
+        assertThat(this.counter.getBatches()).isZero();
+        assertThat(this.counter.getRoundTrips()).isEqualTo(11);
+
+        assertSaved(saved);
+    }
+
+    @Test
+    @DisplayName("Deve manter as contagens diárias iguais às do rebuild")
+    void deveManterContagensDiariasIguaisAsDoRebuild() {
+        setOnConflictEnabled(false);
+        saveInPipelineBatches();
+        setOnConflictEnabled(true);
+        this.persistenceService.saveParsedNews(List.of(parsedNews(ARTICLES)));
+
+        List<AuthorNewsCountResponseDTO> incremental = topAuthorsOfThisRun();
+        this.persistenceService.rebuildAuthorDailyCounts();
+
+        assertThat(incremental).hasSize(AUTHORS);
+        assertThat(incremental).extracting(AuthorNewsCountResponseDTO::getNewsCount).containsOnly(25L, 26L);
+        assertThat(incremental.get(0).getNewsCount()).isEqualTo(26L);
+        assertThat(topAuthorsOfThisRun()).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyInAnyOrderElementsOf(incremental);
+    }
+
+    private List<AuthorNewsCountResponseDTO> topAuthorsOfThisRun() {
+        return this.authorRepository.findMostPublicationsFromDailyCounts(LocalDate.of(2024, 1, 15), LocalDate.of(2024, 1, 15),
+                        Integer.MAX_VALUE, 0)
+                .stream()
+                .filter(author -> author.getName().startsWith(this.runId))
+                .toList();
+    }
+
+    private List<NewsResponseDTO> saveInPipelineBatches() {
+        List<ParsedNewsDTO> articles = IntStream.range(0, ARTICLES)
+                .mapToObj(this::parsedNews)
+                .toList();
+
+        List<NewsResponseDTO> saved = new ArrayList<>();
+        for (int from = 0; from < ARTICLES; from += PIPELINE_BATCH_SIZE) {
+            saved.addAll(this.persistenceService.saveParsedNews(articles.subList(from, from + PIPELINE_BATCH_SIZE)));
+        }
+        return saved;
+    }
+
+    private void assertSaved(List<NewsResponseDTO> saved) {
+        assertThat(saved).hasSize(ARTICLES);
+        assertThat(saved).extracting(NewsResponseDTO::getId).doesNotHaveDuplicates();
+        assertThat(this.jdbcTemplate.queryForObject("SELECT count(*) FROM tb_news WHERE url LIKE ?",
+                Long.class, "%/" + this.runId + "/%")).isEqualTo(ARTICLES);
+        assertThat(this.jdbcTemplate.queryForObject("SELECT count(*) FROM tb_author WHERE name LIKE ?",
+                Long.class, this.runId + "%")).isEqualTo(AUTHORS);
+    }
+
+    private void setOnConflictEnabled(boolean enabled) {
+        NewsPersistenceService target = AopTestUtils.getTargetObject(this.persistenceService);
+        ReflectionTestUtils.setField(target, "onConflictEnabled", enabled);
+    }
+
+    private ParsedNewsDTO parsedNews(int i) {
+        return new ParsedNewsDTO(
+                new PartialNewsDTO("https://www.infomoney.com.br/mercados/" + this.runId + "/noticia-" + i + "/", "Título " + i),
+                "Subtítulo " + i,
+                "Conteúdo da notícia " + i,
+                LocalDateTime.of(2024, 1, 15, 10, 0).plusMinutes(i),
+                this.runId + " Autor " + (i % AUTHORS)
+        );
+    }
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        StatementCounter statementCounter() {
+            return new StatementCounter();
+        }
+
+        @Bean
+        static BeanPostProcessor countingDataSourcePostProcessor(StatementCounter counter) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? counter.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * Envolve o DataSource em proxies de {@link Connection} e {@link PreparedStatement} que contam cada execução enviada ao
+     * banco. Um {@code executeBatch} conta como uma ida, independente de quantas linhas agrupa.
+     */
+    static class StatementCounter {
+        private final AtomicInteger queries = new AtomicInteger();
+        private final AtomicInteger updates = new AtomicInteger();
+        private final AtomicInteger batches = new AtomicInteger();
+        private final AtomicInteger batchedRows = new AtomicInteger();
+        private final AtomicInteger sequenceCalls = new AtomicInteger();
+
+        DataSource wrap(DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (target, method, args) -> {
+                Object result = method.invoke(target, args);
+                return result instanceof Connection connection ? wrap(connection) : result;
+            });
+        }
+
+        private Connection wrap(Connection connection) {
+            return proxy(Connection.class, connection, (target, method, args) -> {
+                Object result = method.invoke(target, args);
+                return result instanceof PreparedStatement statement ? wrap(statement, (String) args[0]) : result;
+            });
+        }
+
+        private PreparedStatement wrap(PreparedStatement statement, String sql) {
+            String normalizedSql = sql.strip().toLowerCase(Locale.ROOT);
+
+            return proxy(PreparedStatement.class, statement, (target, method, args) -> {
+                switch (method.getName()) {
+                    case "executeQuery" -> {
+                        this.queries.incrementAndGet();
+                        if (normalizedSql.startsWith("select nextval")) {
+                            this.sequenceCalls.incrementAndGet();
+                        }
+                    }
+                    case "executeUpdate", "execute" -> this.updates.incrementAndGet();
+                    case "executeBatch" -> this.batches.incrementAndGet();
+                    case "addBatch" -> this.batchedRows.incrementAndGet();
+                    default -> {
+                    }
+                }
+                return method.invoke(target, args);
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, Handler<T> handler) {
+            InvocationHandler invocationHandler = (proxy, method, args) -> {
+                try {
+                    return handler.invoke(target, method, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            };
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+        }
+
+        int getQueries() {
+            return this.queries.get();
+        }
+
+        int getUpdates() {
+            return this.updates.get();
+        }
+
+        int getBatches() {
+            return this.batches.get();
+        }
+
+        int getBatchedRows() {
+            return this.batchedRows.get();
+        }
+
+        int getSequenceCalls() {
+            return this.sequenceCalls.get();
+        }
+
+        int getRoundTrips() {
+            return getQueries() + getUpdates() + getBatches();
+        }
+
+        void reset() {
+            this.queries.set(0);
+            this.updates.set(0);
+            this.batches.set(0);
+            this.batchedRows.set(0);
+            this.sequenceCalls.set(0);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler<T> {
+        Object invoke(T target, Method method, Object[] args) throws Throwable;
+    }
+}
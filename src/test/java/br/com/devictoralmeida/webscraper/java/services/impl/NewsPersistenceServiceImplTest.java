@@ -0,0 +1,288 @@
+package br.com.devictoralmeida.webscraper.java.services.impl;
+
+import br.com.devictoralmeida.webscraper.java.dtos.ParsedNewsDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.PartialNewsDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.NewsResponseDTO;
+import br.com.devictoralmeida.webscraper.java.entities.Author;
+import br.com.devictoralmeida.webscraper.java.entities.News;
+import br.com.devictoralmeida.webscraper.java.repositories.AuthorRepository;
+import br.com.devictoralmeida.webscraper.java.repositories.NewsRepository;
+import br.com.devictoralmeida.webscraper.java.services.NewsPartitionService;
+import br.com.devictoralmeida.webscraper.java.services.AuthorPublicationIndex;
+import br.com.devictoralmeida.webscraper.java.services.NewsReportCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes para o serviço NewsPersistenceService")
+class NewsPersistenceServiceImplTest {
+
+    @Mock
+    private NewsRepository repository;
+
+    @Mock
+    private AuthorRepository authorRepository;
+
+    @Mock
+    private NewsPartitionService partitionService;
+
+    @Mock
+    private NewsReportCache reportCache;
+
+    @Mock
+    private AuthorPublicationIndex publicationIndex;
+
+    @InjectMocks
+    private NewsPersistenceServiceImpl persistenceService;
+
+    @Nested
+    @DisplayName("Testes para saveParsedNews")
+    class SaveParsedNewsTests {
+
+        @Test
+        @DisplayName("Deve associar notícias ao autor existente e salvar em lote")
+        @SuppressWarnings("unchecked")
+        void deveAssociarAutorExistenteESalvarEmLote() {
+            Author author = new Author("João Silva");
+            author.setId(1L);
+            ParsedNewsDTO parsed = new ParsedNewsDTO(new PartialNewsDTO("/noticia1", "Título 1"),
+                    "Subtítulo", "Conteúdo", LocalDateTime.of(2024, 1, 15, 10, 0), "João Silva");
+
+            when(NewsPersistenceServiceImplTest.this.authorRepository.upsertByNames(anySet())).thenReturn(Map.of("João Silva", author));
+            when(NewsPersistenceServiceImplTest.this.repository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            List<NewsResponseDTO> result = NewsPersistenceServiceImplTest.this.persistenceService.saveParsedNews(List.of(parsed));
+
+            ArgumentCaptor<List<News>> captor = ArgumentCaptor.forClass(List.class);
+            InOrder inOrder = inOrder(NewsPersistenceServiceImplTest.this.partitionService, NewsPersistenceServiceImplTest.this.repository);
+            inOrder.verify(NewsPersistenceServiceImplTest.this.partitionService).ensurePartitions(List.of(LocalDateTime.of(2024, 1, 15, 10, 0)));
+            inOrder.verify(NewsPersistenceServiceImplTest.this.repository).saveAll(captor.capture());
+            inOrder.verify(NewsPersistenceServiceImplTest.this.repository).insertUrlsAndContents(captor.getValue());
+            verify(NewsPersistenceServiceImplTest.this.authorRepository).incrementDailyCounts(captor.getValue());
+            assertThat(captor.getValue()).singleElement().extracting(News::getAuthor).isSameAs(author);
+            assertThat(result).hasSize(1);
+            verify(NewsPersistenceServiceImplTest.this.reportCache).invalidate(List.of(LocalDateTime.of(2024, 1, 15, 10, 0)));
+            verify(NewsPersistenceServiceImplTest.this.publicationIndex).appendOnCommit(captor.getValue());
+        }
+
+        @Test
+        @DisplayName("Deve invalidar os relatórios em cache só depois do commit")
+        void deveInvalidarRelatoriosSoDepoisDoCommit() {
+            Author author = new Author("João Silva");
+            author.setId(1L);
+            ParsedNewsDTO parsed = new ParsedNewsDTO(new PartialNewsDTO("/noticia1", "Título 1"),
+                    "Subtítulo", "Conteúdo", LocalDateTime.of(2024, 1, 15, 10, 0), "João Silva");
+
+            when(NewsPersistenceServiceImplTest.this.authorRepository.upsertByNames(anySet())).thenReturn(Map.of("João Silva", author));
+            when(NewsPersistenceServiceImplTest.this.repository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                NewsPersistenceServiceImplTest.this.persistenceService.saveParsedNews(List.of(parsed));
+                verifyNoInteractions(NewsPersistenceServiceImplTest.this.reportCache);
+
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+                verify(NewsPersistenceServiceImplTest.this.reportCache).invalidate(List.of(LocalDateTime.of(2024, 1, 15, 10, 0)));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        @DisplayName("Deve descartar notícias sem autor ou data de publicação")
+        void deveDescartarNoticiasIncompletas() {
+            ParsedNewsDTO semAutor = new ParsedNewsDTO(new PartialNewsDTO("/noticia1", "Título 1"),
+                    "Subtítulo", "Conteúdo", LocalDateTime.now(), null);
+
+            when(NewsPersistenceServiceImplTest.this.repository.saveAll(anyList())).thenReturn(List.of());
+
+            List<NewsResponseDTO> result = NewsPersistenceServiceImplTest.this.persistenceService.saveParsedNews(List.of(semAutor));
+
+            assertThat(result).isEmpty();
+            verify(NewsPersistenceServiceImplTest.this.authorRepository, never()).upsertByNames(anySet());
+            verifyNoInteractions(NewsPersistenceServiceImplTest.this.reportCache);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para saveParsedNews com ON CONFLICT")
+    class SaveParsedNewsOnConflictTests {
+
+        @BeforeEach
+        void setUp() {
+            ReflectionTestUtils.setField(NewsPersistenceServiceImplTest.this.persistenceService, "onConflictEnabled", true);
+        }
+
+        @Test
+        @DisplayName("Deve resolver os autores antes e retornar apenas as notícias inseridas")
+        @SuppressWarnings("unchecked")
+        void deveResolverAutoresERetornarApenasInseridas() {
+            Author author = new Author("Autor Novo");
+            author.setId(1L);
+            ParsedNewsDTO nova = new ParsedNewsDTO(new PartialNewsDTO("/noticia1", "Título 1"),
+                    "Subtítulo", "Conteúdo", LocalDateTime.of(2024, 1, 15, 10, 0), "Autor Novo");
+            ParsedNewsDTO existente = new ParsedNewsDTO(new PartialNewsDTO("/noticia2", "Título 2"),
+                    "Subtítulo", "Conteúdo", LocalDateTime.of(2024, 1, 15, 11, 0), "Autor Novo");
+
+            when(NewsPersistenceServiceImplTest.this.authorRepository.upsertByNames(Set.of("Autor Novo")))
+                    .thenReturn(Map.of("Autor Novo", author));
+            when(NewsPersistenceServiceImplTest.this.repository.insertIgnoringDuplicates(anyList())).thenAnswer(invocation -> {
+                News inserted = invocation.<List<News>>getArgument(0).get(0);
+                inserted.setId(10L);
+                return List.of(inserted);
+            });
+
+            List<NewsResponseDTO> result = NewsPersistenceServiceImplTest.this.persistenceService.saveParsedNews(List.of(nova, existente));
+
+            ArgumentCaptor<List<News>> news = ArgumentCaptor.forClass(List.class);
+            InOrder inOrder = inOrder(NewsPersistenceServiceImplTest.this.authorRepository, NewsPersistenceServiceImplTest.this.repository);
+            inOrder.verify(NewsPersistenceServiceImplTest.this.authorRepository).upsertByNames(anySet());
+            inOrder.verify(NewsPersistenceServiceImplTest.this.repository).insertIgnoringDuplicates(news.capture());
+            verify(NewsPersistenceServiceImplTest.this.partitionService).ensurePartitions(
+                    List.of(LocalDateTime.of(2024, 1, 15, 10, 0), LocalDateTime.of(2024, 1, 15, 11, 0)));
+            verify(NewsPersistenceServiceImplTest.this.repository, never()).saveAll(anyList());
+            verify(NewsPersistenceServiceImplTest.this.repository, never()).insertUrlsAndContents(anyList());
+            verify(NewsPersistenceServiceImplTest.this.authorRepository, never()).saveAll(anyList());
+            verify(NewsPersistenceServiceImplTest.this.authorRepository, never()).incrementDailyCounts(anyList());
+
+            assertThat(news.getValue()).extracting(item -> item.getAuthor().getId()).containsOnly(1L);
+            assertThat(result).singleElement().satisfies(item -> {
+                assertThat(item.getId()).isEqualTo(10L);
+                assertThat(item.getUrl()).isEqualTo("/noticia1");
+            });
+            verify(NewsPersistenceServiceImplTest.this.reportCache).invalidate(List.of(LocalDateTime.of(2024, 1, 15, 10, 0)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para o cache de autores")
+    class AuthorCacheTests {
+        private final ParsedNewsDTO parsed = new ParsedNewsDTO(new PartialNewsDTO("/noticia1", "Título 1"),
+                "Subtítulo", "Conteúdo", LocalDateTime.of(2024, 1, 15, 10, 0), "João Silva");
+
+        @BeforeEach
+        void setUp() {
+            Author author = new Author("João Silva");
+            author.setId(1L);
+            ReflectionTestUtils.setField(NewsPersistenceServiceImplTest.this.persistenceService, "authorCacheMaxEntries", 100);
+            when(NewsPersistenceServiceImplTest.this.authorRepository.upsertByNames(anySet())).thenReturn(Map.of("João Silva", author));
+            when(NewsPersistenceServiceImplTest.this.repository.saveAll(anyList())).thenReturn(List.of());
+        }
+
+        @AfterEach
+        void tearDown() {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        @DisplayName("Deve anexar autores do cache sem ir ao banco")
+        @SuppressWarnings("unchecked")
+        void deveAnexarAutoresDoCacheSemIrAoBanco() {
+            NewsPersistenceServiceImplTest.this.persistenceService.saveParsedNews(List.of(this.parsed));
+            NewsPersistenceServiceImplTest.this.persistenceService.saveParsedNews(List.of(this.parsed));
+
+            ArgumentCaptor<List<News>> captor = ArgumentCaptor.forClass(List.class);
+            verify(NewsPersistenceServiceImplTest.this.authorRepository, times(1)).upsertByNames(anySet());
+            verify(NewsPersistenceServiceImplTest.this.repository, times(2)).saveAll(captor.capture());
+            assertThat(captor.getAllValues().get(1)).singleElement().satisfies(news -> {
+                assertThat(news.getAuthor().getId()).isEqualTo(1L);
+                assertThat(news.getAuthor().getName()).isEqualTo("João Silva");
+            });
+        }
+
+        @Test
+        @DisplayName("Deve guardar autores no cache só depois do commit")
+        void deveGuardarAutoresNoCacheSoDepoisDoCommit() {
+            TransactionSynchronizationManager.initSynchronization();
+            NewsPersistenceServiceImplTest.this.persistenceService.saveParsedNews(List.of(this.parsed));
+            NewsPersistenceServiceImplTest.this.persistenceService.saveParsedNews(List.of(this.parsed));
+            verify(NewsPersistenceServiceImplTest.this.authorRepository, times(2)).upsertByNames(anySet());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            NewsPersistenceServiceImplTest.this.persistenceService.saveParsedNews(List.of(this.parsed));
+            verify(NewsPersistenceServiceImplTest.this.authorRepository, times(2)).upsertByNames(anySet());
+        }
+
+        @Test
+        @DisplayName("Não deve guardar autores no cache quando a transação é desfeita")
+        void naoDeveGuardarAutoresNoCacheQuandoTransacaoEhDesfeita() {
+            TransactionSynchronizationManager.initSynchronization();
+            NewsPersistenceServiceImplTest.this.persistenceService.saveParsedNews(List.of(this.parsed));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            TransactionSynchronizationManager.clearSynchronization();
+
+            NewsPersistenceServiceImplTest.this.persistenceService.saveParsedNews(List.of(this.parsed));
+
+            verify(NewsPersistenceServiceImplTest.this.authorRepository, times(2)).upsertByNames(anySet());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para rebuildAuthorDailyCounts")
+    class RebuildAuthorDailyCountsTests {
+
+        @Test
+        @DisplayName("Deve recalcular as contagens diárias e retornar as linhas gravadas")
+        void deveRecalcularContagensDiarias() {
+            when(NewsPersistenceServiceImplTest.this.authorRepository.rebuildDailyCounts()).thenReturn(42);
+
+            int rows = NewsPersistenceServiceImplTest.this.persistenceService.rebuildAuthorDailyCounts();
+
+            assertThat(rows).isEqualTo(42);
+            verify(NewsPersistenceServiceImplTest.this.reportCache).invalidateAll();
+            verify(NewsPersistenceServiceImplTest.this.publicationIndex).reloadOnCommit();
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para backfillParsedNews")
+    class BackfillParsedNewsTests {
+
+        @Test
+        @DisplayName("Deve enviar ao COPY apenas notícias com autor e data de publicação")
+        @SuppressWarnings("unchecked")
+        void deveEnviarApenasNoticiasCompletas() {
+            ParsedNewsDTO completa = new ParsedNewsDTO(new PartialNewsDTO("/noticia1", "Título 1"),
+                    "Subtítulo", "Conteúdo", LocalDateTime.of(2024, 1, 15, 10, 0), "João Silva");
+            ParsedNewsDTO semData = new ParsedNewsDTO(new PartialNewsDTO("/noticia2", "Título 2"),
+                    "Subtítulo", "Conteúdo", null, "João Silva");
+
+            when(NewsPersistenceServiceImplTest.this.repository.copyIgnoringDuplicates(anyList())).thenReturn(1);
+
+            int inserted = NewsPersistenceServiceImplTest.this.persistenceService.backfillParsedNews(List.of(completa, semData));
+
+            ArgumentCaptor<List<ParsedNewsDTO>> captor = ArgumentCaptor.forClass(List.class);
+            verify(NewsPersistenceServiceImplTest.this.repository).copyIgnoringDuplicates(captor.capture());
+            assertThat(captor.getValue()).containsExactly(completa);
+            assertThat(inserted).isEqualTo(1);
+            verifyNoInteractions(NewsPersistenceServiceImplTest.this.authorRepository);
+            verify(NewsPersistenceServiceImplTest.this.reportCache).invalidate(List.of(LocalDateTime.of(2024, 1, 15, 10, 0)));
+            verify(NewsPersistenceServiceImplTest.this.publicationIndex).reloadOnCommit();
+        }
+    }
+}
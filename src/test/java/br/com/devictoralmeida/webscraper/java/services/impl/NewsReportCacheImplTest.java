@@ -0,0 +1,303 @@
+package br.com.devictoralmeida.webscraper.java.services.impl;
+
+import br.com.devictoralmeida.webscraper.java.dtos.ParsedNewsDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.PartialNewsDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.AuthorNewsCountResponseDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.NewsResponseDTO;
+import br.com.devictoralmeida.webscraper.java.entities.Author;
+import br.com.devictoralmeida.webscraper.java.entities.News;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes para o cache de relatórios NewsReportCache")
+class NewsReportCacheImplTest {
+    private static final int MAX_ENTRIES = 3;
+    private static final long MAX_BYTES = 1_000_000;
+    private static final long TTL_MS = 60_000;
+    private static final LocalDate JANEIRO = LocalDate.of(2024, 1, 1);
+    private static final LocalDate FIM_JANEIRO = LocalDate.of(2024, 1, 31);
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private SimpleMeterRegistry meterRegistry;
+    private NewsReportCacheImpl cache;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.cache = new NewsReportCacheImpl(this.meterRegistry);
+        ReflectionTestUtils.setField(this.cache, "maxEntries", MAX_ENTRIES);
+        ReflectionTestUtils.setField(this.cache, "maxBytes", MAX_BYTES);
+        ReflectionTestUtils.setField(this.cache, "ttlMs", TTL_MS);
+        ReflectionTestUtils.setField(this.cache, "nanoTime", (LongSupplier) this.now::get);
+    }
+
+    private List<AuthorNewsCountResponseDTO> topAuthors(LocalDate start, LocalDate end) {
+        return this.cache.getTopAuthors(start, end, 10, 0, "v1", loader());
+    }
+
+    private List<NewsResponseDTO> authorNews(Long authorId, AtomicInteger newsLoads) {
+        return this.cache.getAuthorNews(authorId, JANEIRO, FIM_JANEIRO, "v1", () -> {
+            newsLoads.incrementAndGet();
+            return List.of(news(authorId));
+        });
+    }
+
+    private static NewsResponseDTO news(Long authorId) {
+        Author author = new Author("Autor " + authorId);
+        author.setId(authorId);
+        ParsedNewsDTO parsed = new ParsedNewsDTO(new PartialNewsDTO("https://www.infomoney.com.br/mercados/noticia-" + authorId + "/",
+                "Título"), "Subtítulo", "Conteúdo ".repeat(1_000), LocalDateTime.of(2024, 1, 15, 10, 0), author.getName());
+        return new NewsResponseDTO(new News(parsed, author));
+    }
+
+    private Supplier<List<AuthorNewsCountResponseDTO>> loader() {
+        return () -> List.of(new AuthorNewsCountResponseDTO(1L, "João Silva", (long) this.loads.incrementAndGet()));
+    }
+
+    @Nested
+    @DisplayName("Testes para leitura do cache")
+    class GetTests {
+
+        @Test
+        @DisplayName("Deve consultar o banco só na primeira requisição do mesmo período")
+        void deveConsultarOBancoSoNaPrimeiraRequisicao() {
+            List<AuthorNewsCountResponseDTO> first = topAuthors(JANEIRO, FIM_JANEIRO);
+            List<AuthorNewsCountResponseDTO> second = topAuthors(JANEIRO, FIM_JANEIRO);
+
+            assertThat(second).isSameAs(first);
+            assertThat(NewsReportCacheImplTest.this.loads.get()).isEqualTo(1);
+            assertThat(NewsReportCacheImplTest.this.meterRegistry.get("scraper.report.cache.requests")
+                    .tags("report", NewsReportCacheImpl.TOP_AUTHORS, "result", "hit").timer().count()).isEqualTo(1);
+            assertThat(NewsReportCacheImplTest.this.meterRegistry.get("scraper.report.cache.requests")
+                    .tags("report", NewsReportCacheImpl.TOP_AUTHORS, "result", "miss").timer().count()).isEqualTo(1);
+            assertThat(NewsReportCacheImplTest.this.meterRegistry.get("scraper.report.cache.hit.ratio")
+                    .tag("report", NewsReportCacheImpl.TOP_AUTHORS).gauge().value()).isEqualTo(0.5);
+        }
+
+        @Test
+        @DisplayName("Deve separar os relatórios por autor e por tipo")
+        void deveSepararRelatoriosPorAutorEPorTipo() {
+            AtomicInteger newsLoads = new AtomicInteger();
+            Supplier<List<NewsResponseDTO>> newsLoader = () -> {
+                newsLoads.incrementAndGet();
+                return List.of();
+            };
+
+            topAuthors(JANEIRO, FIM_JANEIRO);
+            NewsReportCacheImplTest.this.cache.getAuthorNews(1L, JANEIRO, FIM_JANEIRO, "v1", newsLoader);
+            NewsReportCacheImplTest.this.cache.getAuthorNews(2L, JANEIRO, FIM_JANEIRO, "v1", newsLoader);
+            NewsReportCacheImplTest.this.cache.getAuthorNews(1L, JANEIRO, FIM_JANEIRO, "v1", newsLoader);
+
+            assertThat(NewsReportCacheImplTest.this.loads.get()).isEqualTo(1);
+            assertThat(newsLoads.get()).isEqualTo(2);
+            assertThat(NewsReportCacheImplTest.this.meterRegistry.get("scraper.report.cache.size").gauge().value())
+                    .isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Deve guardar cada página do relatório em uma entrada própria")
+        void deveGuardarCadaPaginaEmUmaEntrada() {
+            NewsReportCacheImplTest.this.cache.getTopAuthors(JANEIRO, FIM_JANEIRO, 10, 0, "v1", loader());
+            NewsReportCacheImplTest.this.cache.getTopAuthors(JANEIRO, FIM_JANEIRO, 10, 10, "v1", loader());
+            NewsReportCacheImplTest.this.cache.getTopAuthors(JANEIRO, FIM_JANEIRO, 20, 0, "v1", loader());
+            NewsReportCacheImplTest.this.cache.getTopAuthors(JANEIRO, FIM_JANEIRO, 10, 10, "v1", loader());
+
+            assertThat(NewsReportCacheImplTest.this.loads.get()).isEqualTo(3);
+
+            NewsReportCacheImplTest.this.cache.invalidate(List.of(LocalDateTime.of(2024, 1, 20, 8, 0)));
+            NewsReportCacheImplTest.this.cache.getTopAuthors(JANEIRO, FIM_JANEIRO, 10, 10, "v1", loader());
+            assertThat(NewsReportCacheImplTest.this.loads.get()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("Não deve devolver o relatório guardado para outra versão dos dados")
+        void naoDeveDevolverRelatorioDeOutraVersao() {
+            NewsReportCacheImplTest.this.cache.getTopAuthors(JANEIRO, FIM_JANEIRO, 10, 0, "v1", loader());
+            List<AuthorNewsCountResponseDTO> afterIngest = NewsReportCacheImplTest.this.cache
+                    .getTopAuthors(JANEIRO, FIM_JANEIRO, 10, 0, "v2", loader());
+            assertThat(afterIngest).first().extracting(AuthorNewsCountResponseDTO::getNewsCount).isEqualTo(2L);
+
+            assertThat(NewsReportCacheImplTest.this.cache.getTopAuthors(JANEIRO, FIM_JANEIRO, 10, 0, "v2", loader()))
+                    .isSameAs(afterIngest);
+            assertThat(NewsReportCacheImplTest.this.loads.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Deve consultar o banco de novo quando a entrada expira")
+        void deveConsultarOBancoDeNovoQuandoAEntradaExpira() {
+            topAuthors(JANEIRO, FIM_JANEIRO);
+            NewsReportCacheImplTest.this.now.addAndGet(TimeUnit.MILLISECONDS.toNanos(TTL_MS) - 1);
+            topAuthors(JANEIRO, FIM_JANEIRO);
+            assertThat(NewsReportCacheImplTest.this.loads.get()).isEqualTo(1);
+
+            NewsReportCacheImplTest.this.now.addAndGet(1);
+            topAuthors(JANEIRO, FIM_JANEIRO);
+            assertThat(NewsReportCacheImplTest.this.loads.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Deve descartar o período usado há mais tempo ao passar do limite de entradas")
+        void deveDescartarPeriodoUsadoHaMaisTempo() {
+            topAuthors(JANEIRO, JANEIRO.plusDays(1));
+            topAuthors(JANEIRO, JANEIRO.plusDays(2));
+            topAuthors(JANEIRO, JANEIRO.plusDays(3));
+            topAuthors(JANEIRO, JANEIRO.plusDays(1));
+            topAuthors(JANEIRO, JANEIRO.plusDays(4));
+            assertThat(NewsReportCacheImplTest.this.loads.get()).isEqualTo(4);
+
+            topAuthors(JANEIRO, JANEIRO.plusDays(1));
+            assertThat(NewsReportCacheImplTest.this.loads.get()).isEqualTo(4);
+            topAuthors(JANEIRO, JANEIRO.plusDays(2));
+            assertThat(NewsReportCacheImplTest.this.loads.get()).isEqualTo(5);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para o limite de bytes")
+    class MaxBytesTests {
+        private final long newsBytes = NewsReportCacheImpl.estimateBytes(news(1L));
+        private final AtomicInteger newsLoads = new AtomicInteger();
+
+        @Test
+        @DisplayName("Deve descartar os relatórios usados há mais tempo ao passar do limite de bytes")
+        void deveDescartarRelatoriosAoPassarDoLimiteDeBytes() {
+            ReflectionTestUtils.setField(NewsReportCacheImplTest.this.cache, "maxBytes", this.newsBytes * 5 / 2);
+
+            authorNews(1L, this.newsLoads);
+            authorNews(2L, this.newsLoads);
+            authorNews(1L, this.newsLoads);
+            authorNews(3L, this.newsLoads);
+            assertThat(this.newsLoads.get()).isEqualTo(3);
+
+            authorNews(1L, this.newsLoads);
+            assertThat(this.newsLoads.get()).isEqualTo(3);
+            authorNews(2L, this.newsLoads);
+            assertThat(this.newsLoads.get()).isEqualTo(4);
+            assertThat(NewsReportCacheImplTest.this.meterRegistry.get("scraper.report.cache.size").gauge().value())
+                    .isEqualTo(2);
+            assertThat(NewsReportCacheImplTest.this.meterRegistry.get("scraper.report.cache.bytes").gauge().value())
+                    .isEqualTo(this.newsBytes * 2);
+        }
+
+        @Test
+        @DisplayName("Não deve guardar o relatório maior que o limite de bytes")
+        void naoDeveGuardarRelatorioMaiorQueOLimite() {
+            topAuthors(JANEIRO, FIM_JANEIRO);
+            ReflectionTestUtils.setField(NewsReportCacheImplTest.this.cache, "maxBytes", this.newsBytes - 1);
+
+            authorNews(1L, this.newsLoads);
+            authorNews(1L, this.newsLoads);
+
+            assertThat(this.newsLoads.get()).isEqualTo(2);
+            topAuthors(JANEIRO, FIM_JANEIRO);
+            assertThat(NewsReportCacheImplTest.this.loads.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve descontar os bytes dos relatórios invalidados")
+        void deveDescontarBytesInvalidados() {
+            authorNews(1L, this.newsLoads);
+            topAuthors(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29));
+            long topAuthorsBytes = NewsReportCacheImpl.estimateBytes(new AuthorNewsCountResponseDTO(1L, "João Silva", 1L));
+
+            NewsReportCacheImplTest.this.cache.invalidate(List.of(LocalDateTime.of(2024, 1, 15, 10, 0)));
+            assertThat(NewsReportCacheImplTest.this.meterRegistry.get("scraper.report.cache.bytes").gauge().value())
+                    .isEqualTo(topAuthorsBytes);
+
+            NewsReportCacheImplTest.this.cache.invalidateAll();
+            assertThat(NewsReportCacheImplTest.this.meterRegistry.get("scraper.report.cache.bytes").gauge().value())
+                    .isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para invalidação")
+    class InvalidateTests {
+
+        @Test
+        @DisplayName("Deve invalidar só os períodos que contêm as datas publicadas")
+        void deveInvalidarSoOsPeriodosQueContemAsDatas() {
+            topAuthors(JANEIRO, FIM_JANEIRO);
+            topAuthors(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29));
+            topAuthors(LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 15));
+
+            NewsReportCacheImplTest.this.cache.invalidate(List.of(LocalDateTime.of(2024, 1, 20, 23, 59)));
+
+            topAuthors(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29));
+            topAuthors(LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 15));
+            assertThat(NewsReportCacheImplTest.this.loads.get()).isEqualTo(3);
+            topAuthors(JANEIRO, FIM_JANEIRO);
+            assertThat(NewsReportCacheImplTest.this.loads.get()).isEqualTo(4);
+            assertThat(NewsReportCacheImplTest.this.meterRegistry.get("scraper.report.cache.invalidated").counter().count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve registrar o contador de invalidações e os gauges uma vez, na criação do cache")
+        void deveRegistrarMedidoresNaCriacao() {
+            assertThat(NewsReportCacheImplTest.this.meterRegistry.get("scraper.report.cache.invalidated").counter().count())
+                    .isZero();
+            assertThat(NewsReportCacheImplTest.this.meterRegistry.get("scraper.report.cache.bytes").gauge().value()).isZero();
+
+            topAuthors(JANEIRO, FIM_JANEIRO);
+            NewsReportCacheImplTest.this.cache.invalidate(List.of(LocalDateTime.of(2024, 1, 20, 10, 0)));
+            NewsReportCacheImplTest.this.cache.invalidateAll();
+
+            assertThat(NewsReportCacheImplTest.this.meterRegistry.find("scraper.report.cache.invalidated").counters()).hasSize(1);
+            assertThat(NewsReportCacheImplTest.this.meterRegistry.find("scraper.report.cache.size").gauges()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Deve invalidar os períodos que começam ou terminam no dia publicado")
+        void deveInvalidarPeriodosNosLimites() {
+            topAuthors(JANEIRO, FIM_JANEIRO);
+            topAuthors(FIM_JANEIRO, LocalDate.of(2024, 2, 29));
+
+            NewsReportCacheImplTest.this.cache.invalidate(List.of(LocalDateTime.of(2023, 12, 1, 8, 0),
+                    LocalDateTime.of(2024, 1, 31, 0, 0)));
+
+            topAuthors(JANEIRO, FIM_JANEIRO);
+            topAuthors(FIM_JANEIRO, LocalDate.of(2024, 2, 29));
+            assertThat(NewsReportCacheImplTest.this.loads.get()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("Não deve guardar o relatório calculado enquanto houve uma invalidação")
+        void naoDeveGuardarRelatorioCalculadoDuranteInvalidacao() {
+            NewsReportCacheImplTest.this.cache.getTopAuthors(JANEIRO, FIM_JANEIRO, 10, 0, "v1", () -> {
+                NewsReportCacheImplTest.this.cache.invalidate(List.of(LocalDateTime.of(2024, 1, 15, 10, 0)));
+                return List.of();
+            });
+
+            topAuthors(JANEIRO, FIM_JANEIRO);
+            assertThat(NewsReportCacheImplTest.this.loads.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve esvaziar o cache no invalidateAll")
+        void deveEsvaziarOCacheNoInvalidateAll() {
+            topAuthors(JANEIRO, FIM_JANEIRO);
+            NewsReportCacheImplTest.this.cache.invalidateAll();
+            topAuthors(JANEIRO, FIM_JANEIRO);
+
+            assertThat(NewsReportCacheImplTest.this.loads.get()).isEqualTo(2);
+        }
+    }
+}
@@ -1,15 +1,36 @@
 package br.com.devictoralmeida.webscraper.java.services.impl;
 
+import br.com.devictoralmeida.webscraper.java.config.JacksonConfig;
+import br.com.devictoralmeida.webscraper.java.dtos.AuthorBucketCountDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.NewsCursorDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.NewsSearchHitDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.NewsSummaryDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.NewsWithContentDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.PublicationBucketDTO;
 import br.com.devictoralmeida.webscraper.java.dtos.request.DateRangeRequestDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.request.ExportFormat;
+import br.com.devictoralmeida.webscraper.java.dtos.request.HistogramBucket;
 import br.com.devictoralmeida.webscraper.java.dtos.response.AuthorNewsCountResponseDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.NewsPageResponseDTO;
 import br.com.devictoralmeida.webscraper.java.dtos.response.NewsResponseDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.NewsSearchHitResponseDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.NewsSearchPageResponseDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.NewsSummaryResponseDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.PublicationHistogramBucketResponseDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.PublicationHistogramResponseDTO;
 import br.com.devictoralmeida.webscraper.java.entities.Author;
 import br.com.devictoralmeida.webscraper.java.entities.News;
 import br.com.devictoralmeida.webscraper.java.exception.ParametrosDeConsultaInvalidosException;
 import br.com.devictoralmeida.webscraper.java.exception.RecursoNaoEncontradoException;
 import br.com.devictoralmeida.webscraper.java.repositories.AuthorRepository;
 import br.com.devictoralmeida.webscraper.java.repositories.NewsRepository;
+import br.com.devictoralmeida.webscraper.java.services.AuthorPublicationIndex;
+import br.com.devictoralmeida.webscraper.java.services.NewsReportCache;
 import br.com.devictoralmeida.webscraper.java.services.ScraperService;
+import br.com.devictoralmeida.webscraper.java.shared.Constants;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,14 +38,29 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -41,6 +77,21 @@ class NewsServiceImplTest {
     @Mock
     private NewsRepository newsRepository;
 
+    @Spy
+    private ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private NewsReportCache reportCache;
+
+    @Mock
+    private AuthorPublicationIndex publicationIndex;
+
     @InjectMocks
     private NewsServiceImpl newsService;
 
@@ -130,34 +181,68 @@ class NewsServiceImplTest {
     @DisplayName("Testes para findTopAuthorsByDateRange")
     class FindTopAuthorsByDateRangeTests {
 
+        @BeforeEach
+        void setUp() {
+            lenient().when(NewsServiceImplTest.this.reportCache.getTopAuthors(any(), any(), anyInt(), anyInt(), any(), any()))
+                    .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(5).get());
+        }
+
         @Test
         @DisplayName("Deve buscar autores mais ativos com sucesso")
         void deveBuscarAutoresMaisAtivosComSucesso() {
-            when(NewsServiceImplTest.this.authorRepository.findAuthorsWithMostPublicationsOnDateRange(any(), any()))
+            when(NewsServiceImplTest.this.authorRepository.findMostPublicationsFromDailyCounts(any(), any(), anyInt(), anyInt()))
                     .thenReturn(List.of(NewsServiceImplTest.this.authorNewsCount));
 
             List<AuthorNewsCountResponseDTO> result = NewsServiceImplTest.this.newsService
-                    .findTopAuthorsByDateRange(NewsServiceImplTest.this.dateRangeRequest);
+                    .findTopAuthorsByDateRange(NewsServiceImplTest.this.dateRangeRequest, 10, 0, "\"v1\"");
 
             assertThat(result).hasSize(1);
             assertThat(result.get(0).getName()).isEqualTo("João Silva");
             assertThat(result.get(0).getNewsCount()).isEqualTo(10L);
             verify(NewsServiceImplTest.this.authorRepository, times(1))
-                    .findAuthorsWithMostPublicationsOnDateRange(any(), any());
+                    .findMostPublicationsFromDailyCounts(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), 10, 0);
         }
 
         @Test
         @DisplayName("Deve retornar lista vazia quando não há autores no período")
         void deveRetornarListaVaziaQuandoNaoHaAutoresNoPeriodo() {
-            when(NewsServiceImplTest.this.authorRepository.findAuthorsWithMostPublicationsOnDateRange(any(), any()))
+            when(NewsServiceImplTest.this.authorRepository.findMostPublicationsFromDailyCounts(any(), any(), anyInt(), anyInt()))
                     .thenReturn(List.of());
 
             List<AuthorNewsCountResponseDTO> result = NewsServiceImplTest.this.newsService
-                    .findTopAuthorsByDateRange(NewsServiceImplTest.this.dateRangeRequest);
+                    .findTopAuthorsByDateRange(NewsServiceImplTest.this.dateRangeRequest, 10, 0, "\"v1\"");
 
             assertThat(result).isEmpty();
         }
 
+        @Test
+        @DisplayName("Deve usar o índice em memória quando ele está carregado, sem consultar o banco")
+        void deveUsarIndiceEmMemoriaQuandoCarregado() {
+            when(NewsServiceImplTest.this.publicationIndex.findTopAuthors(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), 10, 0))
+                    .thenReturn(Optional.of(List.of(NewsServiceImplTest.this.authorNewsCount)));
+
+            List<AuthorNewsCountResponseDTO> result = NewsServiceImplTest.this.newsService
+                    .findTopAuthorsByDateRange(NewsServiceImplTest.this.dateRangeRequest, 10, 0, "\"v1\"");
+
+            assertThat(result).containsExactly(NewsServiceImplTest.this.authorNewsCount);
+            verifyNoInteractions(NewsServiceImplTest.this.authorRepository);
+        }
+
+        @Test
+        @DisplayName("Deve devolver o relatório do cache sem consultar o banco")
+        void deveDevolverRelatorioDoCacheSemConsultarOBanco() {
+            doReturn(List.of(NewsServiceImplTest.this.authorNewsCount))
+                    .when(NewsServiceImplTest.this.reportCache).getTopAuthors(any(), any(), anyInt(), anyInt(), any(), any());
+
+            List<AuthorNewsCountResponseDTO> result = NewsServiceImplTest.this.newsService
+                    .findTopAuthorsByDateRange(NewsServiceImplTest.this.dateRangeRequest, 10, 0, "\"v1\"");
+
+            assertThat(result).containsExactly(NewsServiceImplTest.this.authorNewsCount);
+            verify(NewsServiceImplTest.this.reportCache)
+                    .getTopAuthors(eq(LocalDate.of(2024, 1, 1)), eq(LocalDate.of(2024, 12, 31)), eq(10), eq(0), eq("\"v1\""), any());
+            verifyNoInteractions(NewsServiceImplTest.this.authorRepository);
+        }
+
         @Test
         @DisplayName("Deve lançar exceção quando data início é posterior à data fim")
         void deveLancarExcecaoQuandoDataInicioEPosteriorAFim() {
@@ -166,8 +251,119 @@ class NewsServiceImplTest {
                     LocalDateTime.of(2024, 1, 1, 0, 0)
             );
 
-            assertThatThrownBy(() -> NewsServiceImplTest.this.newsService.findTopAuthorsByDateRange(invalidRequest))
+            assertThatThrownBy(() -> NewsServiceImplTest.this.newsService.findTopAuthorsByDateRange(invalidRequest, 10, 0, "\"v1\""))
                     .isInstanceOf(ParametrosDeConsultaInvalidosException.class);
+            verifyNoInteractions(NewsServiceImplTest.this.reportCache);
+        }
+
+        @Test
+        @DisplayName("Deve levar limit e offset até a consulta das contagens diárias")
+        void deveLevarLimitEOffsetAteAConsulta() {
+            when(NewsServiceImplTest.this.authorRepository.findMostPublicationsFromDailyCounts(any(), any(), anyInt(), anyInt()))
+                    .thenReturn(List.of(NewsServiceImplTest.this.authorNewsCount));
+
+            NewsServiceImplTest.this.newsService.findTopAuthorsByDateRange(NewsServiceImplTest.this.dateRangeRequest, 25, 50, "\"v1\"");
+
+            verify(NewsServiceImplTest.this.reportCache).getTopAuthors(eq(LocalDate.of(2024, 1, 1)),
+                    eq(LocalDate.of(2024, 12, 31)), eq(25), eq(50), eq("\"v1\""), any());
+            verify(NewsServiceImplTest.this.publicationIndex)
+                    .findTopAuthors(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), 25, 50);
+            verify(NewsServiceImplTest.this.authorRepository)
+                    .findMostPublicationsFromDailyCounts(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), 25, 50);
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção quando limit ou offset estão fora dos limites")
+        void deveLancarExcecaoQuandoLimitOuOffsetInvalidos() {
+            assertThatThrownBy(() -> NewsServiceImplTest.this.newsService
+                    .findTopAuthorsByDateRange(NewsServiceImplTest.this.dateRangeRequest, 0, 0, "\"v1\""))
+                    .isInstanceOf(ParametrosDeConsultaInvalidosException.class)
+                    .hasMessage(Constants.TAMANHO_PAGINA_INVALIDO);
+            assertThatThrownBy(() -> NewsServiceImplTest.this.newsService
+                    .findTopAuthorsByDateRange(NewsServiceImplTest.this.dateRangeRequest, 101, 0, "\"v1\""))
+                    .isInstanceOf(ParametrosDeConsultaInvalidosException.class)
+                    .hasMessage(Constants.TAMANHO_PAGINA_INVALIDO);
+            assertThatThrownBy(() -> NewsServiceImplTest.this.newsService
+                    .findTopAuthorsByDateRange(NewsServiceImplTest.this.dateRangeRequest, 10, -1, "\"v1\""))
+                    .isInstanceOf(ParametrosDeConsultaInvalidosException.class)
+                    .hasMessage(Constants.DESLOCAMENTO_INVALIDO);
+            verifyNoInteractions(NewsServiceImplTest.this.reportCache);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para os ETags dos relatórios")
+    class ReportETagTests {
+
+        @Test
+        @DisplayName("Deve manter o ETag enquanto a versão dos dados do período não muda")
+        void deveManterETagEnquantoVersaoNaoMuda() {
+            when(NewsServiceImplTest.this.newsRepository.findTopAuthorsVersion(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)))
+                    .thenReturn("3-10-25", "3-10-25", "3-11-27");
+
+            String first = NewsServiceImplTest.this.newsService.getTopAuthorsETag(NewsServiceImplTest.this.dateRangeRequest, 10, 0);
+            String second = NewsServiceImplTest.this.newsService.getTopAuthorsETag(NewsServiceImplTest.this.dateRangeRequest, 10, 0);
+            String afterIngest = NewsServiceImplTest.this.newsService.getTopAuthorsETag(NewsServiceImplTest.this.dateRangeRequest, 10, 0);
+
+            assertThat(first).startsWith("\"").endsWith("\"").isEqualTo(second).isNotEqualTo(afterIngest);
+            verifyNoInteractions(NewsServiceImplTest.this.reportCache, NewsServiceImplTest.this.authorRepository);
+        }
+
+        @Test
+        @DisplayName("Deve gerar ETags diferentes para páginas diferentes do mesmo período")
+        void deveGerarETagsDiferentesPorPagina() {
+            when(NewsServiceImplTest.this.newsRepository.findTopAuthorsVersion(any(), any())).thenReturn("3-10-25");
+
+            String firstPage = NewsServiceImplTest.this.newsService.getTopAuthorsETag(NewsServiceImplTest.this.dateRangeRequest, 10, 0);
+            String secondPage = NewsServiceImplTest.this.newsService.getTopAuthorsETag(NewsServiceImplTest.this.dateRangeRequest, 10, 10);
+            String largerPage = NewsServiceImplTest.this.newsService.getTopAuthorsETag(NewsServiceImplTest.this.dateRangeRequest, 20, 0);
+
+            assertThat(List.of(firstPage, secondPage, largerPage)).doesNotHaveDuplicates();
+        }
+
+        @Test
+        @DisplayName("Deve gerar ETags diferentes para períodos e autores diferentes com a mesma versão")
+        void deveGerarETagsDiferentesPorPeriodoEAutor() {
+            DateRangeRequestDTO otherRange = new DateRangeRequestDTO(
+                    LocalDateTime.of(2024, 1, 1, 0, 0),
+                    LocalDateTime.of(2024, 6, 30, 23, 59)
+            );
+            when(NewsServiceImplTest.this.newsRepository.findAuthorNewsVersion(anyLong(), any(), any()))
+                    .thenReturn(Optional.of("0-0-0"));
+
+            String author1 = NewsServiceImplTest.this.newsService.getNewsByAuthorETag(1L, NewsServiceImplTest.this.dateRangeRequest);
+            String author2 = NewsServiceImplTest.this.newsService.getNewsByAuthorETag(2L, NewsServiceImplTest.this.dateRangeRequest);
+            String author1OtherRange = NewsServiceImplTest.this.newsService.getNewsByAuthorETag(1L, otherRange);
+
+            assertThat(List.of(author1, author2, author1OtherRange)).doesNotHaveDuplicates();
+            verify(NewsServiceImplTest.this.newsRepository).findAuthorNewsVersion(1L,
+                    LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 12, 31, 23, 59, 59, 999_999_000));
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção quando o autor do ETag não existe")
+        void deveLancarExcecaoQuandoAutorNaoExiste() {
+            when(NewsServiceImplTest.this.newsRepository.findAuthorNewsVersion(anyLong(), any(), any()))
+                    .thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> NewsServiceImplTest.this.newsService
+                    .getNewsByAuthorETag(999L, NewsServiceImplTest.this.dateRangeRequest))
+                    .isInstanceOf(RecursoNaoEncontradoException.class);
+        }
+
+        @Test
+        @DisplayName("Deve validar o período antes de consultar a versão")
+        void deveValidarPeriodoAntesDeConsultarVersao() {
+            DateRangeRequestDTO invalidRequest = new DateRangeRequestDTO(
+                    LocalDateTime.of(2024, 12, 31, 23, 59),
+                    LocalDateTime.of(2024, 1, 1, 0, 0)
+            );
+
+            assertThatThrownBy(() -> NewsServiceImplTest.this.newsService.getTopAuthorsETag(invalidRequest, 10, 0))
+                    .isInstanceOf(ParametrosDeConsultaInvalidosException.class);
+            assertThatThrownBy(() -> NewsServiceImplTest.this.newsService.getNewsByAuthorETag(1L, invalidRequest))
+                    .isInstanceOf(ParametrosDeConsultaInvalidosException.class);
+            verifyNoInteractions(NewsServiceImplTest.this.newsRepository);
         }
     }
 
@@ -175,19 +371,29 @@ class NewsServiceImplTest {
     @DisplayName("Testes para findNewsByAuthorAndDateRange")
     class FindNewsByAuthorAndDateRangeTests {
 
+        @BeforeEach
+        void setUp() {
+            lenient().when(NewsServiceImplTest.this.reportCache.getAuthorNews(anyLong(), any(), any(), any(), any()))
+                    .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(4).get());
+            lenient().when(NewsServiceImplTest.this.transactionTemplate.execute(any()))
+                    .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0)
+                            .doInTransaction(mock(TransactionStatus.class)));
+        }
+
         @Test
         @DisplayName("Deve buscar notícias de um autor específico com sucesso")
         void deveBuscarNoticiasDeAutorEspecificoComSucesso() {
             when(NewsServiceImplTest.this.authorRepository.existsById(anyLong()))
                     .thenReturn(true);
             when(NewsServiceImplTest.this.newsRepository.findNewsByAuthorAndDateRange(anyLong(), any(), any()))
-                    .thenReturn(List.of(NewsServiceImplTest.this.news));
+                    .thenReturn(List.of(new NewsWithContentDTO(NewsServiceImplTest.this.news, "Conteúdo lido de tb_news_content")));
 
             List<NewsResponseDTO> result = NewsServiceImplTest.this.newsService
-                    .findNewsByAuthorAndDateRange(1L, NewsServiceImplTest.this.dateRangeRequest);
+                    .findNewsByAuthorAndDateRange(1L, NewsServiceImplTest.this.dateRangeRequest, "\"v1\"");
 
             assertThat(result).hasSize(1);
             assertThat(result.get(0).getTitle()).isEqualTo("Título da Notícia");
+            assertThat(result.get(0).getContent()).isEqualTo("Conteúdo lido de tb_news_content");
             verify(NewsServiceImplTest.this.authorRepository, times(1)).existsById(1L);
             verify(NewsServiceImplTest.this.newsRepository, times(1))
                     .findNewsByAuthorAndDateRange(anyLong(), any(), any());
@@ -202,7 +408,7 @@ class NewsServiceImplTest {
                     .thenReturn(List.of());
 
             List<NewsResponseDTO> result = NewsServiceImplTest.this.newsService
-                    .findNewsByAuthorAndDateRange(1L, NewsServiceImplTest.this.dateRangeRequest);
+                    .findNewsByAuthorAndDateRange(1L, NewsServiceImplTest.this.dateRangeRequest, "\"v1\"");
 
             assertThat(result).isEmpty();
         }
@@ -214,7 +420,7 @@ class NewsServiceImplTest {
                     .thenReturn(false);
 
             assertThatThrownBy(() -> NewsServiceImplTest.this.newsService
-                    .findNewsByAuthorAndDateRange(999L, NewsServiceImplTest.this.dateRangeRequest))
+                    .findNewsByAuthorAndDateRange(999L, NewsServiceImplTest.this.dateRangeRequest, "\"v1\""))
                     .isInstanceOf(RecursoNaoEncontradoException.class);
         }
 
@@ -226,12 +432,10 @@ class NewsServiceImplTest {
                     LocalDateTime.of(2024, 1, 1, 0, 0)
             );
 
-            when(NewsServiceImplTest.this.authorRepository.existsById(anyLong()))
-                    .thenReturn(true);
-
             assertThatThrownBy(() -> NewsServiceImplTest.this.newsService
-                    .findNewsByAuthorAndDateRange(1L, invalidRequest))
+                    .findNewsByAuthorAndDateRange(1L, invalidRequest, "\"v1\""))
                     .isInstanceOf(ParametrosDeConsultaInvalidosException.class);
+            verifyNoInteractions(NewsServiceImplTest.this.reportCache, NewsServiceImplTest.this.authorRepository);
         }
 
         @Test
@@ -249,12 +453,291 @@ class NewsServiceImplTest {
             when(NewsServiceImplTest.this.authorRepository.existsById(anyLong()))
                     .thenReturn(true);
             when(NewsServiceImplTest.this.newsRepository.findNewsByAuthorAndDateRange(anyLong(), any(), any()))
-                    .thenReturn(List.of(NewsServiceImplTest.this.news, news2));
+                    .thenReturn(List.of(
+                            new NewsWithContentDTO(NewsServiceImplTest.this.news, "Conteúdo 1"),
+                            new NewsWithContentDTO(news2, "Conteúdo 2")));
 
             List<NewsResponseDTO> result = NewsServiceImplTest.this.newsService
-                    .findNewsByAuthorAndDateRange(1L, NewsServiceImplTest.this.dateRangeRequest);
+                    .findNewsByAuthorAndDateRange(1L, NewsServiceImplTest.this.dateRangeRequest, "\"v1\"");
 
             assertThat(result).hasSize(2);
         }
     }
+
+    @Nested
+    @DisplayName("Testes para findNewsPageByAuthorAndDateRange")
+    class FindNewsPageByAuthorAndDateRangeTests {
+        private final NewsSummaryDTO first = new NewsSummaryDTO(3L, "/noticia-3", "Terceira", LocalDateTime.of(2024, 6, 17, 9, 0));
+        private final NewsSummaryDTO second = new NewsSummaryDTO(2L, "/noticia-2", "Segunda", LocalDateTime.of(2024, 6, 16, 11, 0));
+        private final NewsSummaryDTO third = new NewsSummaryDTO(1L, "/noticia-1", "Primeira", LocalDateTime.of(2024, 6, 16, 11, 0));
+
+        @Test
+        @DisplayName("Deve começar do fim do período e devolver cursor quando há mais itens")
+        void deveComecarDoFimDoPeriodoEDevolverCursor() {
+            when(NewsServiceImplTest.this.authorRepository.existsById(1L)).thenReturn(true);
+            when(NewsServiceImplTest.this.newsRepository.findSummaryPageByAuthor(anyLong(), any(), any(), anyLong(), any()))
+                    .thenReturn(List.of(this.first, this.second, this.third));
+
+            NewsPageResponseDTO page = NewsServiceImplTest.this.newsService
+                    .findNewsPageByAuthorAndDateRange(1L, NewsServiceImplTest.this.dateRangeRequest, null, 2, false);
+
+            verify(NewsServiceImplTest.this.newsRepository).findSummaryPageByAuthor(1L,
+                    LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 12, 31, 23, 59, 59, 999_999_000),
+                    Long.MAX_VALUE, Limit.of(3));
+            verify(NewsServiceImplTest.this.newsRepository, never()).findSummaryPageWithContentByAuthor(anyLong(), any(), any(), anyLong(), any());
+            assertThat(page.getItems()).extracting(NewsSummaryResponseDTO::getId).containsExactly(3L, 2L);
+            assertThat(page.getItems()).extracting(NewsSummaryResponseDTO::getContent).containsOnlyNulls();
+            assertThat(NewsCursorDTO.decode(page.getNextCursor())).isEqualTo(new NewsCursorDTO(this.second.publishDate(), 2L));
+        }
+
+        @Test
+        @DisplayName("Deve continuar do cursor recebido, com conteúdo, e não devolver cursor na última página")
+        void deveContinuarDoCursorComConteudo() {
+            NewsSummaryDTO withContent = new NewsSummaryDTO(1L, "/noticia-1", "Primeira", this.third.publishDate(), "Conteúdo");
+            String cursor = new NewsCursorDTO(this.second.publishDate(), 2L).encode();
+
+            when(NewsServiceImplTest.this.authorRepository.existsById(1L)).thenReturn(true);
+            when(NewsServiceImplTest.this.newsRepository.findSummaryPageWithContentByAuthor(anyLong(), any(), any(), anyLong(), any()))
+                    .thenReturn(List.of(withContent));
+
+            NewsPageResponseDTO page = NewsServiceImplTest.this.newsService
+                    .findNewsPageByAuthorAndDateRange(1L, NewsServiceImplTest.this.dateRangeRequest, cursor, 2, true);
+
+            verify(NewsServiceImplTest.this.newsRepository).findSummaryPageWithContentByAuthor(1L,
+                    LocalDateTime.of(2024, 1, 1, 0, 0), this.second.publishDate(), 2L, Limit.of(3));
+            assertThat(page.getItems()).singleElement().extracting(NewsSummaryResponseDTO::getContent).isEqualTo("Conteúdo");
+            assertThat(page.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção para tamanho de página ou cursor inválidos")
+        void deveLancarExcecaoParaTamanhoOuCursorInvalidos() {
+            when(NewsServiceImplTest.this.authorRepository.existsById(1L)).thenReturn(true);
+
+            assertThatThrownBy(() -> NewsServiceImplTest.this.newsService
+                    .findNewsPageByAuthorAndDateRange(1L, NewsServiceImplTest.this.dateRangeRequest, null, 0, false))
+                    .isInstanceOf(ParametrosDeConsultaInvalidosException.class);
+            assertThatThrownBy(() -> NewsServiceImplTest.this.newsService
+                    .findNewsPageByAuthorAndDateRange(1L, NewsServiceImplTest.this.dateRangeRequest, null, 101, false))
+                    .isInstanceOf(ParametrosDeConsultaInvalidosException.class);
+            assertThatThrownBy(() -> NewsServiceImplTest.this.newsService
+                    .findNewsPageByAuthorAndDateRange(1L, NewsServiceImplTest.this.dateRangeRequest, "não-é-cursor", 20, false))
+                    .isInstanceOf(ParametrosDeConsultaInvalidosException.class);
+            verifyNoInteractions(NewsServiceImplTest.this.newsRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para searchNews")
+    class SearchNewsTests {
+        private final NewsSearchHitDTO first = new NewsSearchHitDTO(3L, "/noticia-3", "Petrobras sobe", null, LocalDateTime.of(2024, 6, 17, 9, 0), 0.6f);
+        private final NewsSearchHitDTO second = new NewsSearchHitDTO(2L, "/noticia-2", "Dividendos", "Subtítulo", LocalDateTime.of(2024, 6, 16, 11, 0), 0.3f);
+        private final NewsSearchHitDTO third = new NewsSearchHitDTO(1L, "/noticia-1", "Mercado", null, LocalDateTime.of(2024, 6, 15, 11, 0), 0.1f);
+
+        @Test
+        @DisplayName("Deve buscar um item a mais, calcular o offset e indicar que há próxima página")
+        void deveBuscarItemAMaisEIndicarProximaPagina() {
+            when(NewsServiceImplTest.this.newsRepository.search("petrobras dividendos", 3, 4L))
+                    .thenReturn(List.of(this.first, this.second, this.third));
+
+            NewsSearchPageResponseDTO page = NewsServiceImplTest.this.newsService.searchNews("  petrobras dividendos ", 2, 2);
+
+            assertThat(page.getItems()).extracting(NewsSearchHitResponseDTO::getId).containsExactly(3L, 2L);
+            assertThat(page.getItems()).extracting(NewsSearchHitResponseDTO::getPublishDate)
+                    .containsExactly("17/06/2024 09:00", "16/06/2024 11:00");
+            assertThat(page.getItems().get(0).getRank()).isEqualTo(0.6f);
+            assertThat(page.getPage()).isEqualTo(2);
+            assertThat(page.getSize()).isEqualTo(2);
+            assertThat(page.isHasNext()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Deve indicar a última página quando vierem no máximo size itens")
+        void deveIndicarUltimaPagina() {
+            when(NewsServiceImplTest.this.newsRepository.search("petrobras", 21, 0L)).thenReturn(List.of(this.first));
+
+            NewsSearchPageResponseDTO page = NewsServiceImplTest.this.newsService.searchNews("petrobras", 0, 20);
+
+            assertThat(page.getItems()).hasSize(1);
+            assertThat(page.isHasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção para termo, página ou tamanho inválidos")
+        void deveLancarExcecaoParaParametrosInvalidos() {
+            assertThatThrownBy(() -> NewsServiceImplTest.this.newsService.searchNews("   ", 0, 20))
+                    .isInstanceOf(ParametrosDeConsultaInvalidosException.class);
+            assertThatThrownBy(() -> NewsServiceImplTest.this.newsService.searchNews(null, 0, 20))
+                    .isInstanceOf(ParametrosDeConsultaInvalidosException.class);
+            assertThatThrownBy(() -> NewsServiceImplTest.this.newsService.searchNews("a".repeat(201), 0, 20))
+                    .isInstanceOf(ParametrosDeConsultaInvalidosException.class);
+            assertThatThrownBy(() -> NewsServiceImplTest.this.newsService.searchNews("petrobras", -1, 20))
+                    .isInstanceOf(ParametrosDeConsultaInvalidosException.class);
+            assertThatThrownBy(() -> NewsServiceImplTest.this.newsService.searchNews("petrobras", 0, 101))
+                    .isInstanceOf(ParametrosDeConsultaInvalidosException.class);
+            verifyNoInteractions(NewsServiceImplTest.this.newsRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para getPublicationHistogram")
+    class GetPublicationHistogramTests {
+        private final LocalDateTime janeiro = LocalDateTime.of(2024, 1, 1, 0, 0);
+        private final LocalDateTime fevereiro = LocalDateTime.of(2024, 2, 1, 0, 0);
+
+        @Test
+        @DisplayName("Deve montar o histograma por dia com a quebra pelos autores mais ativos")
+        void deveMontarHistogramaComAutoresMaisAtivos() {
+            when(NewsServiceImplTest.this.newsRepository.countByBucket(HistogramBucket.DAY, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), null))
+                    .thenReturn(List.of(new PublicationBucketDTO(this.janeiro, 3), new PublicationBucketDTO(this.fevereiro, 0)));
+            when(NewsServiceImplTest.this.newsRepository.countByBucketForTopAuthors(HistogramBucket.DAY, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), 2))
+                    .thenReturn(List.of(new AuthorBucketCountDTO(this.janeiro, 1L, "João Silva", 2),
+                            new AuthorBucketCountDTO(this.janeiro, 2L, "Maria Souza", 1)));
+
+            PublicationHistogramResponseDTO histogram = NewsServiceImplTest.this.newsService
+                    .getPublicationHistogram(NewsServiceImplTest.this.dateRangeRequest, " DAY ", null, 2);
+
+            assertThat(histogram.getBucket()).isEqualTo("day");
+            assertThat(histogram.getBuckets()).extracting(PublicationHistogramBucketResponseDTO::getStart)
+                    .containsExactly("01/01/2024 00:00", "01/02/2024 00:00");
+            assertThat(histogram.getBuckets()).extracting(PublicationHistogramBucketResponseDTO::getNewsCount)
+                    .containsExactly(3L, 0L);
+            assertThat(histogram.getBuckets().get(0).getAuthors())
+                    .extracting(AuthorNewsCountResponseDTO::getName, AuthorNewsCountResponseDTO::getNewsCount)
+                    .containsExactly(tuple("João Silva", 2L), tuple("Maria Souza", 1L));
+            assertThat(histogram.getBuckets().get(1).getAuthors()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Deve filtrar pelo autor sem pedir a quebra por autores")
+        void deveFiltrarPeloAutor() {
+            when(NewsServiceImplTest.this.authorRepository.existsById(1L)).thenReturn(true);
+            when(NewsServiceImplTest.this.newsRepository.countByBucket(HistogramBucket.HOUR, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 1), 1L))
+                    .thenReturn(List.of(new PublicationBucketDTO(this.janeiro, 1)));
+            DateRangeRequestDTO umDia = new DateRangeRequestDTO(this.janeiro, this.janeiro.withHour(23));
+
+            PublicationHistogramResponseDTO histogram = NewsServiceImplTest.this.newsService.getPublicationHistogram(umDia, "hour", 1L, 0);
+
+            assertThat(histogram.getBuckets()).singleElement()
+                    .satisfies(bucket -> assertThat(bucket.getAuthors()).isNull());
+            verify(NewsServiceImplTest.this.newsRepository, never()).countByBucketForTopAuthors(any(), any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção para intervalo, quantidade de autores ou período por hora inválidos")
+        void deveLancarExcecaoParaParametrosInvalidos() {
+            DateRangeRequestDTO range = NewsServiceImplTest.this.dateRangeRequest;
+
+            assertThatThrownBy(() -> NewsServiceImplTest.this.newsService.getPublicationHistogram(range, "week", null, 0))
+                    .isInstanceOf(ParametrosDeConsultaInvalidosException.class);
+            assertThatThrownBy(() -> NewsServiceImplTest.this.newsService.getPublicationHistogram(range, "day", null, 21))
+                    .isInstanceOf(ParametrosDeConsultaInvalidosException.class);
+            assertThatThrownBy(() -> NewsServiceImplTest.this.newsService.getPublicationHistogram(range, "day", 1L, 5))
+                    .isInstanceOf(ParametrosDeConsultaInvalidosException.class);
+            assertThatThrownBy(() -> NewsServiceImplTest.this.newsService.getPublicationHistogram(
+                    new DateRangeRequestDTO(this.janeiro, this.janeiro.plusDays(366)), "hour", null, 0))
+                    .isInstanceOf(ParametrosDeConsultaInvalidosException.class);
+            verifyNoInteractions(NewsServiceImplTest.this.newsRepository, NewsServiceImplTest.this.authorRepository);
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção quando o autor não existe")
+        void deveLancarExcecaoQuandoAutorNaoExiste() {
+            when(NewsServiceImplTest.this.authorRepository.existsById(99L)).thenReturn(false);
+
+            assertThatThrownBy(() -> NewsServiceImplTest.this.newsService
+                    .getPublicationHistogram(NewsServiceImplTest.this.dateRangeRequest, "day", 99L, 0))
+                    .isInstanceOf(RecursoNaoEncontradoException.class);
+            verifyNoInteractions(NewsServiceImplTest.this.newsRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para exportNewsByDateRange")
+    class ExportNewsByDateRangeTests {
+        private final AtomicBoolean streamClosed = new AtomicBoolean();
+        private News withoutAuthor;
+
+        @BeforeEach
+        void setUp() {
+            this.withoutAuthor = new News();
+            this.withoutAuthor.setId(2L);
+            this.withoutAuthor.setTitle("Título com \"aspas\", e vírgula");
+            this.withoutAuthor.setUrl("/noticia-sem-autor");
+            this.withoutAuthor.setPublishDate(LocalDateTime.of(2024, 6, 16, 8, 30));
+            this.withoutAuthor.setCreatedAt(LocalDateTime.of(2024, 6, 16, 9, 0));
+
+            NewsServiceImplTest.this.news.setCreatedAt(LocalDateTime.of(2024, 6, 15, 11, 0));
+        }
+
+        private String export(ExportFormat format) throws Exception {
+            doAnswer(invocation -> {
+                invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+                return null;
+            }).when(NewsServiceImplTest.this.transactionTemplate).executeWithoutResult(any());
+            when(NewsServiceImplTest.this.newsRepository.streamByDateRange(any(), any()))
+                    .thenReturn(Stream.of(
+                                    new NewsWithContentDTO(NewsServiceImplTest.this.news, "Conteúdo da notícia"),
+                                    new NewsWithContentDTO(this.withoutAuthor, "Linha 1\nLinha 2"))
+                            .onClose(() -> this.streamClosed.set(true)));
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            NewsServiceImplTest.this.newsService
+                    .exportNewsByDateRange(NewsServiceImplTest.this.dateRangeRequest, format)
+                    .writeTo(output);
+            return output.toString(StandardCharsets.UTF_8);
+        }
+
+        @Test
+        @DisplayName("Deve escrever uma notícia por linha em NDJSON, desanexando cada uma e fechando o stream")
+        void deveEscreverNdjsonDesanexandoCadaNoticia() throws Exception {
+            String body = export(ExportFormat.NDJSON);
+
+            String[] lines = body.split("\n");
+            JsonNode first = NewsServiceImplTest.this.objectMapper.readTree(lines[0]);
+            JsonNode second = NewsServiceImplTest.this.objectMapper.readTree(lines[1]);
+
+            assertThat(body).endsWith("}\n");
+            assertThat(lines).hasSize(2);
+            assertThat(first.get("id").asLong()).isEqualTo(1L);
+            assertThat(first.get("author").get("name").asText()).isEqualTo("João Silva");
+            assertThat(first.get("publishDate").asText()).isEqualTo("15/06/2024 10:00");
+            assertThat(second.get("content").asText()).isEqualTo("Linha 1\nLinha 2");
+            assertThat(second.get("author").isNull()).isTrue();
+
+            verify(NewsServiceImplTest.this.newsRepository).streamByDateRange(
+                    LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 12, 31, 23, 59, 59, 999_999_000));
+            verify(NewsServiceImplTest.this.entityManager).detach(NewsServiceImplTest.this.news);
+            verify(NewsServiceImplTest.this.entityManager).detach(this.withoutAuthor);
+            assertThat(this.streamClosed).isTrue();
+        }
+
+        @Test
+        @DisplayName("Deve escrever CSV com cabeçalho e campos de texto entre aspas")
+        void deveEscreverCsvComCabecalhoECamposEntreAspas() throws Exception {
+            String body = export(ExportFormat.CSV);
+
+            assertThat(body).isEqualTo("""
+                    id,url,title,subtitle,authorId,authorName,publishDate,createdAt,content
+                    1,"/noticia-teste","Título da Notícia","Subtítulo",1,"João Silva","15/06/2024 10:00","15/06/2024 11:00","Conteúdo da notícia"
+                    2,"/noticia-sem-autor","Título com ""aspas"", e vírgula",,,,"16/06/2024 08:30","16/06/2024 09:00","Linha 1
+                    Linha 2"
+                    """);
+            verify(NewsServiceImplTest.this.entityManager, times(2)).detach(any(News.class));
+            assertThat(this.streamClosed).isTrue();
+        }
+
+        @Test
+        @DisplayName("Deve validar o período antes de devolver o corpo")
+        void deveValidarPeriodoAntesDeDevolverCorpo() {
+            DateRangeRequestDTO invertido = new DateRangeRequestDTO(
+                    LocalDateTime.of(2024, 12, 31, 0, 0),
+                    LocalDateTime.of(2024, 1, 1, 0, 0)
+            );
+
+            assertThatThrownBy(() -> NewsServiceImplTest.this.newsService.exportNewsByDateRange(invertido, ExportFormat.CSV))
+                    .isInstanceOf(ParametrosDeConsultaInvalidosException.class);
+            verifyNoInteractions(NewsServiceImplTest.this.newsRepository, NewsServiceImplTest.this.transactionTemplate);
+        }
+    }
 }
@@ -0,0 +1,355 @@
+package br.com.devictoralmeida.webscraper.java.services.impl;
+
+import br.com.devictoralmeida.webscraper.java.dtos.ConditionalResponseDTO;
+import br.com.devictoralmeida.webscraper.java.services.AdaptiveRateLimiter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Testes para o serviço ReactiveHttpClient")
+class ReactiveHttpClientImplTest {
+    private static final String ETAG = "\"v1\"";
+    private static final String LAST_MODIFIED = "Mon, 15 Jan 2024 10:00:00 GMT";
+    private static final String BODY = "<html><body>Mercados</body></html>";
+    private static final String LATIN1_BODY = "<html><body>Ações em alta</body></html>";
+    private static final int LARGE_BODY_CHUNKS = 64;
+
+    private HttpServer server;
+    private String baseUrl;
+    private ReactiveHttpClientImpl client;
+    private final List<String> receivedIfNoneMatch = new CopyOnWriteArrayList<>();
+    private final List<String> receivedIfModifiedSince = new CopyOnWriteArrayList<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService serverExecutor = Executors.newCachedThreadPool();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/etag", exchange -> {
+            String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            this.receivedIfNoneMatch.add(String.valueOf(ifNoneMatch));
+            if (ETAG.equals(ifNoneMatch)) {
+                respond(exchange, 304, null);
+            } else {
+                exchange.getResponseHeaders().add("ETag", ETAG);
+                respond(exchange, 200, BODY);
+            }
+        });
+        this.server.createContext("/last-modified", exchange -> {
+            String ifModifiedSince = exchange.getRequestHeaders().getFirst("If-Modified-Since");
+            this.receivedIfModifiedSince.add(String.valueOf(ifModifiedSince));
+            if (LAST_MODIFIED.equals(ifModifiedSince)) {
+                respond(exchange, 304, null);
+            } else {
+                exchange.getResponseHeaders().add("Last-Modified", LAST_MODIFIED);
+                respond(exchange, 200, BODY);
+            }
+        });
+        this.server.createContext("/sem-validadores", exchange -> {
+            this.receivedIfNoneMatch.add(String.valueOf(exchange.getRequestHeaders().getFirst("If-None-Match")));
+            respond(exchange, 200, BODY);
+        });
+        this.server.createContext("/erro", exchange -> respond(exchange, 500, "erro"));
+        this.server.createContext("/latin1", exchange -> {
+            byte[] bytes = LATIN1_BODY.getBytes(StandardCharsets.ISO_8859_1);
+            exchange.getResponseHeaders().add("Content-Type", "text/html; charset=ISO-8859-1");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        this.server.createContext("/grande", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "text/html");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                byte[] chunk = "<p>parágrafo</p>".repeat(1024).getBytes(StandardCharsets.UTF_8);
+                for (int i = 0; i < LARGE_BODY_CHUNKS; i++) {
+                    out.write(chunk);
+                }
+            }
+        });
+        this.server.createContext("/parado", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "text/html");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write("<html>".getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                this.release.await(5, TimeUnit.SECONDS);
+                out.write("</html>".getBytes(StandardCharsets.UTF_8));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        this.server.setExecutor(this.serverExecutor);
+        this.server.start();
+        this.baseUrl = "http://127.0.0.1:" + this.server.getAddress().getPort();
+
+        AdaptiveRateLimiterImpl rateLimiter = new AdaptiveRateLimiterImpl(RateLimiter.ofDefaults("test"), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(rateLimiter, "minLimit", 1);
+        ReflectionTestUtils.setField(rateLimiter, "maxLimit", 100);
+        ReflectionTestUtils.setField(rateLimiter, "targetLatencyMs", 1000L);
+
+        this.client = new ReactiveHttpClientImpl(WebClient.builder(), rateLimiter);
+        ReflectionTestUtils.setField(this.client, "timeout", 5_000);
+        ReflectionTestUtils.setField(this.client, "cacheMaxEntries", 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.release.countDown();
+        this.server.stop(0);
+        this.serverExecutor.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("Testes para makeConditionalGetRequest")
+    class MakeConditionalGetRequestTests {
+
+        @Test
+        @DisplayName("Deve enviar If-None-Match e devolver o corpo guardado em um 304")
+        void deveReaproveitarCorpoQuandoEtagNaoMudou() {
+            String url = ReactiveHttpClientImplTest.this.baseUrl + "/etag";
+
+            ConditionalResponseDTO first = ReactiveHttpClientImplTest.this.client.makeConditionalGetRequest(url, null).block();
+            ConditionalResponseDTO second = ReactiveHttpClientImplTest.this.client.makeConditionalGetRequest(url, null).block();
+
+            assertThat(first.isNotModified()).isFalse();
+            assertThat(first.getBody()).isEqualTo(BODY);
+            assertThat(first.getValidator()).isEqualTo(ETAG);
+            assertThat(second.isNotModified()).isTrue();
+            assertThat(second.getBody()).isEqualTo(BODY);
+            assertThat(second.getValidator()).isEqualTo(ETAG);
+            assertThat(ReactiveHttpClientImplTest.this.receivedIfNoneMatch).containsExactly("null", ETAG);
+        }
+
+        @Test
+        @DisplayName("Deve enviar If-Modified-Since quando o servidor só informa Last-Modified")
+        void deveUsarLastModifiedQuandoNaoHaEtag() {
+            String url = ReactiveHttpClientImplTest.this.baseUrl + "/last-modified";
+
+            ReactiveHttpClientImplTest.this.client.makeConditionalGetRequest(url, null).block();
+            ConditionalResponseDTO second = ReactiveHttpClientImplTest.this.client.makeConditionalGetRequest(url, null).block();
+
+            assertThat(second.isNotModified()).isTrue();
+            assertThat(second.getBody()).isEqualTo(BODY);
+            assertThat(second.getValidator()).isEqualTo(LAST_MODIFIED);
+            assertThat(ReactiveHttpClientImplTest.this.receivedIfModifiedSince).containsExactly("null", LAST_MODIFIED);
+        }
+
+        @Test
+        @DisplayName("Não deve enviar validadores quando a resposta anterior não tinha nenhum")
+        void naoDeveEnviarValidadoresSemRespostaAnteriorValidavel() {
+            String url = ReactiveHttpClientImplTest.this.baseUrl + "/sem-validadores";
+
+            ReactiveHttpClientImplTest.this.client.makeConditionalGetRequest(url, null).block();
+            ConditionalResponseDTO second = ReactiveHttpClientImplTest.this.client.makeConditionalGetRequest(url, null).block();
+
+            assertThat(second.isNotModified()).isFalse();
+            assertThat(ReactiveHttpClientImplTest.this.receivedIfNoneMatch).containsExactly("null", "null");
+        }
+
+        @Test
+        @DisplayName("Não deve guardar validadores nem corpo das respostas do GET comum")
+        void naoDeveGuardarRespostasDoGetComum() {
+            String url = ReactiveHttpClientImplTest.this.baseUrl + "/etag";
+
+            String body = ReactiveHttpClientImplTest.this.client.makeGetRequest(url, String.class, null, null).block();
+            ConditionalResponseDTO result = ReactiveHttpClientImplTest.this.client.makeConditionalGetRequest(url, null).block();
+
+            assertThat(body).isEqualTo(BODY);
+            assertThat(result.isNotModified()).isFalse();
+            assertThat(ReactiveHttpClientImplTest.this.receivedIfNoneMatch).containsExactly("null", "null");
+        }
+
+        @Test
+        @DisplayName("Deve descartar a entrada mais antiga quando o cache atinge o limite")
+        void deveDescartarEntradaMaisAntigaQuandoCacheCheio() {
+            ReflectionTestUtils.setField(ReactiveHttpClientImplTest.this.client, "cacheMaxEntries", 1);
+            String etagUrl = ReactiveHttpClientImplTest.this.baseUrl + "/etag";
+
+            ReactiveHttpClientImplTest.this.client.makeConditionalGetRequest(etagUrl, null).block();
+            ReactiveHttpClientImplTest.this.client.makeConditionalGetRequest(ReactiveHttpClientImplTest.this.baseUrl + "/last-modified", null).block();
+            ConditionalResponseDTO result = ReactiveHttpClientImplTest.this.client.makeConditionalGetRequest(etagUrl, null).block();
+
+            assertThat(result.isNotModified()).isFalse();
+            assertThat(ReactiveHttpClientImplTest.this.receivedIfNoneMatch).containsExactly("null", "null");
+        }
+
+        @Test
+        @DisplayName("Deve propagar erro quando o servidor responde com status de erro")
+        void devePropagarErroDoServidor() {
+            String url = ReactiveHttpClientImplTest.this.baseUrl + "/erro";
+
+            assertThatThrownBy(() -> ReactiveHttpClientImplTest.this.client.makeConditionalGetRequest(url, null).block())
+                    .isInstanceOf(WebClientResponseException.InternalServerError.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para makeStreamingGetRequest")
+    class MakeStreamingGetRequestTests {
+
+        @Test
+        @DisplayName("Deve entregar o corpo em streaming com o charset do Content-Type")
+        void deveEntregarCorpoComCharsetDoContentType() {
+            String url = ReactiveHttpClientImplTest.this.baseUrl + "/latin1";
+
+            String result = ReactiveHttpClientImplTest.this.client.makeStreamingGetRequest(url, (body, charset) -> {
+                assertThat(charset).isEqualTo("ISO-8859-1");
+                return parse(body, charset, url).body().text();
+            }).block();
+
+            assertThat(result).isEqualTo("Ações em alta");
+        }
+
+        @Test
+        @DisplayName("Deve informar charset nulo e ler o corpo inteiro quando o Content-Type não declara charset")
+        void deveLerCorpoGrandeSemCharsetDeclarado() {
+            String url = ReactiveHttpClientImplTest.this.baseUrl + "/grande";
+
+            Long bytesRead = ReactiveHttpClientImplTest.this.client.makeStreamingGetRequest(url, (body, charset) -> {
+                assertThat(charset).isNull();
+                return count(body);
+            }).block();
+
+            long expected = (long) "<p>parágrafo</p>".getBytes(StandardCharsets.UTF_8).length * 1024 * LARGE_BODY_CHUNKS;
+            assertThat(bytesRead).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("Deve permitir que o leitor pare antes do fim do corpo")
+        void devePermitirQueLeitorPareAntesDoFim() {
+            String url = ReactiveHttpClientImplTest.this.baseUrl + "/grande";
+
+            Integer firstByte = ReactiveHttpClientImplTest.this.client.makeStreamingGetRequest(url, (body, charset) -> read(body)).block();
+
+            assertThat(firstByte).isEqualTo((int) '<');
+        }
+
+        @Test
+        @DisplayName("Não deve contar o tempo do leitor no timeout nem na latência vista pelo rate limiter")
+        void naoDeveContarTempoDoLeitor() {
+            String url = ReactiveHttpClientImplTest.this.baseUrl + "/grande";
+            AtomicBoolean readerDone = new AtomicBoolean();
+            List<Boolean> readerDoneAtResponse = new CopyOnWriteArrayList<>();
+            AdaptiveRateLimiter limiter = new AdaptiveRateLimiter() {
+                @Override
+                public <T> Mono<T> execute(String requestUrl, Mono<T> request) {
+                    return request.doOnSuccess(response -> readerDoneAtResponse.add(readerDone.get()));
+                }
+            };
+            ReactiveHttpClientImpl client = new ReactiveHttpClientImpl(WebClient.builder(), limiter);
+            ReflectionTestUtils.setField(client, "timeout", 1_000);
+
+            Long bytesRead = client.makeStreamingGetRequest(url, (body, charset) -> {
+                int first = read(body);
+                sleep(1_500);
+                long rest = count(body);
+                readerDone.set(true);
+                return first < 0 ? rest : rest + 1;
+            }).block();
+
+            long expected = (long) "<p>parágrafo</p>".getBytes(StandardCharsets.UTF_8).length * 1024 * LARGE_BODY_CHUNKS;
+            assertThat(bytesRead).isEqualTo(expected);
+            assertThat(readerDoneAtResponse).containsExactly(false);
+        }
+
+        @Test
+        @DisplayName("Deve falhar por timeout quando o servidor para de enviar o corpo")
+        void deveFalharQuandoServidorParaDeEnviarCorpo() {
+            String url = ReactiveHttpClientImplTest.this.baseUrl + "/parado";
+            ReflectionTestUtils.setField(ReactiveHttpClientImplTest.this.client, "timeout", 1_000);
+
+            assertThatThrownBy(() -> ReactiveHttpClientImplTest.this.client.makeStreamingGetRequest(url, (body, charset) -> count(body))
+                    .block()).hasRootCauseInstanceOf(SocketTimeoutException.class);
+        }
+
+        @Test
+        @DisplayName("Deve propagar erro sem chamar o leitor quando o servidor responde com status de erro")
+        void devePropagarErroSemChamarLeitor() {
+            String url = ReactiveHttpClientImplTest.this.baseUrl + "/erro";
+
+            assertThatThrownBy(() -> ReactiveHttpClientImplTest.this.client.makeStreamingGetRequest(url, (body, charset) -> {
+                throw new AssertionError("leitor não deveria ser chamado");
+            }).block()).isInstanceOf(WebClientResponseException.InternalServerError.class);
+        }
+    }
+
+    private static long count(InputStream body) {
+        try {
+            return body.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int read(InputStream body) {
+        try {
+            return body.read();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Document parse(InputStream body, String charset, String url) {
+        try {
+            return Jsoup.parse(body, charset, url);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+            return;
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/html; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package br.com.devictoralmeida.webscraper.java.services.impl;
+
+import br.com.devictoralmeida.webscraper.java.dtos.ParsedNewsDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.PartialNewsDTO;
+import br.com.devictoralmeida.webscraper.java.repositories.NewsRepository;
+import br.com.devictoralmeida.webscraper.java.services.NewsListProvider;
+import br.com.devictoralmeida.webscraper.java.services.NewsPersistenceService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Os modos de threads virtuais e reativo contra um servidor HTTP local com latência artificial, com os clientes e o
+ * parser reais; apenas a descoberta e a persistência são simuladas. A comparação de tempo entre os dois fica no
+ * {@code ScraperModeBenchmark}, no profile {@code benchmark}.
+ */
+@DisplayName("Testes dos modos de scraping com threads virtuais e reativo")
+class ScraperServiceImplModesTest {
+    private static final int ARTICLES = 100;
+    private static final int CONCURRENCY = 16;
+    private static final long LATENCY_MS = 5;
+    private static final String ARTICLE_HTML = """
+            <html><body>
+              <div data-ds-component="article-title"><h1>Título</h1><div>Subtítulo</div></div>
+              <div data-ds-component="author-bio"><a href="/autor">João Silva</a></div>
+              <time datetime="2024-01-15T10:00:00-03:00"></time>
+              <article data-ds-component="article"><p>%s</p></article>
+            </body></html>
+            """.formatted("Conteúdo da notícia. ".repeat(200));
+
+    private HttpServer server;
+    private ScraperServiceImpl scraperService;
+    private AtomicInteger persisted;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.server.createContext("/", exchange -> {
+            sleep(LATENCY_MS);
+            byte[] body = ARTICLE_HTML.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "text/html; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        this.server.start();
+
+        String baseUrl = "http://127.0.0.1:" + this.server.getAddress().getPort();
+        List<PartialNewsDTO> articles = IntStream.range(0, ARTICLES)
+                .mapToObj(i -> new PartialNewsDTO(baseUrl + "/noticia-" + i, "Título " + i))
+                .toList();
+
+        NewsListProvider listProvider = mock(NewsListProvider.class);
+        when(listProvider.fetchNewsList(anyInt())).thenReturn(articles);
+        NewsRepository repository = mock(NewsRepository.class);
+        when(repository.findUrlsIn(anyList())).thenReturn(List.of());
+
+        this.persisted = new AtomicInteger();
+        NewsPersistenceService persistenceService = mock(NewsPersistenceService.class);
+        when(persistenceService.saveParsedNews(anyList())).thenAnswer(invocation -> {
+            List<ParsedNewsDTO> batch = invocation.getArgument(0);
+            this.persisted.addAndGet(batch.size());
+            return List.of();
+        });
+
+        AdaptiveRateLimiterImpl rateLimiter = new AdaptiveRateLimiterImpl(RateLimiter.of("stub", RateLimiterConfig.custom()
+                .limitForPeriod(100_000)
+                .limitRefreshPeriod(Duration.ofSeconds(1))
+                .timeoutDuration(Duration.ofSeconds(5))
+                .build()), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(rateLimiter, "minLimit", 1);
+        ReflectionTestUtils.setField(rateLimiter, "maxLimit", 100_000);
+        ReflectionTestUtils.setField(rateLimiter, "targetLatencyMs", 5_000L);
+
+        ReactiveHttpClientImpl reactiveHttpClient = new ReactiveHttpClientImpl(WebClient.builder(), rateLimiter);
+        ReflectionTestUtils.setField(reactiveHttpClient, "timeout", 5_000);
+
+        HostConcurrencyLimiterImpl hostLimiter = new HostConcurrencyLimiterImpl(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(hostLimiter, "maxConcurrency", CONCURRENCY);
+        HttpClientImpl httpClient = new HttpClientImpl(reactiveHttpClient, new ObjectMapper(), hostLimiter);
+
+        this.scraperService = new ScraperServiceImpl(listProvider, new HtmlParserImpl(), repository, httpClient,
+                persistenceService, reactiveHttpClient);
+        ReflectionTestUtils.setField(this.scraperService, "fetchConcurrency", CONCURRENCY);
+        ReflectionTestUtils.setField(this.scraperService, "parseConcurrency", 4);
+        ReflectionTestUtils.setField(this.scraperService, "queueCapacity", 32);
+        ReflectionTestUtils.setField(this.scraperService, "batchSize", 50);
+        ReflectionTestUtils.setField(this.scraperService, "flushIntervalMs", 2_000L);
+        ReflectionTestUtils.setField(this.scraperService, "reactiveConcurrency", CONCURRENCY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.server.stop(0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    @DisplayName("Deve persistir todas as notícias do servidor local nos dois modos")
+    void devePersistirTodasAsNoticias(boolean reactive) {
+        ReflectionTestUtils.setField(this.scraperService, "reactiveEnabled", reactive);
+
+        this.scraperService.execute(ARTICLES);
+
+        assertThat(this.persisted.get()).isEqualTo(ARTICLES);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -8,22 +8,35 @@ import br.com.devictoralmeida.webscraper.java.entities.News;
 import br.com.devictoralmeida.webscraper.java.repositories.AuthorRepository;
 import br.com.devictoralmeida.webscraper.java.repositories.NewsRepository;
 import br.com.devictoralmeida.webscraper.java.services.HtmlParser;
+import br.com.devictoralmeida.webscraper.java.services.NewsPartitionService;
+import br.com.devictoralmeida.webscraper.java.services.AuthorPublicationIndex;
+import br.com.devictoralmeida.webscraper.java.services.NewsReportCache;
 import br.com.devictoralmeida.webscraper.java.services.HttpClient;
 import br.com.devictoralmeida.webscraper.java.services.NewsListProvider;
+import br.com.devictoralmeida.webscraper.java.services.ReactiveHttpClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -46,7 +59,9 @@ class ScraperServiceImplTest {
     @Mock
     private HttpClient httpClient;
 
-    @InjectMocks
+    @Mock
+    private ReactiveHttpClient reactiveHttpClient;
+
     private ScraperServiceImpl scraperService;
 
     private PartialNewsDTO partialNews1;
@@ -60,6 +75,26 @@ class ScraperServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        NewsPersistenceServiceImpl persistenceService = new NewsPersistenceServiceImpl(this.repository, this.authorRepository,
+                mock(NewsPartitionService.class), mock(NewsReportCache.class),
+                mock(AuthorPublicationIndex.class));
+        ReflectionTestUtils.setField(persistenceService, "authorCacheMaxEntries", 100);
+
+        this.scraperService = new ScraperServiceImpl(
+                this.listProvider,
+                this.parser,
+                this.repository,
+                this.httpClient,
+                persistenceService,
+                this.reactiveHttpClient
+        );
+        ReflectionTestUtils.setField(this.scraperService, "fetchConcurrency", 4);
+        ReflectionTestUtils.setField(this.scraperService, "parseConcurrency", 2);
+        ReflectionTestUtils.setField(this.scraperService, "queueCapacity", 8);
+        ReflectionTestUtils.setField(this.scraperService, "batchSize", 50);
+        ReflectionTestUtils.setField(this.scraperService, "flushIntervalMs", 10_000L);
+        ReflectionTestUtils.setField(this.scraperService, "reactiveConcurrency", 4);
+
         this.partialNews1 = new PartialNewsDTO("/noticia1", "Título 1");
         this.partialNews2 = new PartialNewsDTO("/noticia2", "Título 2");
 
@@ -105,8 +140,8 @@ class ScraperServiceImplTest {
                     .thenReturn("<html><body>HTML Content</body></html>");
             when(ScraperServiceImplTest.this.parser.parseNewsDetails(anyString(), any(PartialNewsDTO.class)))
                     .thenReturn(ScraperServiceImplTest.this.parsedNews1, ScraperServiceImplTest.this.parsedNews2);
-            when(ScraperServiceImplTest.this.authorRepository.findByNameIn(anySet()))
-                    .thenReturn(List.of());
+            when(ScraperServiceImplTest.this.authorRepository.upsertByNames(anySet()))
+                    .thenReturn(Map.of());
             when(ScraperServiceImplTest.this.repository.saveAll(anyList()))
                     .thenReturn(List.of(ScraperServiceImplTest.this.news1, ScraperServiceImplTest.this.news2));
 
@@ -143,8 +178,8 @@ class ScraperServiceImplTest {
                     .thenReturn("<html><body>HTML Content</body></html>");
             when(ScraperServiceImplTest.this.parser.parseNewsDetails(anyString(), any(PartialNewsDTO.class)))
                     .thenReturn(ScraperServiceImplTest.this.parsedNews2);
-            when(ScraperServiceImplTest.this.authorRepository.findByNameIn(anySet()))
-                    .thenReturn(List.of());
+            when(ScraperServiceImplTest.this.authorRepository.upsertByNames(anySet()))
+                    .thenReturn(Map.of());
             when(ScraperServiceImplTest.this.repository.saveAll(anyList()))
                     .thenReturn(List.of(ScraperServiceImplTest.this.news2));
 
@@ -155,8 +190,8 @@ class ScraperServiceImplTest {
         }
 
         @Test
-        @DisplayName("Deve reutilizar autores existentes ao processar notícias")
-        void deveReutilizarAutoresExistentes() {
+        @DisplayName("Deve reutilizar autores do cache nas execuções seguintes")
+        void deveReutilizarAutoresDoCache() {
             when(ScraperServiceImplTest.this.listProvider.fetchNewsList(anyInt()))
                     .thenReturn(List.of(ScraperServiceImplTest.this.partialNews1));
             when(ScraperServiceImplTest.this.repository.findUrlsIn(anyList()))
@@ -165,15 +200,16 @@ class ScraperServiceImplTest {
                     .thenReturn("<html><body>HTML Content</body></html>");
             when(ScraperServiceImplTest.this.parser.parseNewsDetails(anyString(), any(PartialNewsDTO.class)))
                     .thenReturn(ScraperServiceImplTest.this.parsedNews1);
-            when(ScraperServiceImplTest.this.authorRepository.findByNameIn(Set.of("João Silva")))
-                    .thenReturn(List.of(ScraperServiceImplTest.this.author1));
+            when(ScraperServiceImplTest.this.authorRepository.upsertByNames(Set.of("João Silva")))
+                    .thenReturn(Map.of("João Silva", ScraperServiceImplTest.this.author1));
             when(ScraperServiceImplTest.this.repository.saveAll(anyList()))
                     .thenReturn(List.of(ScraperServiceImplTest.this.news1));
 
+            ScraperServiceImplTest.this.scraperService.execute(10);
             List<NewsResponseDTO> result = ScraperServiceImplTest.this.scraperService.execute(10);
 
             assertThat(result).hasSize(1);
-            verify(ScraperServiceImplTest.this.authorRepository, times(1)).findByNameIn(anySet());
+            verify(ScraperServiceImplTest.this.authorRepository, times(1)).upsertByNames(anySet());
             verify(ScraperServiceImplTest.this.authorRepository, never()).save(any(Author.class));
         }
 
@@ -188,15 +224,15 @@ class ScraperServiceImplTest {
                     .thenReturn("<html><body>HTML Content</body></html>");
             when(ScraperServiceImplTest.this.parser.parseNewsDetails(anyString(), any(PartialNewsDTO.class)))
                     .thenReturn(ScraperServiceImplTest.this.parsedNews1);
-            when(ScraperServiceImplTest.this.authorRepository.findByNameIn(anySet()))
-                    .thenReturn(List.of());
+            when(ScraperServiceImplTest.this.authorRepository.upsertByNames(anySet()))
+                    .thenReturn(Map.of());
             when(ScraperServiceImplTest.this.repository.saveAll(anyList()))
                     .thenReturn(List.of(ScraperServiceImplTest.this.news1));
 
             List<NewsResponseDTO> result = ScraperServiceImplTest.this.scraperService.execute(10);
 
             assertThat(result).hasSize(1);
-            verify(ScraperServiceImplTest.this.authorRepository, times(1)).findByNameIn(anySet());
+            verify(ScraperServiceImplTest.this.authorRepository, times(1)).upsertByNames(anySet());
         }
 
         @Test
@@ -218,8 +254,8 @@ class ScraperServiceImplTest {
                     .thenReturn("<html><body>HTML Content</body></html>");
             when(ScraperServiceImplTest.this.parser.parseNewsDetails(anyString(), any(PartialNewsDTO.class)))
                     .thenReturn(parsedSemData, ScraperServiceImplTest.this.parsedNews2);
-            when(ScraperServiceImplTest.this.authorRepository.findByNameIn(anySet()))
-                    .thenReturn(List.of());
+            when(ScraperServiceImplTest.this.authorRepository.upsertByNames(anySet()))
+                    .thenReturn(Map.of());
             when(ScraperServiceImplTest.this.repository.saveAll(anyList()))
                     .thenReturn(List.of(ScraperServiceImplTest.this.news2));
 
@@ -248,8 +284,8 @@ class ScraperServiceImplTest {
                     .thenReturn("<html><body>HTML Content</body></html>");
             when(ScraperServiceImplTest.this.parser.parseNewsDetails(anyString(), any(PartialNewsDTO.class)))
                     .thenReturn(parsedSemAutor, ScraperServiceImplTest.this.parsedNews2);
-            when(ScraperServiceImplTest.this.authorRepository.findByNameIn(anySet()))
-                    .thenReturn(List.of());
+            when(ScraperServiceImplTest.this.authorRepository.upsertByNames(anySet()))
+                    .thenReturn(Map.of());
             when(ScraperServiceImplTest.this.repository.saveAll(anyList()))
                     .thenReturn(List.of(ScraperServiceImplTest.this.news2));
 
@@ -272,8 +308,8 @@ class ScraperServiceImplTest {
                     .thenReturn("<html><body>HTML Content</body></html>");
             when(ScraperServiceImplTest.this.parser.parseNewsDetails(anyString(), any(PartialNewsDTO.class)))
                     .thenReturn(ScraperServiceImplTest.this.parsedNews2);
-            when(ScraperServiceImplTest.this.authorRepository.findByNameIn(anySet()))
-                    .thenReturn(List.of());
+            when(ScraperServiceImplTest.this.authorRepository.upsertByNames(anySet()))
+                    .thenReturn(Map.of());
             when(ScraperServiceImplTest.this.repository.saveAll(anyList()))
                     .thenReturn(List.of(ScraperServiceImplTest.this.news2));
 
@@ -283,6 +319,51 @@ class ScraperServiceImplTest {
             assertThat(result.get(0).getTitle()).isEqualTo("Título 2");
         }
 
+        @Test
+        @DisplayName("Deve seguir para a próxima notícia quando o parse de uma delas lança exceção")
+        void deveSeguirQuandoParseLancaExcecao() {
+            ReflectionTestUtils.setField(ScraperServiceImplTest.this.scraperService, "parseConcurrency", 1);
+
+            when(ScraperServiceImplTest.this.listProvider.fetchNewsList(anyInt()))
+                    .thenReturn(List.of(ScraperServiceImplTest.this.partialNews1, ScraperServiceImplTest.this.partialNews2));
+            when(ScraperServiceImplTest.this.repository.findUrlsIn(anyList()))
+                    .thenReturn(List.of());
+            when(ScraperServiceImplTest.this.httpClient.makeGetRequest(anyString(), eq(String.class), isNull(), isNull()))
+                    .thenReturn("<html><body>HTML Content</body></html>");
+            when(ScraperServiceImplTest.this.parser.parseNewsDetails(anyString(), eq(ScraperServiceImplTest.this.partialNews1)))
+                    .thenThrow(new IllegalStateException("HTML inesperado"));
+            when(ScraperServiceImplTest.this.parser.parseNewsDetails(anyString(), eq(ScraperServiceImplTest.this.partialNews2)))
+                    .thenReturn(ScraperServiceImplTest.this.parsedNews2);
+            when(ScraperServiceImplTest.this.authorRepository.upsertByNames(anySet()))
+                    .thenReturn(Map.of());
+            when(ScraperServiceImplTest.this.repository.saveAll(anyList()))
+                    .thenReturn(List.of(ScraperServiceImplTest.this.news2));
+
+            List<NewsResponseDTO> result = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                    () -> ScraperServiceImplTest.this.scraperService.execute(10));
+
+            assertThat(result).extracting(NewsResponseDTO::getTitle).containsExactly("Título 2");
+        }
+
+        @Test
+        @DisplayName("Deve encerrar o pipeline quando os workers de um estágio morrem por erro")
+        void deveEncerrarPipelineQuandoWorkersMorrem() {
+            when(ScraperServiceImplTest.this.listProvider.fetchNewsList(anyInt()))
+                    .thenReturn(List.of(ScraperServiceImplTest.this.partialNews1, ScraperServiceImplTest.this.partialNews2));
+            when(ScraperServiceImplTest.this.repository.findUrlsIn(anyList()))
+                    .thenReturn(List.of());
+            when(ScraperServiceImplTest.this.httpClient.makeGetRequest(anyString(), eq(String.class), isNull(), isNull()))
+                    .thenReturn("<html><body>HTML Content</body></html>");
+            when(ScraperServiceImplTest.this.parser.parseNewsDetails(anyString(), any(PartialNewsDTO.class)))
+                    .thenThrow(new StackOverflowError());
+
+            List<NewsResponseDTO> result = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                    () -> ScraperServiceImplTest.this.scraperService.execute(10));
+
+            assertThat(result).isEmpty();
+            verify(ScraperServiceImplTest.this.repository, never()).saveAll(anyList());
+        }
+
         @Test
         @DisplayName("Deve retornar lista vazia quando não há notícias para processar")
         void deveRetornarListaVaziaQuandoNaoHaNoticiasParaProcessar() {
@@ -306,15 +387,215 @@ class ScraperServiceImplTest {
                     .thenReturn("<html><body>HTML Content</body></html>");
             when(ScraperServiceImplTest.this.parser.parseNewsDetails(anyString(), any(PartialNewsDTO.class)))
                     .thenReturn(ScraperServiceImplTest.this.parsedNews1, ScraperServiceImplTest.this.parsedNews2);
-            when(ScraperServiceImplTest.this.authorRepository.findByNameIn(anySet()))
-                    .thenReturn(List.of(ScraperServiceImplTest.this.author1));
+            when(ScraperServiceImplTest.this.authorRepository.upsertByNames(anySet()))
+                    .thenReturn(Map.of("João Silva", ScraperServiceImplTest.this.author1,
+                            "Maria Santos", ScraperServiceImplTest.this.author2));
             when(ScraperServiceImplTest.this.repository.saveAll(anyList()))
                     .thenReturn(List.of(ScraperServiceImplTest.this.news1, ScraperServiceImplTest.this.news2));
 
             List<NewsResponseDTO> result = ScraperServiceImplTest.this.scraperService.execute(10);
 
             assertThat(result).hasSize(2);
-            verify(ScraperServiceImplTest.this.authorRepository, times(1)).findByNameIn(anySet());
+            verify(ScraperServiceImplTest.this.authorRepository, times(1)).upsertByNames(anySet());
+        }
+
+        @Test
+        @DisplayName("Deve persistir em micro-lotes à medida que as notícias são parseadas")
+        void devePersistirEmMicroLotes() {
+            ReflectionTestUtils.setField(ScraperServiceImplTest.this.scraperService, "batchSize", 1);
+
+            when(ScraperServiceImplTest.this.listProvider.fetchNewsList(anyInt()))
+                    .thenReturn(List.of(ScraperServiceImplTest.this.partialNews1, ScraperServiceImplTest.this.partialNews2));
+            when(ScraperServiceImplTest.this.repository.findUrlsIn(anyList()))
+                    .thenReturn(List.of());
+            when(ScraperServiceImplTest.this.httpClient.makeGetRequest(anyString(), eq(String.class), isNull(), isNull()))
+                    .thenReturn("<html><body>HTML Content</body></html>");
+            when(ScraperServiceImplTest.this.parser.parseNewsDetails(anyString(), any(PartialNewsDTO.class)))
+                    .thenReturn(ScraperServiceImplTest.this.parsedNews1, ScraperServiceImplTest.this.parsedNews2);
+            when(ScraperServiceImplTest.this.authorRepository.upsertByNames(anySet()))
+                    .thenReturn(Map.of());
+            when(ScraperServiceImplTest.this.repository.saveAll(anyList()))
+                    .thenReturn(List.of(ScraperServiceImplTest.this.news1), List.of(ScraperServiceImplTest.this.news2));
+
+            List<NewsResponseDTO> result = ScraperServiceImplTest.this.scraperService.execute(10);
+
+            assertThat(result).hasSize(2);
+            verify(ScraperServiceImplTest.this.repository, times(2)).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("Deve processar mais notícias do que a capacidade das filas")
+        void deveProcessarMaisNoticiasQueACapacidadeDasFilas() {
+            List<PartialNewsDTO> manyNews = IntStream.range(0, 40)
+                    .mapToObj(i -> new PartialNewsDTO("/noticia-" + i, "Título " + i))
+                    .toList();
+
+            when(ScraperServiceImplTest.this.listProvider.fetchNewsList(anyInt()))
+                    .thenReturn(manyNews);
+            when(ScraperServiceImplTest.this.repository.findUrlsIn(anyList()))
+                    .thenReturn(List.of());
+            when(ScraperServiceImplTest.this.httpClient.makeGetRequest(anyString(), eq(String.class), isNull(), isNull()))
+                    .thenReturn("<html><body>HTML Content</body></html>");
+            when(ScraperServiceImplTest.this.parser.parseNewsDetails(anyString(), any(PartialNewsDTO.class)))
+                    .thenReturn(ScraperServiceImplTest.this.parsedNews1);
+            when(ScraperServiceImplTest.this.authorRepository.upsertByNames(anySet()))
+                    .thenReturn(Map.of());
+            when(ScraperServiceImplTest.this.repository.saveAll(anyList()))
+                    .thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).stream()
+                            .map(entity -> ScraperServiceImplTest.this.news1)
+                            .toList());
+
+            List<NewsResponseDTO> result = ScraperServiceImplTest.this.scraperService.execute(40);
+
+            assertThat(result).hasSize(40);
+            verify(ScraperServiceImplTest.this.httpClient, times(40)).makeGetRequest(anyString(), eq(String.class), isNull(), isNull());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para execute no modo reativo")
+    class ExecuteReactiveTests {
+
+        @BeforeEach
+        void enableReactiveMode() {
+            ReflectionTestUtils.setField(ScraperServiceImplTest.this.scraperService, "reactiveEnabled", true);
+        }
+
+        @Test
+        @DisplayName("Deve processar e salvar notícias usando o cliente reativo")
+        void deveProcessarESalvarNoticiasComClienteReativo() {
+            when(ScraperServiceImplTest.this.listProvider.fetchNewsList(anyInt()))
+                    .thenReturn(List.of(ScraperServiceImplTest.this.partialNews1, ScraperServiceImplTest.this.partialNews2));
+            when(ScraperServiceImplTest.this.repository.findUrlsIn(anyList()))
+                    .thenReturn(List.of());
+            when(ScraperServiceImplTest.this.reactiveHttpClient.makeGetRequest(anyString(), eq(String.class), isNull(), isNull()))
+                    .thenReturn(Mono.just("<html><body>HTML Content</body></html>"));
+            when(ScraperServiceImplTest.this.parser.parseNewsDetails(anyString(), any(PartialNewsDTO.class)))
+                    .thenReturn(ScraperServiceImplTest.this.parsedNews1, ScraperServiceImplTest.this.parsedNews2);
+            when(ScraperServiceImplTest.this.authorRepository.upsertByNames(anySet()))
+                    .thenReturn(Map.of());
+            when(ScraperServiceImplTest.this.repository.saveAll(anyList()))
+                    .thenReturn(List.of(ScraperServiceImplTest.this.news1, ScraperServiceImplTest.this.news2));
+
+            List<NewsResponseDTO> result = ScraperServiceImplTest.this.scraperService.execute(10);
+
+            assertThat(result).hasSize(2);
+            verify(ScraperServiceImplTest.this.httpClient, never()).makeGetRequest(anyString(), any(), any(), any());
+            verify(ScraperServiceImplTest.this.repository, times(1)).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("Não deve usar o parse em streaming no modo reativo")
+        void naoDeveUsarStreamingNoModoReativo() {
+            ReflectionTestUtils.setField(ScraperServiceImplTest.this.scraperService, "streamingEnabled", true);
+
+            when(ScraperServiceImplTest.this.listProvider.fetchNewsList(anyInt()))
+                    .thenReturn(List.of(ScraperServiceImplTest.this.partialNews1));
+            when(ScraperServiceImplTest.this.repository.findUrlsIn(anyList()))
+                    .thenReturn(List.of());
+            when(ScraperServiceImplTest.this.reactiveHttpClient.makeGetRequest(anyString(), eq(String.class), isNull(), isNull()))
+                    .thenReturn(Mono.just("<html><body>HTML Content</body></html>"));
+            when(ScraperServiceImplTest.this.parser.parseNewsDetails(anyString(), any(PartialNewsDTO.class)))
+                    .thenReturn(ScraperServiceImplTest.this.parsedNews1);
+            when(ScraperServiceImplTest.this.authorRepository.upsertByNames(anySet()))
+                    .thenReturn(Map.of());
+            when(ScraperServiceImplTest.this.repository.saveAll(anyList()))
+                    .thenReturn(List.of(ScraperServiceImplTest.this.news1));
+
+            List<NewsResponseDTO> result = ScraperServiceImplTest.this.scraperService.execute(10);
+
+            assertThat(result).hasSize(1);
+            verify(ScraperServiceImplTest.this.reactiveHttpClient, never()).makeStreamingGetRequest(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("Deve continuar processamento reativo quando uma notícia falha")
+        void deveContinuarProcessamentoReativoQuandoUmaNoticiaFalha() {
+            when(ScraperServiceImplTest.this.listProvider.fetchNewsList(anyInt()))
+                    .thenReturn(List.of(ScraperServiceImplTest.this.partialNews1, ScraperServiceImplTest.this.partialNews2));
+            when(ScraperServiceImplTest.this.repository.findUrlsIn(anyList()))
+                    .thenReturn(List.of());
+            when(ScraperServiceImplTest.this.reactiveHttpClient.makeGetRequest(eq("/noticia1"), eq(String.class), isNull(), isNull()))
+                    .thenReturn(Mono.error(new RuntimeException("Erro ao buscar HTML")));
+            when(ScraperServiceImplTest.this.reactiveHttpClient.makeGetRequest(eq("/noticia2"), eq(String.class), isNull(), isNull()))
+                    .thenReturn(Mono.just("<html><body>HTML Content</body></html>"));
+            when(ScraperServiceImplTest.this.parser.parseNewsDetails(anyString(), any(PartialNewsDTO.class)))
+                    .thenReturn(ScraperServiceImplTest.this.parsedNews2);
+            when(ScraperServiceImplTest.this.authorRepository.upsertByNames(anySet()))
+                    .thenReturn(Map.of());
+            when(ScraperServiceImplTest.this.repository.saveAll(anyList()))
+                    .thenReturn(List.of(ScraperServiceImplTest.this.news2));
+
+            List<NewsResponseDTO> result = ScraperServiceImplTest.this.scraperService.execute(10);
+
+            assertThat(result).hasSize(1);
+            assertThat(result.get(0).getTitle()).isEqualTo("Título 2");
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes para execute no modo streaming")
+    class ExecuteStreamingTests {
+
+        @BeforeEach
+        void enableStreamingMode() {
+            ReflectionTestUtils.setField(ScraperServiceImplTest.this.scraperService, "streamingEnabled", true);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void stubStreamingBody(String url, String html) {
+            when(ScraperServiceImplTest.this.httpClient.makeStreamingGetRequest(eq(url), any())).thenAnswer(invocation -> {
+                BiFunction<InputStream, String, ParsedNewsDTO> reader = invocation.getArgument(1);
+                return reader.apply(new ByteArrayInputStream(html.getBytes(StandardCharsets.UTF_8)), "UTF-8");
+            });
+        }
+
+        @Test
+        @DisplayName("Deve parsear o corpo em streaming sem passar pelo estágio de parse com String")
+        void deveParsearCorpoEmStreaming() {
+            when(ScraperServiceImplTest.this.listProvider.fetchNewsList(anyInt()))
+                    .thenReturn(List.of(ScraperServiceImplTest.this.partialNews1, ScraperServiceImplTest.this.partialNews2));
+            when(ScraperServiceImplTest.this.repository.findUrlsIn(anyList()))
+                    .thenReturn(List.of());
+            stubStreamingBody("/noticia1", "<html><body>HTML 1</body></html>");
+            stubStreamingBody("/noticia2", "<html><body>HTML 2</body></html>");
+            when(ScraperServiceImplTest.this.parser.parseNewsDetails(any(InputStream.class), eq("UTF-8"), eq(ScraperServiceImplTest.this.partialNews1)))
+                    .thenReturn(ScraperServiceImplTest.this.parsedNews1);
+            when(ScraperServiceImplTest.this.parser.parseNewsDetails(any(InputStream.class), eq("UTF-8"), eq(ScraperServiceImplTest.this.partialNews2)))
+                    .thenReturn(ScraperServiceImplTest.this.parsedNews2);
+            when(ScraperServiceImplTest.this.authorRepository.upsertByNames(anySet()))
+                    .thenReturn(Map.of());
+            when(ScraperServiceImplTest.this.repository.saveAll(anyList()))
+                    .thenReturn(List.of(ScraperServiceImplTest.this.news1, ScraperServiceImplTest.this.news2));
+
+            List<NewsResponseDTO> result = ScraperServiceImplTest.this.scraperService.execute(10);
+
+            assertThat(result).hasSize(2);
+            verify(ScraperServiceImplTest.this.httpClient, never()).makeGetRequest(anyString(), any(), any(), any());
+            verify(ScraperServiceImplTest.this.parser, never()).parseNewsDetails(anyString(), any(PartialNewsDTO.class));
+        }
+
+        @Test
+        @DisplayName("Deve continuar processamento em streaming quando uma notícia falha")
+        void deveContinuarProcessamentoEmStreamingQuandoUmaNoticiaFalha() {
+            when(ScraperServiceImplTest.this.listProvider.fetchNewsList(anyInt()))
+                    .thenReturn(List.of(ScraperServiceImplTest.this.partialNews1, ScraperServiceImplTest.this.partialNews2));
+            when(ScraperServiceImplTest.this.repository.findUrlsIn(anyList()))
+                    .thenReturn(List.of());
+            when(ScraperServiceImplTest.this.httpClient.makeStreamingGetRequest(eq("/noticia1"), any()))
+                    .thenThrow(new RuntimeException("Erro ao buscar HTML"));
+            stubStreamingBody("/noticia2", "<html><body>HTML 2</body></html>");
+            when(ScraperServiceImplTest.this.parser.parseNewsDetails(any(InputStream.class), any(), eq(ScraperServiceImplTest.this.partialNews2)))
+                    .thenReturn(ScraperServiceImplTest.this.parsedNews2);
+            when(ScraperServiceImplTest.this.authorRepository.upsertByNames(anySet()))
+                    .thenReturn(Map.of());
+            when(ScraperServiceImplTest.this.repository.saveAll(anyList()))
+                    .thenReturn(List.of(ScraperServiceImplTest.this.news2));
+
+            List<NewsResponseDTO> result = ScraperServiceImplTest.this.scraperService.execute(10);
+
+            assertThat(result).hasSize(1);
+            assertThat(result.get(0).getTitle()).isEqualTo("Título 2");
         }
     }
 }
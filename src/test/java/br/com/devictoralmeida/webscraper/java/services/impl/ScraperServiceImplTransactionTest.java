@@ -0,0 +1,259 @@
+package br.com.devictoralmeida.webscraper.java.services.impl;
+
+import br.com.devictoralmeida.webscraper.java.dtos.ParsedNewsDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.PartialNewsDTO;
+import br.com.devictoralmeida.webscraper.java.dtos.response.NewsResponseDTO;
+import br.com.devictoralmeida.webscraper.java.entities.Author;
+import br.com.devictoralmeida.webscraper.java.entities.News;
+import br.com.devictoralmeida.webscraper.java.repositories.AuthorRepository;
+import br.com.devictoralmeida.webscraper.java.repositories.NewsRepository;
+import br.com.devictoralmeida.webscraper.java.services.HtmlParser;
+import br.com.devictoralmeida.webscraper.java.services.HttpClient;
+import br.com.devictoralmeida.webscraper.java.services.NewsListProvider;
+import br.com.devictoralmeida.webscraper.java.services.NewsPartitionService;
+import br.com.devictoralmeida.webscraper.java.services.NewsPersistenceService;
+import br.com.devictoralmeida.webscraper.java.services.AuthorPublicationIndex;
+import br.com.devictoralmeida.webscraper.java.services.NewsReportCache;
+import br.com.devictoralmeida.webscraper.java.services.ReactiveHttpClient;
+import br.com.devictoralmeida.webscraper.java.services.ScraperService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig(ScraperServiceImplTransactionTest.Config.class)
+@TestPropertySource(properties = {
+        "scraper.pipeline.fetch.concurrency=4",
+        "scraper.pipeline.parse.concurrency=2",
+        "scraper.pipeline.queue.capacity=8",
+        "scraper.pipeline.batch.size=50",
+        "scraper.pipeline.flush.interval.ms=10000",
+        "scraper.streaming.enabled=false",
+        "scraper.persistence.on.conflict.enabled=false",
+        "scraper.author.cache.max.entries=100",
+        "scraper.reactive.enabled=false",
+        "scraper.reactive.concurrency=4"
+})
+@DisplayName("Testes de fronteira transacional do ScraperService")
+class ScraperServiceImplTransactionTest {
+    @Autowired
+    private ScraperService scraperService;
+
+    @Autowired
+    private CountingDataSource dataSource;
+
+    @Autowired
+    private NewsListProvider listProvider;
+
+    @Autowired
+    private NewsRepository repository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private HttpClient httpClient;
+
+    @Autowired
+    private HtmlParser parser;
+
+    @Autowired
+    private NewsReportCache reportCache;
+
+    @BeforeEach
+    void setUp() {
+        reset(this.listProvider, this.repository, this.authorRepository, this.httpClient, this.parser, this.reportCache);
+        this.dataSource.reset();
+    }
+
+    @Test
+    @DisplayName("Deve usar conexão do pool apenas durante a fase de persistência")
+    void deveUsarConexaoApenasDuranteAPersistencia() {
+        PartialNewsDTO partialNews1 = new PartialNewsDTO("/noticia1", "Título 1");
+        PartialNewsDTO partialNews2 = new PartialNewsDTO("/noticia2", "Título 2");
+        ParsedNewsDTO parsedNews = new ParsedNewsDTO(partialNews1, "Subtítulo", "Conteúdo",
+                LocalDateTime.of(2024, 1, 15, 10, 0), "João Silva");
+        News news = new News(parsedNews, new Author("João Silva"));
+        news.setId(1L);
+
+        List<Integer> openDuringFetch = new CopyOnWriteArrayList<>();
+        AtomicLong lastFetchEnd = new AtomicLong();
+        AtomicInteger openDuringSave = new AtomicInteger(-1);
+
+        when(this.listProvider.fetchNewsList(anyInt())).thenReturn(List.of(partialNews1, partialNews2));
+        when(this.repository.findUrlsIn(anyList())).thenReturn(List.of());
+        when(this.httpClient.makeGetRequest(anyString(), eq(String.class), isNull(), isNull())).thenAnswer(invocation -> {
+            openDuringFetch.add(this.dataSource.getOpenConnections());
+            lastFetchEnd.accumulateAndGet(System.nanoTime(), Math::max);
+            return "<html></html>";
+        });
+        when(this.parser.parseNewsDetails(anyString(), any(PartialNewsDTO.class))).thenAnswer(invocation -> {
+            openDuringFetch.add(this.dataSource.getOpenConnections());
+            lastFetchEnd.accumulateAndGet(System.nanoTime(), Math::max);
+            return parsedNews;
+        });
+        when(this.authorRepository.upsertByNames(anySet())).thenReturn(Map.of("João Silva", news.getAuthor()));
+        when(this.repository.saveAll(anyList())).thenAnswer(invocation -> {
+            openDuringSave.set(this.dataSource.getOpenConnections());
+            return List.of(news);
+        });
+
+        List<NewsResponseDTO> result = this.scraperService.execute(10);
+
+        assertThat(result).hasSize(1);
+        assertThat(openDuringFetch).hasSize(4).containsOnly(0);
+        assertThat(openDuringSave.get()).isEqualTo(1);
+        assertThat(this.dataSource.getCheckouts()).isEqualTo(1);
+        assertThat(this.dataSource.getOpenConnections()).isZero();
+        // A única conexão só sai do pool depois do último download e do último parse.
+        assertThat(this.dataSource.getFirstCheckoutAt()).isGreaterThan(lastFetchEnd.get());
+        verify(this.reportCache).invalidate(List.of(news.getPublishDate()));
+    }
+
+    @Test
+    @DisplayName("Não deve abrir conexão quando nenhuma notícia é parseada")
+    void naoDeveAbrirConexaoQuandoNenhumaNoticiaEhParseada() {
+        when(this.listProvider.fetchNewsList(anyInt())).thenReturn(List.of(new PartialNewsDTO("/noticia1", "Título 1")));
+        when(this.repository.findUrlsIn(anyList())).thenReturn(List.of());
+        when(this.httpClient.makeGetRequest(anyString(), eq(String.class), isNull(), isNull()))
+                .thenThrow(new RuntimeException("Erro ao buscar HTML"));
+
+        List<NewsResponseDTO> result = this.scraperService.execute(10);
+
+        assertThat(result).isEmpty();
+        assertThat(this.dataSource.getCheckouts()).isZero();
+        verifyNoInteractions(this.reportCache);
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class Config {
+        @Bean
+        CountingDataSource dataSource() {
+            return new CountingDataSource();
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        @Bean
+        NewsListProvider listProvider() {
+            return mock(NewsListProvider.class);
+        }
+
+        @Bean
+        HtmlParser parser() {
+            return mock(HtmlParser.class);
+        }
+
+        @Bean
+        HttpClient httpClient() {
+            return mock(HttpClient.class);
+        }
+
+        @Bean
+        ReactiveHttpClient reactiveHttpClient() {
+            return mock(ReactiveHttpClient.class);
+        }
+
+        @Bean
+        NewsRepository newsRepository() {
+            return mock(NewsRepository.class);
+        }
+
+        @Bean
+        AuthorRepository authorRepository() {
+            return mock(AuthorRepository.class);
+        }
+
+        @Bean
+        NewsReportCache reportCache() {
+            return mock(NewsReportCache.class);
+        }
+
+        @Bean
+        NewsPersistenceService persistenceService(NewsRepository newsRepository, AuthorRepository authorRepository,
+                                                  NewsReportCache reportCache) {
+            return new NewsPersistenceServiceImpl(newsRepository, authorRepository, mock(NewsPartitionService.class),
+                    reportCache, mock(AuthorPublicationIndex.class));
+        }
+
+        @Bean
+        ScraperService scraperService(NewsListProvider listProvider, HtmlParser parser, NewsRepository newsRepository,
+                                      HttpClient httpClient, NewsPersistenceService persistenceService,
+                                      ReactiveHttpClient reactiveHttpClient) {
+            return new ScraperServiceImpl(listProvider, parser, newsRepository, httpClient, persistenceService, reactiveHttpClient);
+        }
+    }
+
+    /**
+     * DataSource de teste que conta quantas conexões foram retiradas e quando a primeira saiu.
+     */
+    static class CountingDataSource extends AbstractDataSource {
+        private final AtomicInteger checkouts = new AtomicInteger();
+        private final AtomicInteger openConnections = new AtomicInteger();
+        private final AtomicLong firstCheckoutAt = new AtomicLong();
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = mock(Connection.class);
+            this.checkouts.incrementAndGet();
+            this.openConnections.incrementAndGet();
+            long checkoutAt = System.nanoTime();
+            this.firstCheckoutAt.compareAndSet(0, checkoutAt);
+
+            doAnswer(invocation -> {
+                this.openConnections.decrementAndGet();
+                return null;
+            }).when(connection).close();
+            return connection;
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return getConnection();
+        }
+
+        int getCheckouts() {
+            return this.checkouts.get();
+        }
+
+        int getOpenConnections() {
+            return this.openConnections.get();
+        }
+
+        long getFirstCheckoutAt() {
+            return this.firstCheckoutAt.get();
+        }
+
+        void reset() {
+            this.checkouts.set(0);
+            this.openConnections.set(0);
+            this.firstCheckoutAt.set(0);
+        }
+    }
+}
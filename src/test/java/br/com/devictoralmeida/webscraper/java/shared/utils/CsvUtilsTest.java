@@ -0,0 +1,41 @@
+package br.com.devictoralmeida.webscraper.java.shared.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes para CsvUtils")
+class CsvUtilsTest {
+    @Nested
+    @DisplayName("Testes para writeField")
+    class WriteFieldTests {
+
+        @Test
+        @DisplayName("Deve colocar o texto entre aspas e duplicar as aspas internas")
+        void deveColocarTextoEntreAspasEDuplicarAspasInternas() throws IOException {
+            StringWriter writer = new StringWriter();
+
+            CsvUtils.writeField(writer, "Ações \"sobem\", diz analista");
+
+            assertThat(writer).hasToString("\"Ações \"\"sobem\"\", diz analista\"");
+        }
+
+        @Test
+        @DisplayName("Deve escrever nulo como campo vazio e texto vazio entre aspas")
+        void deveEscreverNuloComoCampoVazio() throws IOException {
+            StringWriter nullField = new StringWriter();
+            StringWriter emptyField = new StringWriter();
+
+            CsvUtils.writeField(nullField, null);
+            CsvUtils.writeField(emptyField, "");
+
+            assertThat(nullField).hasToString("");
+            assertThat(emptyField).hasToString("\"\"");
+        }
+    }
+}
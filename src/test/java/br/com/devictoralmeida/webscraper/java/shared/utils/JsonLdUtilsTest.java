@@ -0,0 +1,71 @@
+package br.com.devictoralmeida.webscraper.java.shared.utils;
+
+import br.com.devictoralmeida.webscraper.java.shared.utils.JsonLdUtils.ArticleMetadata;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes para JsonLdUtils")
+class JsonLdUtilsTest {
+    @Nested
+    @DisplayName("Testes para findArticle")
+    class FindArticleTests {
+
+        @Test
+        @DisplayName("Deve extrair autor e data de um NewsArticle")
+        void deveExtrairAutorEDataDeNewsArticle() {
+            String json = """
+                    {
+                      "@context": "https://schema.org",
+                      "@type": "NewsArticle",
+                      "headline": "Título",
+                      "image": ["https://example.com/a.jpg"],
+                      "publisher": {"@type": "Organization", "name": "InfoMoney"},
+                      "author": {"@type": "Person", "name": "João Silva", "url": "/autor"},
+                      "datePublished": "2024-01-15T10:30:00-03:00"
+                    }
+                    """;
+
+            assertThat(JsonLdUtils.findArticle(json))
+                    .contains(new ArticleMetadata("João Silva", "2024-01-15T10:30:00-03:00"));
+        }
+
+        @Test
+        @DisplayName("Deve encontrar o artigo dentro de @graph e de arrays")
+        void deveEncontrarArtigoEmGraphEArray() {
+            String graph = """
+                    {"@context": "https://schema.org", "@graph": [
+                      {"@type": "BreadcrumbList", "itemListElement": []},
+                      {"@type": ["ReportageNewsArticle"], "author": [{"name": "Maria Santos"}, {"name": "Outro"}]}
+                    ]}
+                    """;
+            String array = """
+                    [{"@type": "Organization", "name": "InfoMoney"}, {"@type": "Article", "author": "Ana Lima"}]
+                    """;
+
+            assertThat(JsonLdUtils.findArticle(graph)).contains(new ArticleMetadata("Maria Santos", null));
+            assertThat(JsonLdUtils.findArticle(array)).contains(new ArticleMetadata("Ana Lima", null));
+        }
+
+        @Test
+        @DisplayName("Deve ignorar campos com tipos inesperados")
+        void deveIgnorarCamposComTiposInesperados() {
+            String json = """
+                    {"@type": "NewsArticle", "author": 42, "datePublished": {"valor": "2024"}}
+                    """;
+
+            assertThat(JsonLdUtils.findArticle(json)).contains(new ArticleMetadata(null, null));
+        }
+
+        @Test
+        @DisplayName("Deve retornar vazio quando não há artigo ou o JSON é inválido")
+        void deveRetornarVazioSemArtigoOuJsonInvalido() {
+            assertThat(JsonLdUtils.findArticle("{\"@type\": \"Organization\", \"name\": \"InfoMoney\"}")).isEmpty();
+            assertThat(JsonLdUtils.findArticle("{\"@type\": \"NewsArticle\", ")).isEmpty();
+            assertThat(JsonLdUtils.findArticle("  ")).isEmpty();
+            assertThat(JsonLdUtils.findArticle(null)).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.devictoralmeida.webscraper.java.shared.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes para UrlUtils")
+class UrlUtilsTest {
+    @Nested
+    @DisplayName("Testes para resolveHost")
+    class ResolveHostTests {
+
+        @Test
+        @DisplayName("Deve extrair o host de uma URL absoluta")
+        void deveExtrairHostDeUrlAbsoluta() {
+            assertThat(UrlUtils.resolveHost("https://www.infomoney.com.br/mercados/")).isEqualTo("www.infomoney.com.br");
+        }
+
+        @Test
+        @DisplayName("Deve usar o host padrão para URLs relativas")
+        void deveUsarHostPadraoParaUrlRelativa() {
+            assertThat(UrlUtils.resolveHost("/mercados/")).isEqualTo(UrlUtils.DEFAULT_HOST);
+        }
+
+        @Test
+        @DisplayName("Deve usar o host padrão para URLs nulas ou inválidas")
+        void deveUsarHostPadraoParaUrlInvalida() {
+            assertThat(UrlUtils.resolveHost(null)).isEqualTo(UrlUtils.DEFAULT_HOST);
+            assertThat(UrlUtils.resolveHost("http://exa mple.com")).isEqualTo(UrlUtils.DEFAULT_HOST);
+        }
+    }
+}